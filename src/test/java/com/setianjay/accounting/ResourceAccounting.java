@@ -0,0 +1,72 @@
+package com.setianjay.accounting;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CPU time dan allocated bytes thread test per executeRequest (build spec, serialize, dispatch, baca body, logging),
+ * per template. Request juga ditambahkan ke test method yang sedang berjalan di thread yang sama
+ * jika {@link ResourceAccountingListener} terdaftar.
+ */
+public final class ResourceAccounting {
+    private static final Map<String, ResourceUsage> REQUESTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<ResourceUsage> CURRENT_TEST = new ThreadLocal<>();
+
+    private ResourceAccounting() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Catat satu executeRequest dari selisih {@link ThreadResources} di awal dan akhir request
+     */
+    public static void recordRequest(String endpointName, long cpuNanos, long allocatedBytes) {
+        REQUESTS.computeIfAbsent(endpointName, key -> new ResourceUsage()).add(cpuNanos, allocatedBytes);
+        ResourceUsage test = CURRENT_TEST.get();
+        if (test != null) {
+            test.add(cpuNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * Request berikutnya di thread ini ikut dihitung ke usage ini sampai {@link #detach()}
+     */
+    static void attach(ResourceUsage testRequests) {
+        CURRENT_TEST.set(testRequests);
+    }
+
+    static void detach() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Usage semua request ke template ini, atau null jika belum ada
+     */
+    public static ResourceUsage getRequests(String endpointName) {
+        return REQUESTS.get(endpointName);
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-40s%10s%14s%16s%14s%16s%n",
+                "template", "requests", "cpu/req(ms)", "alloc/req(KB)", "cpu(ms)", "alloc(MB)"));
+        new TreeMap<>(REQUESTS).forEach((name, usage) -> {
+            long requests = Math.max(1, usage.getInvocations());
+            sb.append(String.format("%-40s%10d%14.2f%16.1f%14.1f%16.1f%n", name, usage.getInvocations(),
+                    usage.getCpuNanos() / 1e6 / requests, usage.getAllocatedBytes() / 1024.0 / requests,
+                    usage.getCpuNanos() / 1e6, usage.getAllocatedBytes() / (1024.0 * 1024.0)));
+        });
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!REQUESTS.isEmpty()) {
+            logger.info("💾 Harness cost per executeRequest (thread CPU time, allocated bytes):\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        REQUESTS.clear();
+    }
+}
@@ -0,0 +1,242 @@
+package com.setianjay.accounting;
+
+import com.setianjay.constants.AccountingConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catat CPU time dan allocated bytes thread test untuk setiap test method dan configuration method
+ * (dari {@link ThreadResources}), termasuk bagian yang dipakai executeRequest di dalam test method.
+ * Di akhir eksekusi test termahal di-ranking (dengan trend terhadap run sebelumnya) lalu {@link TestResourceHistory}
+ * di-update. Invocation yang pindah thread (misal timeOut) tidak dihitung.
+ */
+public class ResourceAccountingListener implements IInvokedMethodListener, IExecutionListener {
+    private static final Logger logger = LoggerUtils.getLogger(ResourceAccountingListener.class);
+    private static final String START_ATTRIBUTE = ResourceAccountingListener.class.getName() + ".start";
+
+    private final Path historyFile;
+    private final int top;
+    private final Map<String, Map<String, ResourceUsage>> tests = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ResourceUsage>> testRequests = new ConcurrentHashMap<>();
+    private final Map<String, ResourceUsage> configurations = new ConcurrentHashMap<>();
+
+    public ResourceAccountingListener() {
+        this(Paths.get(System.getProperty(AccountingConstant.HISTORY_FILE_PROPERTY, AccountingConstant.DEFAULT_HISTORY_FILE)),
+                Integer.getInteger(AccountingConstant.TOP_PROPERTY, AccountingConstant.DEFAULT_TOP));
+    }
+
+    public ResourceAccountingListener(Path historyFile, int top) {
+        this.historyFile = historyFile;
+        this.top = top;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!ThreadResources.isSupported() || testResult.getTestClass() == null) {
+            return;
+        }
+        // @BeforeSuite/@AfterSuite tidak dihitung ke class manapun
+        if (method.getTestMethod().isBeforeSuiteConfiguration() || method.getTestMethod().isAfterSuiteConfiguration()) {
+            return;
+        }
+        if (method.isTestMethod()) {
+            ResourceAccounting.attach(usage(testRequests, testResult));
+        }
+        long[] start = new long[3];
+        testResult.setAttribute(START_ATTRIBUTE, start);
+        start[0] = Thread.currentThread().threadId();
+        // Counter dibaca paling akhir supaya overhead listener sendiri tidak ikut terhitung
+        start[1] = ThreadResources.allocatedBytes();
+        start[2] = ThreadResources.cpuNanos();
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        long cpuNanos = ThreadResources.cpuNanos();
+        long allocatedBytes = ThreadResources.allocatedBytes();
+        if (method.isTestMethod()) {
+            ResourceAccounting.detach();
+        }
+        Object attribute = testResult.removeAttribute(START_ATTRIBUTE);
+        if (!(attribute instanceof long[])) {
+            return;
+        }
+        long[] start = (long[]) attribute;
+        if (start[0] != Thread.currentThread().threadId()) {
+            return;
+        }
+
+        if (method.isTestMethod()) {
+            usage(tests, testResult).add(cpuNanos - start[2], allocatedBytes - start[1]);
+        } else {
+            configurations.computeIfAbsent(testResult.getTestClass().getName(), key -> new ResourceUsage())
+                    .add(cpuNanos - start[2], allocatedBytes - start[1]);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (tests.isEmpty() && configurations.isEmpty()) {
+            return;
+        }
+
+        try {
+            TestResourceHistory history = TestResourceHistory.load(historyFile);
+            logger.info("💾 Most expensive tests (thread CPU time, allocated bytes):\n{}", format(history));
+            history.update(observed());
+            history.save(historyFile);
+            logger.info("💾 Updated test resource history {} ({} classes)", historyFile, classNames().size());
+        } catch (IOException e) {
+            logger.warn("Failed to update test resource history {}: {}", historyFile, LoggerUtils.formatException(e));
+        }
+    }
+
+    /**
+     * Usage test method di eksekusi ini, atau null jika belum pernah jalan
+     */
+    public ResourceUsage getTest(String className, String methodName) {
+        Map<String, ResourceUsage> methods = tests.get(className);
+        return methods == null ? null : methods.get(methodName);
+    }
+
+    /**
+     * Bagian dari usage test method yang dipakai executeRequest
+     */
+    public ResourceUsage getTestRequests(String className, String methodName) {
+        Map<String, ResourceUsage> methods = testRequests.get(className);
+        return methods == null ? null : methods.get(methodName);
+    }
+
+    public ResourceUsage getConfiguration(String className) {
+        return configurations.get(className);
+    }
+
+    /**
+     * Ranking test method termahal (CPU time) dan total per class, dengan trend terhadap history
+     */
+    public String format(TestResourceHistory history) {
+        List<String[]> ranked = new ArrayList<>();
+        tests.forEach((className, methods) -> methods.keySet().forEach(method -> ranked.add(new String[]{className, method})));
+        ranked.sort(Comparator.comparingLong((String[] test) -> getTest(test[0], test[1]).getCpuNanos()).reversed());
+
+        StringBuilder sb = new StringBuilder(String.format("%-4s%-60s%10s%12s%10s%14s%16s  %s%n",
+                "#", "test", "cpu(ms)", "alloc(MB)", "requests", "cpu/req(ms)", "alloc/req(KB)", "trend"));
+        for (int i = 0; i < Math.min(top, ranked.size()); i++) {
+            String className = ranked.get(i)[0];
+            String method = ranked.get(i)[1];
+            ResourceUsage usage = getTest(className, method);
+            ResourceUsage requests = getTestRequests(className, method);
+            long requestCount = requests == null ? 0 : requests.getInvocations();
+            sb.append(String.format("%-4d%-60s%10.1f%12.1f%10d%14s%16s  %s%n", i + 1,
+                    simpleName(className) + "#" + method, usage.getCpuNanos() / 1e6, megabytes(usage.getAllocatedBytes()),
+                    requestCount,
+                    requestCount == 0 ? "-" : String.format("%.2f", requests.getCpuNanos() / 1e6 / requestCount),
+                    requestCount == 0 ? "-" : String.format("%.1f", requests.getAllocatedBytes() / 1024.0 / requestCount),
+                    trend(history.getMethodCpuNanos(className, method), usage.getCpuNanos(),
+                            history.getMethodAllocatedBytes(className, method), usage.getAllocatedBytes())));
+        }
+
+        sb.append(String.format("%n%-64s%10s%12s%14s%16s  %s%n", "class (tests + configuration)", "cpu(ms)", "alloc(MB)",
+                "config(ms)", "config(MB)", "trend"));
+        List<String> classNames = new ArrayList<>(classNames());
+        classNames.sort(Comparator.comparingLong((String className) -> classTotal(className)[0]).reversed());
+        for (String className : classNames) {
+            long[] total = classTotal(className);
+            ResourceUsage configuration = configurations.get(className);
+            sb.append(String.format("%-64s%10.1f%12.1f%14.1f%16.1f  %s%n", simpleName(className), total[0] / 1e6,
+                    megabytes(total[1]), configuration == null ? 0 : configuration.getCpuNanos() / 1e6,
+                    configuration == null ? 0 : megabytes(configuration.getAllocatedBytes()),
+                    trend(history.getClassCpuNanos(className), total[0], history.getClassAllocatedBytes(className), total[1])));
+        }
+        return sb.toString();
+    }
+
+    private TestResourceHistory observed() {
+        TestResourceHistory observed = new TestResourceHistory();
+        for (String className : classNames()) {
+            long[] total = classTotal(className);
+            observed.recordClass(className, total[0], total[1]);
+        }
+        tests.forEach((className, methods) -> methods.forEach((method, usage) ->
+                observed.recordMethod(className, method, usage.getCpuNanos(), usage.getAllocatedBytes())));
+        return observed;
+    }
+
+    /**
+     * {cpuNanos, allocatedBytes} semua test dan configuration method di class
+     */
+    private long[] classTotal(String className) {
+        long[] total = new long[2];
+        tests.getOrDefault(className, Map.of()).values().forEach(usage -> {
+            total[0] += usage.getCpuNanos();
+            total[1] += usage.getAllocatedBytes();
+        });
+        ResourceUsage configuration = configurations.get(className);
+        if (configuration != null) {
+            total[0] += configuration.getCpuNanos();
+            total[1] += configuration.getAllocatedBytes();
+        }
+        return total;
+    }
+
+    private List<String> classNames() {
+        Set<String> names = new TreeSet<>(tests.keySet());
+        names.addAll(configurations.keySet());
+        return new ArrayList<>(names);
+    }
+
+    private static ResourceUsage usage(Map<String, Map<String, ResourceUsage>> usages, ITestResult testResult) {
+        return usages.computeIfAbsent(testResult.getTestClass().getName(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(testResult.getMethod().getMethodName(), key -> new ResourceUsage());
+    }
+
+    /**
+     * Perubahan terhadap history jika melewati TREND_THRESHOLD, "new" jika belum ada history
+     */
+    private static String trend(Long previousCpuNanos, long cpuNanos, Long previousAllocatedBytes, long allocatedBytes) {
+        if (previousCpuNanos == null || previousAllocatedBytes == null) {
+            return "new";
+        }
+        List<String> changes = new ArrayList<>();
+        String cpu = change(previousCpuNanos, cpuNanos);
+        if (cpu != null) {
+            changes.add("cpu " + cpu);
+        }
+        String allocated = change(previousAllocatedBytes, allocatedBytes);
+        if (allocated != null) {
+            changes.add("alloc " + allocated);
+        }
+        return changes.isEmpty() ? "=" : String.join(", ", changes);
+    }
+
+    private static String change(long previous, long latest) {
+        if (previous <= 0) {
+            return latest > 0 ? "+" : null;
+        }
+        double ratio = (double) (latest - previous) / previous;
+        return Math.abs(ratio) < AccountingConstant.TREND_THRESHOLD ? null : String.format("%+.0f%%", ratio * 100);
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,30 @@
+package com.setianjay.accounting;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Akumulasi CPU time dan allocated bytes dari beberapa invocation (test method, configuration method atau request)
+ */
+public final class ResourceUsage {
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    void add(long cpuNanos, long allocatedBytes) {
+        invocations.increment();
+        this.cpuNanos.add(Math.max(0, cpuNanos));
+        this.allocatedBytes.add(Math.max(0, allocatedBytes));
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos.sum();
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+}
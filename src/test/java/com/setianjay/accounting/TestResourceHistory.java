@@ -0,0 +1,151 @@
+package com.setianjay.accounting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.constants.AccountingConstant;
+import com.setianjay.utils.JsonHistoryStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * CPU time dan allocated bytes per test class (test + configuration method) dan per test method dari run sebelumnya.
+ * Nilai baru digabung dengan exponential moving average, jadi trend terlihat tanpa satu run yang aneh
+ * langsung menggeser baseline.
+ *
+ * <p>Format file: {"classes": {"&lt;class&gt;": {"cpuNanos": n, "allocatedBytes": n,
+ * "methods": {"&lt;method&gt;": {"cpuNanos": n, "allocatedBytes": n}}}}}</p>
+ */
+public class TestResourceHistory {
+    private final Map<String, ClassResources> classes = new TreeMap<>();
+
+    /**
+     * Load history dari file; file yang belum ada menghasilkan history kosong
+     */
+    public static TestResourceHistory load(Path file) throws IOException {
+        TestResourceHistory history = new TestResourceHistory();
+        for (Map.Entry<String, JsonNode> classEntry : JsonHistoryStore.readClasses(file)) {
+            ClassResources resources = history.classResources(classEntry.getKey());
+            resources.total = Usage.read(classEntry.getValue());
+            for (Map.Entry<String, JsonNode> method : classEntry.getValue().path("methods").properties()) {
+                resources.methods.put(method.getKey(), Usage.read(method.getValue()));
+            }
+        }
+        return history;
+    }
+
+    public void save(Path file) throws IOException {
+        JsonHistoryStore.writeClasses(file, classesNode -> classes.forEach((className, resources) -> {
+            ObjectNode classNode = classesNode.putObject(className);
+            resources.total.write(classNode);
+            ObjectNode methodsNode = classNode.putObject("methods");
+            resources.methods.forEach((method, usage) -> usage.write(methodsNode.putObject(method)));
+        }));
+    }
+
+    /**
+     * Set total class hasil observasi (tanpa smoothing), dipakai listener untuk run saat ini
+     */
+    public void recordClass(String className, long cpuNanos, long allocatedBytes) {
+        classResources(className).total = new Usage(cpuNanos, allocatedBytes);
+    }
+
+    public void recordMethod(String className, String methodName, long cpuNanos, long allocatedBytes) {
+        classResources(className).methods.put(methodName, new Usage(cpuNanos, allocatedBytes));
+    }
+
+    /**
+     * Gabungkan observasi run terbaru ke history ini memakai exponential moving average
+     */
+    public void update(TestResourceHistory latest) {
+        latest.classes.forEach((className, observed) -> {
+            ClassResources current = classes.get(className);
+            if (current == null) {
+                classes.put(className, observed.copy());
+                return;
+            }
+            current.total = current.total.smooth(observed.total);
+            observed.methods.forEach((method, usage) -> current.methods.merge(method, usage, Usage::smooth));
+        });
+    }
+
+    /**
+     * CPU time class, atau null jika belum pernah tercatat
+     */
+    public Long getClassCpuNanos(String className) {
+        ClassResources resources = classes.get(className);
+        return resources == null ? null : resources.total.cpuNanos;
+    }
+
+    public Long getClassAllocatedBytes(String className) {
+        ClassResources resources = classes.get(className);
+        return resources == null ? null : resources.total.allocatedBytes;
+    }
+
+    /**
+     * CPU time method, atau null jika belum pernah tercatat
+     */
+    public Long getMethodCpuNanos(String className, String methodName) {
+        Usage usage = methodUsage(className, methodName);
+        return usage == null ? null : usage.cpuNanos;
+    }
+
+    public Long getMethodAllocatedBytes(String className, String methodName) {
+        Usage usage = methodUsage(className, methodName);
+        return usage == null ? null : usage.allocatedBytes;
+    }
+
+    public boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    private Usage methodUsage(String className, String methodName) {
+        ClassResources resources = classes.get(className);
+        return resources == null ? null : resources.methods.get(methodName);
+    }
+
+    private ClassResources classResources(String className) {
+        return classes.computeIfAbsent(className, key -> new ClassResources());
+    }
+
+    private static final class ClassResources {
+        private Usage total = new Usage(0, 0);
+        private final Map<String, Usage> methods = new TreeMap<>();
+
+        private ClassResources copy() {
+            ClassResources copy = new ClassResources();
+            copy.total = total;
+            copy.methods.putAll(methods);
+            return copy;
+        }
+    }
+
+    private static final class Usage {
+        private final long cpuNanos;
+        private final long allocatedBytes;
+
+        private Usage(long cpuNanos, long allocatedBytes) {
+            this.cpuNanos = cpuNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        private Usage smooth(Usage latest) {
+            return new Usage(smooth(cpuNanos, latest.cpuNanos), smooth(allocatedBytes, latest.allocatedBytes));
+        }
+
+        private void write(ObjectNode node) {
+            node.put("cpuNanos", cpuNanos);
+            node.put("allocatedBytes", allocatedBytes);
+        }
+
+        private static Usage read(JsonNode node) {
+            return new Usage(node.path("cpuNanos").asLong(), node.path("allocatedBytes").asLong());
+        }
+
+        private static long smooth(long previous, long latest) {
+            return Math.round(previous * (1 - AccountingConstant.HISTORY_SMOOTHING) + latest * AccountingConstant.HISTORY_SMOOTHING);
+        }
+    }
+}
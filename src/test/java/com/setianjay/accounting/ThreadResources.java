@@ -0,0 +1,51 @@
+package com.setianjay.accounting;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counter CPU time dan allocated bytes thread saat ini dari com.sun.management.ThreadMXBean.
+ * JVM yang tidak mendukung salah satunya selalu menghasilkan 0 untuk counter tersebut.
+ */
+public final class ThreadResources {
+    private static final com.sun.management.ThreadMXBean THREADS = initialize();
+    private static final boolean CPU_TIME_ENABLED = THREADS != null && THREADS.isCurrentThreadCpuTimeSupported()
+            && THREADS.isThreadCpuTimeEnabled();
+    private static final boolean ALLOCATION_ENABLED = THREADS != null && THREADS.isThreadAllocatedMemorySupported()
+            && THREADS.isThreadAllocatedMemoryEnabled();
+
+    private ThreadResources() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isSupported() {
+        return CPU_TIME_ENABLED || ALLOCATION_ENABLED;
+    }
+
+    /**
+     * CPU time (user + system) thread saat ini dalam nanoseconds
+     */
+    public static long cpuNanos() {
+        return CPU_TIME_ENABLED ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * Total byte yang pernah dialokasikan thread saat ini di heap
+     */
+    public static long allocatedBytes() {
+        return ALLOCATION_ENABLED ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean initialize() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threads.isThreadCpuTimeSupported()) {
+            threads.setThreadCpuTimeEnabled(true);
+        }
+        if (threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
@@ -0,0 +1,246 @@
+package com.setianjay.analysis;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.load.LatencyHistogram;
+import com.setianjay.utils.JsonUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Report hasil {@link ExchangeAnalyzer}: percentile per template, breakdown error,
+ * throughput per window waktu dan exchange paling lambat, sebagai text atau JSON
+ */
+public final class AnalysisReport {
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
+    private final Map<Path, Long> sources;
+    private final ExchangeAggregate aggregate;
+    private final long dropped;
+    private final int windowSeconds;
+    private final long analysisNanos;
+
+    AnalysisReport(Map<Path, Long> sources, ExchangeAggregate aggregate, long dropped, int windowSeconds, long analysisNanos) {
+        this.sources = Collections.unmodifiableMap(sources);
+        this.aggregate = aggregate;
+        this.dropped = dropped;
+        this.windowSeconds = windowSeconds;
+        this.analysisNanos = analysisNanos;
+    }
+
+    /**
+     * File input ke jumlah exchange yang dibaca dari file itu
+     */
+    public Map<Path, Long> getSources() {
+        return sources;
+    }
+
+    public ExchangeAggregate getAggregate() {
+        return aggregate;
+    }
+
+    /**
+     * Exchange yang tidak masuk journal karena journal penuh
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    public long getAnalysisNanos() {
+        return analysisNanos;
+    }
+
+    public double getDurationSeconds() {
+        return (aggregate.getLastEndMicros() - aggregate.getFirstStartMicros()) / 1e6;
+    }
+
+    public double getThroughputRps() {
+        double seconds = getDurationSeconds();
+        return seconds <= 0 ? 0.0 : aggregate.getCount() / seconds;
+    }
+
+    public double getErrorRate() {
+        return aggregate.getCount() == 0 ? 0.0 : (double) aggregate.getErrors() / aggregate.getCount();
+    }
+
+    /**
+     * Format report sebagai text table
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n===== Exchange analysis: %d exchanges from %d source(s) =====%n",
+                aggregate.getCount(), sources.size()));
+        sources.forEach((path, count) -> sb.append(String.format("Source       : %s (%d)%n", path, count)));
+        if (aggregate.getCount() == 0) {
+            return sb.toString();
+        }
+        sb.append(String.format("Period       : %s .. %s (%.2fs), %.2f rps%n", timestamp(aggregate.getFirstStartMicros()),
+                timestamp(aggregate.getLastEndMicros()), getDurationSeconds(), getThroughputRps()));
+        sb.append(String.format("Errors       : %d (%.2f%%)%n", aggregate.getErrors(), getErrorRate() * 100));
+        sb.append(String.format("Status codes : %s%n", statusLabels(aggregate.getStatusCounts())));
+        if (dropped > 0) {
+            sb.append(String.format("Dropped      : %d (journal full)%n", dropped));
+        }
+        sb.append(String.format("Analyzed in  : %d ms%n", analysisNanos / 1_000_000));
+
+        sb.append(String.format("%n%10s%8s%10s%10s%10s%10s%10s%10s  %s%n",
+                "count", "errors", "mean", "p50", "p90", "p99", "p99.9", "max", "template (ms)"));
+        aggregate.getLatencies().forEach((template, latency) ->
+                appendRow(sb, aggregate.getErrors(template), latency, template));
+        appendRow(sb, aggregate.getErrors(), aggregate.getOverallLatency(), "ALL");
+
+        if (!aggregate.getErrorCounts().isEmpty()) {
+            sb.append(String.format("%nErrors by template:%n"));
+            aggregate.getErrorCounts().forEach((template, perStatus) -> perStatus.forEach((status, count) ->
+                    sb.append(String.format("  %-8s%10d  %s%n", statusLabel(status), count, template))));
+        }
+
+        sb.append(String.format("%nThroughput per %ds window:%n", windowSeconds));
+        sb.append(String.format("  %-23s%10s%10s%8s%10s%n", "start", "requests", "rps", "errors", "max(ms)"));
+        for (ExchangeAggregate.Window window : aggregate.getWindows()) {
+            sb.append(String.format("  %-23s%10d%10.2f%8d%10.2f%n", timestamp(window.getStartEpochMicros()),
+                    window.getCount(), (double) window.getCount() / windowSeconds, window.getErrors(),
+                    window.getMaxNanos() / 1e6));
+        }
+
+        sb.append(String.format("%nSlowest exchanges:%n"));
+        for (ExchangeAggregate.SlowExchange exchange : aggregate.getSlowest()) {
+            sb.append(String.format("  %10.2f ms  %-8s %s  %s%n", exchange.getTotalNanos() / 1e6,
+                    statusLabel(exchange.getStatus()), timestamp(exchange.getStartEpochMicros()), exchange.getTemplate()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Log report ke logger
+     */
+    public void log(Logger logger) {
+        logger.info("🔎 {}", format());
+    }
+
+    /**
+     * Tulis report sebagai JSON (latency dalam milliseconds, timestamp ISO-8601)
+     */
+    public void writeJson(Path file) throws IOException {
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        JsonUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), toJson());
+    }
+
+    public ObjectNode toJson() {
+        ObjectNode root = JsonUtils.getObjectMapper().createObjectNode();
+        ArrayNode sourcesNode = root.putArray("sources");
+        sources.forEach((path, count) -> sourcesNode.addObject().put("path", path.toString()).put("exchanges", count));
+
+        ObjectNode summary = root.putObject("summary");
+        summary.put("exchanges", aggregate.getCount());
+        summary.put("errors", aggregate.getErrors());
+        summary.put("errorRate", getErrorRate());
+        summary.put("dropped", dropped);
+        if (aggregate.getCount() > 0) {
+            summary.put("firstStart", isoTimestamp(aggregate.getFirstStartMicros()));
+            summary.put("lastEnd", isoTimestamp(aggregate.getLastEndMicros()));
+        }
+        summary.put("durationSeconds", getDurationSeconds());
+        summary.put("throughputRps", getThroughputRps());
+        summary.put("analysisMillis", analysisNanos / 1_000_000);
+
+        ObjectNode statusNode = root.putObject("statusCounts");
+        aggregate.getStatusCounts().forEach((status, count) -> statusNode.put(statusLabel(status), count));
+
+        ObjectNode latencyNode = root.putObject("latency");
+        aggregate.getLatencies().forEach((template, latency) ->
+                putLatency(latencyNode.putObject(template), aggregate.getErrors(template), latency));
+        putLatency(root.putObject("overall"), aggregate.getErrors(), aggregate.getOverallLatency());
+
+        ObjectNode errorsNode = root.putObject("errors");
+        aggregate.getErrorCounts().forEach((template, perStatus) -> {
+            ObjectNode templateNode = errorsNode.putObject(template);
+            perStatus.forEach((status, count) -> templateNode.put(statusLabel(status), count));
+        });
+
+        ObjectNode windowsNode = root.putObject("windows");
+        windowsNode.put("seconds", windowSeconds);
+        ArrayNode windowList = windowsNode.putArray("items");
+        for (ExchangeAggregate.Window window : aggregate.getWindows()) {
+            windowList.addObject()
+                    .put("start", isoTimestamp(window.getStartEpochMicros()))
+                    .put("requests", window.getCount())
+                    .put("rps", (double) window.getCount() / windowSeconds)
+                    .put("errors", window.getErrors())
+                    .put("maxMs", window.getMaxNanos() / 1e6);
+        }
+
+        ArrayNode slowestNode = root.putArray("slowest");
+        for (ExchangeAggregate.SlowExchange exchange : aggregate.getSlowest()) {
+            slowestNode.addObject()
+                    .put("template", exchange.getTemplate())
+                    .put("status", statusLabel(exchange.getStatus()))
+                    .put("start", isoTimestamp(exchange.getStartEpochMicros()))
+                    .put("durationMs", exchange.getTotalNanos() / 1e6);
+        }
+        return root;
+    }
+
+    private static void putLatency(ObjectNode node, long errors, LatencyHistogram latency) {
+        node.put("count", latency.getTotalCount());
+        node.put("errors", errors);
+        node.put("meanMs", latency.getMean() / 1000.0);
+        node.put("p50Ms", latency.getValueAtPercentile(50) / 1000.0);
+        node.put("p90Ms", latency.getValueAtPercentile(90) / 1000.0);
+        node.put("p99Ms", latency.getValueAtPercentile(99) / 1000.0);
+        node.put("p999Ms", latency.getValueAtPercentile(99.9) / 1000.0);
+        node.put("maxMs", latency.getMax() / 1000.0);
+    }
+
+    private static void appendRow(StringBuilder sb, long errors, LatencyHistogram latency, String template) {
+        sb.append(String.format("%10d%8d%10.2f%10.2f%10.2f%10.2f%10.2f%10.2f  %s%n", latency.getTotalCount(), errors,
+                latency.getMean() / 1000.0,
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(90) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0,
+                latency.getMax() / 1000.0,
+                template));
+    }
+
+    private static Map<String, Long> statusLabels(Map<Integer, Long> statusCounts) {
+        Map<String, Long> labels = new LinkedHashMap<>();
+        statusCounts.forEach((status, count) -> labels.put(statusLabel(status), count));
+        return labels;
+    }
+
+    /**
+     * -1 = gagal tanpa response, 0 = status tidak diketahui (exchange dari log)
+     */
+    private static String statusLabel(int status) {
+        if (status < 0) {
+            return "failed";
+        }
+        return status == 0 ? "unknown" : String.valueOf(status);
+    }
+
+    private static String timestamp(long epochMicros) {
+        return TIMESTAMP_FORMAT.format(toInstant(epochMicros));
+    }
+
+    private static String isoTimestamp(long epochMicros) {
+        return toInstant(epochMicros).toString();
+    }
+
+    private static Instant toInstant(long epochMicros) {
+        return Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
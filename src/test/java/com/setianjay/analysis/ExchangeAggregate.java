@@ -0,0 +1,242 @@
+package com.setianjay.analysis;
+
+import com.setianjay.load.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Hasil agregasi sebagian exchange (satu segment file). Tidak thread-safe: setiap task fork/join
+ * mengisi aggregate sendiri lalu hasilnya digabung dengan {@link #merge(ExchangeAggregate)}.
+ */
+public final class ExchangeAggregate {
+    private static final Comparator<SlowExchange> BY_DURATION = Comparator.comparingLong(SlowExchange::getTotalNanos);
+
+    private final long windowMicros;
+    private final int top;
+    private final Map<String, TemplateStats> templates = new HashMap<>();
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private final Map<String, Map<Integer, Long>> errorCounts = new TreeMap<>();
+    private final Map<Long, long[]> windows = new HashMap<>();
+    // Min-heap: exchange tercepat di antara top-N ada di head supaya mudah diganti
+    private final PriorityQueue<SlowExchange> slowest = new PriorityQueue<>(BY_DURATION);
+    private long count;
+    private long errors;
+    private long firstStartMicros = Long.MAX_VALUE;
+    private long lastEndMicros = Long.MIN_VALUE;
+
+    public ExchangeAggregate(long windowMicros, int top) {
+        this.windowMicros = windowMicros;
+        this.top = top;
+    }
+
+    /**
+     * Tambah satu exchange. Status -1 = gagal tanpa response, 0 = tidak diketahui (sumber log).
+     * Exchange dihitung error jika gagal atau status >= 400.
+     */
+    public void add(String template, long startEpochMicros, long totalNanos, int status, boolean failed) {
+        boolean error = failed || status >= 400;
+        TemplateStats stats = templates.computeIfAbsent(template, key -> new TemplateStats());
+        stats.latency.recordNanos(totalNanos);
+        count++;
+        statusCounts.merge(status, 1L, Long::sum);
+        if (error) {
+            stats.errors++;
+            errors++;
+            errorCounts.computeIfAbsent(template, key -> new TreeMap<>()).merge(status, 1L, Long::sum);
+        }
+
+        long[] window = windows.computeIfAbsent(Math.floorDiv(startEpochMicros, windowMicros), key -> new long[3]);
+        window[0]++;
+        window[1] += error ? 1 : 0;
+        window[2] = Math.max(window[2], totalNanos);
+
+        firstStartMicros = Math.min(firstStartMicros, startEpochMicros);
+        lastEndMicros = Math.max(lastEndMicros, startEpochMicros + totalNanos / 1_000);
+
+        if (slowest.size() < top) {
+            slowest.add(new SlowExchange(template, startEpochMicros, totalNanos, status));
+        } else if (top > 0 && slowest.peek().totalNanos < totalNanos) {
+            slowest.poll();
+            slowest.add(new SlowExchange(template, startEpochMicros, totalNanos, status));
+        }
+    }
+
+    /**
+     * Gabungkan aggregate lain ke aggregate ini dan return this
+     */
+    public ExchangeAggregate merge(ExchangeAggregate other) {
+        other.templates.forEach((template, stats) -> {
+            TemplateStats target = templates.computeIfAbsent(template, key -> new TemplateStats());
+            target.latency.merge(stats.latency);
+            target.errors += stats.errors;
+        });
+        other.statusCounts.forEach((status, value) -> statusCounts.merge(status, value, Long::sum));
+        other.errorCounts.forEach((template, perStatus) -> {
+            Map<Integer, Long> target = errorCounts.computeIfAbsent(template, key -> new TreeMap<>());
+            perStatus.forEach((status, value) -> target.merge(status, value, Long::sum));
+        });
+        other.windows.forEach((index, window) -> windows.merge(index, window, (a, b) ->
+                new long[]{a[0] + b[0], a[1] + b[1], Math.max(a[2], b[2])}));
+        for (SlowExchange exchange : other.slowest) {
+            if (slowest.size() < top) {
+                slowest.add(exchange);
+            } else if (slowest.peek().totalNanos < exchange.totalNanos) {
+                slowest.poll();
+                slowest.add(exchange);
+            }
+        }
+        count += other.count;
+        errors += other.errors;
+        firstStartMicros = Math.min(firstStartMicros, other.firstStartMicros);
+        lastEndMicros = Math.max(lastEndMicros, other.lastEndMicros);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getWindowMicros() {
+        return windowMicros;
+    }
+
+    public long getFirstStartMicros() {
+        return count == 0 ? 0 : firstStartMicros;
+    }
+
+    public long getLastEndMicros() {
+        return count == 0 ? 0 : lastEndMicros;
+    }
+
+    /**
+     * Latency per template, urut nama template
+     */
+    public Map<String, LatencyHistogram> getLatencies() {
+        Map<String, LatencyHistogram> latencies = new TreeMap<>();
+        templates.forEach((template, stats) -> latencies.put(template, stats.latency));
+        return latencies;
+    }
+
+    public long getErrors(String template) {
+        TemplateStats stats = templates.get(template);
+        return stats == null ? 0 : stats.errors;
+    }
+
+    /**
+     * Latency semua template digabung
+     */
+    public LatencyHistogram getOverallLatency() {
+        LatencyHistogram overall = new LatencyHistogram();
+        templates.values().forEach(stats -> overall.merge(stats.latency));
+        return overall;
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        return Collections.unmodifiableMap(statusCounts);
+    }
+
+    /**
+     * Template ke (status ke jumlah error)
+     */
+    public Map<String, Map<Integer, Long>> getErrorCounts() {
+        return Collections.unmodifiableMap(errorCounts);
+    }
+
+    /**
+     * Window waktu (urut dari awal run), berdasarkan waktu mulai exchange
+     */
+    public List<Window> getWindows() {
+        List<Window> result = new ArrayList<>();
+        new TreeMap<>(windows).forEach((index, window) ->
+                result.add(new Window(index * windowMicros, window[0], window[1], window[2])));
+        return result;
+    }
+
+    /**
+     * Exchange paling lambat, urut dari yang paling lama
+     */
+    public List<SlowExchange> getSlowest() {
+        List<SlowExchange> result = new ArrayList<>(slowest);
+        result.sort(BY_DURATION.reversed());
+        return result;
+    }
+
+    private static final class TemplateStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private long errors;
+    }
+
+    /**
+     * Jumlah exchange yang mulai di satu window waktu
+     */
+    public static final class Window {
+        private final long startEpochMicros;
+        private final long count;
+        private final long errors;
+        private final long maxNanos;
+
+        Window(long startEpochMicros, long count, long errors, long maxNanos) {
+            this.startEpochMicros = startEpochMicros;
+            this.count = count;
+            this.errors = errors;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getStartEpochMicros() {
+            return startEpochMicros;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+
+    public static final class SlowExchange {
+        private final String template;
+        private final long startEpochMicros;
+        private final long totalNanos;
+        private final int status;
+
+        SlowExchange(String template, long startEpochMicros, long totalNanos, int status) {
+            this.template = template;
+            this.startEpochMicros = startEpochMicros;
+            this.totalNanos = totalNanos;
+            this.status = status;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public long getStartEpochMicros() {
+            return startEpochMicros;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
+}
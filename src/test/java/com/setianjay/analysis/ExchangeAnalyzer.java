@@ -0,0 +1,239 @@
+package com.setianjay.analysis;
+
+import com.setianjay.constants.AnalysisConstant;
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.journal.ExchangeJournalReader;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Analisis exchange setelah run: baca journal exchange (.xjournal) atau, sebagai fallback,
+ * baris "📤 API Request" dari log, lalu agregasi paralel dengan fork/join per segment file.
+ *
+ * <p>CLI: mvn test-compile exec:exec -Panalyze [-Danalysis.inputs=target/journal,logs]
+ * [-Danalysis.windowSeconds=10] [-Danalysis.top=20] [-Danalysis.jsonReport=target/analysis-report.json]</p>
+ */
+public final class ExchangeAnalyzer {
+    private static final Logger logger = LoggerUtils.getLogger(ExchangeAnalyzer.class);
+
+    private final int windowSeconds;
+    private final int top;
+    private final int parallelism;
+    private final long journalSegmentSlots;
+    private final long logSegmentBytes;
+    private final ZoneId zone;
+
+    private ExchangeAnalyzer(Builder builder) {
+        this.windowSeconds = builder.windowSeconds;
+        this.top = builder.top;
+        this.parallelism = builder.parallelism;
+        this.journalSegmentSlots = builder.journalSegmentSlots;
+        this.logSegmentBytes = builder.logSegmentBytes;
+        this.zone = builder.zone;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Analyzer dengan setting dari system properties analysis.*
+     */
+    public static ExchangeAnalyzer fromSystemProperties() {
+        return builder()
+                .windowSeconds(Integer.getInteger(AnalysisConstant.WINDOW_SECONDS_PROPERTY, AnalysisConstant.DEFAULT_WINDOW_SECONDS))
+                .top(Integer.getInteger(AnalysisConstant.TOP_PROPERTY, AnalysisConstant.DEFAULT_TOP))
+                .parallelism(Integer.getInteger(AnalysisConstant.PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()))
+                .build();
+    }
+
+    /**
+     * Input dari argument CLI, atau dari property analysis.inputs jika tidak ada argument
+     */
+    public static void main(String[] args) throws IOException {
+        String[] inputs = args.length > 0 ? args
+                : System.getProperty(AnalysisConstant.INPUTS_PROPERTY, AnalysisConstant.DEFAULT_INPUTS).split(",");
+        List<Path> paths = Arrays.stream(inputs)
+                .map(String::trim)
+                .filter(input -> !input.isEmpty())
+                .map(Paths::get)
+                .collect(Collectors.toList());
+
+        AnalysisReport report = fromSystemProperties().analyze(paths);
+        report.log(logger);
+
+        Path jsonReport = Paths.get(System.getProperty(AnalysisConstant.JSON_REPORT_PROPERTY, AnalysisConstant.DEFAULT_JSON_REPORT));
+        report.writeJson(jsonReport);
+        logger.info("📝 JSON analysis report written to {}", jsonReport.toAbsolutePath());
+    }
+
+    /**
+     * Analisis semua input. Setiap file dibagi per segment dan semua segment dari semua file
+     * dijalankan di satu ForkJoinPool
+     */
+    public AnalysisReport analyze(List<Path> inputs) throws IOException {
+        List<Path> files = resolveInputs(inputs);
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("No exchange journal or log file found in " + inputs);
+        }
+
+        long startTime = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        List<Closeable> resources = new ArrayList<>();
+        try {
+            Map<Path, ForkJoinTask<ExchangeAggregate>> tasks = new LinkedHashMap<>();
+            long dropped = 0;
+            for (Path file : files) {
+                if (isJournal(file)) {
+                    ExchangeJournalReader reader = ExchangeJournalReader.open(file);
+                    resources.add(reader);
+                    dropped += reader.getDropped();
+                    if (!reader.isClosedCleanly()) {
+                        logger.warn("⚠️ Journal {} was not closed cleanly, reading {} committed slots", file, reader.getSlotCount());
+                    }
+                    tasks.put(file, pool.submit(new JournalSegmentTask(reader, 0, reader.getSlotCount(), this)));
+                } else {
+                    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                    resources.add(channel);
+                    tasks.put(file, pool.submit(new LogSegmentTask(channel, 0, channel.size(), this)));
+                }
+            }
+
+            ExchangeAggregate total = newAggregate();
+            Map<Path, Long> sources = new LinkedHashMap<>();
+            for (Map.Entry<Path, ForkJoinTask<ExchangeAggregate>> task : tasks.entrySet()) {
+                ExchangeAggregate aggregate = task.getValue().join();
+                sources.put(task.getKey(), aggregate.getCount());
+                total.merge(aggregate);
+            }
+            return new AnalysisReport(sources, total, dropped, windowSeconds, System.nanoTime() - startTime);
+        } finally {
+            pool.shutdownNow();
+            for (Closeable resource : resources) {
+                resource.close();
+            }
+        }
+    }
+
+    /**
+     * File disebut langsung selalu dipakai. Directory di-expand ke file journal; file log di directory
+     * hanya dipakai jika tidak ada journal sama sekali, supaya exchange yang sama tidak dihitung dua kali
+     */
+    static List<Path> resolveInputs(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        List<Path> journals = new ArrayList<>();
+        List<Path> logs = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isRegularFile(input)) {
+                files.add(input);
+            } else if (Files.isDirectory(input)) {
+                try (Stream<Path> children = Files.list(input)) {
+                    children.filter(Files::isRegularFile).sorted().forEach(child -> {
+                        if (isJournal(child)) {
+                            journals.add(child);
+                        } else if (child.getFileName().toString().endsWith(AnalysisConstant.LOG_FILE_EXTENSION)) {
+                            logs.add(child);
+                        }
+                    });
+                }
+            }
+        }
+        files.addAll(journals.isEmpty() ? logs : journals);
+        return files;
+    }
+
+    private static boolean isJournal(Path file) {
+        return file.getFileName().toString().endsWith(JournalConstant.FILE_EXTENSION);
+    }
+
+    ExchangeAggregate newAggregate() {
+        return new ExchangeAggregate(windowSeconds * 1_000_000L, top);
+    }
+
+    long getJournalSegmentSlots() {
+        return journalSegmentSlots;
+    }
+
+    long getLogSegmentBytes() {
+        return logSegmentBytes;
+    }
+
+    ZoneId getZone() {
+        return zone;
+    }
+
+    public static final class Builder {
+        private int windowSeconds = AnalysisConstant.DEFAULT_WINDOW_SECONDS;
+        private int top = AnalysisConstant.DEFAULT_TOP;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private long journalSegmentSlots = AnalysisConstant.JOURNAL_SEGMENT_SLOTS;
+        private long logSegmentBytes = AnalysisConstant.LOG_SEGMENT_BYTES;
+        private ZoneId zone = ZoneId.systemDefault();
+
+        private Builder() {
+        }
+
+        /**
+         * Lebar window untuk throughput per waktu
+         */
+        public Builder windowSeconds(int windowSeconds) {
+            if (windowSeconds < 1) {
+                throw new IllegalArgumentException("Window must be at least 1 second: " + windowSeconds);
+            }
+            this.windowSeconds = windowSeconds;
+            return this;
+        }
+
+        /**
+         * Jumlah exchange paling lambat di report
+         */
+        public Builder top(int top) {
+            this.top = Math.max(0, top);
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = Math.max(1, parallelism);
+            return this;
+        }
+
+        /**
+         * Ukuran segment terbesar yang diproses satu task, default cukup besar untuk file run biasa
+         */
+        public Builder segmentSize(long journalSlots, long logBytes) {
+            this.journalSegmentSlots = Math.max(1, journalSlots);
+            this.logSegmentBytes = Math.max(1, logBytes);
+            return this;
+        }
+
+        /**
+         * Zona waktu timestamp di file log, default zona sistem (sama seperti logback)
+         */
+        public Builder zone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        public ExchangeAnalyzer build() {
+            return new ExchangeAnalyzer(this);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.setianjay.analysis;
+
+import com.setianjay.journal.ExchangeJournalReader;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Agregasi range slot journal. Record berukuran tetap, jadi range dibagi dua sampai
+ * paling besar satu segment tanpa perlu scan batas record.
+ */
+final class JournalSegmentTask extends RecursiveTask<ExchangeAggregate> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ExchangeJournalReader reader;
+    private final long fromSlot;
+    private final long toSlot;
+    private final transient ExchangeAnalyzer analyzer;
+
+    JournalSegmentTask(ExchangeJournalReader reader, long fromSlot, long toSlot, ExchangeAnalyzer analyzer) {
+        this.reader = reader;
+        this.fromSlot = fromSlot;
+        this.toSlot = toSlot;
+        this.analyzer = analyzer;
+    }
+
+    @Override
+    protected ExchangeAggregate compute() {
+        if (toSlot - fromSlot > analyzer.getJournalSegmentSlots()) {
+            long middle = fromSlot + (toSlot - fromSlot) / 2;
+            JournalSegmentTask left = new JournalSegmentTask(reader, fromSlot, middle, analyzer);
+            left.fork();
+            ExchangeAggregate right = new JournalSegmentTask(reader, middle, toSlot, analyzer).compute();
+            return left.join().merge(right);
+        }
+
+        ExchangeAggregate aggregate = analyzer.newAggregate();
+        reader.forEach(fromSlot, toSlot, record -> aggregate.add(record.getTemplate(), record.getStartEpochMicros(),
+                record.getTotalNanos(), record.getStatus(), record.isFailed()));
+        return aggregate;
+    }
+}
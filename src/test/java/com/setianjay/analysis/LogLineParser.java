@@ -0,0 +1,177 @@
+package com.setianjay.analysis;
+
+import com.setianjay.constants.AnalysisConstant;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Parser baris "📤 API Request" dari logs/api-tests.log, langsung dari byte tanpa decode seluruh baris.
+ * Log tidak memuat status, jadi exchange dari log dicatat dengan status 0 (tidak diketahui).
+ * Satu instance per task (menyimpan cache timestamp), tidak thread-safe.
+ */
+final class LogLineParser {
+    private static final byte[] REQUEST_MARKER = AnalysisConstant.LOG_REQUEST_MARKER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DURATION_MARKER = AnalysisConstant.LOG_DURATION_MARKER.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SPACE = {' '};
+    private static final byte[] TIMESTAMP_LAYOUT = "dddd-dd-dd dd:dd:dd.ddd".getBytes(StandardCharsets.US_ASCII);
+    // "yyyy-MM-dd HH:mm" sama untuk semua baris dalam satu menit
+    private static final int MINUTE_PREFIX_LENGTH = 16;
+
+    private final ZoneId zone;
+    private final byte[] cachedMinute = new byte[MINUTE_PREFIX_LENGTH];
+    private long cachedMinuteEpochMicros = Long.MIN_VALUE;
+
+    LogLineParser(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Tambahkan baris ke aggregate jika baris adalah log request. Return false jika baris dilewati
+     */
+    boolean parse(byte[] line, int length, ExchangeAggregate aggregate) {
+        int marker = indexOf(line, AnalysisConstant.LOG_TIMESTAMP_LENGTH, length, REQUEST_MARKER);
+        if (marker < 0) {
+            return false;
+        }
+        long loggedEpochMicros = parseTimestamp(line);
+        if (loggedEpochMicros == Long.MIN_VALUE) {
+            return false;
+        }
+
+        int methodStart = marker + REQUEST_MARKER.length;
+        int methodEnd = indexOf(line, methodStart, length, SPACE);
+        int durationMarker = methodEnd < 0 ? -1 : indexOf(line, methodEnd + 1, length, DURATION_MARKER);
+        if (durationMarker < 0) {
+            return false;
+        }
+        long durationMillis = 0;
+        int digits = 0;
+        for (int i = durationMarker + DURATION_MARKER.length; i < length && isDigit(line[i]); i++, digits++) {
+            durationMillis = durationMillis * 10 + (line[i] - '0');
+        }
+        if (digits == 0) {
+            return false;
+        }
+
+        String method = new String(line, methodStart, methodEnd - methodStart, StandardCharsets.US_ASCII);
+        String endpoint = new String(line, methodEnd + 1, durationMarker - methodEnd - 1, StandardCharsets.UTF_8);
+        // Nilai "duration" di log adalah milliseconds; baris ditulis setelah response selesai dibaca
+        aggregate.add(method + " " + toTemplatePath(endpoint), loggedEpochMicros - durationMillis * 1_000,
+                durationMillis * 1_000_000, 0, false);
+        return true;
+    }
+
+    /**
+     * Buang scheme, host dan query lalu ganti segment yang berupa id (angka, hex, uuid) dengan {id},
+     * supaya request ke resource berbeda masuk ke template yang sama
+     */
+    static String toTemplatePath(String endpoint) {
+        int scheme = endpoint.indexOf("://");
+        int pathStart = scheme < 0 ? 0 : endpoint.indexOf('/', scheme + 3);
+        if (pathStart < 0) {
+            return "/";
+        }
+        int query = endpoint.indexOf('?', pathStart);
+        int pathEnd = query < 0 ? endpoint.length() : query;
+
+        StringBuilder template = new StringBuilder(pathEnd - pathStart);
+        int segmentStart = pathStart;
+        while (segmentStart < pathEnd) {
+            int slash = endpoint.indexOf('/', segmentStart + 1);
+            int segmentEnd = slash < 0 || slash > pathEnd ? pathEnd : slash;
+            // Segment termasuk '/' di depannya
+            if (isId(endpoint, segmentStart + 1, segmentEnd)) {
+                template.append('/').append(AnalysisConstant.ID_PLACEHOLDER);
+            } else {
+                template.append(endpoint, segmentStart, segmentEnd);
+            }
+            segmentStart = segmentEnd;
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    private static boolean isId(String path, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        boolean allDigits = true;
+        boolean hasDigit = false;
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            boolean hex = digit || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F') || c == '-';
+            if (!hex) {
+                return false;
+            }
+            allDigits &= digit;
+            hasDigit |= digit;
+        }
+        return allDigits || (hasDigit && end - start >= AnalysisConstant.MIN_HEX_ID_LENGTH);
+    }
+
+    /**
+     * Epoch micros dari "yyyy-MM-dd HH:mm:ss.SSS" di awal baris (zona waktu lokal, sama seperti logback),
+     * atau Long.MIN_VALUE jika format tidak cocok
+     */
+    private long parseTimestamp(byte[] line) {
+        for (int i = 0; i < TIMESTAMP_LAYOUT.length; i++) {
+            boolean matches = TIMESTAMP_LAYOUT[i] == 'd' ? isDigit(line[i]) : line[i] == TIMESTAMP_LAYOUT[i];
+            if (!matches) {
+                return Long.MIN_VALUE;
+            }
+        }
+
+        if (!sameMinute(line)) {
+            try {
+                cachedMinuteEpochMicros = LocalDateTime.of(number(line, 0, 4), number(line, 5, 2), number(line, 8, 2),
+                        number(line, 11, 2), number(line, 14, 2)).atZone(zone).toEpochSecond() * 1_000_000;
+            } catch (DateTimeException e) {
+                cachedMinuteEpochMicros = Long.MIN_VALUE;
+                return Long.MIN_VALUE;
+            }
+            System.arraycopy(line, 0, cachedMinute, 0, MINUTE_PREFIX_LENGTH);
+        }
+        return cachedMinuteEpochMicros + number(line, 17, 2) * 1_000_000L + number(line, 20, 3) * 1_000L;
+    }
+
+    private boolean sameMinute(byte[] line) {
+        if (cachedMinuteEpochMicros == Long.MIN_VALUE) {
+            return false;
+        }
+        for (int i = 0; i < MINUTE_PREFIX_LENGTH; i++) {
+            if (line[i] != cachedMinute[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int number(byte[] line, int from, int digits) {
+        int value = 0;
+        for (int i = from; i < from + digits; i++) {
+            value = value * 10 + (line[i] - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static int indexOf(byte[] line, int from, int to, byte[] pattern) {
+        int last = to - pattern.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (line[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
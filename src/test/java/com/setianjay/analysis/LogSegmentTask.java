@@ -0,0 +1,94 @@
+package com.setianjay.analysis;
+
+import com.setianjay.constants.AnalysisConstant;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Agregasi range byte [start, end) dari file log. Range dibagi dua tanpa melihat isi file;
+ * satu baris milik segment tempat byte pertamanya berada, jadi segment selain yang pertama
+ * melewati sisa baris sebelumnya dan baris terakhir dibaca sampai '\n' walaupun melewati end.
+ * Baca memakai positional read, jadi satu FileChannel aman dipakai semua task.
+ */
+final class LogSegmentTask extends RecursiveTask<ExchangeAggregate> {
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_LINE_BYTES = 512;
+
+    private final transient FileChannel channel;
+    private final long start;
+    private final long end;
+    private final transient ExchangeAnalyzer analyzer;
+
+    LogSegmentTask(FileChannel channel, long start, long end, ExchangeAnalyzer analyzer) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.analyzer = analyzer;
+    }
+
+    @Override
+    protected ExchangeAggregate compute() {
+        if (end - start > analyzer.getLogSegmentBytes()) {
+            long middle = start + (end - start) / 2;
+            LogSegmentTask left = new LogSegmentTask(channel, start, middle, analyzer);
+            left.fork();
+            ExchangeAggregate right = new LogSegmentTask(channel, middle, end, analyzer).compute();
+            return left.join().merge(right);
+        }
+
+        ExchangeAggregate aggregate = analyzer.newAggregate();
+        try {
+            scan(aggregate);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read log segment [" + start + ", " + end + ")", e);
+        }
+        return aggregate;
+    }
+
+    private void scan(ExchangeAggregate aggregate) throws IOException {
+        LogLineParser parser = new LogLineParser(analyzer.getZone());
+        ByteBuffer buffer = ByteBuffer.allocate(AnalysisConstant.LOG_READ_BUFFER_BYTES);
+        byte[] line = new byte[INITIAL_LINE_BYTES];
+        int lineLength = 0;
+        // Mulai dari byte sebelum start: jika byte itu '\n', baris pertama segment dimulai tepat di start
+        boolean skipping = start > 0;
+        long position = skipping ? start - 1 : start;
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < read; i++) {
+                byte b = bytes[i];
+                if (b == '\n') {
+                    if (!skipping) {
+                        parser.parse(line, lineLength, aggregate);
+                        lineLength = 0;
+                    }
+                    skipping = false;
+                    if (position + i + 1 >= end) {
+                        return;
+                    }
+                } else if (!skipping) {
+                    if (lineLength == line.length) {
+                        line = Arrays.copyOf(line, line.length * 2);
+                    }
+                    line[lineLength++] = b;
+                }
+            }
+            position += read;
+        }
+        // Baris terakhir file tanpa '\n'
+        if (!skipping && lineLength > 0) {
+            parser.parse(line, lineLength, aggregate);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.enums.ComparisonOperator;
+import com.setianjay.utils.JsonUtils;
+
+import java.math.BigDecimal;
+
+/**
+ * Satu assertion yang sudah di-compile, format: {@code <path> [size] <operator> [literal]}.
+ * Contoh: {@code $.bookingid > 0}, {@code $[*].id size == 13}, {@code $.booking.firstname == "Vinsmoke"},
+ * {@code $.token exists}.
+ */
+public final class JsonAssertion {
+    private final String expression;
+    private final JsonPath path;
+    private final boolean size;
+    private final ComparisonOperator operator;
+    private final Object expected;
+
+    private JsonAssertion(String expression, JsonPath path, boolean size, ComparisonOperator operator, Object expected) {
+        this.expression = expression;
+        this.path = path;
+        this.size = size;
+        this.operator = operator;
+        this.expected = expected;
+    }
+
+    /**
+     * Compile assertion expression sekali, hasilnya immutable dan thread-safe
+     */
+    public static JsonAssertion compile(String expression) {
+        String trimmed = expression.trim();
+        int pathEnd = indexOfWhitespace(trimmed, 0);
+        if (pathEnd < 0) {
+            throw new IllegalArgumentException("Missing operator in assertion: " + expression);
+        }
+        JsonPath path = JsonPath.compile(trimmed.substring(0, pathEnd));
+
+        String rest = trimmed.substring(pathEnd).trim();
+        boolean size = false;
+        if (rest.startsWith("size ") || rest.equals("size")) {
+            size = true;
+            rest = rest.substring(4).trim();
+        }
+
+        int operatorEnd = indexOfWhitespace(rest, 0);
+        String symbol = operatorEnd < 0 ? rest : rest.substring(0, operatorEnd);
+        ComparisonOperator operator = ComparisonOperator.fromSymbol(symbol);
+        if (operator == null) {
+            throw new IllegalArgumentException("Unknown operator '" + symbol + "' in assertion: " + expression);
+        }
+
+        String literal = operatorEnd < 0 ? "" : rest.substring(operatorEnd).trim();
+        if (operator == ComparisonOperator.EXISTS) {
+            if (!literal.isEmpty() || size) {
+                throw new IllegalArgumentException("'exists' takes no literal or size: " + expression);
+            }
+            return new JsonAssertion(trimmed, path, false, operator, null);
+        }
+        if (literal.isEmpty()) {
+            throw new IllegalArgumentException("Missing literal in assertion: " + expression);
+        }
+        return new JsonAssertion(trimmed, path, size, operator, parseLiteral(literal, expression));
+    }
+
+    private static Object parseLiteral(String literal, String expression) {
+        try {
+            JsonNode node = JsonUtils.getObjectMapper().readTree(literal);
+            if (node.isNumber()) {
+                return node.decimalValue();
+            }
+            if (node.isTextual()) {
+                return node.textValue();
+            }
+            if (node.isBoolean()) {
+                return node.booleanValue();
+            }
+            if (node.isNull()) {
+                return null;
+            }
+        } catch (JsonProcessingException e) {
+            // diteruskan ke exception di bawah
+        }
+        throw new IllegalArgumentException("Literal must be a JSON number, string, boolean or null: " + expression);
+    }
+
+    private static int indexOfWhitespace(String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bandingkan actual value (BigDecimal, String, Boolean atau null) dengan expected literal
+     */
+    boolean test(Object actual) {
+        if (operator == ComparisonOperator.EXISTS) {
+            return true;
+        }
+        if (actual instanceof BigDecimal && expected instanceof BigDecimal) {
+            return compare(((BigDecimal) actual).compareTo((BigDecimal) expected));
+        }
+        if (actual instanceof String && expected instanceof String) {
+            return compare(((String) actual).compareTo((String) expected));
+        }
+
+        boolean equal = actual == null ? expected == null : actual.equals(expected);
+        switch (operator) {
+            case EQUAL:
+                return equal;
+            case NOT_EQUAL:
+                return !equal;
+            default:
+                return false;
+        }
+    }
+
+    private boolean compare(int comparison) {
+        switch (operator) {
+            case EQUAL:
+                return comparison == 0;
+            case NOT_EQUAL:
+                return comparison != 0;
+            case GREATER_THAN:
+                return comparison > 0;
+            case GREATER_THAN_OR_EQUAL:
+                return comparison >= 0;
+            case LESS_THAN:
+                return comparison < 0;
+            case LESS_THAN_OR_EQUAL:
+                return comparison <= 0;
+            default:
+                return true;
+        }
+    }
+
+    public JsonPath getPath() {
+        return path;
+    }
+
+    /**
+     * True jika assertion membandingkan jumlah element, bukan value
+     */
+    public boolean isSize() {
+        return size;
+    }
+
+    public ComparisonOperator getOperator() {
+        return operator;
+    }
+
+    public Object getExpected() {
+        return expected;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,58 @@
+package com.setianjay.assertions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hasil evaluasi {@link JsonAssertions}: daftar failure dan captured values
+ */
+public final class JsonAssertionResult {
+    private final List<String> failures;
+    private final Map<String, Object> captures;
+
+    JsonAssertionResult(List<String> failures, Map<String, Object> captures) {
+        this.failures = Collections.unmodifiableList(failures);
+        this.captures = Collections.unmodifiableMap(captures);
+    }
+
+    static JsonAssertionResult invalidJson(String message) {
+        return new JsonAssertionResult(List.of("Invalid JSON: " + message), Map.of());
+    }
+
+    public boolean isPassed() {
+        return failures.isEmpty();
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public Map<String, Object> getCaptures() {
+        return captures;
+    }
+
+    public Object getCaptured(String name) {
+        return captures.get(name);
+    }
+
+    public String getCapturedString(String name) {
+        Object value = captures.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    public Integer getCapturedInt(String name) {
+        Object value = captures.get(name);
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    /**
+     * Throw AssertionError berisi semua failure jika ada yang gagal
+     */
+    public JsonAssertionResult assertPassed() {
+        if (!isPassed()) {
+            throw new AssertionError("JSON assertions failed:\n  - " + String.join("\n  - ", failures));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,241 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.setianjay.enums.ComparisonOperator;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Kumpulan assertion dan capture yang di-compile sekali lalu dievaluasi dalam satu
+ * streaming pass lewat Jackson JsonParser, tanpa membangun JsonNode tree atau POJO.
+ */
+public final class JsonAssertions {
+    private final JsonAssertion[] assertions;
+    private final String[] captureNames;
+    private final JsonPath[] capturePaths;
+
+    private JsonAssertions(List<JsonAssertion> assertions, Map<String, JsonPath> captures) {
+        this.assertions = assertions.toArray(new JsonAssertion[0]);
+        this.captureNames = captures.keySet().toArray(new String[0]);
+        this.capturePaths = captures.values().toArray(new JsonPath[0]);
+    }
+
+    /**
+     * Compile beberapa assertion expression sekaligus
+     */
+    public static JsonAssertions of(String... expressions) {
+        Builder builder = builder();
+        for (String expression : expressions) {
+            builder.that(expression);
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Evaluate terhadap response bytes
+     */
+    public JsonAssertionResult evaluate(byte[] json) {
+        JsonFactory factory = JsonUtils.getObjectMapper().getFactory();
+        try (JsonParser parser = factory.createParser(json)) {
+            return evaluate(parser);
+        } catch (IOException e) {
+            return JsonAssertionResult.invalidJson(e.getMessage());
+        }
+    }
+
+    /**
+     * Evaluate terhadap response stream (misal body yang masih di-download / di-decompress)
+     */
+    public JsonAssertionResult evaluate(InputStream json) {
+        JsonFactory factory = JsonUtils.getObjectMapper().getFactory();
+        try (JsonParser parser = factory.createParser(json)) {
+            return evaluate(parser);
+        } catch (IOException e) {
+            return JsonAssertionResult.invalidJson(e.getMessage());
+        }
+    }
+
+    private JsonAssertionResult evaluate(JsonParser parser) throws IOException {
+        // Stack posisi parser: frame object menyimpan field name, frame array menyimpan null + index
+        String[] fieldNames = new String[16];
+        int[] arrayIndices = new int[16];
+        int depth = 0;
+
+        long[] matches = new long[assertions.length];
+        long[] children = new long[assertions.length];
+        boolean[] containerMatched = new boolean[assertions.length];
+        String[] failures = new String[assertions.length];
+        Object[] captured = new Object[captureNames.length];
+        boolean[] capturedSet = new boolean[captureNames.length];
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME) {
+                fieldNames[depth - 1] = parser.currentName();
+                continue;
+            }
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+                continue;
+            }
+            if (depth > 0 && fieldNames[depth - 1] == null) {
+                arrayIndices[depth - 1]++;
+            }
+
+            boolean container = token.isStructStart();
+            Object value = null;
+            boolean valueRead = false;
+
+            for (int i = 0; i < assertions.length; i++) {
+                JsonAssertion assertion = assertions[i];
+                JsonPath path = assertion.getPath();
+
+                if (assertion.isSize() && !path.hasWildcard() && path.matchesParentOf(fieldNames, arrayIndices, depth)) {
+                    children[i]++;
+                }
+                if (!path.matches(fieldNames, arrayIndices, depth)) {
+                    continue;
+                }
+
+                matches[i]++;
+                if (assertion.isSize()) {
+                    if (!path.hasWildcard()) {
+                        containerMatched[i] |= container;
+                    }
+                    continue;
+                }
+                if (failures[i] != null || assertion.getOperator() == ComparisonOperator.EXISTS) {
+                    continue;
+                }
+                if (container) {
+                    failures[i] = assertion + ": value at " + path + " is an object/array";
+                    continue;
+                }
+                if (!valueRead) {
+                    value = readScalar(parser, token);
+                    valueRead = true;
+                }
+                if (!assertion.test(value)) {
+                    failures[i] = String.format("%s: expected %s %s but was %s",
+                            assertion, assertion.getOperator().symbol(), format(assertion.getExpected()), format(value));
+                }
+            }
+
+            for (int i = 0; i < capturePaths.length; i++) {
+                if (!capturedSet[i] && !container && capturePaths[i].matches(fieldNames, arrayIndices, depth)) {
+                    captured[i] = readCapture(parser, token);
+                    capturedSet[i] = true;
+                }
+            }
+
+            if (container) {
+                if (depth == fieldNames.length) {
+                    fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+                    arrayIndices = Arrays.copyOf(arrayIndices, depth * 2);
+                }
+                fieldNames[depth] = token == JsonToken.START_OBJECT ? "" : null;
+                arrayIndices[depth] = -1;
+                depth++;
+            }
+        }
+
+        List<String> failureMessages = new ArrayList<>();
+        for (int i = 0; i < assertions.length; i++) {
+            JsonAssertion assertion = assertions[i];
+            if (failures[i] != null) {
+                failureMessages.add(failures[i]);
+            } else if (assertion.isSize()) {
+                if (!assertion.getPath().hasWildcard() && !containerMatched[i]) {
+                    failureMessages.add(assertion + ": no object/array at " + assertion.getPath());
+                    continue;
+                }
+                long actualSize = assertion.getPath().hasWildcard() ? matches[i] : children[i];
+                if (!assertion.test(BigDecimal.valueOf(actualSize))) {
+                    failureMessages.add(String.format("%s: expected size %s %s but was %d",
+                            assertion, assertion.getOperator().symbol(), format(assertion.getExpected()), actualSize));
+                }
+            } else if (matches[i] == 0) {
+                failureMessages.add(assertion + ": no value at " + assertion.getPath());
+            }
+        }
+
+        Map<String, Object> captures = new LinkedHashMap<>();
+        for (int i = 0; i < captureNames.length; i++) {
+            if (capturedSet[i]) {
+                captures.put(captureNames[i], captured[i]);
+            } else {
+                failureMessages.add("capture '" + captureNames[i] + "': no value at " + capturePaths[i]);
+            }
+        }
+        return new JsonAssertionResult(failureMessages, captures);
+    }
+
+    private static Object readScalar(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDecimalValue();
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+    private static Object readCapture(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getNumberValue();
+        }
+        return readScalar(parser, token);
+    }
+
+    private static String format(Object value) {
+        return value instanceof String ? "\"" + value + "\"" : String.valueOf(value);
+    }
+
+    public static final class Builder {
+        private final List<JsonAssertion> assertions = new ArrayList<>();
+        private final Map<String, JsonPath> captures = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Tambah assertion expression, contoh {@code $.bookingid > 0}
+         */
+        public Builder that(String expression) {
+            assertions.add(JsonAssertion.compile(expression));
+            return this;
+        }
+
+        /**
+         * Capture scalar pertama di path ke variable dengan nama tertentu, contoh token atau bookingid
+         */
+        public Builder capture(String name, String path) {
+            captures.put(name, JsonPath.compile(path));
+            return this;
+        }
+
+        public JsonAssertions build() {
+            return new JsonAssertions(assertions, captures);
+        }
+    }
+}
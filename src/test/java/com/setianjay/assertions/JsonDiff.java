@@ -0,0 +1,147 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.constants.SnapshotConstant;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Diff per field antara golden response dan response baru, dipakai hanya jika {@link StructuralHash} berbeda.
+ * Aturan sama dengan hash: urutan field tidak berpengaruh, angka dibandingkan secara numerik,
+ * dan ignore path dilewati.
+ */
+final class JsonDiff {
+    private final JsonSnapshot snapshot;
+    private final List<String> differences = new ArrayList<>();
+    private String[] fieldNames = new String[16];
+    private int[] arrayIndices = new int[16];
+
+    private JsonDiff(JsonSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Daftar perbedaan (paling banyak {@link SnapshotConstant#MAX_DIFFERENCES}), kosong jika sama
+     */
+    static List<String> diff(JsonNode expected, JsonNode actual, JsonSnapshot snapshot) {
+        JsonDiff diff = new JsonDiff(snapshot);
+        diff.compare(expected, actual, 0);
+        return diff.differences;
+    }
+
+    /**
+     * Copy node dengan field object diurutkan secara rekursif, bentuk yang disimpan di file golden
+     */
+    static JsonNode canonicalize(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> sorted = new TreeMap<>();
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                sorted.put(field.getKey(), canonicalize(field.getValue()));
+            }
+            ObjectNode canonical = JsonNodeFactory.instance.objectNode();
+            sorted.forEach(canonical::set);
+            return canonical;
+        }
+        if (node.isArray()) {
+            ArrayNode canonical = JsonNodeFactory.instance.arrayNode(node.size());
+            node.forEach(element -> canonical.add(canonicalize(element)));
+            return canonical;
+        }
+        return node;
+    }
+
+    private void compare(JsonNode expected, JsonNode actual, int depth) {
+        if (differences.size() >= SnapshotConstant.MAX_DIFFERENCES) {
+            return;
+        }
+        if (expected.isObject() && actual.isObject()) {
+            compareObjects(expected, actual, depth);
+        } else if (expected.isArray() && actual.isArray()) {
+            compareArrays(expected, actual, depth);
+        } else if (expected.isNumber() && actual.isNumber()) {
+            if (expected.decimalValue().compareTo(actual.decimalValue()) != 0) {
+                addDifference(depth, "expected " + expected + " but was " + actual);
+            }
+        } else if (!expected.equals(actual)) {
+            addDifference(depth, "expected " + expected + " but was " + actual);
+        }
+    }
+
+    private void compareObjects(JsonNode expected, JsonNode actual, int depth) {
+        ensureCapacity(depth);
+        TreeSet<String> names = new TreeSet<>();
+        expected.fieldNames().forEachRemaining(names::add);
+        actual.fieldNames().forEachRemaining(names::add);
+        for (String name : names) {
+            fieldNames[depth] = name;
+            if (snapshot.isIgnored(fieldNames, arrayIndices, depth + 1)) {
+                continue;
+            }
+            JsonNode expectedValue = expected.get(name);
+            JsonNode actualValue = actual.get(name);
+            if (actualValue == null) {
+                addDifference(depth + 1, "missing, expected " + expectedValue);
+            } else if (expectedValue == null) {
+                addDifference(depth + 1, "unexpected " + actualValue);
+            } else {
+                compare(expectedValue, actualValue, depth + 1);
+            }
+        }
+    }
+
+    private void compareArrays(JsonNode expected, JsonNode actual, int depth) {
+        ensureCapacity(depth);
+        fieldNames[depth] = null;
+        if (expected.size() != actual.size()) {
+            addDifference(depth, "expected " + expected.size() + " elements but was " + actual.size());
+        }
+        for (int i = 0; i < Math.max(expected.size(), actual.size()); i++) {
+            arrayIndices[depth] = i;
+            if (snapshot.isIgnored(fieldNames, arrayIndices, depth + 1)) {
+                continue;
+            }
+            if (i >= actual.size()) {
+                addDifference(depth + 1, "missing, expected " + expected.get(i));
+            } else if (i >= expected.size()) {
+                addDifference(depth + 1, "unexpected " + actual.get(i));
+            } else {
+                compare(expected.get(i), actual.get(i), depth + 1);
+            }
+        }
+    }
+
+    private void addDifference(int depth, String message) {
+        if (differences.size() < SnapshotConstant.MAX_DIFFERENCES) {
+            differences.add(path(depth) + ": " + message);
+        }
+    }
+
+    private String path(int depth) {
+        StringBuilder path = new StringBuilder("$");
+        for (int i = 0; i < depth; i++) {
+            if (fieldNames[i] == null) {
+                path.append('[').append(arrayIndices[i]).append(']');
+            } else if (fieldNames[i].matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                path.append('.').append(fieldNames[i]);
+            } else {
+                path.append("['").append(fieldNames[i]).append("']");
+            }
+        }
+        return path.toString();
+    }
+
+    private void ensureCapacity(int depth) {
+        if (depth == fieldNames.length) {
+            fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+            arrayIndices = Arrays.copyOf(arrayIndices, depth * 2);
+        }
+    }
+}
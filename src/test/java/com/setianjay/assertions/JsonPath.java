@@ -0,0 +1,128 @@
+package com.setianjay.assertions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON path sederhana yang di-compile sekali: $, .field, ['field'], [index], [*] dan .*
+ */
+public final class JsonPath {
+    private static final int WILDCARD = -2;
+    private static final int FIELD = -1;
+
+    private final String expression;
+    private final String[] names;
+    private final int[] indices;
+    private final boolean wildcard;
+
+    private JsonPath(String expression, String[] names, int[] indices) {
+        this.expression = expression;
+        this.names = names;
+        this.indices = indices;
+        boolean hasWildcard = false;
+        for (int index : indices) {
+            hasWildcard |= index == WILDCARD;
+        }
+        this.wildcard = hasWildcard;
+    }
+
+    /**
+     * Compile path expression, contoh $.booking.firstname atau $[*].id
+     */
+    public static JsonPath compile(String expression) {
+        String path = expression.trim();
+        if (!path.startsWith("$")) {
+            throw new IllegalArgumentException("JSON path must start with '$': " + expression);
+        }
+
+        List<String> names = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        int i = 1;
+        while (i < path.length()) {
+            char c = path.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+                String name = path.substring(i + 1, end);
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("Empty field name in JSON path: " + expression);
+                }
+                names.add(name.equals("*") ? null : name);
+                indices.add(name.equals("*") ? WILDCARD : FIELD);
+                i = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Unclosed '[' in JSON path: " + expression);
+                }
+                String token = path.substring(i + 1, end).trim();
+                if (token.equals("*")) {
+                    names.add(null);
+                    indices.add(WILDCARD);
+                } else if (token.startsWith("'") || token.startsWith("\"")) {
+                    names.add(token.substring(1, token.length() - 1));
+                    indices.add(FIELD);
+                } else {
+                    names.add(null);
+                    indices.add(Integer.parseInt(token));
+                }
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("Unexpected '" + c + "' in JSON path: " + expression);
+            }
+        }
+
+        int[] indexArray = new int[indices.size()];
+        for (int k = 0; k < indexArray.length; k++) {
+            indexArray[k] = indices.get(k);
+        }
+        return new JsonPath(path, names.toArray(new String[0]), indexArray);
+    }
+
+    /**
+     * Cek apakah posisi parser saat ini (stack field name / array index) cocok dengan path.
+     * Frame array direpresentasikan dengan fieldNames[i] == null.
+     */
+    boolean matches(String[] fieldNames, int[] arrayIndices, int depth) {
+        return depth == names.length && matchesPrefix(fieldNames, arrayIndices, depth);
+    }
+
+    /**
+     * Cek apakah posisi saat ini adalah child langsung dari node yang ditunjuk path
+     */
+    boolean matchesParentOf(String[] fieldNames, int[] arrayIndices, int depth) {
+        return depth == names.length + 1 && matchesPrefix(fieldNames, arrayIndices, names.length);
+    }
+
+    private boolean matchesPrefix(String[] fieldNames, int[] arrayIndices, int length) {
+        for (int i = 0; i < length; i++) {
+            int expectedIndex = indices[i];
+            if (expectedIndex == WILDCARD) {
+                continue;
+            }
+            if (expectedIndex == FIELD) {
+                if (fieldNames[i] == null || !fieldNames[i].equals(names[i])) {
+                    return false;
+                }
+            } else if (fieldNames[i] != null || arrayIndices[i] != expectedIndex) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasWildcard() {
+        return wildcard;
+    }
+
+    public int depth() {
+        return names.length;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,94 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.constants.SnapshotConstant;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Definisi golden snapshot untuk satu request template: nama (nama file golden) dan ignore path
+ * untuk field yang berubah di setiap response, misal id atau timestamp. Ignore path di-compile sekali;
+ * ignore path global dari -Dsnapshot.ignorePaths ikut ditambahkan.
+ */
+public final class JsonSnapshot {
+    private final String name;
+    private final List<String> ignorePaths;
+    private final JsonPath[] compiledIgnorePaths;
+
+    private JsonSnapshot(String name, Set<String> ignorePaths) {
+        this.name = name;
+        this.ignorePaths = Collections.unmodifiableList(new ArrayList<>(ignorePaths));
+        this.compiledIgnorePaths = ignorePaths.stream().map(JsonPath::compile).toArray(JsonPath[]::new);
+    }
+
+    /**
+     * Snapshot untuk response dari request template, contoh of(GET_BOOKING, "$.bookingid", "$.booking.createdAt")
+     */
+    public static JsonSnapshot of(RequestTemplate template, String... ignorePaths) {
+        return of(template.getName(), ignorePaths);
+    }
+
+    public static JsonSnapshot of(String name, String... ignorePaths) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String path : ignorePaths) {
+            paths.add(path.trim());
+        }
+        for (String path : System.getProperty(SnapshotConstant.IGNORE_PATHS_PROPERTY, "").split(",")) {
+            if (!path.isBlank()) {
+                paths.add(path.trim());
+            }
+        }
+        return new JsonSnapshot(name, paths);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getIgnorePaths() {
+        return ignorePaths;
+    }
+
+    /**
+     * Structural hash dari response bytes (streaming, tanpa tree)
+     */
+    long hash(byte[] json) throws IOException {
+        try (JsonParser parser = JsonUtils.getObjectMapper().getFactory().createParser(json)) {
+            return StructuralHash.of(parser, this);
+        }
+    }
+
+    /**
+     * Structural hash dari golden tree, hasilnya sama dengan {@link #hash(byte[])} untuk JSON yang sama
+     */
+    long hash(JsonNode node) throws IOException {
+        try (JsonParser parser = node.traverse(JsonUtils.getObjectMapper())) {
+            return StructuralHash.of(parser, this);
+        }
+    }
+
+    /**
+     * Cek apakah posisi (stack field name / array index, sama seperti {@link JsonPath}) ada di ignore path
+     */
+    boolean isIgnored(String[] fieldNames, int[] arrayIndices, int depth) {
+        for (JsonPath path : compiledIgnorePaths) {
+            if (path.matches(fieldNames, arrayIndices, depth)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return ignorePaths.isEmpty() ? name : name + " (ignoring " + String.join(", ", ignorePaths) + ")";
+    }
+}
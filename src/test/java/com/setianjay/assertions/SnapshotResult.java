@@ -0,0 +1,63 @@
+package com.setianjay.assertions;
+
+import com.setianjay.constants.SnapshotConstant;
+import com.setianjay.enums.SnapshotOutcome;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hasil perbandingan response dengan golden snapshot
+ */
+public final class SnapshotResult {
+    private final JsonSnapshot snapshot;
+    private final String variant;
+    private final SnapshotOutcome outcome;
+    private final boolean diffed;
+    private final List<String> differences;
+
+    SnapshotResult(JsonSnapshot snapshot, String variant, SnapshotOutcome outcome, boolean diffed, List<String> differences) {
+        this.snapshot = snapshot;
+        this.variant = variant;
+        this.outcome = outcome;
+        this.diffed = diffed;
+        this.differences = Collections.unmodifiableList(differences);
+    }
+
+    public SnapshotOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * false jika hash sama sehingga diff per field tidak perlu dijalankan
+     */
+    public boolean isDiffed() {
+        return diffed;
+    }
+
+    /**
+     * Perbedaan per field terhadap golden (juga diisi untuk UPDATED)
+     */
+    public List<String> getDifferences() {
+        return differences;
+    }
+
+    public boolean isMatched() {
+        return outcome != SnapshotOutcome.MISMATCHED && outcome != SnapshotOutcome.MISSING;
+    }
+
+    /**
+     * Throw AssertionError berisi semua perbedaan jika response tidak cocok dengan golden
+     */
+    public SnapshotResult assertMatched() {
+        if (outcome == SnapshotOutcome.MISSING) {
+            throw new AssertionError("No golden snapshot for " + snapshot + " [" + variant + "], run with -D"
+                    + SnapshotConstant.MODE_PROPERTY + "=update to record it");
+        }
+        if (outcome == SnapshotOutcome.MISMATCHED) {
+            throw new AssertionError("Snapshot " + snapshot + " [" + variant + "] mismatched:\n  - "
+                    + String.join("\n  - ", differences));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,61 @@
+package com.setianjay.assertions;
+
+import com.setianjay.enums.SnapshotOutcome;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jumlah perbandingan snapshot per template: berapa yang cukup dengan hash dan berapa yang perlu diff lengkap
+ */
+public final class SnapshotStats {
+    private static final Map<String, TemplateComparisons> STATS = new ConcurrentHashMap<>();
+
+    private SnapshotStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void record(String name, SnapshotResult result, long nanos) {
+        TemplateComparisons comparisons = STATS.computeIfAbsent(name, key -> new TemplateComparisons());
+        comparisons.compared.increment();
+        comparisons.nanos.add(nanos);
+        if (result.isDiffed()) {
+            comparisons.diffed.increment();
+        }
+        if (!result.isMatched()) {
+            comparisons.failed.increment();
+        } else if (result.getOutcome() == SnapshotOutcome.RECORDED || result.getOutcome() == SnapshotOutcome.UPDATED) {
+            comparisons.written.increment();
+        }
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-32s%10s%10s%10s%10s%12s%n",
+                "snapshot", "compared", "diffed", "failed", "written", "avg(µs)"));
+        new TreeMap<>(STATS).forEach((name, comparisons) -> sb.append(String.format("%-32s%10d%10d%10d%10d%12.1f%n",
+                name, comparisons.compared.sum(), comparisons.diffed.sum(), comparisons.failed.sum(),
+                comparisons.written.sum(), comparisons.nanos.sum() / 1e3 / Math.max(1, comparisons.compared.sum()))));
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("📸 Snapshot comparisons:\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static final class TemplateComparisons {
+        private final LongAdder compared = new LongAdder();
+        private final LongAdder diffed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+    }
+}
@@ -0,0 +1,196 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.constants.SnapshotConstant;
+import com.setianjay.enums.SnapshotMode;
+import com.setianjay.enums.SnapshotOutcome;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Golden response per request template, satu file &lt;nama template&gt;.snapshot.json per template berisi
+ * response canonical (field diurutkan) per variant, misal per path yang di-bind.
+ * Response baru dibandingkan lewat structural hash (streaming, hash golden di-cache); diff per field
+ * hanya dijalankan jika hash berbeda, jadi ribuan perbandingan per run tetap murah. Thread-safe.
+ */
+public final class SnapshotStore {
+    private static final Logger logger = LoggerUtils.getLogger(SnapshotStore.class);
+    private static volatile SnapshotStore defaultStore;
+
+    private final Path directory;
+    private final SnapshotMode mode;
+    private final Map<String, GoldenFile> files = new ConcurrentHashMap<>();
+
+    private SnapshotStore(Path directory, SnapshotMode mode) {
+        this.directory = directory;
+        this.mode = mode;
+    }
+
+    public static SnapshotStore open(Path directory, SnapshotMode mode) {
+        return new SnapshotStore(directory, mode);
+    }
+
+    /**
+     * Store dari -Dsnapshot.dir dan -Dsnapshot.mode, dibuat sekali per JVM
+     */
+    public static SnapshotStore getDefault() {
+        SnapshotStore store = defaultStore;
+        if (store == null) {
+            synchronized (SnapshotStore.class) {
+                if (defaultStore == null) {
+                    defaultStore = open(
+                            Paths.get(System.getProperty(SnapshotConstant.DIRECTORY_PROPERTY, SnapshotConstant.DEFAULT_DIRECTORY)),
+                            SnapshotMode.valueOf(System.getProperty(SnapshotConstant.MODE_PROPERTY, SnapshotMode.VERIFY.name())
+                                    .trim().toUpperCase(Locale.ROOT)));
+                }
+                store = defaultStore;
+            }
+        }
+        return store;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public SnapshotMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Bandingkan response dengan golden snapshot untuk variant tertentu
+     */
+    public SnapshotResult compare(JsonSnapshot snapshot, String variant, byte[] json) {
+        long startTime = System.nanoTime();
+        GoldenFile golden = files.computeIfAbsent(snapshot.getName(),
+                name -> GoldenFile.load(directory.resolve(fileName(name)), name));
+        SnapshotResult result = golden.compare(snapshot, variant, json, mode);
+        SnapshotStats.record(snapshot.getName(), result, System.nanoTime() - startTime);
+        return result;
+    }
+
+    /**
+     * Nama file aman untuk filesystem, contoh "GET /objects/{id}" menjadi GET_objects_id.snapshot.json
+     */
+    static String fileName(String name) {
+        String sanitized = name.replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("^_+|_+$", "");
+        return (sanitized.isEmpty() ? "snapshot" : sanitized) + SnapshotConstant.FILE_SUFFIX;
+    }
+
+    private static final class GoldenFile {
+        private final Path path;
+        private final String name;
+        private final Map<String, JsonNode> variants = new ConcurrentHashMap<>();
+        // Key: ignore path snapshot + variant, karena hash bergantung pada ignore path
+        private final Map<String, Long> hashes = new ConcurrentHashMap<>();
+
+        private GoldenFile(Path path, String name) {
+            this.path = path;
+            this.name = name;
+        }
+
+        static GoldenFile load(Path path, String name) {
+            GoldenFile golden = new GoldenFile(path, name);
+            if (!Files.exists(path)) {
+                return golden;
+            }
+            try {
+                JsonNode root = JsonUtils.getObjectMapper().readTree(path.toFile());
+                if (!name.equals(root.path("template").asText())) {
+                    throw new IllegalStateException("Snapshot file " + path + " belongs to template '"
+                            + root.path("template").asText() + "', not '" + name + "'");
+                }
+                for (Map.Entry<String, JsonNode> variant : root.path("variants").properties()) {
+                    golden.variants.put(variant.getKey(), variant.getValue());
+                }
+                return golden;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read snapshot file " + path, e);
+            }
+        }
+
+        SnapshotResult compare(JsonSnapshot snapshot, String variant, byte[] json, SnapshotMode mode) {
+            JsonNode expected = variants.get(variant);
+            if (expected == null) {
+                if (mode == SnapshotMode.STRICT) {
+                    return new SnapshotResult(snapshot, variant, SnapshotOutcome.MISSING, false, List.of());
+                }
+                write(variant, json);
+                logger.info("📸 Recorded snapshot {} [{}] to {}", name, variant, path);
+                return new SnapshotResult(snapshot, variant, SnapshotOutcome.RECORDED, false, List.of());
+            }
+
+            try {
+                long expectedHash = goldenHash(snapshot, variant, expected);
+                if (snapshot.hash(json) == expectedHash) {
+                    return new SnapshotResult(snapshot, variant, SnapshotOutcome.MATCHED, false, List.of());
+                }
+            } catch (IOException e) {
+                return new SnapshotResult(snapshot, variant, SnapshotOutcome.MISMATCHED, false,
+                        List.of("Invalid JSON: " + e.getMessage()));
+            }
+
+            // Hash berbeda: baru di sini response di-parse jadi tree untuk diff per field
+            List<String> differences = JsonDiff.diff(expected, readTree(json), snapshot);
+            if (differences.isEmpty()) {
+                return new SnapshotResult(snapshot, variant, SnapshotOutcome.MATCHED, true, differences);
+            }
+            if (mode == SnapshotMode.UPDATE) {
+                write(variant, json);
+                logger.info("📸 Updated snapshot {} [{}]: {}", name, variant, differences);
+                return new SnapshotResult(snapshot, variant, SnapshotOutcome.UPDATED, true, differences);
+            }
+            return new SnapshotResult(snapshot, variant, SnapshotOutcome.MISMATCHED, true, differences);
+        }
+
+        private long goldenHash(JsonSnapshot snapshot, String variant, JsonNode expected) throws IOException {
+            String key = String.join(",", snapshot.getIgnorePaths()) + "\n" + variant;
+            Long cached = hashes.get(key);
+            if (cached == null) {
+                cached = snapshot.hash(expected);
+                hashes.put(key, cached);
+            }
+            return cached;
+        }
+
+        /**
+         * Simpan response canonical lalu tulis ulang seluruh file (variant urut nama supaya diff di git stabil)
+         */
+        private synchronized void write(String variant, byte[] json) {
+            variants.put(variant, JsonDiff.canonicalize(readTree(json)));
+            hashes.keySet().removeIf(key -> key.endsWith("\n" + variant));
+
+            ObjectNode root = JsonUtils.getObjectMapper().createObjectNode();
+            root.put("template", name);
+            ObjectNode variantsNode = root.putObject("variants");
+            new TreeMap<>(variants).forEach(variantsNode::set);
+            try {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                JsonUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), root);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write snapshot file " + path, e);
+            }
+        }
+
+        private static JsonNode readTree(byte[] json) {
+            try {
+                return JsonUtils.getObjectMapper().readTree(json);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Response is not valid JSON: " + e.getMessage(), e);
+            }
+        }
+    }
+}
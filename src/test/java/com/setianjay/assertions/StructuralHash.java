@@ -0,0 +1,144 @@
+package com.setianjay.assertions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Hash 64-bit dari isi JSON yang dihitung dalam satu streaming pass tanpa membangun tree.
+ * Urutan field object tidak berpengaruh (hash tiap pasangan field dijumlahkan), urutan array berpengaruh,
+ * angka 1 dan 1.0 dianggap sama, dan node di ignore path {@link JsonSnapshot} dilewati.
+ */
+final class StructuralHash {
+    private static final long OBJECT_TAG = 0x9E3779B97F4A7C15L;
+    private static final long ARRAY_TAG = 0xC2B2AE3D27D4EB4FL;
+    private static final long STRING_TAG = 0x165667B19E3779F9L;
+    private static final long NUMBER_TAG = 0x27D4EB2F165667C5L;
+    private static final long FLOAT_TAG = 0x85EBCA77C2B2AE63L;
+    private static final long TRUE_HASH = mix(0x1L);
+    private static final long FALSE_HASH = mix(0x2L);
+    private static final long NULL_HASH = mix(0x3L);
+
+    private final JsonSnapshot snapshot;
+    // Stack posisi sama seperti JsonAssertions: frame array menyimpan null + index
+    private String[] fieldNames = new String[16];
+    private int[] arrayIndices = new int[16];
+
+    private StructuralHash(JsonSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Hash satu JSON value dari parser yang belum dibaca sama sekali
+     */
+    static long of(JsonParser parser, JsonSnapshot snapshot) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new IOException("Empty JSON document");
+        }
+        long hash = new StructuralHash(snapshot).hashValue(parser, token, 0);
+        if (parser.nextToken() != null) {
+            throw new IOException("Unexpected content after JSON value");
+        }
+        return hash;
+    }
+
+    private long hashValue(JsonParser parser, JsonToken token, int depth) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return hashObject(parser, depth);
+            case START_ARRAY:
+                return hashArray(parser, depth);
+            case VALUE_STRING:
+                return mix(hashString(parser.getText()) ^ STRING_TAG);
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    return mix(hashString(parser.getBigIntegerValue().toString()) ^ NUMBER_TAG);
+                }
+                return mix(parser.getLongValue() ^ NUMBER_TAG);
+            case VALUE_NUMBER_FLOAT:
+                double value = parser.getDoubleValue();
+                if (value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+                    return mix((long) value ^ NUMBER_TAG);
+                }
+                return mix(Double.doubleToLongBits(value) ^ FLOAT_TAG);
+            case VALUE_TRUE:
+                return TRUE_HASH;
+            case VALUE_FALSE:
+                return FALSE_HASH;
+            case VALUE_NULL:
+                return NULL_HASH;
+            default:
+                return mix(hashString(parser.getText()));
+        }
+    }
+
+    private long hashObject(JsonParser parser, int depth) throws IOException {
+        ensureCapacity(depth);
+        long fields = 0;
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            fieldNames[depth] = name;
+            if (snapshot.isIgnored(fieldNames, arrayIndices, depth + 1)) {
+                parser.skipChildren();
+                continue;
+            }
+            fields += mix(hashString(name) * 31 + hashValue(parser, valueToken, depth + 1));
+            count++;
+        }
+        return mix((fields + count) ^ OBJECT_TAG);
+    }
+
+    private long hashArray(JsonParser parser, int depth) throws IOException {
+        ensureCapacity(depth);
+        fieldNames[depth] = null;
+        long elements = ARRAY_TAG;
+        int index = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            arrayIndices[depth] = index++;
+            if (snapshot.isIgnored(fieldNames, arrayIndices, depth + 1)) {
+                parser.skipChildren();
+                continue;
+            }
+            elements = elements * 31 + hashValue(parser, token, depth + 1);
+        }
+        return mix(elements ^ index);
+    }
+
+    private void ensureCapacity(int depth) {
+        if (depth == fieldNames.length) {
+            fieldNames = Arrays.copyOf(fieldNames, depth * 2);
+            arrayIndices = Arrays.copyOf(arrayIndices, depth * 2);
+        }
+    }
+
+    /**
+     * FNV-1a 64-bit atas char string
+     */
+    private static long hashString(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Finalizer murmur3 supaya bit hash tersebar sebelum dijumlahkan
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -3,51 +3,115 @@ package com.setianjay.base;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
-import com.setianjay.constants.NetworkConstant;
+import com.setianjay.accounting.ResourceAccounting;
+import com.setianjay.accounting.ThreadResources;
+import com.setianjay.assertions.JsonAssertionResult;
+import com.setianjay.assertions.JsonAssertions;
+import com.setianjay.assertions.JsonSnapshot;
+import com.setianjay.assertions.SnapshotResult;
+import com.setianjay.assertions.SnapshotStats;
+import com.setianjay.assertions.SnapshotStore;
+import com.setianjay.batch.BatchStats;
+import com.setianjay.cleanup.CleanupTarget;
+import com.setianjay.cleanup.ResourceCleanup;
+import com.setianjay.compression.RequestCompression;
+import com.setianjay.compression.TransferStats;
+import com.setianjay.constants.LoadConstant;
+import com.setianjay.enums.MeasurementPhase;
 import com.setianjay.enums.Method;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.journal.ExchangeJournal;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.load.LoadReport;
+import com.setianjay.load.LoadScenario;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.load.OpenLoopLoadDriver;
+import com.setianjay.logging.LogSampling;
+import com.setianjay.payload.UploadStats;
+import com.setianjay.progress.LiveProgress;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.scenario.ScenarioPlan;
+import com.setianjay.scenario.ScenarioResult;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.timeout.AdaptiveTimeouts;
+import com.setianjay.timing.PhaseTimingStats;
+import com.setianjay.timing.RequestTrace;
 import com.setianjay.utils.AnnotationUtil;
 import com.setianjay.utils.JsonUtils;
 import com.setianjay.utils.LoggerUtils;
+import com.setianjay.utils.RequestUtils;
+import com.setianjay.warmup.TimingStats;
+import com.setianjay.warmup.WarmupRunner;
 import io.restassured.RestAssured;
-import io.restassured.config.ConnectionConfig;
-import io.restassured.config.HttpClientConfig;
-import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
+import org.testng.Assert;
 import org.testng.ITestResult;
 import org.testng.annotations.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 public abstract class BaseTest {
-    private RestAssuredConfig restAssuredConfig;
     private RequestSpecification requestSpec;
     private Response response;
     private String testName;
     private String tokenAuth;
+    private String lastEndpointName;
 
     protected Logger logger = LoggerUtils.getLogger(this.getClazz());
 
 
+    @BeforeSuite(alwaysRun = true)
+    public void warmUp() {
+        // Warm-up request/serializer yang terdaftar di WarmupRegistry sebelum pengukuran dimulai
+        WarmupRunner.runOnceFromSystemProperties();
+        // Live progress (-Dprogress.enabled=true) dimulai setelah warm-up supaya angkanya hanya steady state
+        LiveProgress.startFromSystemProperties();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void suiteTearDown() {
+        // Hapus sisa resource dulu, DELETE-nya ikut tercatat di stats dan journal di bawah
+        ResourceCleanup.awaitAll();
+        ResourceCleanup.log(logger);
+        ResourceCleanup.reset();
+        LiveProgress.stop();
+        ResourceAccounting.log(logger);
+        ResourceAccounting.reset();
+        TimingStats.log(logger);
+        TimingStats.reset();
+        PhaseTimingStats.log(logger);
+        PhaseTimingStats.reset();
+        AdaptiveTimeouts.log(logger);
+        TransferStats.log(logger);
+        TransferStats.reset();
+        UploadStats.log(logger);
+        UploadStats.reset();
+        SnapshotStats.log(logger);
+        SnapshotStats.reset();
+        BatchStats.log(logger);
+        BatchStats.reset();
+        LogSampling.log(logger);
+        LogSampling.reset();
+        ExchangeJournal.closeCurrent(logger);
+
+        // ObjectMapper dipakai ulang antar class (serializer cache tetap warm), cleanup sekali di akhir suite
+        JsonUtils.cleanup();
+    }
+
     @BeforeClass
     public void globalSetup() {
 
         try {
-            // Initialize JsonUtils
-            JsonUtils.getInstance();
-
-            // Setup RestAssured configuration
-            setupRestAssuredConfig();
+            // JsonUtils dan RestAssured configuration di-initialize lazy saat pertama dipakai
+            // (RequestUtils.newRequestSpec / JsonUtils.getObjectMapper), jadi di sini cukup hook saja
 
             // Custom setup hook
             customSetupBeforeClass();
 
-            // Configure RestAssured
-            RestAssured.config = restAssuredConfig;
-
             logger.info("globalSetup completed successfully");
 
         } catch (Exception e) {
@@ -65,10 +129,7 @@ public abstract class BaseTest {
                     Test.class);
 
             // Enhanced request specification dengan logging headers
-            requestSpec = RestAssured.given()
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .header("User-Agent", "API-Test-Automation/1.0");
+            requestSpec = RequestUtils.newRequestSpec();
             // .header("X-Test-ID", LoggerUtils.getCurrentTestId())
             // .header("X-Test-Timestamp", LoggerUtils.getCurrentTimestamp());
 
@@ -123,11 +184,9 @@ public abstract class BaseTest {
             // Reset RestAssured
             RestAssured.reset();
 
-            // Clear static references
-            restAssuredConfig = null;
-
-            // Cleanup JsonUtils
-            JsonUtils.cleanup();
+            // Report schema validation overhead
+            JsonSchemaRegistry.logStats(logger);
+            JsonSchemaRegistry.resetStats();
 
             // Cleanup Logger
             LoggerUtils.clearContext();
@@ -135,8 +194,12 @@ public abstract class BaseTest {
             // Custom cleanup hook
             customTearDownAfterClass();
 
+            // Resource yang dibuat class ini tidak dipakai lagi, hapus di background
+            ResourceCleanup.release(getClazzName());
+
             // Clear token auth
             tokenAuth = null;
+            lastEndpointName = null;
 
             logger.info("globalTearDown completed successfully");
         } catch (Exception e) {
@@ -144,21 +207,6 @@ public abstract class BaseTest {
         }
     }
 
-    private void setupRestAssuredConfig() {
-        logger.info("Rest assured configuration started");
-
-        restAssuredConfig = RestAssuredConfig.config()
-                .connectionConfig(ConnectionConfig.connectionConfig()
-                        .closeIdleConnectionsAfterEachResponseAfter(30, TimeUnit.SECONDS))
-                .httpClient(HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", NetworkConstant.CONNECTION_TIMEOUT)
-                        .setParam("http.socket.timeout", NetworkConstant.SOCKET_TIMEOUT)
-                        .setParam("http.conn-manager.max-total", NetworkConstant.MAX_CONNECTIONS)
-                        .setParam("http.conn-manager.max-per-route", 20));
-
-        logger.info("Rest assured configuration completed");
-    }
-
     protected Class<?> getClazz() {
         return this.getClass();
     }
@@ -175,39 +223,106 @@ public abstract class BaseTest {
 
     protected <T> T deserializeResponse(String jsonResponse, Class<T> clazz)
             throws JsonProcessingException {
-        return JsonUtils.fromJson(jsonResponse, clazz);
+        long startTime = System.nanoTime();
+        try {
+            return JsonUtils.fromJson(jsonResponse, clazz);
+        } finally {
+            recordDeserialize(System.nanoTime() - startTime);
+        }
     }
 
     protected <T> T deserializeResponse(String jsonResponse, TypeReference<T> typeRef)
             throws JsonProcessingException {
-        return JsonUtils.fromJson(jsonResponse, typeRef);
+        long startTime = System.nanoTime();
+        try {
+            return JsonUtils.fromJson(jsonResponse, typeRef);
+        } finally {
+            recordDeserialize(System.nanoTime() - startTime);
+        }
     }
 
     protected <T> T deserializeResponse(String jsonResponse, JavaType javaType)
             throws JsonProcessingException {
-        return JsonUtils.fromJson(jsonResponse, javaType);
+        long startTime = System.nanoTime();
+        try {
+            return JsonUtils.fromJson(jsonResponse, javaType);
+        } finally {
+            recordDeserialize(System.nanoTime() - startTime);
+        }
     }
 
     protected <T> List<T> deserializeResponseToList(String jsonResponse, Class<T> elementClass)
             throws JsonProcessingException {
-        return JsonUtils.fromJsonToList(jsonResponse, elementClass);
+        long startTime = System.nanoTime();
+        try {
+            return JsonUtils.fromJsonToList(jsonResponse, elementClass);
+        } finally {
+            recordDeserialize(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Evaluate compiled JSON assertions terhadap response terakhir dalam satu streaming pass.
+     * Pakai deserializeResponse hanya jika test butuh seluruh object.
+     */
+    protected JsonAssertionResult assertResponse(JsonAssertions assertions) {
+        return assertions.evaluate(getResponse().asByteArray()).assertPassed();
+    }
+
+    /**
+     * Validate response terakhir terhadap compiled schema (contract check)
+     */
+    protected void assertSchema(JsonSchema schema) {
+        schema.validate(getResponse().asByteArray()).assertValid();
+    }
+
+    /**
+     * Bandingkan response terakhir dengan golden snapshot; variant = path request yang di-bind
+     */
+    protected SnapshotResult assertSnapshot(JsonSnapshot snapshot, BoundRequest boundRequest) {
+        return assertSnapshot(snapshot, boundRequest.getPath());
+    }
+
+    protected SnapshotResult assertSnapshot(JsonSnapshot snapshot, String variant) {
+        return SnapshotStore.getDefault().compare(snapshot, variant, getResponse().asByteArray()).assertMatched();
+    }
+
+    /**
+     * Jalankan scenario plan sebagai functional test terhadap base URI saat ini; setiap step lewat
+     * executeRequest (logging, stats, journal), step yang gagal menghasilkan AssertionError.
+     * Setiap step mulai dari request spec baru (seperti load mode), jadi body/header step sebelumnya tidak ikut terkirim
+     */
+    protected ScenarioResult runScenario(ScenarioPlan plan) throws Exception {
+        return plan.execute(boundRequest -> {
+            requestSpec = RequestUtils.newRequestSpec();
+            return executeRequest(boundRequest);
+        });
     }
 
     protected String serializeToJson(Object object) throws JsonProcessingException {
         return JsonUtils.toJson(object);
     }
 
+    protected byte[] serializeToJsonBytes(Object object) throws JsonProcessingException {
+        return JsonUtils.toJsonBytes(object);
+    }
+
     protected String serializeToPrettyJson(Object object) throws JsonProcessingException {
         return JsonUtils.toPrettyJson(object);
     }
 
     protected Response executeRequest(Method method, String basePath, Object requestBody, Map<String, String> customHeader, Map<String, Object> requestParams, Map<String, Object> requestPaths) {
+        String endpointName = method.name() + " " + basePath;
+        long cpuStartNanos = ThreadResources.cpuNanos();
+        long allocatedStartBytes = ThreadResources.allocatedBytes();
+        RequestTrace trace = RequestTrace.start();
+        long buildStartTime = System.nanoTime();
         try {
             String endpoint = getBaseUri() + basePath;
-            String requestBodyJson = requestBody != null ? serializeToJson(requestBody) : null;
+            byte[] requestBodyBytes = requestBody != null ? serializeToJsonBytes(requestBody) : null;
 
             if (requestSpec == null) {
-                requestSpec = RestAssured.given();
+                requestSpec = RequestUtils.newRequestSpec();
             }
 
             if (customHeader != null) {
@@ -216,8 +331,8 @@ public abstract class BaseTest {
 
             RequestSpecification request = getRequestSpec();
             // Set request body if exist
-            if (requestBodyJson != null) {
-                request.body(requestBodyJson);
+            if (requestBodyBytes != null) {
+                request.body(requestBodyBytes);
             }
 
             // Set request params if exist
@@ -234,38 +349,171 @@ public abstract class BaseTest {
                 }
             }
 
-            long startTime = System.currentTimeMillis();
-
-            switch (method) {
-                case GET:
-                    response = request.when().get(endpoint);
-                    break;
-                case POST:
-                    response = request.when().post(endpoint);
-                    break;
-                case PUT:
-                    response = request.when().put(endpoint);
-                    break;
-                case PATCH:
-                    response = request.when().patch(endpoint);
-                    break;
-                case DELETE:
-                    response = request.when().delete(endpoint);
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported HTTP method: " + method);
-            }
+            long startTime = System.nanoTime();
+            trace.record(RequestPhase.BUILD, startTime - buildStartTime);
 
-            long duration = System.currentTimeMillis() - startTime;
+            response = dispatch(endpointName, method, request, endpoint);
+
+            long durationNanos = System.nanoTime() - startTime;
+            TimingStats.record(MeasurementPhase.STEADY_STATE, endpointName, durationNanos);
+            // Body dibaca lazy oleh RestAssured dan selalu dibaca logApiDetails; baca di sini supaya download ikut di trace
+            byte[] body = response.asByteArray();
+            recordPhases(endpointName, trace, System.nanoTime() - startTime, body);
+            long duration = durationNanos / 1_000_000;
             LoggerUtils.logApiDetails(logger, method.name(), endpoint, request, response, duration);
             return response;
 
         } catch (JsonProcessingException e) {
             logger.error("Failed to serialize request body", e);
             throw new RuntimeException("Request execution failed", e);
+        } finally {
+            RequestTrace.stop();
+            ResourceAccounting.recordRequest(endpointName, ThreadResources.cpuNanos() - cpuStartNanos,
+                    ThreadResources.allocatedBytes() - allocatedStartBytes);
+        }
+    }
+
+    /**
+     * Execute request dari RequestTemplate yang sudah di-bind
+     */
+    protected Response executeRequest(BoundRequest boundRequest) {
+        long cpuStartNanos = ThreadResources.cpuNanos();
+        long allocatedStartBytes = ThreadResources.allocatedBytes();
+        RequestTrace trace = RequestTrace.start();
+        long buildStartTime = System.nanoTime();
+        try {
+            String endpoint = getBaseUri() + boundRequest.getPath();
+
+            if (requestSpec == null) {
+                requestSpec = RequestUtils.newRequestSpec();
+            }
+
+            RequestSpecification request = boundRequest.applyTo(getRequestSpec());
+
+            long startTime = System.nanoTime();
+            trace.record(RequestPhase.BUILD, startTime - buildStartTime);
+            response = dispatch(boundRequest.getTemplate().getName(), boundRequest.getMethod(), request, endpoint);
+            long durationNanos = System.nanoTime() - startTime;
+            TimingStats.record(MeasurementPhase.STEADY_STATE, boundRequest.getTemplate().getName(), durationNanos);
+            // Baca body di dalam trace, sama seperti executeRequest di atas
+            byte[] body = response.asByteArray();
+            recordPhases(boundRequest.getTemplate().getName(), trace, System.nanoTime() - startTime, body);
+            long duration = durationNanos / 1_000_000;
+
+            LoggerUtils.logApiDetails(logger, boundRequest.getMethod().name(), endpoint, request, response, duration);
+            return response;
+
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize request body", e);
+            throw new RuntimeException("Request execution failed", e);
+        } finally {
+            RequestTrace.stop();
+            ResourceAccounting.recordRequest(boundRequest.getTemplate().getName(), ThreadResources.cpuNanos() - cpuStartNanos,
+                    ThreadResources.allocatedBytes() - allocatedStartBytes);
+        }
+    }
+
+    /**
+     * Kirim request dengan timeout adaptif; body dikompres jika -Dcompression.requestBodies=true,
+     * dan dikirim ulang tanpa kompresi jika server menolak (415). Request yang gagal tanpa response dicatat ke journal.
+     * Status dan latency juga masuk ke live progress jika aktif
+     */
+    private Response dispatch(String endpointName, Method method, RequestSpecification request, String endpoint) {
+        long startTime = System.nanoTime();
+        long progress = LiveProgress.begin();
+        int status = 0;
+        try {
+            byte[] uncompressedBody = RequestCompression.compress(request, endpoint);
+            Response response = AdaptiveTimeouts.dispatch(endpointName, method, request, endpoint);
+            if (RequestCompression.fallbackIfRejected(request, endpoint, uncompressedBody, response)) {
+                response = AdaptiveTimeouts.dispatch(endpointName, method, request, endpoint);
+            }
+            status = response.statusCode();
+            return response;
+        } catch (Exception e) {
+            ExchangeJournal.recordFailure(endpointName, RequestTrace.current(), System.nanoTime() - startTime);
+            throw e;
+        } finally {
+            LiveProgress.end(progress, endpointName, status);
         }
     }
 
+    /**
+     * Simpan breakdown phase request (dan exchange ke journal); sisa waktu dispatch + read body di luar phase network dicatat sebagai OTHER
+     */
+    private void recordPhases(String endpointName, RequestTrace trace, long exchangeNanos, byte[] body) {
+        trace.record(RequestPhase.OTHER, exchangeNanos - trace.networkNanos());
+        PhaseTimingStats.record(endpointName, trace);
+        TransferStats.record(endpointName, trace, body.length);
+        UploadStats.record(endpointName, trace);
+        ExchangeJournal.recordExchange(endpointName, response.statusCode(), trace, exchangeNanos, body.length,
+                ExchangeJournal.digestOf(body));
+        lastEndpointName = endpointName;
+        logger.debug("⏱️ {} phases: {}", endpointName, trace);
+    }
+
+    /**
+     * Deserialize dihitung ke endpoint dari request terakhir
+     */
+    private void recordDeserialize(long durationNanos) {
+        if (lastEndpointName != null) {
+            PhaseTimingStats.record(lastEndpointName, RequestPhase.DESERIALIZE, durationNanos);
+        }
+    }
+
+    /**
+     * Build LoadScenario yang thread-safe untuk open-loop load driver
+     */
+    protected LoadScenario loadScenario(BoundRequest boundRequest) {
+        return LoadScenarios.http(getBaseUri(), boundRequest, null);
+    }
+
+    /**
+     * LoadScenario yang juga validate setiap response terhadap schema;
+     * pelanggaran contract dihitung sebagai error oleh load driver
+     */
+    protected LoadScenario loadScenario(BoundRequest boundRequest, JsonSchema schema) {
+        return LoadScenarios.http(getBaseUri(), boundRequest, schema);
+    }
+
+    /**
+     * LoadScenario yang membuat resource; setiap resource yang berhasil dibuat dihapus lagi oleh ResourceCleanup
+     */
+    protected LoadScenario loadScenario(BoundRequest boundRequest, JsonSchema schema, CleanupTarget cleanup) {
+        return LoadScenarios.http(getBaseUri(), () -> boundRequest, schema, cleanup);
+    }
+
+    /**
+     * Catat resource yang dibuat test di base URI sekarang; dihapus setelah class ini selesai
+     * (atau di akhir suite, tergantung -Dcleanup.mode)
+     */
+    protected void trackForCleanup(CleanupTarget target, Object id) {
+        ResourceCleanup.track(getClazzName(), getBaseUri(), target, id);
+    }
+
+    /**
+     * Jalankan scenario dengan open-loop driver, profile diambil dari system properties
+     */
+    protected LoadReport runOpenLoopLoad(String name, LoadScenario scenario) throws InterruptedException {
+        LoadReport report = OpenLoopLoadDriver.fromSystemProperties()
+                .run(name, LoadProfile.fromSystemProperties(), scenario);
+        report.log(logger);
+        JsonSchemaRegistry.logStats(logger);
+        return report;
+    }
+
+    /**
+     * Assert semua request selesai dan error rate di bawah -Dload.maxErrorRate
+     */
+    protected void assertLoadReport(LoadReport report) {
+        double maxErrorRate = Double.parseDouble(System.getProperty(
+                LoadConstant.MAX_ERROR_RATE_PROPERTY, String.valueOf(LoadConstant.DEFAULT_MAX_ERROR_RATE)));
+
+        Assert.assertEquals(report.getCompleted(), report.getScheduled());
+        Assert.assertTrue(report.getErrorRate() <= maxErrorRate,
+                "Error rate " + report.getErrorRate() + " exceeds " + maxErrorRate);
+    }
+
     // ========== HOOK METHODS ==========
 
     protected void customSetupBeforeClass() throws JsonProcessingException {
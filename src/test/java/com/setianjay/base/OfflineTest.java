@@ -0,0 +1,38 @@
+package com.setianjay.base;
+
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * Base untuk test tanpa network (data statis, class murni): hanya logger dan nama test untuk LoggerUtils.
+ * Tidak membawa hook suite/class BaseTest (warm-up, live progress, stats, RestAssured) karena tidak ada request.
+ */
+public abstract class OfflineTest {
+    protected final Logger logger = LoggerUtils.getLogger(getClass());
+    private String testName;
+
+    @BeforeMethod(alwaysRun = true)
+    public void captureTestName(Method method) {
+        Test test = method.getAnnotation(Test.class);
+        testName = test == null || test.testName().isEmpty() ? method.getName() : test.testName();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void clearTestName() {
+        testName = null;
+        LoggerUtils.clearTestContext();
+    }
+
+    protected String getClazzName() {
+        return getClass().getSimpleName();
+    }
+
+    protected String getTestName() {
+        return testName;
+    }
+}
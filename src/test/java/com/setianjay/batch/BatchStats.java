@@ -0,0 +1,80 @@
+package com.setianjay.batch;
+
+import com.setianjay.enums.BatchFlushReason;
+import org.slf4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Jumlah batch request per template: berapa id yang digabung, kenapa batch dikirim dan berapa yang gagal
+ */
+public final class BatchStats {
+    private static final Map<String, TemplateBatches> STATS = new ConcurrentHashMap<>();
+
+    private BatchStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    static void record(String name, BatchFlushReason reason, int ids, long nanos, boolean failed) {
+        TemplateBatches batches = STATS.computeIfAbsent(name, key -> new TemplateBatches());
+        batches.batches.increment();
+        batches.ids.add(ids);
+        batches.nanos.add(nanos);
+        batches.reasons.get(reason).increment();
+        if (failed) {
+            batches.failed.increment();
+        }
+    }
+
+    public static long getBatches(String name) {
+        TemplateBatches batches = STATS.get(name);
+        return batches != null ? batches.batches.sum() : 0;
+    }
+
+    public static long getIds(String name) {
+        TemplateBatches batches = STATS.get(name);
+        return batches != null ? batches.ids.sum() : 0;
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-24s%9s%9s%10s%7s%8s%10s%7s%8s%10s%n",
+                "template", "batches", "ids", "avg size", "size", "window", "explicit", "close", "failed", "avg(ms)"));
+        new TreeMap<>(STATS).forEach((name, batches) -> {
+            long count = Math.max(1, batches.batches.sum());
+            sb.append(String.format("%-24s%9d%9d%10.1f%7d%8d%10d%7d%8d%10.1f%n", name, batches.batches.sum(),
+                    batches.ids.sum(), (double) batches.ids.sum() / count,
+                    batches.reasons.get(BatchFlushReason.SIZE).sum(), batches.reasons.get(BatchFlushReason.WINDOW).sum(),
+                    batches.reasons.get(BatchFlushReason.EXPLICIT).sum(), batches.reasons.get(BatchFlushReason.CLOSE).sum(),
+                    batches.failed.sum(), batches.nanos.sum() / 1e6 / count));
+        });
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("📦 Batched requests:\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static final class TemplateBatches {
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder ids = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final Map<BatchFlushReason, LongAdder> reasons = new EnumMap<>(BatchFlushReason.class);
+
+        private TemplateBatches() {
+            for (BatchFlushReason reason : BatchFlushReason.values()) {
+                reasons.put(reason, new LongAdder());
+            }
+        }
+    }
+}
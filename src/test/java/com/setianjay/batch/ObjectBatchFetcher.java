@@ -0,0 +1,293 @@
+package com.setianjay.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.constants.BatchConstant;
+import com.setianjay.enums.BatchFlushReason;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Menggabungkan GET by-id ({@code /objects/{id}}) menjadi satu request multi-id ({@code /objects?id=1&id=2}).
+ * {@link #fetch(Object)} mengantre id dan return future; antrean dikirim saat mencapai maxBatchSize atau setelah
+ * window sejak id pertama masuk. {@link #fetchAll(Collection)} mengirim daftar id eksplisit per maxBatchSize.
+ * Element response dikembalikan ke caller berdasarkan field id; id yang tidak ada di response menghasilkan null
+ * (sama dengan 404 di /objects/{id}), batch yang gagal menggagalkan semua future di batch itu.
+ *
+ * <pre>
+ * try (ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(NetworkConstant.PHONE_BASE_URI).build()) {
+ *     CompletableFuture&lt;JsonNode&gt; phone = fetcher.fetch(3);
+ *     Map&lt;String, JsonNode&gt; phones = fetcher.fetchAll(List.of(1, 2, 5));
+ * }
+ * </pre>
+ */
+public final class ObjectBatchFetcher implements AutoCloseable {
+    private final String baseUri;
+    private final RequestTemplate template;
+    private final String idParam;
+    private final String idField;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService dispatcher;
+
+    private final Object lock = new Object();
+    private Map<String, List<CompletableFuture<JsonNode>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    private ObjectBatchFetcher(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.template = builder.template;
+        this.idParam = builder.idParam;
+        this.idField = builder.idField;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.windowNanos = builder.window.toNanos();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(builder.maxConcurrentBatches, runnable -> {
+            Thread thread = new Thread(runnable, "batch-" + template.getName() + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.dispatcher = executor;
+    }
+
+    public static Builder builder(String baseUri) {
+        return new Builder(baseUri);
+    }
+
+    /**
+     * Antre satu id; future selesai setelah batch yang memuat id ini kembali
+     */
+    public CompletableFuture<JsonNode> fetch(Object id) {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        Map<String, List<CompletableFuture<JsonNode>>> full = null;
+        synchronized (lock) {
+            ensureOpen();
+            pending.computeIfAbsent(String.valueOf(id), key -> new ArrayList<>(1)).add(future);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = dispatcher.schedule(this::flushWindow, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            Map<String, List<CompletableFuture<JsonNode>>> batch = full;
+            dispatcher.execute(() -> send(batch, BatchFlushReason.SIZE));
+        }
+        return future;
+    }
+
+    /**
+     * Fetch daftar id sebagai batch eksplisit (maksimal maxBatchSize id per request, dikirim paralel).
+     * Return element per id sesuai urutan input, null untuk id yang tidak ada
+     */
+    public Map<String, JsonNode> fetchAll(Collection<?> ids) {
+        synchronized (lock) {
+            ensureOpen();
+        }
+        Map<String, CompletableFuture<JsonNode>> futures = new LinkedHashMap<>();
+        Map<String, List<CompletableFuture<JsonNode>>> batch = new LinkedHashMap<>();
+        for (Object id : ids) {
+            String key = String.valueOf(id);
+            if (futures.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<JsonNode> future = new CompletableFuture<>();
+            futures.put(key, future);
+            batch.put(key, new ArrayList<>(List.of(future)));
+            if (batch.size() == maxBatchSize) {
+                submit(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        futures.forEach((id, future) -> result.put(id, future.join()));
+        return result;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("ObjectBatchFetcher for " + template.getName() + " is closed");
+        }
+    }
+
+    /**
+     * Kirim sisa antrean lalu tunggu semua batch selesai
+     */
+    @Override
+    public void close() {
+        Map<String, List<CompletableFuture<JsonNode>>> remaining;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = takePending();
+        }
+        if (!remaining.isEmpty()) {
+            send(remaining, BatchFlushReason.CLOSE);
+        }
+        dispatcher.shutdown();
+        try {
+            dispatcher.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public RequestTemplate getTemplate() {
+        return template;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private void submit(Map<String, List<CompletableFuture<JsonNode>>> batch) {
+        dispatcher.execute(() -> send(batch, BatchFlushReason.EXPLICIT));
+    }
+
+    private void flushWindow() {
+        Map<String, List<CompletableFuture<JsonNode>>> batch;
+        synchronized (lock) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        send(batch, BatchFlushReason.WINDOW);
+    }
+
+    private Map<String, List<CompletableFuture<JsonNode>>> takePending() {
+        Map<String, List<CompletableFuture<JsonNode>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void send(Map<String, List<CompletableFuture<JsonNode>>> batch, BatchFlushReason reason) {
+        int ids = batch.size();
+        BoundRequest request = template.bind();
+        for (String id : batch.keySet()) {
+            request.queryParam(idParam, id);
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Response response = LoadScenarios.exchange(baseUri, request);
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException(template.getName() + " returned " + response.statusCode()
+                        + " for ids " + batch.keySet());
+            }
+            JsonNode elements = JsonUtils.getObjectMapper().readTree(response.asByteArray());
+            if (!elements.isArray()) {
+                throw new IllegalStateException(template.getName() + " did not return an array for ids " + batch.keySet());
+            }
+
+            for (JsonNode element : elements) {
+                List<CompletableFuture<JsonNode>> callers = batch.remove(element.path(idField).asText());
+                if (callers != null) {
+                    callers.forEach(caller -> caller.complete(element));
+                }
+            }
+            // Id yang tidak dikembalikan server
+            batch.values().forEach(callers -> callers.forEach(caller -> caller.complete(null)));
+            BatchStats.record(template.getName(), reason, ids, System.nanoTime() - startTime, false);
+        } catch (Exception e) {
+            BatchStats.record(template.getName(), reason, ids, System.nanoTime() - startTime, true);
+            batch.values().forEach(callers -> callers.forEach(caller -> caller.completeExceptionally(e)));
+        }
+    }
+
+    public static final class Builder {
+        private final String baseUri;
+        private RequestTemplate template = RequestTemplate.builder(Method.GET, BatchConstant.DEFAULT_PATH)
+                .name("GET " + BatchConstant.DEFAULT_PATH + "?" + BatchConstant.DEFAULT_ID_PARAM + "=*")
+                .build();
+        private String idParam = BatchConstant.DEFAULT_ID_PARAM;
+        private String idField = BatchConstant.DEFAULT_ID_FIELD;
+        private int maxBatchSize = Integer.getInteger(BatchConstant.MAX_SIZE_PROPERTY, BatchConstant.DEFAULT_MAX_SIZE);
+        private Duration window = Duration.ofMillis(
+                Long.getLong(BatchConstant.WINDOW_MILLIS_PROPERTY, BatchConstant.DEFAULT_WINDOW_MILLIS));
+        private int maxConcurrentBatches = Integer.getInteger(BatchConstant.MAX_CONCURRENT_BATCHES_PROPERTY,
+                BatchConstant.DEFAULT_MAX_CONCURRENT_BATCHES);
+
+        private Builder(String baseUri) {
+            if (baseUri == null || baseUri.isBlank()) {
+                throw new IllegalArgumentException("Base URI is required");
+            }
+            this.baseUri = baseUri;
+        }
+
+        /**
+         * Template GET collection tanpa path variable, default GET /objects
+         */
+        public Builder template(RequestTemplate template) {
+            this.template = template;
+            return this;
+        }
+
+        /**
+         * Nama query param id (default "id") dan field id di setiap element response (default "id")
+         */
+        public Builder ids(String idParam, String idField) {
+            this.idParam = idParam;
+            this.idField = idField;
+            return this;
+        }
+
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Waktu tunggu sejak id pertama masuk antrean sebelum batch dikirim
+         */
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        public Builder maxConcurrentBatches(int maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        public ObjectBatchFetcher build() {
+            if (maxBatchSize < 1 || maxConcurrentBatches < 1 || window.isNegative()) {
+                throw new IllegalArgumentException("Invalid batch settings: maxBatchSize=" + maxBatchSize
+                        + ", maxConcurrentBatches=" + maxConcurrentBatches + ", window=" + window);
+            }
+            if (template.getMethod() != Method.GET || template.getPathTemplate().contains("{")) {
+                throw new IllegalArgumentException("Batch template must be a GET without path variables: " + template);
+            }
+            return new ObjectBatchFetcher(this);
+        }
+    }
+}
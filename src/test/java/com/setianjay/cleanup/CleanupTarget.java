@@ -0,0 +1,138 @@
+package com.setianjay.cleanup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.setianjay.enums.Method;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+
+/**
+ * Cara menghapus satu jenis resource: template DELETE dengan satu path variable id, field id di response create,
+ * dan opsional header auth. Token auth di-share per base URI: di-set dari test lewat
+ * {@link ResourceCleanup#authorize(String, String, String)} atau diambil sekali dengan request login.
+ *
+ * <pre>
+ * CleanupTarget booking = CleanupTarget.builder(DELETE_BOOKING, "bookingid")
+ *         .auth("Cookie", "token=")
+ *         .login(CREATE_TOKEN.bind(), "token")
+ *         .build();
+ * </pre>
+ */
+public final class CleanupTarget {
+    private final RequestTemplate deleteTemplate;
+    private final String idField;
+    private final String authHeader;
+    private final String authPrefix;
+    private final BoundRequest login;
+    private final String tokenField;
+
+    private CleanupTarget(Builder builder) {
+        this.deleteTemplate = builder.deleteTemplate;
+        this.idField = builder.idField;
+        this.authHeader = builder.authHeader;
+        this.authPrefix = builder.authPrefix;
+        this.login = builder.login;
+        this.tokenField = builder.tokenField;
+    }
+
+    public static Builder builder(RequestTemplate deleteTemplate, String idField) {
+        return new Builder(deleteTemplate, idField);
+    }
+
+    /**
+     * Id top-level dari body response create, atau null jika tidak ada
+     */
+    public String idFrom(byte[] body) throws IOException {
+        try (JsonParser parser = JsonUtils.getObjectMapper().getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals(idField) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    public RequestTemplate getDeleteTemplate() {
+        return deleteTemplate;
+    }
+
+    public String getIdField() {
+        return idField;
+    }
+
+    /**
+     * Nama header auth, atau null jika DELETE tidak butuh auth
+     */
+    public String getAuthHeader() {
+        return authHeader;
+    }
+
+    public String getAuthPrefix() {
+        return authPrefix;
+    }
+
+    public BoundRequest getLogin() {
+        return login;
+    }
+
+    public String getTokenField() {
+        return tokenField;
+    }
+
+    @Override
+    public String toString() {
+        return deleteTemplate.getName();
+    }
+
+    public static final class Builder {
+        private final RequestTemplate deleteTemplate;
+        private final String idField;
+        private String authHeader;
+        private String authPrefix = "";
+        private BoundRequest login;
+        private String tokenField;
+
+        private Builder(RequestTemplate deleteTemplate, String idField) {
+            this.deleteTemplate = deleteTemplate;
+            this.idField = idField;
+        }
+
+        /**
+         * Header auth DELETE, nilainya prefix + token (misal Cookie: token=abc)
+         */
+        public Builder auth(String header, String prefix) {
+            this.authHeader = header;
+            this.authPrefix = prefix;
+            return this;
+        }
+
+        /**
+         * Request login untuk mengambil token jika test belum meng-authorize base URI (misal di worker load)
+         */
+        public Builder login(BoundRequest login, String tokenField) {
+            this.login = login;
+            this.tokenField = tokenField;
+            return this;
+        }
+
+        public CleanupTarget build() {
+            if (deleteTemplate.getMethod() != Method.DELETE) {
+                throw new IllegalArgumentException("Cleanup template must be a DELETE: " + deleteTemplate);
+            }
+            if (login != null && authHeader == null) {
+                throw new IllegalArgumentException("Cleanup login for " + deleteTemplate + " needs an auth header");
+            }
+            return new CleanupTarget(this);
+        }
+    }
+}
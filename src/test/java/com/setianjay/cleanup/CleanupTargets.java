@@ -0,0 +1,24 @@
+package com.setianjay.cleanup;
+
+import com.setianjay.enums.Method;
+import com.setianjay.models.request.booking.BookingAuthRequest;
+import com.setianjay.request.RequestTemplate;
+
+/**
+ * CleanupTarget untuk resource yang dibuat suite ini, dipakai bersama oleh test dan load scenario
+ */
+public final class CleanupTargets {
+    // DELETE /booking/{id} butuh Cookie token; worker load login sendiri dengan akun yang sama dengan BookingApiTest
+    public static final CleanupTarget BOOKING = CleanupTarget.builder(
+                    RequestTemplate.builder(Method.DELETE, "/booking/{id}").build(), "bookingid")
+            .auth("Cookie", "token=")
+            .login(RequestTemplate.builder(Method.POST, "/auth")
+                    .body(new BookingAuthRequest("admin", "password123")).build().bind(), "token")
+            .build();
+    public static final CleanupTarget OBJECT = CleanupTarget.builder(
+            RequestTemplate.builder(Method.DELETE, "/objects/{id}").build(), "id").build();
+
+    private CleanupTargets() {
+        throw new IllegalStateException("Utility class");
+    }
+}
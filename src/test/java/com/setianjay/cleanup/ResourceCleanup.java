@@ -0,0 +1,346 @@
+package com.setianjay.cleanup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.constants.CleanupConstant;
+import com.setianjay.enums.CleanupMode;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.utils.JsonUtils;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Antrean hapus untuk resource yang dibuat test (booking, object) per base URI, supaya run data-driven
+ * atau load tidak meninggalkan data di API. Resource yang di-{@link #track} ditahan sampai test class
+ * pemiliknya selesai ({@link #release}), lalu dihapus di background dengan concurrency terbatas
+ * (-Dcleanup.maxConcurrency); resource dari load dihapus langsung lewat {@link #delete}. Di akhir suite
+ * {@link #awaitAll()} menghapus sisanya sekaligus dan menunggu maksimal -Dcleanup.awaitSeconds.
+ * Dengan -Dcleanup.mode=SUITE_END semua dihapus di akhir suite, OFF mematikan cleanup.
+ * Resource yang gagal dihapus dilaporkan di summary akhir suite.
+ */
+public final class ResourceCleanup {
+    private static final Map<String, Set<CreatedResource>> HELD = new ConcurrentHashMap<>();
+    private static final Map<String, String> AUTH = new ConcurrentHashMap<>();
+    private static final Map<String, TemplateCleanup> STATS = new ConcurrentHashMap<>();
+    private static final Queue<String> FAILURES = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger REPORTED_FAILURES = new AtomicInteger();
+    private static volatile CleanupMode mode = modeFromSystemProperties();
+    private static ThreadPoolExecutor executor;
+
+    private ResourceCleanup() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Catat resource milik owner (nama test class); dihapus setelah owner di-release atau di akhir suite
+     */
+    public static void track(String owner, String baseUri, CleanupTarget target, Object id) {
+        if (mode == CleanupMode.OFF || id == null) {
+            return;
+        }
+        HELD.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet())
+                .add(new CreatedResource(baseUri, target, String.valueOf(id)));
+    }
+
+    /**
+     * Hapus resource yang tidak dipakai lagi (misal booking dari load scenario): langsung di-antre di mode
+     * BACKGROUND, ditahan sampai akhir suite di mode SUITE_END
+     */
+    public static void delete(String baseUri, CleanupTarget target, Object id) {
+        if (mode == CleanupMode.OFF || id == null) {
+            return;
+        }
+        CreatedResource resource = new CreatedResource(baseUri, target, String.valueOf(id));
+        if (mode == CleanupMode.BACKGROUND) {
+            submit(resource);
+        } else {
+            HELD.computeIfAbsent(CleanupConstant.SUITE_OWNER, key -> ConcurrentHashMap.newKeySet()).add(resource);
+        }
+    }
+
+    /**
+     * Lupakan resource yang sudah dihapus sendiri oleh test (misal testDeleteBooking)
+     */
+    public static void forget(String baseUri, CleanupTarget target, Object id) {
+        CreatedResource resource = new CreatedResource(baseUri, target, String.valueOf(id));
+        HELD.values().forEach(resources -> resources.remove(resource));
+    }
+
+    /**
+     * Token auth yang sudah dimiliki test untuk base URI ini, dipakai ulang untuk DELETE (tanpa login lagi)
+     */
+    public static void authorize(String baseUri, String header, String value) {
+        AUTH.put(authKey(baseUri, header), value);
+    }
+
+    /**
+     * Owner selesai memakai resource-nya: di mode BACKGROUND semua resource owner di-antre untuk dihapus
+     */
+    public static void release(String owner) {
+        if (mode != CleanupMode.BACKGROUND) {
+            return;
+        }
+        Set<CreatedResource> resources = HELD.remove(owner);
+        if (resources != null) {
+            resources.forEach(ResourceCleanup::submit);
+        }
+    }
+
+    /**
+     * Antre semua resource yang masih ditahan lalu tunggu sampai antrean kosong (atau -Dcleanup.awaitSeconds);
+     * resource yang belum sempat dihapus dihitung gagal
+     */
+    public static void awaitAll() {
+        if (mode != CleanupMode.OFF) {
+            for (String owner : new ArrayList<>(HELD.keySet())) {
+                Set<CreatedResource> resources = HELD.remove(owner);
+                if (resources != null) {
+                    resources.forEach(ResourceCleanup::submit);
+                }
+            }
+        }
+
+        ThreadPoolExecutor current;
+        synchronized (ResourceCleanup.class) {
+            current = executor;
+            executor = null;
+        }
+        if (current == null) {
+            return;
+        }
+        current.shutdown();
+        try {
+            current.awaitTermination(Long.getLong(CleanupConstant.AWAIT_SECONDS_PROPERTY,
+                    CleanupConstant.DEFAULT_AWAIT_SECONDS), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Runnable task : current.shutdownNow()) {
+            CreatedResource resource = ((DeleteTask) task).resource;
+            fail(resource, "not deleted before -D" + CleanupConstant.AWAIT_SECONDS_PROPERTY + " elapsed");
+        }
+    }
+
+    /**
+     * Resource yang masih ditahan atau menunggu di antrean
+     */
+    public static int getPending() {
+        int held = HELD.values().stream().mapToInt(Set::size).sum();
+        synchronized (ResourceCleanup.class) {
+            return held + (executor != null ? executor.getQueue().size() + executor.getActiveCount() : 0);
+        }
+    }
+
+    public static long getDeleted(String name) {
+        TemplateCleanup cleanup = STATS.get(name);
+        return cleanup != null ? cleanup.deleted.sum() : 0;
+    }
+
+    public static long getFailed(String name) {
+        TemplateCleanup cleanup = STATS.get(name);
+        return cleanup != null ? cleanup.failed.sum() : 0;
+    }
+
+    public static CleanupMode getMode() {
+        return mode;
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-28s%9s%9s%9s%9s%n",
+                "template", "queued", "deleted", "gone", "failed"));
+        new TreeMap<>(STATS).forEach((name, cleanup) -> sb.append(String.format("%-28s%9d%9d%9d%9d%n", name,
+                cleanup.queued.sum(), cleanup.deleted.sum(), cleanup.gone.sum(), cleanup.failed.sum())));
+        if (!FAILURES.isEmpty()) {
+            sb.append("Not deleted:\n");
+            FAILURES.forEach(failure -> sb.append("  ✗ ").append(failure).append('\n'));
+            long failed = STATS.values().stream().mapToLong(cleanup -> cleanup.failed.sum()).sum();
+            if (failed > FAILURES.size()) {
+                sb.append("  ... and ").append(failed - FAILURES.size()).append(" more\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (STATS.isEmpty()) {
+            return;
+        }
+        if (FAILURES.isEmpty()) {
+            logger.info("🧹 Resource cleanup ({}):\n{}", mode, format());
+        } else {
+            logger.warn("🧹 Resource cleanup ({}) could not delete every resource:\n{}", mode, format());
+        }
+    }
+
+    /**
+     * Kosongkan stats, token dan resource yang ditahan, lalu baca ulang -Dcleanup.mode
+     */
+    public static void reset() {
+        synchronized (ResourceCleanup.class) {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+        HELD.clear();
+        AUTH.clear();
+        STATS.clear();
+        FAILURES.clear();
+        REPORTED_FAILURES.set(0);
+        mode = modeFromSystemProperties();
+    }
+
+    private static void submit(CreatedResource resource) {
+        stats(resource).queued.increment();
+        synchronized (ResourceCleanup.class) {
+            if (executor == null) {
+                int maxConcurrency = Integer.getInteger(CleanupConstant.MAX_CONCURRENCY_PROPERTY,
+                        CleanupConstant.DEFAULT_MAX_CONCURRENCY);
+                AtomicInteger threadIndex = new AtomicInteger();
+                executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "cleanup-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            executor.execute(new DeleteTask(resource));
+        }
+    }
+
+    private static void deleteNow(CreatedResource resource) {
+        CleanupTarget target = resource.target;
+        try {
+            BoundRequest request = target.getDeleteTemplate().bind(resource.id);
+            if (target.getAuthHeader() != null) {
+                String auth = authValue(resource.baseUri, target);
+                if (auth != null) {
+                    request.header(target.getAuthHeader(), auth);
+                }
+            }
+            int status = LoadScenarios.exchange(resource.baseUri, request).statusCode();
+            if (status < 300) {
+                stats(resource).deleted.increment();
+            } else if (status == 404 || status == 410) {
+                // Sudah dihapus di tempat lain
+                stats(resource).gone.increment();
+            } else {
+                fail(resource, "status " + status);
+            }
+        } catch (Exception e) {
+            fail(resource, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Token dari authorize, atau login sekali per base URI; null jika keduanya tidak ada
+     */
+    private static String authValue(String baseUri, CleanupTarget target) {
+        String key = authKey(baseUri, target.getAuthHeader());
+        String value = AUTH.get(key);
+        if (value != null || target.getLogin() == null) {
+            return value;
+        }
+        return AUTH.computeIfAbsent(key, unused -> {
+            try {
+                Response response = LoadScenarios.exchange(baseUri, target.getLogin());
+                JsonNode token = response.statusCode() < 400
+                        ? JsonUtils.getObjectMapper().readTree(response.asByteArray()).path(target.getTokenField()) : null;
+                if (token == null || !token.isValueNode()) {
+                    throw new IllegalStateException("Login " + target.getLogin().getTemplate().getName()
+                            + " returned " + response.statusCode() + " without '" + target.getTokenField() + "'");
+                }
+                return target.getAuthPrefix() + token.asText();
+            } catch (IllegalStateException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Login for cleanup of " + target + " failed: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private static void fail(CreatedResource resource, String reason) {
+        stats(resource).failed.increment();
+        if (REPORTED_FAILURES.getAndIncrement() < CleanupConstant.MAX_REPORTED_FAILURES) {
+            FAILURES.add(resource + ": " + reason);
+        }
+    }
+
+    private static TemplateCleanup stats(CreatedResource resource) {
+        return STATS.computeIfAbsent(resource.target.getDeleteTemplate().getName(), key -> new TemplateCleanup());
+    }
+
+    private static String authKey(String baseUri, String header) {
+        return baseUri + " " + header;
+    }
+
+    private static CleanupMode modeFromSystemProperties() {
+        return CleanupMode.valueOf(System.getProperty(CleanupConstant.MODE_PROPERTY, CleanupConstant.DEFAULT_MODE)
+                .trim().toUpperCase());
+    }
+
+    private static final class CreatedResource {
+        private final String baseUri;
+        private final CleanupTarget target;
+        private final String id;
+
+        private CreatedResource(String baseUri, CleanupTarget target, String id) {
+            this.baseUri = baseUri;
+            this.target = target;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CreatedResource)) {
+                return false;
+            }
+            CreatedResource other = (CreatedResource) o;
+            return baseUri.equals(other.baseUri) && target == other.target && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseUri, target, id);
+        }
+
+        @Override
+        public String toString() {
+            return target + " id=" + id + " @ " + baseUri;
+        }
+    }
+
+    private static final class DeleteTask implements Runnable {
+        private final CreatedResource resource;
+
+        private DeleteTask(CreatedResource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public void run() {
+            deleteNow(resource);
+        }
+    }
+
+    private static final class TemplateCleanup {
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder deleted = new LongAdder();
+        private final LongAdder gone = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+}
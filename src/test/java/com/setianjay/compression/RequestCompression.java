@@ -0,0 +1,89 @@
+package com.setianjay.compression;
+
+import com.setianjay.constants.CompressionConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.utils.LoggerUtils;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Kompresi gzip untuk request body (opt-in dengan -Dcompression.requestBodies=true).
+ * HTTP tidak punya negosiasi untuk request body, jadi host yang menolak dengan 415
+ * ditandai dan request diulang tanpa kompresi; request berikutnya ke host itu dikirim plain.
+ */
+public final class RequestCompression {
+    private static final Logger logger = LoggerUtils.getLogger(RequestCompression.class);
+    private static final Set<String> UNSUPPORTED_HOSTS = ConcurrentHashMap.newKeySet();
+
+    private RequestCompression() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(CompressionConstant.REQUEST_BODIES_PROPERTY, "false"));
+    }
+
+    /**
+     * Gzip body request jika memenuhi syarat. Return body asli jika dikompres (untuk fallback), null jika tidak.
+     */
+    public static byte[] compress(RequestSpecification request, String endpoint) {
+        if (!isEnabled()) {
+            return null;
+        }
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) request;
+        Object body = spec.getBody();
+        if (!(body instanceof byte[])) {
+            return null;
+        }
+        byte[] original = (byte[]) body;
+        if (original.length < Integer.getInteger(CompressionConstant.MIN_REQUEST_BYTES_PROPERTY,
+                CompressionConstant.DEFAULT_MIN_REQUEST_BYTES) || UNSUPPORTED_HOSTS.contains(hostOf(endpoint))) {
+            return null;
+        }
+
+        spec.body(gzip(original));
+        spec.header("Content-Encoding", CompressionConstant.GZIP);
+        return original;
+    }
+
+    /**
+     * Jika server menolak body gzip (415), tandai host dan kembalikan body asli ke request.
+     * Return true jika request perlu dikirim ulang.
+     */
+    public static boolean fallbackIfRejected(RequestSpecification request, String endpoint, byte[] original, Response response) {
+        if (original == null || response.statusCode() != HttpStatus.UNSUPPORTED_MEDIA_TYPE.code()) {
+            return false;
+        }
+        if (UNSUPPORTED_HOSTS.add(hostOf(endpoint))) {
+            logger.warn("🗜️ {} rejected gzip request body, sending uncompressed bodies from now on", hostOf(endpoint));
+        }
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) request;
+        spec.removeHeader("Content-Encoding");
+        spec.body(original);
+        return true;
+    }
+
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip request body", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hostOf(String endpoint) {
+        return URI.create(endpoint).getAuthority();
+    }
+}
@@ -0,0 +1,64 @@
+package com.setianjay.compression;
+
+import com.setianjay.timing.RequestTrace;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte response per endpoint: byte di wire (setelah kompresi server) vs byte setelah decode,
+ * untuk melihat berapa bandwidth yang dihemat gzip/deflate per endpoint.
+ */
+public final class TransferStats {
+    private static final Map<String, EndpointTransfer> STATS = new ConcurrentHashMap<>();
+
+    private TransferStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Record satu response; wire bytes dan Content-Encoding diambil dari trace
+     */
+    public static void record(String endpoint, RequestTrace trace, long decodedBytes) {
+        EndpointTransfer transfer = STATS.computeIfAbsent(endpoint, key -> new EndpointTransfer());
+        transfer.responses.increment();
+        if (trace.getContentEncoding() != null) {
+            transfer.encodedResponses.increment();
+        }
+        transfer.wireBytes.add(trace.getWireBytes());
+        transfer.decodedBytes.add(decodedBytes);
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-32s%10s%10s%14s%14s%8s%n",
+                "endpoint", "responses", "encoded", "wire(B)", "decoded(B)", "saved"));
+        new TreeMap<>(STATS).forEach((endpoint, transfer) -> {
+            long wire = transfer.wireBytes.sum();
+            long decoded = transfer.decodedBytes.sum();
+            sb.append(String.format("%-32s%10d%10d%14d%14d%8s%n", endpoint, transfer.responses.sum(),
+                    transfer.encodedResponses.sum(), wire, decoded,
+                    decoded == 0 ? "-" : String.format("%.1f%%", 100.0 * (decoded - wire) / decoded)));
+        });
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("🗜️ Response transfer size:\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static final class EndpointTransfer {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder encodedResponses = new LongAdder();
+        private final LongAdder wireBytes = new LongAdder();
+        private final LongAdder decodedBytes = new LongAdder();
+    }
+}
@@ -0,0 +1,17 @@
+package com.setianjay.constants;
+
+public class AccountingConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "accounting.";
+    public static final String HISTORY_FILE_PROPERTY = "accounting.historyFile";
+    // Jumlah test method termahal yang ditampilkan di ranking akhir eksekusi
+    public static final String TOP_PROPERTY = "accounting.top";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_HISTORY_FILE = "test-resources.json";
+    public static final int DEFAULT_TOP = 10;
+    // Bobot run terbaru terhadap history (exponential moving average)
+    public static final double HISTORY_SMOOTHING = 0.5;
+    // Perubahan relatif terhadap history di bawah ini tidak ditandai di kolom trend
+    public static final double TREND_THRESHOLD = 0.2;
+}
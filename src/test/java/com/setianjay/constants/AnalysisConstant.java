@@ -0,0 +1,35 @@
+package com.setianjay.constants;
+
+public class AnalysisConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "analysis.";
+    // Daftar file/directory dipisah koma; argument CLI menimpa property ini
+    public static final String INPUTS_PROPERTY = "analysis.inputs";
+    public static final String WINDOW_SECONDS_PROPERTY = "analysis.windowSeconds";
+    public static final String TOP_PROPERTY = "analysis.top";
+    public static final String PARALLELISM_PROPERTY = "analysis.parallelism";
+    public static final String JSON_REPORT_PROPERTY = "analysis.jsonReport";
+
+    /* DEFAULTS */
+    // Journal dipakai jika ada, log hanya sebagai fallback
+    public static final String DEFAULT_INPUTS = JournalConstant.DEFAULT_DIRECTORY + ",logs";
+    public static final int DEFAULT_WINDOW_SECONDS = 10;
+    public static final int DEFAULT_TOP = 20;
+    public static final String DEFAULT_JSON_REPORT = "target/analysis-report.json";
+    public static final String LOG_FILE_EXTENSION = ".log";
+
+    /* SEGMENTS */
+    // 256K slot = 32MB record journal per task fork/join
+    public static final long JOURNAL_SEGMENT_SLOTS = 256 * 1024;
+    public static final long LOG_SEGMENT_BYTES = 16L * 1024 * 1024;
+    public static final int LOG_READ_BUFFER_BYTES = 256 * 1024;
+
+    /* LOG FORMAT (lihat config/logback.xml dan LoggerUtils.logApiDetails) */
+    public static final String LOG_REQUEST_MARKER = "📤 API Request: ";
+    public static final String LOG_DURATION_MARKER = " with duration ";
+    // yyyy-MM-dd HH:mm:ss.SSS
+    public static final int LOG_TIMESTAMP_LENGTH = 23;
+    public static final String ID_PLACEHOLDER = "{id}";
+    // Segment hex/uuid minimal sepanjang ini dianggap id
+    public static final int MIN_HEX_ID_LENGTH = 8;
+}
@@ -0,0 +1,18 @@
+package com.setianjay.constants;
+
+public class BatchConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "batch.";
+    public static final String MAX_SIZE_PROPERTY = "batch.maxSize";
+    public static final String WINDOW_MILLIS_PROPERTY = "batch.windowMillis";
+    public static final String MAX_CONCURRENT_BATCHES_PROPERTY = "batch.maxConcurrentBatches";
+
+    /* DEFAULTS */
+    // Batas jumlah id per request supaya URL tetap pendek
+    public static final int DEFAULT_MAX_SIZE = 50;
+    public static final long DEFAULT_WINDOW_MILLIS = 5;
+    public static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    public static final String DEFAULT_PATH = "/objects";
+    public static final String DEFAULT_ID_PARAM = "id";
+    public static final String DEFAULT_ID_FIELD = "id";
+}
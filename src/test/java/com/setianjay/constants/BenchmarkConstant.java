@@ -0,0 +1,14 @@
+package com.setianjay.constants;
+
+public class BenchmarkConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String ITERATIONS_PROPERTY = "benchmark.iterations";
+    public static final String APPCDS_ARCHIVE_PROPERTY = "appcds.archive";
+
+    /* DEFAULTS */
+    public static final int DEFAULT_ITERATIONS = 5;
+    public static final String DEFAULT_STARTUP_ARCHIVE = "target/appcds/startup-probe.jsa";
+
+    /* STARTUP PROBE */
+    public static final String STARTUP_RESULT_PREFIX = "STARTUP_MILLIS=";
+}
@@ -0,0 +1,19 @@
+package com.setianjay.constants;
+
+public class CleanupConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "cleanup.";
+    public static final String MODE_PROPERTY = "cleanup.mode";
+    public static final String MAX_CONCURRENCY_PROPERTY = "cleanup.maxConcurrency";
+    public static final String AWAIT_SECONDS_PROPERTY = "cleanup.awaitSeconds";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_MODE = "BACKGROUND";
+    // DELETE paralel maksimal, supaya cleanup tidak ikut membebani API saat test berjalan
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+    public static final long DEFAULT_AWAIT_SECONDS = 120;
+    // Resource yang gagal dihapus dan ditulis satu per satu di summary, sisanya hanya dihitung
+    public static final int MAX_REPORTED_FAILURES = 20;
+    // Owner untuk resource yang tidak dimiliki test class (misal dari load scenario) di mode SUITE_END
+    public static final String SUITE_OWNER = "suite";
+}
@@ -0,0 +1,14 @@
+package com.setianjay.constants;
+
+public class CompressionConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "compression.";
+    public static final String ENABLED_PROPERTY = "compression.enabled";
+    public static final String REQUEST_BODIES_PROPERTY = "compression.requestBodies";
+    public static final String MIN_REQUEST_BYTES_PROPERTY = "compression.minRequestBytes";
+
+    /* DEFAULTS */
+    // Body kecil tidak dikompres: header gzip + CPU lebih mahal dari byte yang dihemat
+    public static final int DEFAULT_MIN_REQUEST_BYTES = 1024;
+    public static final String GZIP = "gzip";
+}
@@ -0,0 +1,23 @@
+package com.setianjay.constants;
+
+public class DataConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "data.";
+    public static final String SEED_PROPERTY = "data.seed";
+    public static final String EDGE_CASE_RATIO_PROPERTY = "data.edgeCaseRatio";
+    // Stream berbeda per worker JVM supaya payload antar worker tidak sama
+    public static final String STREAM_PROPERTY = "data.stream";
+
+    /* DEFAULTS */
+    public static final long DEFAULT_SEED = 42L;
+    public static final double DEFAULT_EDGE_CASE_RATIO = 0.0;
+    public static final long DEFAULT_STREAM = 0L;
+
+    /* BOOKING */
+    public static final String FIRST_CHECKIN_DATE = "2025-01-01";
+    public static final int CHECKIN_RANGE_DAYS = 3650;
+    public static final int MAX_NIGHTS = 30;
+    public static final int MIN_VALID_PRICE = 1;
+    public static final int MAX_VALID_PRICE = 1_000_000;
+    public static final int LONG_TEXT_CHARS = 2000;
+}
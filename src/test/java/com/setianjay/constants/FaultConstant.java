@@ -0,0 +1,11 @@
+package com.setianjay.constants;
+
+public class FaultConstant {
+    /* DEFAULTS */
+    public static final String LOOPBACK_HOST = "127.0.0.1";
+    public static final int DEFAULT_BACKLOG = 128;
+    // Bandwidth cap ditulis per slice supaya throughput rata, bukan burst per detik
+    public static final int BANDWIDTH_SLICES_PER_SECOND = 20;
+    public static final int UPSTREAM_CONNECT_TIMEOUT = NetworkConstant.CONNECTION_TIMEOUT;
+    public static final int UPSTREAM_RESPONSE_TIMEOUT = NetworkConstant.SOCKET_TIMEOUT;
+}
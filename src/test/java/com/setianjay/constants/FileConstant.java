@@ -3,4 +3,6 @@ package com.setianjay.constants;
 public class FileConstant {
 
     public static final String LOGBACK_CONFIGURATION_PATH = "./src/test/resources/config/logback.xml";
+    public static final String SCHEMA_RESOURCE_DIRECTORY = "schemas/";
+    public static final String SCHEMA_RESOURCE_SUFFIX = ".schema.json";
 }
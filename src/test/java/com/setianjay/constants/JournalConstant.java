@@ -0,0 +1,57 @@
+package com.setianjay.constants;
+
+public class JournalConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "journal.";
+    public static final String ENABLED_PROPERTY = "journal.enabled";
+    public static final String DIRECTORY_PROPERTY = "journal.dir";
+    public static final String CAPACITY_MB_PROPERTY = "journal.capacityMb";
+    public static final String BODY_DIGEST_PROPERTY = "journal.bodyDigest";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_DIRECTORY = "target/journal";
+    // 256MB = ~2 juta exchange; file sparse, jadi hanya bagian yang terisi yang memakai disk
+    public static final int DEFAULT_CAPACITY_MB = 256;
+    // Batas satu MappedByteBuffer
+    public static final int MAX_CAPACITY_MB = 2047;
+    public static final String FILE_EXTENSION = ".xjournal";
+
+    /* FORMAT */
+    public static final int MAGIC = 0x584A524E; // "XJRN"
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+    // Record berukuran tetap supaya file bisa dibagi per segment tanpa scan
+    public static final int RECORD_BYTES = 128;
+    public static final int MAX_PHASES = 12;
+    public static final int MAX_TEMPLATE_NAME_BYTES = RECORD_BYTES - 10;
+
+    public static final int TYPE_TEMPLATE = 1;
+    public static final int TYPE_EXCHANGE = 2;
+
+    public static final int FLAG_FAILED = 1;
+    public static final int FLAG_BODY_DIGEST = 1 << 1;
+    public static final int FLAG_ENCODED = 1 << 2;
+
+    /* HEADER OFFSETS */
+    public static final int HEADER_MAGIC = 0;
+    public static final int HEADER_VERSION = 4;
+    public static final int HEADER_RECORD_BYTES = 8;
+    public static final int HEADER_START_EPOCH_MICROS = 16;
+    public static final int HEADER_COMMITTED_RECORDS = 24;
+    public static final int HEADER_DROPPED = 32;
+
+    /* RECORD OFFSETS */
+    public static final int RECORD_TYPE = 0;
+    public static final int RECORD_TEMPLATE_ID = 4;
+    public static final int RECORD_NAME_LENGTH = 8;
+    public static final int RECORD_NAME = 10;
+    public static final int RECORD_START_EPOCH_MICROS = 8;
+    public static final int RECORD_TOTAL_NANOS = 16;
+    public static final int RECORD_STATUS = 24;
+    public static final int RECORD_FLAGS = 28;
+    public static final int RECORD_PHASE_MICROS = 32;
+    public static final int RECORD_UPLOAD_BYTES = RECORD_PHASE_MICROS + MAX_PHASES * 4;
+    public static final int RECORD_WIRE_BYTES = RECORD_UPLOAD_BYTES + 8;
+    public static final int RECORD_DECODED_BYTES = RECORD_WIRE_BYTES + 8;
+    public static final int RECORD_BODY_DIGEST = RECORD_DECODED_BYTES + 8;
+}
@@ -0,0 +1,29 @@
+package com.setianjay.constants;
+
+public class LoadConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String RPS_PROPERTY = "load.rps";
+    public static final String RAMP_TO_RPS_PROPERTY = "load.rampToRps";
+    public static final String DURATION_SECONDS_PROPERTY = "load.durationSeconds";
+    public static final String MAX_CONCURRENCY_PROPERTY = "load.maxConcurrency";
+    public static final String MAX_ERROR_RATE_PROPERTY = "load.maxErrorRate";
+    public static final String SCENARIO_PROPERTY = "load.scenario";
+    public static final String BASE_URI_PROPERTY = "load.baseUri";
+    public static final String WORKERS_PROPERTY = "load.workers";
+    public static final String COORDINATOR_PORT_PROPERTY = "load.coordinatorPort";
+    public static final String REMOTE_WORKERS_PROPERTY = "load.remoteWorkers";
+
+    /* DEFAULTS */
+    public static final double DEFAULT_RPS = 5.0;
+    public static final long DEFAULT_DURATION_SECONDS = 10;
+    public static final int DEFAULT_MAX_CONCURRENCY = NetworkConstant.MAX_CONNECTIONS;
+    public static final double DEFAULT_MAX_ERROR_RATE = 0.01;
+    public static final long DEFAULT_DRAIN_TIMEOUT_SECONDS = 120;
+
+    /* DISTRIBUTED LOAD */
+    public static final int DISTRIBUTED_PROTOCOL_VERSION = 2;
+    public static final long DEFAULT_WORKER_START_DELAY_MILLIS = 2000;
+    public static final int DEFAULT_WORKER_CONNECT_TIMEOUT_MILLIS = 60000;
+    public static final int DEFAULT_WORKERS = 2;
+    public static final int DEFAULT_COORDINATOR_PORT = 0;
+}
@@ -0,0 +1,20 @@
+package com.setianjay.constants;
+
+public class LoggingConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "logging.";
+    public static final String SAMPLE_EVERY_PROPERTY = "logging.sampleEvery";
+    public static final String MAX_PER_SECOND_PROPERTY = "logging.maxPerSecond";
+    public static final String SLOW_THRESHOLD_MILLIS_PROPERTY = "logging.slowThresholdMillis";
+    // Dibaca oleh config/logback.xml (substitution ${logging.queueSize:-8192})
+    public static final String QUEUE_SIZE_PROPERTY = "logging.queueSize";
+    public static final String NEVER_BLOCK_PROPERTY = "logging.neverBlock";
+
+    /* DEFAULTS */
+    // 1 = semua exchange sukses di-log
+    public static final int DEFAULT_SAMPLE_EVERY = 1;
+    // 0 = tanpa batas baris per detik
+    public static final int DEFAULT_MAX_PER_SECOND = 0;
+    public static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 2000;
+    public static final int MAX_LOGGED_BODY_CHARS = 1000;
+}
@@ -1,8 +1,21 @@
 package com.setianjay.constants;
 
+import java.util.Map;
+
 public class NetworkConstant {
     /* CONNECTIONS */
     public static final int CONNECTION_TIMEOUT = 30000;
     public static final int SOCKET_TIMEOUT = 60000;
     public static final int MAX_CONNECTIONS = 100;
+    public static final int MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /* BASE URI */
+    public static final String BOOKING_BASE_URI = "https://restful-booker.herokuapp.com";
+    public static final String PHONE_BASE_URI = "https://api.restful-api.dev";
+
+    /* HEADERS */
+    public static final Map<String, String> DEFAULT_HEADERS = Map.of(
+            "Content-Type", "application/json",
+            "Accept", "application/json",
+            "User-Agent", "API-Test-Automation/1.0");
 }
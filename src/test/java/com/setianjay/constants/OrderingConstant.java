@@ -0,0 +1,25 @@
+package com.setianjay.constants;
+
+public class OrderingConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "ordering.";
+    // false: jalankan sesuai urutan testng.xml dan priority
+    public static final String ENABLED_PROPERTY = "ordering.enabled";
+    public static final String HISTORY_FILE_PROPERTY = "ordering.historyFile";
+    // Skip semua test berikutnya setelah sekian test gagal; 0 = tidak aktif
+    public static final String FAIL_FAST_THRESHOLD_PROPERTY = "ordering.failFastThreshold";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_HISTORY_FILE = "test-outcomes.json";
+    public static final int DEFAULT_FAIL_FAST_THRESHOLD = 0;
+    // Estimasi durasi test tanpa history jika tidak ada test lain di class yang sudah tercatat
+    public static final long DEFAULT_DURATION_MILLIS = 1000;
+
+    /* SCORING */
+    // Bobot run lama dikali faktor ini setiap ada run baru, jadi test yang dulu flaky lama-lama turun prioritasnya
+    public static final double HISTORY_DECAY = 0.8;
+    // Prior Beta(1, 1): test tanpa history dianggap 50% gagal sehingga ikut dijalankan di awal
+    public static final double PRIOR_FAILURES = 1;
+    public static final double PRIOR_RUNS = 2;
+    public static final double DURATION_SMOOTHING = 0.5;
+}
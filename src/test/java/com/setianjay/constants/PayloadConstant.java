@@ -0,0 +1,20 @@
+package com.setianjay.constants;
+
+public class PayloadConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "upload.";
+    public static final String SIZE_BYTES_PROPERTY = "upload.sizeBytes";
+    public static final String SEED_PROPERTY = "upload.seed";
+
+    /* DEFAULTS */
+    public static final long DEFAULT_SIZE_BYTES = 5L * 1024 * 1024;
+    public static final long DEFAULT_SEED = 42L;
+    // Ukuran minimal supaya field tetap (nama, tanggal, dsb.) selalu muat
+    public static final long MIN_SIZE_BYTES = 1024;
+    // Byte yang di-generate per read dari stream; memory yang dipakai tidak bergantung ukuran payload
+    public static final int CHUNK_BYTES = 64 * 1024;
+    // Sisa ruang sebelum padding saat menulis entry map, lebih besar dari satu entry + field padding
+    public static final int ENTRY_RESERVE_BYTES = 128;
+    // Karakter padding tidak perlu di-escape, jadi bisa ditulis raw per chunk
+    public static final String PADDING_ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+}
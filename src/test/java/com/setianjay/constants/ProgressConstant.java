@@ -0,0 +1,23 @@
+package com.setianjay.constants;
+
+public class ProgressConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "progress.";
+    public static final String ENABLED_PROPERTY = "progress.enabled";
+    public static final String ANSI_PROPERTY = "progress.ansi";
+    public static final String INTERVAL_MILLIS_PROPERTY = "progress.intervalMillis";
+    public static final String PLAIN_INTERVAL_MILLIS_PROPERTY = "progress.plainIntervalMillis";
+    public static final String WINDOW_SECONDS_PROPERTY = "progress.windowSeconds";
+
+    /* DEFAULTS */
+    // "auto": redraw ANSI hanya jika ada console interaktif dan bukan di CI
+    public static final String DEFAULT_ANSI = "auto";
+    public static final long DEFAULT_INTERVAL_MILLIS = 1_000;
+    // Di CI satu baris per detik terlalu ramai untuk soak run berjam-jam
+    public static final long DEFAULT_PLAIN_INTERVAL_MILLIS = 10_000;
+    // Window rolling untuk req/s, error rate dan p50/p99 (detik lengkap terakhir)
+    public static final int DEFAULT_WINDOW_SECONDS = 10;
+    // Endpoint yang ditampilkan di view (urut dari req/s tertinggi)
+    public static final int MAX_ENDPOINTS_SHOWN = 10;
+    public static final String THREAD_NAME = "live-progress";
+}
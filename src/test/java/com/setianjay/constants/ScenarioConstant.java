@@ -0,0 +1,15 @@
+package com.setianjay.constants;
+
+public class ScenarioConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "scenario.";
+    public static final String DIRECTORY_PROPERTY = "scenario.dir";
+    // Override baseUri dari file scenario, misal ke environment lain
+    public static final String BASE_URI_PROPERTY = "scenario.baseUri";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_DIRECTORY = "src/test/resources/scenarios";
+    public static final String FILE_SUFFIX = ".scenario.json";
+    // Load scenario dengan prefix ini dibaca dari file scenario, contoh -Dload.scenario=scenario:booking-lifecycle
+    public static final String LOAD_SCENARIO_PREFIX = "scenario:";
+}
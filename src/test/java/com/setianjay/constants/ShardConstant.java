@@ -0,0 +1,19 @@
+package com.setianjay.constants;
+
+public class ShardConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String SHARD_COUNT_PROPERTY = "shard.count";
+    public static final String SUITE_XML_FILE_PROPERTY = "shard.suiteXmlFile";
+    public static final String HISTORY_FILE_PROPERTY = "shard.historyFile";
+    public static final String OUTPUT_DIRECTORY_PROPERTY = "shard.outputDirectory";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_SUITE_XML_FILE = "testng.xml";
+    public static final String DEFAULT_HISTORY_FILE = "test-durations.json";
+    public static final String DEFAULT_OUTPUT_DIRECTORY = "target/shards";
+    public static final String RESULTS_FILE = "testng-results.xml";
+    public static final long DEFAULT_CLASS_DURATION_MILLIS = 5000;
+
+    /* Bobot durasi run terbaru terhadap history (exponential moving average) */
+    public static final double HISTORY_SMOOTHING = 0.5;
+}
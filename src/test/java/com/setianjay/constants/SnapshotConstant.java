@@ -0,0 +1,17 @@
+package com.setianjay.constants;
+
+public class SnapshotConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "snapshot.";
+    // verify (default), strict atau update, lihat SnapshotMode
+    public static final String MODE_PROPERTY = "snapshot.mode";
+    public static final String DIRECTORY_PROPERTY = "snapshot.dir";
+    // Ignore path global (dipisah koma) yang ditambahkan ke setiap snapshot, contoh $.updatedAt,$[*].updatedAt
+    public static final String IGNORE_PATHS_PROPERTY = "snapshot.ignorePaths";
+
+    /* DEFAULTS */
+    public static final String DEFAULT_DIRECTORY = "src/test/resources/snapshots";
+    public static final String FILE_SUFFIX = ".snapshot.json";
+    // Diff lengkap berhenti setelah sekian perbedaan supaya message assertion tetap terbaca
+    public static final int MAX_DIFFERENCES = 20;
+}
@@ -0,0 +1,27 @@
+package com.setianjay.constants;
+
+public class TimeoutConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String PROPERTY_PREFIX = "timeout.";
+    public static final String ADAPTIVE_PROPERTY = "timeout.adaptive";
+    public static final String PERCENTILE_PROPERTY = "timeout.percentile";
+    public static final String FACTOR_PROPERTY = "timeout.factor";
+    public static final String FLOOR_MILLIS_PROPERTY = "timeout.floorMillis";
+    public static final String CEILING_MILLIS_PROPERTY = "timeout.ceilingMillis";
+    public static final String CONNECT_CEILING_MILLIS_PROPERTY = "timeout.connectCeilingMillis";
+    public static final String MIN_SAMPLES_PROPERTY = "timeout.minSamples";
+    public static final String WINDOW_PROPERTY = "timeout.window";
+
+    /* DEFAULTS */
+    public static final double DEFAULT_PERCENTILE = 99.9;
+    public static final double DEFAULT_FACTOR = 3.0;
+    public static final int DEFAULT_FLOOR_MILLIS = 2000;
+    public static final int DEFAULT_CEILING_MILLIS = NetworkConstant.SOCKET_TIMEOUT;
+    public static final int DEFAULT_CONNECT_CEILING_MILLIS = NetworkConstant.CONNECTION_TIMEOUT;
+    // Sebelum minSamples tercapai endpoint memakai timeout default dari NetworkConstant
+    public static final int DEFAULT_MIN_SAMPLES = 30;
+    public static final int DEFAULT_WINDOW = 1000;
+    public static final int RECOMPUTE_EVERY = 20;
+    // Perubahan timeout di bawah 10% tidak di-log
+    public static final double LOG_CHANGE_RATIO = 0.10;
+}
@@ -0,0 +1,19 @@
+package com.setianjay.constants;
+
+public class WarmupConstant {
+    /* SYSTEM PROPERTIES */
+    public static final String ENABLED_PROPERTY = "warmup.enabled";
+    public static final String MAX_ITERATIONS_PROPERTY = "warmup.maxIterations";
+    public static final String MIN_ITERATIONS_PROPERTY = "warmup.minIterations";
+    public static final String WINDOW_PROPERTY = "warmup.window";
+    public static final String CV_THRESHOLD_PROPERTY = "warmup.cvThreshold";
+    public static final String CONNECTIONS_PROPERTY = "warmup.connections";
+
+    /* DEFAULTS */
+    public static final int DEFAULT_MAX_ITERATIONS = 20;
+    public static final int DEFAULT_MIN_ITERATIONS = 3;
+    public static final int DEFAULT_WINDOW = 5;
+    // Stabil jika coefficient of variation timing di window terakhir <= 10%
+    public static final double DEFAULT_CV_THRESHOLD = 0.10;
+    public static final int DEFAULT_CONNECTIONS = 4;
+}
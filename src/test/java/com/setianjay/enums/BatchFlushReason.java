@@ -0,0 +1,18 @@
+package com.setianjay.enums;
+
+/**
+ * Alasan ObjectBatchFetcher mengirim antrean id sebagai satu request
+ */
+public enum BatchFlushReason {
+    // Antrean mencapai maxBatchSize
+    SIZE,
+
+    // Window sejak id pertama masuk sudah lewat
+    WINDOW,
+
+    // fetchAll dengan daftar id eksplisit
+    EXPLICIT,
+
+    // Sisa antrean saat fetcher ditutup
+    CLOSE
+}
@@ -0,0 +1,28 @@
+package com.setianjay.enums;
+
+/**
+ * Jenis edge case yang di-generate BookingDataGenerator; setiap payload edge case hanya punya satu
+ * field yang tidak biasa, field lain tetap valid
+ */
+public enum BookingEdgeCase {
+    // Nama dengan aksen, aksara non-latin dan emoji
+    UNICODE_NAME,
+
+    // Nama kosong dan nama sangat panjang
+    BLANK_OR_LONG_NAME,
+
+    // totalprice Integer.MIN_VALUE, -1, 0 atau Integer.MAX_VALUE
+    PRICE_LIMIT,
+
+    // checkin == checkout
+    SAME_DAY,
+
+    // checkout sebelum checkin
+    INVERTED_DATES,
+
+    // 29 Februari, pergantian tahun dan tanggal yang sangat jauh
+    CALENDAR_BOUNDARY,
+
+    // additionalneeds kosong, berisi quote/backslash/newline atau markup
+    SPECIAL_CHARACTERS
+}
@@ -0,0 +1,15 @@
+package com.setianjay.enums;
+
+/**
+ * Kapan ResourceCleanup menghapus resource yang dibuat test
+ */
+public enum CleanupMode {
+    // Dihapus di background (concurrency terbatas) setelah test class pemiliknya selesai, sisanya di akhir suite
+    BACKGROUND,
+
+    // Semua dihapus sekaligus di akhir suite
+    SUITE_END,
+
+    // Tidak ada yang dihapus (misal untuk investigasi data setelah run)
+    OFF
+}
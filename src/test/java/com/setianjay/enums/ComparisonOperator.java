@@ -0,0 +1,36 @@
+package com.setianjay.enums;
+
+public enum ComparisonOperator {
+    EQUAL("=="),
+
+    NOT_EQUAL("!="),
+
+    GREATER_THAN_OR_EQUAL(">="),
+
+    LESS_THAN_OR_EQUAL("<="),
+
+    GREATER_THAN(">"),
+
+    LESS_THAN("<"),
+
+    EXISTS("exists");
+
+    private final String symbol;
+
+    ComparisonOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String symbol() {
+        return symbol;
+    }
+
+    public static ComparisonOperator fromSymbol(String symbol) {
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(symbol)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.setianjay.enums;
+
+public enum FaultType {
+    LATENCY,
+    BANDWIDTH,
+    STATUS,
+    RESET,
+    STALL,
+    TRUNCATE
+}
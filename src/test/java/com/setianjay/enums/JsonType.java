@@ -0,0 +1,36 @@
+package com.setianjay.enums;
+
+public enum JsonType {
+    OBJECT("object"),
+
+    ARRAY("array"),
+
+    STRING("string"),
+
+    INTEGER("integer"),
+
+    NUMBER("number"),
+
+    BOOLEAN("boolean"),
+
+    NULL("null");
+
+    private final String schemaName;
+
+    JsonType(String schemaName) {
+        this.schemaName = schemaName;
+    }
+
+    public String schemaName() {
+        return schemaName;
+    }
+
+    public static JsonType fromSchemaName(String schemaName) {
+        for (JsonType type : values()) {
+            if (type.schemaName.equals(schemaName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
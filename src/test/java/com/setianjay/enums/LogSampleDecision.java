@@ -0,0 +1,31 @@
+package com.setianjay.enums;
+
+/**
+ * Keputusan LogSampler untuk satu exchange
+ */
+public enum LogSampleDecision {
+    // Status >= 400 atau tanpa response, selalu di-log lengkap
+    FAILURE(true),
+
+    // Lebih lambat dari -Dlogging.slowThresholdMillis, selalu di-log lengkap
+    SLOW(true),
+
+    // Exchange sukses yang terpilih sampling
+    SAMPLED(true),
+
+    // Exchange sukses yang tidak terpilih 1 dari N
+    SKIPPED_SAMPLE(false),
+
+    // Exchange sukses yang melewati batas baris per detik
+    SKIPPED_RATE(false);
+
+    private final boolean logged;
+
+    LogSampleDecision(boolean logged) {
+        this.logged = logged;
+    }
+
+    public boolean isLogged() {
+        return logged;
+    }
+}
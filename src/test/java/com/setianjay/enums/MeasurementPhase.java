@@ -0,0 +1,17 @@
+package com.setianjay.enums;
+
+public enum MeasurementPhase {
+    WARMUP("warm-up"),
+
+    STEADY_STATE("steady-state");
+
+    private final String label;
+
+    MeasurementPhase(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
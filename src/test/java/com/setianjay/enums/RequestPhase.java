@@ -0,0 +1,32 @@
+package com.setianjay.enums;
+
+public enum RequestPhase {
+    BUILD("build"),
+
+    ACQUIRE("acquire"),
+
+    CONNECT("connect"),
+
+    TLS("tls"),
+
+    SEND("send"),
+
+    TTFB("ttfb"),
+
+    DOWNLOAD("download"),
+
+    // Overhead client (RestAssured filters, response parsing) di luar phase network di atas
+    OTHER("other"),
+
+    DESERIALIZE("deserialize");
+
+    private final String label;
+
+    RequestPhase(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
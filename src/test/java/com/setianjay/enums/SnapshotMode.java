@@ -0,0 +1,15 @@
+package com.setianjay.enums;
+
+/**
+ * Perilaku SnapshotStore saat golden response belum ada atau berbeda
+ */
+public enum SnapshotMode {
+    // Golden yang belum ada direkam, perbedaan gagal
+    VERIFY,
+
+    // Golden yang belum ada juga gagal (untuk CI)
+    STRICT,
+
+    // Golden yang belum ada atau berbeda ditimpa dengan response baru
+    UPDATE
+}
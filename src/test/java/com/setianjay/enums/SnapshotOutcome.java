@@ -0,0 +1,9 @@
+package com.setianjay.enums;
+
+public enum SnapshotOutcome {
+    MATCHED,
+    RECORDED,
+    UPDATED,
+    MISMATCHED,
+    MISSING
+}
@@ -0,0 +1,58 @@
+package com.setianjay.enums;
+
+/**
+ * Kelas HttpStatus (digit pertama status code) untuk error rate di live progress
+ */
+public enum StatusClass {
+    // 1xx
+    INFORMATIONAL("1xx"),
+
+    // 2xx
+    SUCCESS("2xx"),
+
+    // 3xx
+    REDIRECTION("3xx"),
+
+    // 4xx
+    CLIENT_ERROR("4xx"),
+
+    // 5xx
+    SERVER_ERROR("5xx"),
+
+    // Tidak ada response (timeout, connection refused, dll)
+    NO_RESPONSE("no response");
+
+    private final String label;
+
+    StatusClass(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public boolean isError() {
+        return this == CLIENT_ERROR || this == SERVER_ERROR || this == NO_RESPONSE;
+    }
+
+    /**
+     * Status code di luar 100..599 (termasuk 0 untuk request tanpa response) dianggap NO_RESPONSE
+     */
+    public static StatusClass of(int code) {
+        switch (code / 100) {
+            case 1:
+                return INFORMATIONAL;
+            case 2:
+                return SUCCESS;
+            case 3:
+                return REDIRECTION;
+            case 4:
+                return CLIENT_ERROR;
+            case 5:
+                return SERVER_ERROR;
+            default:
+                return NO_RESPONSE;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package com.setianjay.fault;
+
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.FaultType;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP proxy yang bisa di-embed di test, berjalan di loopback dan meneruskan request ke upstream
+ * (http atau https) sambil meng-inject fault per route: latency, bandwidth cap, status error,
+ * connection reset, stall dan truncated body. Test mengarahkan base URI ke {@link #getBaseUri()},
+ * lalu men-script fault dengan {@link #addRule(FaultRule)} / {@link #clearRules()} kapan saja.
+ *
+ * <p>Rule pertama yang cocok (urutan penambahan) yang dipakai. Client ke proxy selalu plain HTTP/1.1,
+ * jadi fault bisa diterapkan per path walaupun upstream memakai TLS.</p>
+ */
+public class FaultInjectionProxy implements AutoCloseable {
+    private static final Logger logger = LoggerUtils.getLogger(FaultInjectionProxy.class);
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-connection",
+            "transfer-encoding", "te", "trailer", "upgrade", "content-length", "host", "expect");
+    private static final byte[] INJECTED_STATUS_BODY = "{\"error\":\"Injected by FaultInjectionProxy\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final String upstreamBaseUri;
+    private final HttpClient upstreamClient;
+    private final List<FaultRule> rules = new CopyOnWriteArrayList<>();
+    private final Map<FaultType, LongAdder> faultCounts = new EnumMap<>(FaultType.class);
+    private final LongAdder requestCount = new LongAdder();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private ServerSocket serverSocket;
+    private ExecutorService executor;
+
+    public FaultInjectionProxy(String upstreamBaseUri) {
+        this.upstreamBaseUri = upstreamBaseUri.endsWith("/")
+                ? upstreamBaseUri.substring(0, upstreamBaseUri.length() - 1)
+                : upstreamBaseUri;
+        this.upstreamClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(FaultConstant.UPSTREAM_CONNECT_TIMEOUT))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        for (FaultType type : FaultType.values()) {
+            faultCounts.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Buat dan start proxy ke upstream di port ephemeral
+     */
+    public static FaultInjectionProxy start(String upstreamBaseUri) throws IOException {
+        FaultInjectionProxy proxy = new FaultInjectionProxy(upstreamBaseUri);
+        proxy.start();
+        return proxy;
+    }
+
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Proxy already started on " + getBaseUri());
+        }
+        serverSocket = new ServerSocket(0, FaultConstant.DEFAULT_BACKLOG, InetAddress.getByName(FaultConstant.LOOPBACK_HOST));
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        executor.execute(this::acceptLoop);
+        logger.info("💥 Fault injection proxy {} -> {}", getBaseUri(), upstreamBaseUri);
+    }
+
+    /**
+     * Base URI proxy, pakai sebagai RestAssured.baseURI / getBaseUri() di test
+     */
+    public String getBaseUri() {
+        return "http://" + FaultConstant.LOOPBACK_HOST + ":" + serverSocket.getLocalPort();
+    }
+
+    public String getUpstreamBaseUri() {
+        return upstreamBaseUri;
+    }
+
+    public FaultInjectionProxy addRule(FaultRule rule) {
+        rules.add(rule);
+        logger.info("💥 Fault rule added: {}", rule);
+        return this;
+    }
+
+    public void clearRules() {
+        rules.clear();
+    }
+
+    public List<FaultRule> getRules() {
+        return Collections.unmodifiableList(new ArrayList<>(rules));
+    }
+
+    /**
+     * Jumlah request yang diterima proxy sejak start / resetCounters
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Berapa kali fault dengan tipe ini benar-benar diterapkan
+     */
+    public long getFaultCount(FaultType type) {
+        return faultCounts.get(type).sum();
+    }
+
+    public void resetCounters() {
+        requestCount.reset();
+        faultCounts.values().forEach(LongAdder::reset);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close proxy socket: {}", LoggerUtils.formatException(e));
+        }
+        for (Socket connection : connections) {
+            closeQuietly(connection);
+        }
+        executor.shutdownNow();
+        upstreamClient.shutdownNow();
+        logger.info("💥 Fault injection proxy {} stopped: requests={} faults={}", getBaseUri(), getRequestCount(), faultCounts);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                executor.execute(() -> handle(client));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warn("Proxy accept failed: {}", LoggerUtils.formatException(e));
+                }
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        connections.add(client);
+        try (client) {
+            client.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(client.getInputStream());
+            OutputStream out = client.getOutputStream();
+
+            ProxyRequest request;
+            while ((request = ProxyRequest.read(in)) != null) {
+                if (!exchange(client, out, request)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("Proxy connection closed: {}", LoggerUtils.formatException(e));
+        } finally {
+            connections.remove(client);
+        }
+    }
+
+    /**
+     * Proses satu request, return false jika koneksi harus ditutup setelahnya
+     */
+    private boolean exchange(Socket client, OutputStream out, ProxyRequest request) throws IOException, InterruptedException {
+        requestCount.increment();
+        FaultRule rule = selectRule(request);
+
+        if (rule != null && rule.getLatency() != null) {
+            faultCounts.get(FaultType.LATENCY).increment();
+            Thread.sleep(rule.getLatency().sampleMillis());
+        }
+
+        if (rule != null && rule.isReset()) {
+            faultCounts.get(FaultType.RESET).increment();
+            // SO_LINGER 0: close() mengirim RST, bukan FIN
+            client.setSoLinger(true, 0);
+            return false;
+        }
+
+        ProxyResponse response;
+        if (rule != null && rule.getStatus() > 0) {
+            faultCounts.get(FaultType.STATUS).increment();
+            response = new ProxyResponse(rule.getStatus(), List.<String[]>of(new String[]{"Content-Type", "application/json"}),
+                    INJECTED_STATUS_BODY);
+        } else {
+            response = forward(request);
+        }
+        return writeResponse(out, response, rule, request.keepAlive);
+    }
+
+    private FaultRule selectRule(ProxyRequest request) {
+        for (FaultRule rule : rules) {
+            if (rule.matches(request.method, request.path())) {
+                if (rule.getProbability() < 1.0 && ThreadLocalRandom.current().nextDouble() >= rule.getProbability()) {
+                    return null;
+                }
+                logger.debug("💥 {} {} matched {}", request.method, request.target, rule);
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private ProxyResponse forward(ProxyRequest request) throws InterruptedException {
+        HttpRequest.Builder upstreamRequest = HttpRequest.newBuilder(URI.create(upstreamBaseUri + request.target))
+                .timeout(Duration.ofMillis(FaultConstant.UPSTREAM_RESPONSE_TIMEOUT))
+                .method(request.method, request.body.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(request.body)
+                        : HttpRequest.BodyPublishers.noBody());
+        for (String[] header : request.headers) {
+            if (!HOP_BY_HOP_HEADERS.contains(header[0].toLowerCase(Locale.ROOT))) {
+                upstreamRequest.header(header[0], header[1]);
+            }
+        }
+
+        try {
+            HttpResponse<byte[]> upstreamResponse = upstreamClient.send(upstreamRequest.build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            List<String[]> headers = new ArrayList<>();
+            upstreamResponse.headers().map().forEach((name, values) -> {
+                if (!name.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    values.forEach(value -> headers.add(new String[]{name, value}));
+                }
+            });
+            return new ProxyResponse(upstreamResponse.statusCode(), headers, upstreamResponse.body());
+        } catch (IOException e) {
+            logger.warn("Upstream {} {} failed: {}", request.method, request.target, LoggerUtils.formatException(e));
+            return new ProxyResponse(HttpStatus.BAD_GATEWAY.code(), List.of(), new byte[0]);
+        }
+    }
+
+    private boolean writeResponse(OutputStream out, ProxyResponse response, FaultRule rule, boolean keepAlive)
+            throws IOException, InterruptedException {
+        int bodyLength = response.body.length;
+        boolean truncated = rule != null && rule.getTruncateFraction() < 1.0;
+        if (truncated) {
+            faultCounts.get(FaultType.TRUNCATE).increment();
+            bodyLength = (int) (response.body.length * rule.getTruncateFraction());
+        }
+
+        HttpStatus status = HttpStatus.fromCode(response.status);
+        StringBuilder head = new StringBuilder("HTTP/1.1 ").append(response.status).append(' ')
+                .append(status != null ? status.reason() : "Unknown").append("\r\n");
+        for (String[] header : response.headers) {
+            head.append(header[0]).append(": ").append(header[1]).append("\r\n");
+        }
+        head.append("Content-Length: ").append(response.body.length).append("\r\n");
+        head.append("Connection: ").append(keepAlive && !truncated ? "keep-alive" : "close").append("\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+
+        if (rule != null && rule.getStallMillis() > 0) {
+            faultCounts.get(FaultType.STALL).increment();
+            Thread.sleep(rule.getStallMillis());
+        }
+
+        if (rule != null && rule.getBandwidthBytesPerSecond() > 0) {
+            faultCounts.get(FaultType.BANDWIDTH).increment();
+            writeThrottled(out, response.body, bodyLength, rule.getBandwidthBytesPerSecond());
+        } else {
+            out.write(response.body, 0, bodyLength);
+        }
+        out.flush();
+        return keepAlive && !truncated;
+    }
+
+    /**
+     * Tulis body per slice dan tidur sampai jadwal byte berikutnya sesuai bytesPerSecond
+     */
+    private static void writeThrottled(OutputStream out, byte[] body, int length, long bytesPerSecond)
+            throws IOException, InterruptedException {
+        int slice = (int) Math.max(1, bytesPerSecond / FaultConstant.BANDWIDTH_SLICES_PER_SECOND);
+        long startNanos = System.nanoTime();
+        for (int offset = 0; offset < length; offset += slice) {
+            int count = Math.min(slice, length - offset);
+            out.write(body, offset, count);
+            out.flush();
+
+            long dueNanos = startNanos + (offset + count) * 1_000_000_000L / bytesPerSecond;
+            long waitNanos = dueNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+            }
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // sudah ditutup oleh handler
+        }
+    }
+
+    private static final class ProxyRequest {
+        private final String method;
+        private final String target;
+        private final List<String[]> headers;
+        private final byte[] body;
+        private final boolean keepAlive;
+
+        private ProxyRequest(String method, String target, List<String[]> headers, byte[] body, boolean keepAlive) {
+            this.method = method;
+            this.target = target;
+            this.headers = headers;
+            this.body = body;
+            this.keepAlive = keepAlive;
+        }
+
+        private String path() {
+            int query = target.indexOf('?');
+            return query >= 0 ? target.substring(0, query) : target;
+        }
+
+        /**
+         * Parse satu HTTP/1.1 request, return null jika client menutup koneksi
+         */
+        private static ProxyRequest read(InputStream in) throws IOException {
+            String requestLine = readLine(in);
+            if (requestLine == null) {
+                return null;
+            }
+            String[] parts = requestLine.split(" ");
+            if (parts.length != 3) {
+                throw new IOException("Malformed request line: " + requestLine);
+            }
+
+            List<String[]> headers = new ArrayList<>();
+            long contentLength = 0;
+            boolean chunked = false;
+            String connection = null;
+            String line;
+            while ((line = readLine(in)) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    throw new IOException("Malformed header: " + line);
+                }
+                String name = line.substring(0, colon).trim();
+                String value = line.substring(colon + 1).trim();
+                headers.add(new String[]{name, value});
+
+                String lowerName = name.toLowerCase(Locale.ROOT);
+                if (lowerName.equals("content-length")) {
+                    contentLength = Long.parseLong(value);
+                } else if (lowerName.equals("transfer-encoding")) {
+                    chunked = value.toLowerCase(Locale.ROOT).contains("chunked");
+                } else if (lowerName.equals("connection")) {
+                    connection = value.toLowerCase(Locale.ROOT);
+                }
+            }
+
+            byte[] body = chunked ? readChunked(in) : in.readNBytes((int) contentLength);
+            if (body.length < contentLength) {
+                throw new EOFException("Request body ended after " + body.length + " of " + contentLength + " bytes");
+            }
+            boolean keepAlive = parts[2].equals("HTTP/1.1")
+                    ? !"close".equals(connection)
+                    : "keep-alive".equals(connection);
+            return new ProxyRequest(parts[0], parts[1], headers, body, keepAlive);
+        }
+
+        private static byte[] readChunked(InputStream in) throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            while (true) {
+                String sizeLine = readLine(in);
+                if (sizeLine == null) {
+                    throw new EOFException("Chunked request body ended early");
+                }
+                int extension = sizeLine.indexOf(';');
+                int size = Integer.parseInt((extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim(), 16);
+                if (size == 0) {
+                    String trailer;
+                    while ((trailer = readLine(in)) != null && !trailer.isEmpty()) {
+                        // trailer headers diabaikan
+                    }
+                    return body.toByteArray();
+                }
+                body.write(in.readNBytes(size));
+                readLine(in);
+            }
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    int length = line.length();
+                    return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+                }
+                line.append((char) b);
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+    }
+
+    private static final class ProxyResponse {
+        private final int status;
+        private final List<String[]> headers;
+        private final byte[] body;
+
+        private ProxyResponse(int status, List<String[]> headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.setianjay.fault;
+
+import com.setianjay.enums.Method;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Fault yang di-inject FaultInjectionProxy untuk route tertentu (method + path pattern).
+ * Path pattern memakai glob sederhana: '*' cocok dengan karakter apa saja, contoh "/objects/*".
+ * Semua fault dalam satu rule diterapkan bersama dengan probability yang sama.
+ */
+public final class FaultRule {
+    private final Method method;
+    private final String pathPattern;
+    private final Pattern pathRegex;
+    private final double probability;
+    private final LatencyDistribution latency;
+    private final long bandwidthBytesPerSecond;
+    private final int status;
+    private final boolean reset;
+    private final long stallMillis;
+    private final double truncateFraction;
+
+    private FaultRule(Builder builder) {
+        this.method = builder.method;
+        this.pathPattern = builder.pathPattern;
+        this.pathRegex = globToRegex(builder.pathPattern);
+        this.probability = builder.probability;
+        this.latency = builder.latency;
+        this.bandwidthBytesPerSecond = builder.bandwidthBytesPerSecond;
+        this.status = builder.status;
+        this.reset = builder.reset;
+        this.stallMillis = builder.stallMillis;
+        this.truncateFraction = builder.truncateFraction;
+    }
+
+    /**
+     * Rule untuk method tertentu, method null berarti semua method
+     */
+    public static Builder builder(Method method, String pathPattern) {
+        return new Builder(method, pathPattern);
+    }
+
+    /**
+     * Rule untuk semua method di path pattern
+     */
+    public static Builder builder(String pathPattern) {
+        return new Builder(null, pathPattern);
+    }
+
+    boolean matches(String requestMethod, String path) {
+        return (method == null || method.name().equals(requestMethod)) && pathRegex.matcher(path).matches();
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getPathPattern() {
+        return pathPattern;
+    }
+
+    public double getProbability() {
+        return probability;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public long getBandwidthBytesPerSecond() {
+        return bandwidthBytesPerSecond;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public long getStallMillis() {
+        return stallMillis;
+    }
+
+    public double getTruncateFraction() {
+        return truncateFraction;
+    }
+
+    @Override
+    public String toString() {
+        List<String> faults = new ArrayList<>();
+        if (latency != null) {
+            faults.add("latency=" + latency);
+        }
+        if (bandwidthBytesPerSecond > 0) {
+            faults.add("bandwidth=" + bandwidthBytesPerSecond + "B/s");
+        }
+        if (status > 0) {
+            faults.add("status=" + status);
+        }
+        if (reset) {
+            faults.add("reset");
+        }
+        if (stallMillis > 0) {
+            faults.add("stall=" + stallMillis + "ms");
+        }
+        if (truncateFraction < 1.0) {
+            faults.add("truncate=" + truncateFraction);
+        }
+        return String.format("%s %s p=%.2f %s", method == null ? "*" : method, pathPattern, probability, faults);
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int cursor = 0;
+        int star;
+        while ((star = glob.indexOf('*', cursor)) >= 0) {
+            regex.append(Pattern.quote(glob.substring(cursor, star))).append(".*");
+            cursor = star + 1;
+        }
+        regex.append(Pattern.quote(glob.substring(cursor)));
+        return Pattern.compile(regex.toString());
+    }
+
+    public static final class Builder {
+        private final Method method;
+        private final String pathPattern;
+        private double probability = 1.0;
+        private LatencyDistribution latency;
+        private long bandwidthBytesPerSecond;
+        private int status;
+        private boolean reset;
+        private long stallMillis;
+        private double truncateFraction = 1.0;
+
+        private Builder(Method method, String pathPattern) {
+            if (pathPattern == null || !pathPattern.startsWith("/")) {
+                throw new IllegalArgumentException("Path pattern must start with '/': " + pathPattern);
+            }
+            this.method = method;
+            this.pathPattern = pathPattern;
+        }
+
+        /**
+         * Peluang rule diterapkan ke satu request (0..1), default selalu
+         */
+        public Builder probability(double probability) {
+            if (probability < 0 || probability > 1) {
+                throw new IllegalArgumentException("Probability must be in [0, 1]: " + probability);
+            }
+            this.probability = probability;
+            return this;
+        }
+
+        /**
+         * Delay sebelum response dikirim (time to first byte bertambah)
+         */
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Batasi throughput response body ke client
+         */
+        public Builder bandwidth(long bytesPerSecond) {
+            if (bytesPerSecond <= 0) {
+                throw new IllegalArgumentException("Bandwidth must be positive: " + bytesPerSecond);
+            }
+            this.bandwidthBytesPerSecond = bytesPerSecond;
+            return this;
+        }
+
+        /**
+         * Jawab langsung dengan status ini tanpa meneruskan request ke upstream
+         */
+        public Builder status(int status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Tutup koneksi dengan TCP RST sebelum response dikirim
+         */
+        public Builder reset() {
+            this.reset = true;
+            return this;
+        }
+
+        /**
+         * Kirim status line dan headers, lalu diam selama duration sebelum body dikirim
+         * (memicu socket timeout di client jika lebih lama dari SOCKET_TIMEOUT)
+         */
+        public Builder stall(Duration duration) {
+            this.stallMillis = duration.toMillis();
+            return this;
+        }
+
+        /**
+         * Kirim hanya sebagian body (fraction 0..1) dengan Content-Length asli, lalu tutup koneksi
+         */
+        public Builder truncate(double fraction) {
+            if (fraction < 0 || fraction >= 1) {
+                throw new IllegalArgumentException("Truncate fraction must be in [0, 1): " + fraction);
+            }
+            this.truncateFraction = fraction;
+            return this;
+        }
+
+        public FaultRule build() {
+            return new FaultRule(this);
+        }
+    }
+}
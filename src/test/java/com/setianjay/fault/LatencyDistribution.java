@@ -0,0 +1,62 @@
+package com.setianjay.fault;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+/**
+ * Distribusi latency yang di-inject proxy sebelum response dikirim ke client.
+ * Sample dalam milliseconds, tidak pernah negatif.
+ */
+public final class LatencyDistribution {
+    private final String description;
+    private final ToLongFunction<ThreadLocalRandom> sampler;
+
+    private LatencyDistribution(String description, ToLongFunction<ThreadLocalRandom> sampler) {
+        this.description = description;
+        this.sampler = sampler;
+    }
+
+    public static LatencyDistribution fixed(Duration delay) {
+        long millis = delay.toMillis();
+        return new LatencyDistribution("fixed(" + millis + "ms)", random -> millis);
+    }
+
+    public static LatencyDistribution uniform(Duration min, Duration max) {
+        long minMillis = min.toMillis();
+        long maxMillis = max.toMillis();
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("max must be >= min: " + min + " > " + max);
+        }
+        return new LatencyDistribution("uniform(" + minMillis + "ms.." + maxMillis + "ms)",
+                random -> random.nextLong(minMillis, maxMillis + 1));
+    }
+
+    /**
+     * Normal distribution, dipotong di 0
+     */
+    public static LatencyDistribution normal(Duration mean, Duration stdDev) {
+        long meanMillis = mean.toMillis();
+        long stdDevMillis = stdDev.toMillis();
+        return new LatencyDistribution("normal(" + meanMillis + "ms, sd=" + stdDevMillis + "ms)",
+                random -> Math.max(0, Math.round(meanMillis + random.nextGaussian() * stdDevMillis)));
+    }
+
+    /**
+     * Exponential distribution (long tail), cocok untuk mensimulasikan antrian di server
+     */
+    public static LatencyDistribution exponential(Duration mean) {
+        long meanMillis = mean.toMillis();
+        return new LatencyDistribution("exponential(mean=" + meanMillis + "ms)",
+                random -> Math.round(-meanMillis * Math.log(1.0 - random.nextDouble())));
+    }
+
+    public long sampleMillis() {
+        return sampler.applyAsLong(ThreadLocalRandom.current());
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
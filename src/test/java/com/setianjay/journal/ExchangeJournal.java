@@ -0,0 +1,280 @@
+package com.setianjay.journal;
+
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.timing.RequestTrace;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal binary append-only untuk setiap exchange (timestamp, template, status, timing per phase,
+ * byte counts dan CRC32C body opsional), ditulis lewat memory-mapped file.
+ *
+ * <p>Setiap record berukuran tetap. Writer mengambil slot dengan satu getAndIncrement, mengisi field
+ * dengan absolute put, lalu menulis type record terakhir dengan release store sebagai tanda commit;
+ * tidak ada lock di hot path. Nama template disimpan sekali sebagai record TEMPLATE dan exchange
+ * merujuk ke id-nya. Jika kapasitas penuh, exchange dibuang dan dihitung sebagai dropped.</p>
+ *
+ * <p>Aktif dengan -Djournal.enabled=true; baca hasilnya dengan {@link ExchangeJournalReader}.</p>
+ */
+public final class ExchangeJournal implements Closeable {
+    private static final Logger logger = LoggerUtils.getLogger(ExchangeJournal.class);
+    private static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final AtomicReference<ExchangeJournal> CURRENT = new AtomicReference<>();
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long capacityRecords;
+    private final long baseEpochMicros;
+    private final long baseNanos;
+    private final AtomicLong nextSlot = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicInteger nextTemplateId = new AtomicInteger();
+    private final Map<String, Integer> templateIds = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    private ExchangeJournal(Path path, int capacityMb) throws IOException {
+        this.path = path;
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long capacityBytes = (long) capacityMb * 1024 * 1024;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+        this.capacityRecords = (capacityBytes - JournalConstant.HEADER_BYTES) / JournalConstant.RECORD_BYTES;
+        this.baseEpochMicros = System.currentTimeMillis() * 1000;
+        this.baseNanos = System.nanoTime();
+
+        buffer.putInt(JournalConstant.HEADER_MAGIC, JournalConstant.MAGIC);
+        buffer.putInt(JournalConstant.HEADER_VERSION, JournalConstant.VERSION);
+        buffer.putInt(JournalConstant.HEADER_RECORD_BYTES, JournalConstant.RECORD_BYTES);
+        buffer.putLong(JournalConstant.HEADER_START_EPOCH_MICROS, baseEpochMicros);
+    }
+
+    /**
+     * Buka journal baru di path (file tidak boleh sudah ada)
+     */
+    public static ExchangeJournal open(Path path, int capacityMb) {
+        if (capacityMb < 1 || capacityMb > JournalConstant.MAX_CAPACITY_MB) {
+            throw new IllegalArgumentException("Journal capacity must be 1.." + JournalConstant.MAX_CAPACITY_MB
+                    + "MB: " + capacityMb);
+        }
+        try {
+            return new ExchangeJournal(path, capacityMb);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open exchange journal " + path, e);
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(JournalConstant.ENABLED_PROPERTY, "false"));
+    }
+
+    public static boolean isBodyDigestEnabled() {
+        return isEnabled() && Boolean.parseBoolean(System.getProperty(JournalConstant.BODY_DIGEST_PROPERTY, "false"));
+    }
+
+    /**
+     * Journal proses ini, dibuka saat pertama dipakai; null jika journal tidak aktif
+     */
+    public static ExchangeJournal current() {
+        if (!isEnabled()) {
+            return null;
+        }
+        ExchangeJournal journal = CURRENT.get();
+        if (journal == null) {
+            synchronized (CURRENT) {
+                journal = CURRENT.get();
+                if (journal == null) {
+                    journal = open(newFilePath(), Integer.getInteger(JournalConstant.CAPACITY_MB_PROPERTY,
+                            JournalConstant.DEFAULT_CAPACITY_MB));
+                    logger.info("📼 Recording exchanges to {}", journal.getPath());
+                    CURRENT.set(journal);
+                }
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Tutup journal proses ini (akhir suite / akhir run worker); exchange berikutnya membuka file baru
+     */
+    public static void closeCurrent(Logger logger) {
+        ExchangeJournal journal = CURRENT.getAndSet(null);
+        if (journal != null) {
+            journal.close();
+            logger.info("📼 Exchange journal {}: {} records, {} dropped", journal.getPath(),
+                    journal.getRecordCount(), journal.getDropped());
+        }
+    }
+
+    /**
+     * Record exchange ke journal proses ini (no-op jika tidak aktif). bodyDigest null berarti tanpa digest
+     */
+    public static void recordExchange(String template, int status, RequestTrace trace, long totalNanos,
+                                      long decodedBytes, Integer bodyDigest) {
+        ExchangeJournal journal = current();
+        if (journal != null) {
+            journal.record(template, status, false, trace, totalNanos, decodedBytes, bodyDigest);
+        }
+    }
+
+    /**
+     * Record exchange yang gagal tanpa response (timeout, connection reset)
+     */
+    public static void recordFailure(String template, RequestTrace trace, long totalNanos) {
+        ExchangeJournal journal = current();
+        if (journal != null) {
+            journal.record(template, -1, true, trace, totalNanos, 0, null);
+        }
+    }
+
+    /**
+     * CRC32C body jika digest aktif (-Djournal.bodyDigest=true), null jika tidak
+     */
+    public static Integer digestOf(byte[] body) {
+        if (!isBodyDigestEnabled() || body == null) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    public void record(String template, int status, boolean failed, RequestTrace trace, long totalNanos,
+                       long decodedBytes, Integer bodyDigest) {
+        int templateId = templateId(template);
+        int offset = claim();
+        if (offset < 0) {
+            return;
+        }
+
+        long endMicros = baseEpochMicros + (System.nanoTime() - baseNanos) / 1000;
+        int flags = (failed ? JournalConstant.FLAG_FAILED : 0)
+                | (bodyDigest != null ? JournalConstant.FLAG_BODY_DIGEST : 0)
+                | (trace != null && trace.getContentEncoding() != null ? JournalConstant.FLAG_ENCODED : 0);
+
+        buffer.putInt(offset + JournalConstant.RECORD_TEMPLATE_ID, templateId);
+        buffer.putLong(offset + JournalConstant.RECORD_START_EPOCH_MICROS, endMicros - totalNanos / 1000);
+        buffer.putLong(offset + JournalConstant.RECORD_TOTAL_NANOS, totalNanos);
+        buffer.putInt(offset + JournalConstant.RECORD_STATUS, status);
+        buffer.putInt(offset + JournalConstant.RECORD_FLAGS, flags);
+        if (trace != null) {
+            for (RequestPhase phase : PHASES) {
+                // -1 = phase tidak terjadi (misal connect pada koneksi yang dipakai ulang)
+                buffer.putInt(offset + JournalConstant.RECORD_PHASE_MICROS + phase.ordinal() * 4,
+                        trace.has(phase) ? (int) Math.min(Integer.MAX_VALUE, trace.getNanos(phase) / 1000) : -1);
+            }
+            buffer.putLong(offset + JournalConstant.RECORD_UPLOAD_BYTES, trace.getUploadBytes());
+            buffer.putLong(offset + JournalConstant.RECORD_WIRE_BYTES, trace.getWireBytes());
+        }
+        buffer.putLong(offset + JournalConstant.RECORD_DECODED_BYTES, decodedBytes);
+        buffer.putInt(offset + JournalConstant.RECORD_BODY_DIGEST, bodyDigest != null ? bodyDigest : 0);
+        commit(offset, JournalConstant.TYPE_EXCHANGE);
+    }
+
+    /**
+     * Id template; record TEMPLATE ditulis sekali saat nama pertama kali muncul
+     */
+    private int templateId(String template) {
+        Integer id = templateIds.get(template);
+        if (id != null) {
+            return id;
+        }
+        return templateIds.computeIfAbsent(template, name -> {
+            int newId = nextTemplateId.getAndIncrement();
+            int offset = claim();
+            if (offset >= 0) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                int length = Math.min(bytes.length, JournalConstant.MAX_TEMPLATE_NAME_BYTES);
+                buffer.putInt(offset + JournalConstant.RECORD_TEMPLATE_ID, newId);
+                buffer.putShort(offset + JournalConstant.RECORD_NAME_LENGTH, (short) length);
+                buffer.put(offset + JournalConstant.RECORD_NAME, bytes, 0, length);
+                commit(offset, JournalConstant.TYPE_TEMPLATE);
+            }
+            return newId;
+        });
+    }
+
+    /**
+     * Offset slot berikutnya, atau -1 jika journal penuh/sudah ditutup
+     */
+    private int claim() {
+        if (closed) {
+            dropped.incrementAndGet();
+            return -1;
+        }
+        long slot = nextSlot.getAndIncrement();
+        if (slot >= capacityRecords) {
+            if (dropped.getAndIncrement() == 0) {
+                logger.warn("📼 Exchange journal {} is full ({} records), dropping further exchanges", path, capacityRecords);
+            }
+            return -1;
+        }
+        return (int) (JournalConstant.HEADER_BYTES + slot * JournalConstant.RECORD_BYTES);
+    }
+
+    private void commit(int offset, int type) {
+        INT_VIEW.setRelease(buffer, offset + JournalConstant.RECORD_TYPE, type);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getRecordCount() {
+        return Math.min(nextSlot.get(), capacityRecords);
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Tulis jumlah record dan dropped ke header lalu force ke disk. Exchange yang masih in-flight
+     * saat close bisa tidak ter-commit; reader melewati slot yang belum di-commit.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.putLong(JournalConstant.HEADER_DROPPED, dropped.get());
+        buffer.putLong(JournalConstant.HEADER_COMMITTED_RECORDS, getRecordCount());
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close exchange journal " + path, e);
+        }
+    }
+
+    private static Path newFilePath() {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return Paths.get(System.getProperty(JournalConstant.DIRECTORY_PROPERTY, JournalConstant.DEFAULT_DIRECTORY),
+                "exchanges-" + timestamp + "-" + ProcessHandle.current().pid() + JournalConstant.FILE_EXTENSION);
+    }
+}
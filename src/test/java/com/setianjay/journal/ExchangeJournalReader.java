@@ -0,0 +1,170 @@
+package com.setianjay.journal;
+
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.enums.RequestPhase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reader untuk file {@link ExchangeJournal}. Record berukuran tetap, jadi range slot bisa dibaca
+ * terpisah (misal paralel per segment) lewat {@link #forEach(long, long, Consumer)}; method baca aman
+ * dipakai dari beberapa thread sekaligus.
+ */
+public final class ExchangeJournalReader implements Closeable {
+    private static final int PHASE_COUNT = RequestPhase.values().length;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long slotCount;
+    private final boolean closedCleanly;
+    private final Map<Integer, String> templates;
+
+    private ExchangeJournalReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (buffer.capacity() < JournalConstant.HEADER_BYTES
+                || buffer.getInt(JournalConstant.HEADER_MAGIC) != JournalConstant.MAGIC) {
+            throw new IOException(path + " is not an exchange journal");
+        }
+        if (buffer.getInt(JournalConstant.HEADER_VERSION) != JournalConstant.VERSION
+                || buffer.getInt(JournalConstant.HEADER_RECORD_BYTES) != JournalConstant.RECORD_BYTES) {
+            throw new IOException("Unsupported exchange journal version in " + path);
+        }
+
+        long committed = buffer.getLong(JournalConstant.HEADER_COMMITTED_RECORDS);
+        this.closedCleanly = committed > 0;
+        this.slotCount = closedCleanly ? committed : scanSlotCount();
+        this.templates = Collections.unmodifiableMap(readTemplates());
+    }
+
+    public static ExchangeJournalReader open(Path path) {
+        try {
+            return new ExchangeJournalReader(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open exchange journal " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getStartEpochMicros() {
+        return buffer.getLong(JournalConstant.HEADER_START_EPOCH_MICROS);
+    }
+
+    /**
+     * Jumlah slot (record template + exchange) yang dibaca
+     */
+    public long getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * false jika writer tidak sempat close (proses mati); slot dibaca sampai slot terakhir yang terisi
+     */
+    public boolean isClosedCleanly() {
+        return closedCleanly;
+    }
+
+    public long getDropped() {
+        return buffer.getLong(JournalConstant.HEADER_DROPPED);
+    }
+
+    /**
+     * Id template ke nama template
+     */
+    public Map<Integer, String> getTemplates() {
+        return templates;
+    }
+
+    public void forEach(Consumer<ExchangeRecord> consumer) {
+        forEach(0, slotCount, consumer);
+    }
+
+    /**
+     * Baca exchange di slot [fromSlot, toSlot); slot template dan slot yang belum di-commit dilewati
+     */
+    public void forEach(long fromSlot, long toSlot, Consumer<ExchangeRecord> consumer) {
+        if (fromSlot < 0 || toSlot > slotCount || fromSlot > toSlot) {
+            throw new IndexOutOfBoundsException("Slot range [" + fromSlot + ", " + toSlot + ") of " + slotCount);
+        }
+        for (long slot = fromSlot; slot < toSlot; slot++) {
+            int offset = offsetOf(slot);
+            if (buffer.getInt(offset + JournalConstant.RECORD_TYPE) == JournalConstant.TYPE_EXCHANGE) {
+                consumer.accept(readExchange(offset));
+            }
+        }
+    }
+
+    private ExchangeRecord readExchange(int offset) {
+        int[] phaseMicros = new int[PHASE_COUNT];
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseMicros[i] = buffer.getInt(offset + JournalConstant.RECORD_PHASE_MICROS + i * 4);
+        }
+        int templateId = buffer.getInt(offset + JournalConstant.RECORD_TEMPLATE_ID);
+        return new ExchangeRecord(
+                templates.getOrDefault(templateId, "#" + templateId),
+                buffer.getLong(offset + JournalConstant.RECORD_START_EPOCH_MICROS),
+                buffer.getLong(offset + JournalConstant.RECORD_TOTAL_NANOS),
+                buffer.getInt(offset + JournalConstant.RECORD_STATUS),
+                buffer.getInt(offset + JournalConstant.RECORD_FLAGS),
+                phaseMicros,
+                buffer.getLong(offset + JournalConstant.RECORD_UPLOAD_BYTES),
+                buffer.getLong(offset + JournalConstant.RECORD_WIRE_BYTES),
+                buffer.getLong(offset + JournalConstant.RECORD_DECODED_BYTES),
+                buffer.getInt(offset + JournalConstant.RECORD_BODY_DIGEST));
+    }
+
+    private Map<Integer, String> readTemplates() {
+        Map<Integer, String> names = new HashMap<>();
+        for (long slot = 0; slot < slotCount; slot++) {
+            int offset = offsetOf(slot);
+            if (buffer.getInt(offset + JournalConstant.RECORD_TYPE) == JournalConstant.TYPE_TEMPLATE) {
+                byte[] name = new byte[buffer.getShort(offset + JournalConstant.RECORD_NAME_LENGTH)];
+                buffer.get(offset + JournalConstant.RECORD_NAME, name);
+                names.put(buffer.getInt(offset + JournalConstant.RECORD_TEMPLATE_ID), new String(name, StandardCharsets.UTF_8));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Writer mengambil slot dengan getAndIncrement dan commit tidak berurutan, jadi slot yang diambil tapi belum
+     * di-commit saat proses mati bisa ada di tengah record yang sudah di-commit. Cari slot terisi terakhir dari
+     * belakang; slot kosong di tengah dilewati oleh forEach.
+     */
+    private long scanSlotCount() {
+        long slot = (buffer.capacity() - JournalConstant.HEADER_BYTES) / JournalConstant.RECORD_BYTES;
+        while (slot > 0 && buffer.getInt(offsetOf(slot - 1) + JournalConstant.RECORD_TYPE) == 0) {
+            slot--;
+        }
+        return slot;
+    }
+
+    private static int offsetOf(long slot) {
+        return (int) (JournalConstant.HEADER_BYTES + slot * JournalConstant.RECORD_BYTES);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close exchange journal " + path, e);
+        }
+    }
+}
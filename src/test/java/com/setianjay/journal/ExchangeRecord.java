@@ -0,0 +1,101 @@
+package com.setianjay.journal;
+
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.enums.RequestPhase;
+
+/**
+ * Satu exchange yang dibaca dari journal
+ */
+public final class ExchangeRecord {
+    private final String template;
+    private final long startEpochMicros;
+    private final long totalNanos;
+    private final int status;
+    private final int flags;
+    private final int[] phaseMicros;
+    private final long uploadBytes;
+    private final long wireBytes;
+    private final long decodedBytes;
+    private final int bodyDigest;
+
+    ExchangeRecord(String template, long startEpochMicros, long totalNanos, int status, int flags, int[] phaseMicros,
+                   long uploadBytes, long wireBytes, long decodedBytes, int bodyDigest) {
+        this.template = template;
+        this.startEpochMicros = startEpochMicros;
+        this.totalNanos = totalNanos;
+        this.status = status;
+        this.flags = flags;
+        this.phaseMicros = phaseMicros;
+        this.uploadBytes = uploadBytes;
+        this.wireBytes = wireBytes;
+        this.decodedBytes = decodedBytes;
+        this.bodyDigest = bodyDigest;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * HTTP status, -1 jika request gagal tanpa response
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    public boolean isFailed() {
+        return (flags & JournalConstant.FLAG_FAILED) != 0;
+    }
+
+    public boolean isEncoded() {
+        return (flags & JournalConstant.FLAG_ENCODED) != 0;
+    }
+
+    public boolean hasPhase(RequestPhase phase) {
+        return phaseMicros[phase.ordinal()] >= 0;
+    }
+
+    /**
+     * Durasi phase dalam microseconds, -1 jika phase tidak terjadi
+     */
+    public int getPhaseMicros(RequestPhase phase) {
+        return phaseMicros[phase.ordinal()];
+    }
+
+    public long getUploadBytes() {
+        return uploadBytes;
+    }
+
+    public long getWireBytes() {
+        return wireBytes;
+    }
+
+    public long getDecodedBytes() {
+        return decodedBytes;
+    }
+
+    public boolean hasBodyDigest() {
+        return (flags & JournalConstant.FLAG_BODY_DIGEST) != 0;
+    }
+
+    /**
+     * CRC32C body response (hanya valid jika {@link #hasBodyDigest()})
+     */
+    public int getBodyDigest() {
+        return bodyDigest;
+    }
+
+    @Override
+    public String toString() {
+        return template + " status=" + status + " total=" + String.format("%.2fms", totalNanos / 1e6)
+                + " wire=" + wireBytes + "B decoded=" + decodedBytes + "B";
+    }
+}
@@ -0,0 +1,179 @@
+package com.setianjay.load;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram latency (dalam microseconds) dengan bucket log-linear.
+ * Presisi relatif ~1.5%, thread-safe untuk record, dan bisa di-merge tanpa kehilangan data
+ * karena semua histogram memakai layout bucket yang sama.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Record satu nilai latency dalam microseconds (nilai negatif dianggap 0)
+     */
+    public void recordValue(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Record latency dalam nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordValue(nanos / 1_000);
+    }
+
+    /**
+     * Gabungkan semua count dari histogram lain ke histogram ini
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalSum.addAndGet(other.totalSum.get());
+        if (other.totalCount.get() > 0) {
+            min.accumulateAndGet(other.min.get(), Math::min);
+            max.accumulateAndGet(other.max.get(), Math::max);
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMin() {
+        return totalCount.get() == 0 ? 0 : min.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0.0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Nilai (upper bound bucket) pada percentile tertentu, contoh 99.9
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Snapshot count per bucket, dipakai untuk transfer histogram antar proses
+     */
+    public long[] bucketCounts() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Tulis histogram secara lossless (hanya bucket yang tidak kosong) untuk dikirim antar proses
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        long[] snapshot = bucketCounts();
+        int nonEmpty = 0;
+        for (long count : snapshot) {
+            if (count != 0) {
+                nonEmpty++;
+            }
+        }
+
+        out.writeLong(totalCount.get());
+        out.writeLong(totalSum.get());
+        out.writeLong(min.get());
+        out.writeLong(max.get());
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < snapshot.length; i++) {
+            if (snapshot[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(snapshot[i]);
+            }
+        }
+    }
+
+    /**
+     * Baca histogram yang ditulis oleh {@link #writeTo(DataOutput)}
+     */
+    public static LatencyHistogram readFrom(DataInput in) throws IOException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.totalCount.set(in.readLong());
+        histogram.totalSum.set(in.readLong());
+        histogram.min.set(in.readLong());
+        histogram.max.set(in.readLong());
+        int nonEmpty = in.readInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            int index = in.readUnsignedShort();
+            histogram.counts.set(index, in.readLong());
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        long mantissa = index % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKET_COUNT - 1;
+        return lowestEquivalentValue(index) + (1L << shift) - 1;
+    }
+}
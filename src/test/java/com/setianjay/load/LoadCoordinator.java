@@ -0,0 +1,182 @@
+package com.setianjay.load;
+
+import com.setianjay.constants.CleanupConstant;
+import com.setianjay.constants.CompressionConstant;
+import com.setianjay.constants.DataConstant;
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.constants.LoadConstant;
+import com.setianjay.constants.PayloadConstant;
+import com.setianjay.constants.ProgressConstant;
+import com.setianjay.constants.ScenarioConstant;
+import com.setianjay.constants.TimeoutConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator untuk distributed load lintas beberapa JVM (atau host).
+ * Arrival rate dibagi rata ke N worker, semua worker mulai pada wall-clock time yang sama
+ * dengan jadwal yang diselang-seling (worker i mengirim request ke-i, i+N, ... dari profile),
+ * lalu report tiap worker di-merge (histogram lossless) menjadi satu report.
+ *
+ * <p>Konfigurasi lewat system properties: -Dload.scenario, -Dload.workers, -Dload.rps,
+ * -Dload.rampToRps, -Dload.durationSeconds, -Dload.maxConcurrency (per worker), -Dload.baseUri,
+ * -Dload.coordinatorPort dan -Dload.remoteWorkers=true (worker dijalankan manual di host lain).</p>
+ */
+public final class LoadCoordinator {
+    private static final Logger logger = LoggerUtils.getLogger(LoadCoordinator.class);
+
+    private LoadCoordinator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        String scenarioName = System.getProperty(LoadConstant.SCENARIO_PROPERTY);
+        if (scenarioName == null) {
+            throw new IllegalArgumentException("Missing -D" + LoadConstant.SCENARIO_PROPERTY
+                    + ", available scenarios: " + LoadScenarioCatalog.names());
+        }
+        int workers = Integer.getInteger(LoadConstant.WORKERS_PROPERTY, LoadConstant.DEFAULT_WORKERS);
+        int maxConcurrency = Integer.getInteger(LoadConstant.MAX_CONCURRENCY_PROPERTY, LoadConstant.DEFAULT_MAX_CONCURRENCY);
+        int port = Integer.getInteger(LoadConstant.COORDINATOR_PORT_PROPERTY, LoadConstant.DEFAULT_COORDINATOR_PORT);
+        boolean remoteWorkers = Boolean.getBoolean(LoadConstant.REMOTE_WORKERS_PROPERTY);
+        String baseUri = System.getProperty(LoadConstant.BASE_URI_PROPERTY, "");
+        if (baseUri.isBlank()) {
+            baseUri = LoadScenarioCatalog.defaultBaseUri(scenarioName);
+        }
+
+        LoadReport report = run(scenarioName, baseUri, LoadProfile.fromSystemProperties(), workers, maxConcurrency,
+                port, remoteWorkers);
+        double maxErrorRate = Double.parseDouble(System.getProperty(
+                LoadConstant.MAX_ERROR_RATE_PROPERTY, String.valueOf(LoadConstant.DEFAULT_MAX_ERROR_RATE)));
+        if (report.getErrorRate() > maxErrorRate) {
+            logger.error("❌ Error rate {} exceeds {}", report.getErrorRate(), maxErrorRate);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Jalankan scenario di N worker dan return merged report.
+     * Jika remoteWorkers false, worker di-spawn sebagai child JVM dengan classpath yang sama.
+     */
+    public static LoadReport run(String scenarioName, String baseUri, LoadProfile profile, int workers,
+                                 int maxConcurrency, int port, boolean remoteWorkers)
+            throws IOException, InterruptedException {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive: " + workers);
+        }
+        LoadScenarioCatalog.validate(scenarioName); // fail fast untuk scenario yang tidak dikenal
+
+        InetAddress bindAddress = remoteWorkers ? null : InetAddress.getLoopbackAddress();
+        List<Process> processes = new ArrayList<>();
+        List<Socket> sockets = new ArrayList<>();
+        try (ServerSocket server = new ServerSocket()) {
+            server.bind(new InetSocketAddress(bindAddress, port));
+            server.setSoTimeout(LoadConstant.DEFAULT_WORKER_CONNECT_TIMEOUT_MILLIS);
+            logger.info("🧭 Coordinator listening on port {}, waiting for {} worker(s)", server.getLocalPort(), workers);
+
+            if (!remoteWorkers) {
+                for (int i = 0; i < workers; i++) {
+                    processes.add(spawnLocalWorker(server.getLocalPort(), i));
+                }
+            }
+
+            List<String> workerNames = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                Socket socket = server.accept();
+                sockets.add(socket);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                int version = in.readInt();
+                if (version != LoadConstant.DISTRIBUTED_PROTOCOL_VERSION) {
+                    throw new IOException("Worker protocol version " + version + " is not supported, expected "
+                            + LoadConstant.DISTRIBUTED_PROTOCOL_VERSION);
+                }
+                workerNames.add(in.readUTF());
+                logger.info("🧭 Worker {} connected ({}/{})", workerNames.get(i), i + 1, workers);
+            }
+
+            // Worker menerima profile penuh dan index-nya, lalu mengambil share sendiri (LoadProfile.share)
+            // supaya request antar worker tidak terkirim serentak pada offset yang sama
+            long startAtEpochMillis = System.currentTimeMillis() + LoadConstant.DEFAULT_WORKER_START_DELAY_MILLIS;
+            for (int i = 0; i < workers; i++) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(sockets.get(i).getOutputStream()));
+                out.writeUTF(scenarioName);
+                out.writeUTF(baseUri == null ? "" : baseUri);
+                out.writeDouble(profile.getStartRps());
+                out.writeDouble(profile.getEndRps());
+                out.writeLong(profile.getDuration().toNanos());
+                out.writeInt(maxConcurrency);
+                out.writeLong(startAtEpochMillis);
+                out.writeInt(i);
+                out.writeInt(workers);
+                out.flush();
+            }
+
+            List<LoadReport> reports = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                Socket socket = sockets.get(i);
+                socket.setSoTimeout(0);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                LoadReport report = LoadReport.readFrom(in, profile.share(i, workers));
+                reports.add(report);
+                logger.info("🧭 {}: completed={} errors={} p99={}ms", report.getName(), report.getCompleted(),
+                        report.getErrors(), report.getLatency().getValueAtPercentile(99) / 1000.0);
+            }
+
+            LoadReport merged = LoadReport.merge(scenarioName + " x" + workers + " workers", profile, reports);
+            merged.log(logger);
+            return merged;
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+            // Worker menghapus resource yang dibuatnya setelah report dikirim, tunggu sampai cleanup selesai
+            long exitSeconds = 10 + Long.getLong(CleanupConstant.AWAIT_SECONDS_PROPERTY,
+                    CleanupConstant.DEFAULT_AWAIT_SECONDS);
+            for (Process process : processes) {
+                if (!process.waitFor(exitSeconds, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    private static Process spawnLocalWorker(int port, int workerIndex) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        // Timeout adaptif dipelajari di setiap worker, jadi konfigurasinya ikut diteruskan (begitu juga kompresi,
+        // upload, journal, directory file scenario, seed data, cleanup dan live progress; setiap worker menulis file journal sendiri)
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(TimeoutConstant.PROPERTY_PREFIX) || name.startsWith(CompressionConstant.PROPERTY_PREFIX)
+                    || name.startsWith(PayloadConstant.PROPERTY_PREFIX) || name.startsWith(JournalConstant.PROPERTY_PREFIX)
+                    || name.startsWith(ScenarioConstant.PROPERTY_PREFIX) || name.startsWith(CleanupConstant.PROPERTY_PREFIX)
+                    || (name.startsWith(ProgressConstant.PROPERTY_PREFIX) && !name.equals(ProgressConstant.ANSI_PROPERTY))
+                    || (name.startsWith(DataConstant.PROPERTY_PREFIX) && !name.equals(DataConstant.STREAM_PROPERTY))) {
+                command.add("-D" + name + "=" + System.getProperty(name));
+            }
+        }
+        // Stream data per worker supaya booking generated tidak sama antar worker tapi tetap reproducible
+        command.add("-D" + DataConstant.STREAM_PROPERTY + "=" + workerIndex);
+        // Output worker di-inherit ke console yang sama, redraw ANSI dari beberapa worker akan saling menimpa
+        command.add("-D" + ProgressConstant.ANSI_PROPERTY + "=false");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(LoadWorker.class.getName());
+        command.add(InetAddress.getLoopbackAddress().getHostAddress());
+        command.add(String.valueOf(port));
+        return new ProcessBuilder(command).inheritIO().start();
+    }
+}
@@ -0,0 +1,123 @@
+package com.setianjay.load;
+
+import com.setianjay.constants.LoadConstant;
+
+import java.time.Duration;
+
+/**
+ * Profile arrival rate untuk open-loop load: constant rate atau linear ramp.
+ * Jadwal request dihitung dari profile, bukan dari selesainya request sebelumnya.
+ */
+public final class LoadProfile {
+    private final double startRps;
+    private final double endRps;
+    private final long durationNanos;
+    // Share worker ke-phase dari phases worker: request ke-i profile ini adalah request ke-(i * phases + phase) profile asal
+    private final int phase;
+    private final int phases;
+
+    private LoadProfile(double startRps, double endRps, Duration duration) {
+        this(startRps, endRps, duration, 0, 1);
+    }
+
+    private LoadProfile(double startRps, double endRps, Duration duration, int phase, int phases) {
+        if (startRps < 0 || endRps < 0 || (startRps == 0 && endRps == 0)) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + startRps + " -> " + endRps);
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Load duration must be positive: " + duration);
+        }
+        this.startRps = startRps;
+        this.endRps = endRps;
+        this.durationNanos = duration.toNanos();
+        this.phase = phase;
+        this.phases = phases;
+    }
+
+    /**
+     * Fixed RPS selama duration
+     */
+    public static LoadProfile constantRate(double rps, Duration duration) {
+        return new LoadProfile(rps, rps, duration);
+    }
+
+    /**
+     * Linear ramp dari fromRps ke toRps selama duration
+     */
+    public static LoadProfile ramp(double fromRps, double toRps, Duration duration) {
+        return new LoadProfile(fromRps, toRps, duration);
+    }
+
+    /**
+     * Build profile dari system properties (-Dload.rps, -Dload.rampToRps, -Dload.durationSeconds)
+     */
+    public static LoadProfile fromSystemProperties() {
+        double rps = Double.parseDouble(System.getProperty(
+                LoadConstant.RPS_PROPERTY, String.valueOf(LoadConstant.DEFAULT_RPS)));
+        double rampToRps = Double.parseDouble(System.getProperty(
+                LoadConstant.RAMP_TO_RPS_PROPERTY, String.valueOf(rps)));
+        long durationSeconds = Long.parseLong(System.getProperty(
+                LoadConstant.DURATION_SECONDS_PROPERTY, String.valueOf(LoadConstant.DEFAULT_DURATION_SECONDS)));
+        return ramp(rps, rampToRps, Duration.ofSeconds(durationSeconds));
+    }
+
+    /**
+     * Share satu worker dari N worker: rate dibagi N dan request profile ini diselang-seling antar worker
+     * (request ke-j dikirim oleh worker j mod N), jadi worker tidak mengirim request serentak
+     */
+    public LoadProfile share(int worker, int workers) {
+        if (workers <= 0 || worker < 0 || worker >= workers) {
+            throw new IllegalArgumentException("Invalid worker share: " + worker + " of " + workers);
+        }
+        return new LoadProfile(startRps / workers, endRps / workers, Duration.ofNanos(durationNanos), worker, workers);
+    }
+
+    /**
+     * Total request yang dijadwalkan selama profile
+     */
+    public long totalRequests() {
+        // Total request profile asal; rate share sudah dibagi phases, 1e-9 menyerap error pembulatan pembagian itu
+        long all = (long) Math.floor((startRps + endRps) / 2.0 * phases * durationNanos / 1e9 + 1e-9);
+        return all <= phase ? 0 : (all - phase + phases - 1) / phases;
+    }
+
+    /**
+     * Intended send time (offset dari start, dalam nanos) untuk request ke-index
+     */
+    public long offsetNanos(long index) {
+        double durationSeconds = durationNanos / 1e9;
+        double slope = (endRps - startRps) / durationSeconds;
+        // Request ke-index dari share worker berada di antara request worker lain: index + phase / phases
+        double position = index + (double) phase / phases;
+        double seconds;
+
+        if (Math.abs(slope) < 1e-12) {
+            seconds = position / startRps;
+        } else {
+            // N(t) = startRps * t + slope * t^2 / 2, dicari t untuk N(t) = position
+            double discriminant = Math.max(0.0, startRps * startRps + 2.0 * slope * position);
+            seconds = (Math.sqrt(discriminant) - startRps) / slope;
+        }
+        return Math.min(durationNanos, (long) (seconds * 1e9));
+    }
+
+    public double getStartRps() {
+        return startRps;
+    }
+
+    public double getEndRps() {
+        return endRps;
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos(durationNanos);
+    }
+
+    @Override
+    public String toString() {
+        String rate = startRps == endRps
+                ? String.format("constant %.2f rps for %ds", startRps, getDuration().toSeconds())
+                : String.format("ramp %.2f -> %.2f rps for %ds", startRps, endRps, getDuration().toSeconds());
+        return phases == 1 ? rate : rate + String.format(" (share %d of %d)", phase + 1, phases);
+    }
+}
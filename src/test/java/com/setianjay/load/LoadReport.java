@@ -0,0 +1,198 @@
+package com.setianjay.load;
+
+import org.slf4j.Logger;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hasil satu load run. Latency diukur dari intended send time sehingga overload
+ * terlihat sebagai queueing delay, bukan tersembunyi (coordinated omission).
+ */
+public class LoadReport {
+    private final String name;
+    private final LoadProfile profile;
+    private final long elapsedNanos;
+    private final long scheduled;
+    private final long completed;
+    private final long errors;
+    private final Map<Integer, Long> statusCounts;
+    private final LatencyHistogram latency;
+    private final LatencyHistogram serviceTime;
+    private final LatencyHistogram queueDelay;
+
+    public LoadReport(String name, LoadProfile profile, long elapsedNanos, long scheduled, long completed, long errors,
+                      Map<Integer, Long> statusCounts, LatencyHistogram latency, LatencyHistogram serviceTime,
+                      LatencyHistogram queueDelay) {
+        this.name = name;
+        this.profile = profile;
+        this.elapsedNanos = elapsedNanos;
+        this.scheduled = scheduled;
+        this.completed = completed;
+        this.errors = errors;
+        this.statusCounts = new TreeMap<>(statusCounts);
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.queueDelay = queueDelay;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LoadProfile getProfile() {
+        return profile;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getScheduled() {
+        return scheduled;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public Map<Integer, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    /**
+     * Latency dari intended send time sampai response selesai
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Latency dari actual send time sampai response selesai
+     */
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Delay antara intended send time dan actual send time
+     */
+    public LatencyHistogram getQueueDelay() {
+        return queueDelay;
+    }
+
+    public double getErrorRate() {
+        return completed == 0 ? 0.0 : (double) errors / completed;
+    }
+
+    public double getAchievedRps() {
+        return elapsedNanos == 0 ? 0.0 : completed / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Gabungkan report dari beberapa worker menjadi satu report (histogram di-merge lossless)
+     */
+    public static LoadReport merge(String name, LoadProfile profile, List<LoadReport> reports) {
+        long elapsedNanos = 0;
+        long scheduled = 0;
+        long completed = 0;
+        long errors = 0;
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        LatencyHistogram latency = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        LatencyHistogram queueDelay = new LatencyHistogram();
+
+        for (LoadReport report : reports) {
+            elapsedNanos = Math.max(elapsedNanos, report.elapsedNanos);
+            scheduled += report.scheduled;
+            completed += report.completed;
+            errors += report.errors;
+            report.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+            latency.merge(report.latency);
+            serviceTime.merge(report.serviceTime);
+            queueDelay.merge(report.queueDelay);
+        }
+        return new LoadReport(name, profile, elapsedNanos, scheduled, completed, errors,
+                statusCounts, latency, serviceTime, queueDelay);
+    }
+
+    /**
+     * Tulis counters dan histogram (tanpa profile) untuk dikirim worker ke coordinator
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeLong(elapsedNanos);
+        out.writeLong(scheduled);
+        out.writeLong(completed);
+        out.writeLong(errors);
+        out.writeInt(statusCounts.size());
+        for (Map.Entry<Integer, Long> entry : statusCounts.entrySet()) {
+            out.writeInt(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        latency.writeTo(out);
+        serviceTime.writeTo(out);
+        queueDelay.writeTo(out);
+    }
+
+    /**
+     * Baca report yang ditulis oleh {@link #writeTo(DataOutput)}
+     */
+    public static LoadReport readFrom(DataInput in, LoadProfile profile) throws IOException {
+        String name = in.readUTF();
+        long elapsedNanos = in.readLong();
+        long scheduled = in.readLong();
+        long completed = in.readLong();
+        long errors = in.readLong();
+        int statuses = in.readInt();
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        for (int i = 0; i < statuses; i++) {
+            statusCounts.put(in.readInt(), in.readLong());
+        }
+        return new LoadReport(name, profile, elapsedNanos, scheduled, completed, errors, statusCounts,
+                LatencyHistogram.readFrom(in), LatencyHistogram.readFrom(in), LatencyHistogram.readFrom(in));
+    }
+
+    /**
+     * Format report sebagai text table
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%n===== Load report: %s =====%n", name));
+        sb.append(String.format("Profile      : %s%n", profile));
+        sb.append(String.format("Requests     : scheduled=%d completed=%d errors=%d (%.2f%%)%n",
+                scheduled, completed, errors, getErrorRate() * 100));
+        sb.append(String.format("Throughput   : %.2f rps over %.2fs%n", getAchievedRps(), elapsedNanos / 1e9));
+        sb.append(String.format("Status codes : %s%n", statusCounts));
+        sb.append(String.format("%-13s%10s%10s%10s%10s%10s%10s%n", "(ms)", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        appendRow(sb, "latency", latency);
+        appendRow(sb, "service", serviceTime);
+        appendRow(sb, "queue delay", queueDelay);
+        return sb.toString();
+    }
+
+    /**
+     * Log report ke logger
+     */
+    public void log(Logger logger) {
+        logger.info("📊 {}", format());
+    }
+
+    private static void appendRow(StringBuilder sb, String label, LatencyHistogram histogram) {
+        sb.append(String.format("%-13s%10.2f%10.2f%10.2f%10.2f%10.2f%10.2f%n", label,
+                histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMax() / 1000.0));
+    }
+}
@@ -0,0 +1,10 @@
+package com.setianjay.load;
+
+/**
+ * Satu unit kerja yang dijalankan oleh load driver, return HTTP status code
+ */
+@FunctionalInterface
+public interface LoadScenario {
+
+    int execute() throws Exception;
+}
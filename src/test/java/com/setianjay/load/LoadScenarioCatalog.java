@@ -0,0 +1,158 @@
+package com.setianjay.load;
+
+import com.setianjay.cleanup.CleanupTarget;
+import com.setianjay.cleanup.CleanupTargets;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.constants.PayloadConstant;
+import com.setianjay.constants.ScenarioConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.models.response.booking.BookingCreateResponse;
+import com.setianjay.models.response.booking.BookingDatesResponse;
+import com.setianjay.models.response.booking.BookingResponse;
+import com.setianjay.models.response.phone.PhoneResponse;
+import com.setianjay.payload.BookingDataGenerator;
+import com.setianjay.payload.LargePayload;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.scenario.ScenarioCatalog;
+import com.setianjay.scenario.ScenarioPlan;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Scenario yang bisa dijalankan berdasarkan nama, dipakai oleh worker process
+ * yang tidak punya akses ke test class.
+ */
+public final class LoadScenarioCatalog {
+    private static final Map<String, Entry> SCENARIOS = new LinkedHashMap<>();
+
+    static {
+        RequestTemplate createBooking = RequestTemplate.builder(Method.POST, "/booking")
+                .body(new BookingResponse("Vinsmoke", "Sanji", 100000, true,
+                        new BookingDatesResponse("2025-09-16", "2025-09-17"), "Professional Chef"))
+                .build();
+        RequestTemplate getBookingIds = RequestTemplate.builder(Method.GET, "/booking").build();
+        RequestTemplate getAllObjects = RequestTemplate.builder(Method.GET, "/objects").build();
+        RequestTemplate getObjectById = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+        RequestTemplate createObject = RequestTemplate.builder(Method.POST, "/objects").build();
+        long uploadSeed = Long.getLong(PayloadConstant.SEED_PROPERTY, PayloadConstant.DEFAULT_SEED);
+        long uploadSizeBytes = Long.getLong(PayloadConstant.SIZE_BYTES_PROPERTY, PayloadConstant.DEFAULT_SIZE_BYTES);
+
+        register("booking-create", NetworkConstant.BOOKING_BASE_URI, createBooking::bind,
+                JsonSchemaRegistry.forClass(BookingCreateResponse.class), CleanupTargets.BOOKING);
+        register("booking-list", NetworkConstant.BOOKING_BASE_URI, getBookingIds.bind(), null);
+        register("objects-list", NetworkConstant.PHONE_BASE_URI, getAllObjects.bind(),
+                JsonSchemaRegistry.forListOf(PhoneResponse.class));
+        register("objects-by-id", NetworkConstant.PHONE_BASE_URI, getObjectById.bind(1),
+                JsonSchemaRegistry.forClass(PhoneResponse.class));
+        // Upload stress: body di-generate sambil dikirim, ukuran dari -Dupload.sizeBytes (status 413 dihitung error)
+        BoundRequest bookingUpload = createBooking.bind().body(LargePayload.booking(uploadSeed, uploadSizeBytes));
+        BoundRequest objectsUpload = createObject.bind().body(LargePayload.objects(uploadSeed, uploadSizeBytes));
+        register("booking-upload", NetworkConstant.BOOKING_BASE_URI, () -> bookingUpload, null, CleanupTargets.BOOKING);
+        register("objects-upload", NetworkConstant.PHONE_BASE_URI, () -> objectsUpload, null, CleanupTargets.OBJECT);
+        // Body berbeda per arrival (seed/stream/edgeCaseRatio dari -Ddata.*); edge case dengan status 4xx dihitung error
+        BookingDataGenerator bookingData = BookingDataGenerator.fromSystemProperties();
+        AtomicLong bookingIndex = new AtomicLong();
+        register("booking-create-generated", NetworkConstant.BOOKING_BASE_URI,
+                () -> createBooking.bind().body(bookingData.bookingBytes(bookingIndex.getAndIncrement())),
+                bookingData.getEdgeCaseRatio() > 0 ? null : JsonSchemaRegistry.forClass(BookingCreateResponse.class),
+                CleanupTargets.BOOKING);
+    }
+
+    private LoadScenarioCatalog() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    private static void register(String name, String defaultBaseUri, BoundRequest request, JsonSchema schema) {
+        register(name, defaultBaseUri, () -> request, schema, null);
+    }
+
+    /**
+     * Scenario yang membuat resource mendaftarkan cleanup, supaya resource dari load run dihapus lagi
+     */
+    private static void register(String name, String defaultBaseUri, Supplier<BoundRequest> requests,
+                                 JsonSchema schema, CleanupTarget cleanup) {
+        SCENARIOS.put(name, new Entry(defaultBaseUri, requests, schema, cleanup));
+    }
+
+    /**
+     * Buat scenario berdasarkan nama; baseUri null berarti pakai base URI default scenario.
+     * Nama dengan prefix "scenario:" diambil dari file scenario (lihat ScenarioCatalog)
+     */
+    public static LoadScenario create(String name, String baseUri) {
+        if (isScenarioFile(name)) {
+            return scenarioPlan(name).toLoadScenario(baseUri);
+        }
+        Entry entry = entry(name);
+        return LoadScenarios.http(baseUri != null ? baseUri : entry.defaultBaseUri, entry.requests, entry.schema,
+                entry.cleanup);
+    }
+
+    public static String defaultBaseUri(String name) {
+        if (isScenarioFile(name)) {
+            return scenarioPlan(name).resolveBaseUri(null);
+        }
+        return entry(name).defaultBaseUri;
+    }
+
+    /**
+     * Throw jika scenario tidak dikenal atau file scenario tidak valid (di-compile sekarang)
+     */
+    public static void validate(String name) {
+        if (isScenarioFile(name)) {
+            scenarioPlan(name);
+        } else {
+            entry(name);
+        }
+    }
+
+    /**
+     * Request yang dikirim scenario (untuk warm-up dan reporting); scenario dengan body generated
+     * menghasilkan request berikutnya setiap kali dipanggil
+     */
+    public static BoundRequest request(String name) {
+        return entry(name).requests.get();
+    }
+
+    public static Set<String> names() {
+        return SCENARIOS.keySet();
+    }
+
+    private static boolean isScenarioFile(String name) {
+        return name.startsWith(ScenarioConstant.LOAD_SCENARIO_PREFIX);
+    }
+
+    private static ScenarioPlan scenarioPlan(String name) {
+        return ScenarioCatalog.get(name.substring(ScenarioConstant.LOAD_SCENARIO_PREFIX.length()));
+    }
+
+    private static Entry entry(String name) {
+        Entry entry = SCENARIOS.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown load scenario '" + name + "', available: " + SCENARIOS.keySet()
+                    + " or " + ScenarioConstant.LOAD_SCENARIO_PREFIX + "<scenario file name>");
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        private final String defaultBaseUri;
+        private final Supplier<BoundRequest> requests;
+        private final JsonSchema schema;
+        private final CleanupTarget cleanup;
+
+        private Entry(String defaultBaseUri, Supplier<BoundRequest> requests, JsonSchema schema,
+                      CleanupTarget cleanup) {
+            this.defaultBaseUri = defaultBaseUri;
+            this.requests = requests;
+            this.schema = schema;
+            this.cleanup = cleanup;
+        }
+    }
+}
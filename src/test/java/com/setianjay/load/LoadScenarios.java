@@ -0,0 +1,154 @@
+package com.setianjay.load;
+
+import com.setianjay.cleanup.CleanupTarget;
+import com.setianjay.cleanup.ResourceCleanup;
+import com.setianjay.compression.CountingInputStream;
+import com.setianjay.compression.RequestCompression;
+import com.setianjay.compression.TransferStats;
+import com.setianjay.journal.ExchangeJournal;
+import com.setianjay.payload.UploadStats;
+import com.setianjay.progress.LiveProgress;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.timeout.AdaptiveTimeouts;
+import com.setianjay.timing.RequestTrace;
+import com.setianjay.utils.RequestUtils;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Factory untuk LoadScenario berbasis HTTP yang thread-safe
+ */
+public final class LoadScenarios {
+
+    private LoadScenarios() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * BoundRequest di-share read-only, setiap eksekusi memakai RequestSpecification baru
+     * dengan timeout adaptif per endpoint.
+     * Jika schema tidak null, pelanggaran contract dihitung sebagai error oleh load driver.
+     * Body divalidasi langsung dari stream (decompress sambil parse) tanpa ditampung di memory.
+     * Setiap exchange dicatat ke journal dan live progress jika aktif.
+     */
+    public static LoadScenario http(String baseUri, BoundRequest boundRequest, JsonSchema schema) {
+        return http(baseUri, () -> boundRequest, schema);
+    }
+
+    /**
+     * Sama dengan {@link #http(String, BoundRequest, JsonSchema)}, tapi request dibuat per eksekusi
+     * (misal body berbeda per arrival dari BookingDataGenerator). Supplier dipanggil dari banyak thread.
+     */
+    public static LoadScenario http(String baseUri, Supplier<BoundRequest> requests, JsonSchema schema) {
+        return http(baseUri, requests, schema, null);
+    }
+
+    /**
+     * Load scenario yang membuat resource: id dari body response sukses di-antre ke ResourceCleanup
+     * (body dibaca penuh, bukan di-stream, supaya id bisa diambil setelah validasi schema)
+     */
+    public static LoadScenario http(String baseUri, Supplier<BoundRequest> requests, JsonSchema schema,
+                                    CleanupTarget cleanup) {
+        return () -> {
+            BoundRequest boundRequest = requests.get();
+            String endpoint = baseUri + boundRequest.getPath();
+            String endpointName = boundRequest.getTemplate().getName();
+            RequestTrace trace = RequestTrace.start();
+            long startTime = System.nanoTime();
+            long progress = LiveProgress.begin();
+            int status = 0;
+            List<String> errors = List.of();
+            try {
+                RequestSpecification request = boundRequest.applyTo(RequestUtils.newRequestSpec());
+                byte[] uncompressedBody = RequestCompression.compress(request, endpoint);
+                Response response = AdaptiveTimeouts.dispatch(endpointName, boundRequest.getMethod(), request, endpoint);
+                if (RequestCompression.fallbackIfRejected(request, endpoint, uncompressedBody, response)) {
+                    response = AdaptiveTimeouts.dispatch(endpointName, boundRequest.getMethod(), request, endpoint);
+                }
+                status = response.statusCode();
+
+                long decodedBytes;
+                Integer bodyDigest;
+                if (cleanup != null && status < 400) {
+                    byte[] body = response.asByteArray();
+                    if (schema != null) {
+                        errors = schema.validate(body).getErrors();
+                    }
+                    decodedBytes = body.length;
+                    bodyDigest = ExchangeJournal.digestOf(body);
+                    ResourceCleanup.delete(baseUri, cleanup, cleanup.idFrom(body));
+                } else if (schema != null && status < 400) {
+                    CRC32C crc = ExchangeJournal.isBodyDigestEnabled() ? new CRC32C() : null;
+                    InputStream stream = crc != null ? new CheckedInputStream(response.asInputStream(), crc) : response.asInputStream();
+                    try (CountingInputStream body = new CountingInputStream(stream)) {
+                        errors = schema.validate(body).getErrors();
+                        decodedBytes = body.getCount();
+                    }
+                    bodyDigest = crc != null ? (int) crc.getValue() : null;
+                } else {
+                    byte[] body = response.asByteArray();
+                    decodedBytes = body.length;
+                    bodyDigest = ExchangeJournal.digestOf(body);
+                }
+
+                UploadStats.record(endpointName, trace);
+                TransferStats.record(endpointName, trace, decodedBytes);
+                ExchangeJournal.recordExchange(endpointName, status, trace, System.nanoTime() - startTime,
+                        decodedBytes, bodyDigest);
+            } catch (Exception e) {
+                ExchangeJournal.recordFailure(endpointName, trace, System.nanoTime() - startTime);
+                throw e;
+            } finally {
+                LiveProgress.end(progress, endpointName, status);
+                RequestTrace.stop();
+            }
+
+            if (!errors.isEmpty()) {
+                throw new IllegalStateException("Schema " + schema + " violated: " + errors.get(0));
+            }
+            return status;
+        };
+    }
+
+    /**
+     * Satu exchange lewat jalur yang sama dengan {@link #http}: timeout adaptif, kompresi, stats dan journal.
+     * Body dibaca penuh (di-cache oleh Response) supaya scenario multi-step bisa assert dan capture dari body.
+     */
+    public static Response exchange(String baseUri, BoundRequest boundRequest) throws Exception {
+        String endpoint = baseUri + boundRequest.getPath();
+        String endpointName = boundRequest.getTemplate().getName();
+        RequestTrace trace = RequestTrace.start();
+        long startTime = System.nanoTime();
+        long progress = LiveProgress.begin();
+        int status = 0;
+        try {
+            RequestSpecification request = boundRequest.applyTo(RequestUtils.newRequestSpec());
+            byte[] uncompressedBody = RequestCompression.compress(request, endpoint);
+            Response response = AdaptiveTimeouts.dispatch(endpointName, boundRequest.getMethod(), request, endpoint);
+            if (RequestCompression.fallbackIfRejected(request, endpoint, uncompressedBody, response)) {
+                response = AdaptiveTimeouts.dispatch(endpointName, boundRequest.getMethod(), request, endpoint);
+            }
+
+            status = response.statusCode();
+            byte[] body = response.asByteArray();
+            UploadStats.record(endpointName, trace);
+            TransferStats.record(endpointName, trace, body.length);
+            ExchangeJournal.recordExchange(endpointName, response.statusCode(), trace, System.nanoTime() - startTime,
+                    body.length, ExchangeJournal.digestOf(body));
+            return response;
+        } catch (Exception e) {
+            ExchangeJournal.recordFailure(endpointName, trace, System.nanoTime() - startTime);
+            throw e;
+        } finally {
+            LiveProgress.end(progress, endpointName, status);
+            RequestTrace.stop();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.setianjay.load;
+
+import com.setianjay.cleanup.ResourceCleanup;
+import com.setianjay.compression.TransferStats;
+import com.setianjay.constants.LoadConstant;
+import com.setianjay.journal.ExchangeJournal;
+import com.setianjay.payload.UploadStats;
+import com.setianjay.progress.LiveProgress;
+import com.setianjay.timeout.AdaptiveTimeouts;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.time.Duration;
+
+/**
+ * Worker JVM untuk distributed load. Connect ke LoadCoordinator, terima assignment
+ * (scenario + profile + index worker + start time bersama), jalankan share-nya dengan OpenLoopLoadDriver,
+ * lalu kirim balik LoadReport lengkap dengan histogram supaya percentile bisa di-merge lossless.
+ *
+ * <pre>java -cp ... com.setianjay.load.LoadWorker &lt;coordinatorHost&gt; &lt;coordinatorPort&gt;</pre>
+ */
+public final class LoadWorker {
+    private static final Logger logger = LoggerUtils.getLogger(LoadWorker.class);
+
+    private LoadWorker() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LoadWorker <coordinatorHost> <coordinatorPort>");
+        }
+        run(args[0], Integer.parseInt(args[1]));
+    }
+
+    /**
+     * Jalankan satu assignment dari coordinator di host:port
+     */
+    public static void run(String host, int port) throws IOException, InterruptedException {
+        String workerName = workerName();
+        try (Socket socket = new Socket(host, port)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+            out.writeInt(LoadConstant.DISTRIBUTED_PROTOCOL_VERSION);
+            out.writeUTF(workerName);
+            out.flush();
+
+            String scenarioName = in.readUTF();
+            String baseUri = in.readUTF();
+            LoadProfile fullProfile = LoadProfile.ramp(in.readDouble(), in.readDouble(), Duration.ofNanos(in.readLong()));
+            int maxConcurrency = in.readInt();
+            long startAtEpochMillis = in.readLong();
+            int workerIndex = in.readInt();
+            int workers = in.readInt();
+            LoadProfile profile = fullProfile.share(workerIndex, workers);
+
+            logger.info("🛰️ Worker {} assigned '{}' against {}: {}", workerName, scenarioName, baseUri, profile);
+            LoadScenario scenario = LoadScenarioCatalog.create(scenarioName, baseUri.isEmpty() ? null : baseUri);
+
+            long waitMillis = startAtEpochMillis - System.currentTimeMillis();
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+            }
+
+            LiveProgress.startFromSystemProperties();
+            LoadReport report;
+            try {
+                report = new OpenLoopLoadDriver(maxConcurrency).run(workerName, profile, scenario);
+            } finally {
+                LiveProgress.stop();
+            }
+            report.writeTo(out);
+            out.flush();
+            logger.info("🛰️ Worker {} finished: completed={} errors={}",
+                    workerName, report.getCompleted(), report.getErrors());
+            // Resource yang dibuat scenario dihapus sebelum worker keluar
+            ResourceCleanup.awaitAll();
+            ResourceCleanup.log(logger);
+            AdaptiveTimeouts.log(logger);
+            TransferStats.log(logger);
+            TransferStats.reset();
+            UploadStats.log(logger);
+            UploadStats.reset();
+            ExchangeJournal.closeCurrent(logger);
+        }
+    }
+
+    private static String workerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            host = "unknown";
+        }
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+}
@@ -0,0 +1,122 @@
+package com.setianjay.load;
+
+import com.setianjay.constants.LoadConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Open-loop (constant arrival rate) load driver.
+ * Request dijadwalkan sesuai LoadProfile tanpa menunggu request sebelumnya selesai,
+ * dan latency dihitung dari intended send time supaya server stall tidak tersembunyi.
+ */
+public class OpenLoopLoadDriver {
+    private static final Logger logger = LoggerUtils.getLogger(OpenLoopLoadDriver.class);
+
+    private final int maxConcurrency;
+
+    public OpenLoopLoadDriver(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Build driver dari system property -Dload.maxConcurrency
+     */
+    public static OpenLoopLoadDriver fromSystemProperties() {
+        return new OpenLoopLoadDriver(Integer.getInteger(
+                LoadConstant.MAX_CONCURRENCY_PROPERTY, LoadConstant.DEFAULT_MAX_CONCURRENCY));
+    }
+
+    /**
+     * Jalankan scenario sesuai profile dan return report setelah semua request selesai
+     */
+    public LoadReport run(String name, LoadProfile profile, LoadScenario scenario) throws InterruptedException {
+        long total = profile.totalRequests();
+        LatencyHistogram latency = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        LatencyHistogram queueDelay = new LatencyHistogram();
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        ExecutorService workers = newWorkerPool(name);
+        logger.info("🚦 Starting open-loop load '{}': {} ({} requests, maxConcurrency={})",
+                name, profile, total, maxConcurrency);
+
+        long startNanos = System.nanoTime();
+        try {
+            for (long i = 0; i < total; i++) {
+                long intendedNanos = startNanos + profile.offsetNanos(i);
+                parkUntil(intendedNanos);
+
+                workers.execute(() -> {
+                    long sendNanos = System.nanoTime();
+                    int status;
+                    try {
+                        status = scenario.execute();
+                    } catch (Exception e) {
+                        status = -1;
+                        logger.debug("Load request failed: {}", LoggerUtils.formatException(e));
+                    }
+                    long doneNanos = System.nanoTime();
+
+                    latency.recordNanos(doneNanos - intendedNanos);
+                    serviceTime.recordNanos(doneNanos - sendNanos);
+                    queueDelay.recordNanos(sendNanos - intendedNanos);
+                    statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+                    if (status < 0 || status >= 400) {
+                        errors.increment();
+                    }
+                    completed.increment();
+                });
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(LoadConstant.DEFAULT_DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Load '{}' did not drain within {}s, cancelling in-flight requests",
+                        name, LoadConstant.DEFAULT_DRAIN_TIMEOUT_SECONDS);
+                workers.shutdownNow();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        Map<Integer, Long> statuses = statusCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        return new LoadReport(name, profile, elapsedNanos, total, completed.sum(), errors.sum(),
+                statuses, latency, serviceTime, queueDelay);
+    }
+
+    private ExecutorService newWorkerPool(String name) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // Unbounded queue: saat semua worker sibuk, request tetap dijadwalkan dan delay-nya tercatat
+        return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "load-" + name + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static void parkUntil(long deadlineNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException("Load scheduling interrupted");
+            }
+        }
+    }
+}
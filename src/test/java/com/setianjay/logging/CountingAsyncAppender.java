@@ -0,0 +1,22 @@
+package com.setianjay.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * AsyncAppender logback yang menghitung baris yang dibuang: event INFO ke bawah saat queue hampir penuh
+ * (discardingThreshold) dan event apa pun saat queue penuh dengan neverBlock=true. Jumlahnya dilaporkan
+ * oleh LogSampling. Hitungan tepat untuk satu producer, perkiraan saat banyak thread mengisi queue bersamaan.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if ((isQueueBelowDiscardingThreshold() && isDiscardable(event))
+                || (isNeverBlock() && getRemainingCapacity() == 0)) {
+            LogSampling.recordDropped();
+            return;
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,106 @@
+package com.setianjay.logging;
+
+import com.setianjay.constants.LoggingConstant;
+import com.setianjay.enums.LogSampleDecision;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Menentukan exchange mana yang di-log: failure dan exchange lambat selalu, exchange sukses 1 dari N
+ * dan maksimal sekian per detik. Thread-safe, tanpa lock; batas per detik bersifat perkiraan saat window berganti.
+ */
+public final class LogSampler {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int sampleEvery;
+    private final int maxPerSecond;
+    private final long slowThresholdMillis;
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong windowSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final Map<LogSampleDecision, LongAdder> counts = new EnumMap<>(LogSampleDecision.class);
+
+    /**
+     * @param sampleEvery         1 = semua exchange sukses, N = 1 dari N
+     * @param maxPerSecond        0 = tanpa batas
+     * @param slowThresholdMillis 0 = tidak ada exchange yang dianggap lambat
+     */
+    public LogSampler(int sampleEvery, int maxPerSecond, long slowThresholdMillis) {
+        if (sampleEvery < 1 || maxPerSecond < 0 || slowThresholdMillis < 0) {
+            throw new IllegalArgumentException("Invalid log sampling: sampleEvery=" + sampleEvery
+                    + ", maxPerSecond=" + maxPerSecond + ", slowThresholdMillis=" + slowThresholdMillis);
+        }
+        this.sampleEvery = sampleEvery;
+        this.maxPerSecond = maxPerSecond;
+        this.slowThresholdMillis = slowThresholdMillis;
+        for (LogSampleDecision decision : LogSampleDecision.values()) {
+            counts.put(decision, new LongAdder());
+        }
+    }
+
+    public static LogSampler fromSystemProperties() {
+        return new LogSampler(
+                Integer.getInteger(LoggingConstant.SAMPLE_EVERY_PROPERTY, LoggingConstant.DEFAULT_SAMPLE_EVERY),
+                Integer.getInteger(LoggingConstant.MAX_PER_SECOND_PROPERTY, LoggingConstant.DEFAULT_MAX_PER_SECOND),
+                Long.getLong(LoggingConstant.SLOW_THRESHOLD_MILLIS_PROPERTY, LoggingConstant.DEFAULT_SLOW_THRESHOLD_MILLIS));
+    }
+
+    /**
+     * @param status         status response, 0 atau negatif jika tidak ada response
+     * @param durationMillis durasi exchange
+     */
+    public LogSampleDecision decide(int status, long durationMillis) {
+        LogSampleDecision decision = classify(status, durationMillis);
+        counts.get(decision).increment();
+        return decision;
+    }
+
+    public long getCount(LogSampleDecision decision) {
+        return counts.get(decision).sum();
+    }
+
+    public long getTotal() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public int getSampleEvery() {
+        return sampleEvery;
+    }
+
+    public int getMaxPerSecond() {
+        return maxPerSecond;
+    }
+
+    public long getSlowThresholdMillis() {
+        return slowThresholdMillis;
+    }
+
+    private LogSampleDecision classify(int status, long durationMillis) {
+        if (status <= 0 || status >= 400) {
+            return LogSampleDecision.FAILURE;
+        }
+        if (slowThresholdMillis > 0 && durationMillis >= slowThresholdMillis) {
+            return LogSampleDecision.SLOW;
+        }
+        if (sampleEvery > 1 && successes.getAndIncrement() % sampleEvery != 0) {
+            return LogSampleDecision.SKIPPED_SAMPLE;
+        }
+        if (maxPerSecond > 0 && !acquire()) {
+            return LogSampleDecision.SKIPPED_RATE;
+        }
+        return LogSampleDecision.SAMPLED;
+    }
+
+    private boolean acquire() {
+        long second = System.nanoTime() / NANOS_PER_SECOND;
+        long current = windowSecond.get();
+        if (current != second && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+}
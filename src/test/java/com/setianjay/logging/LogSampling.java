@@ -0,0 +1,66 @@
+package com.setianjay.logging;
+
+import com.setianjay.enums.LogSampleDecision;
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampler bersama untuk LoggerUtils.logApiDetails dan jumlah baris log yang dibuang appender async,
+ * dilaporkan di akhir suite. Config dibaca dari system properties saat pertama dipakai dan setiap reset().
+ */
+public final class LogSampling {
+    private static final LongAdder DROPPED_LINES = new LongAdder();
+    private static volatile LogSampler sampler = LogSampler.fromSystemProperties();
+
+    private LogSampling() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static LogSampleDecision decide(int status, long durationMillis) {
+        return sampler.decide(status, durationMillis);
+    }
+
+    /**
+     * Dipanggil CountingAsyncAppender untuk setiap baris yang tidak masuk queue
+     */
+    static void recordDropped() {
+        DROPPED_LINES.increment();
+    }
+
+    public static long getCount(LogSampleDecision decision) {
+        return sampler.getCount(decision);
+    }
+
+    public static long getDroppedLines() {
+        return DROPPED_LINES.sum();
+    }
+
+    public static String format() {
+        LogSampler current = sampler;
+        StringBuilder sb = new StringBuilder(String.format("sampleEvery=%d maxPerSecond=%s slowThreshold=%s%n",
+                current.getSampleEvery(),
+                current.getMaxPerSecond() > 0 ? String.valueOf(current.getMaxPerSecond()) : "-",
+                current.getSlowThresholdMillis() > 0 ? current.getSlowThresholdMillis() + "ms" : "-"));
+        sb.append(String.format("%-16s%10s%n", "exchanges", current.getTotal()));
+        for (LogSampleDecision decision : LogSampleDecision.values()) {
+            sb.append(String.format("%-16s%10d%n", decision.name().toLowerCase(), current.getCount(decision)));
+        }
+        sb.append(String.format("%-16s%10d%n", "dropped lines", DROPPED_LINES.sum()));
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (sampler.getTotal() > 0 || DROPPED_LINES.sum() > 0) {
+            logger.info("🪵 API log sampling:\n{}", format());
+        }
+    }
+
+    /**
+     * Reset counter dan baca ulang config dari system properties
+     */
+    public static void reset() {
+        sampler = LogSampler.fromSystemProperties();
+        DROPPED_LINES.reset();
+    }
+}
@@ -0,0 +1,295 @@
+package com.setianjay.ordering;
+
+import com.setianjay.constants.OrderingConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Urutkan test supaya test yang paling mungkin gagal jalan lebih dulu, berdasarkan {@link TestOutcomeHistory}.
+ * Skor sebuah unit adalah peluang gagal dibagi estimasi durasi (failure yang ditemukan per milidetik),
+ * sehingga test cepat yang sering gagal selalu di depan.
+ *
+ * <p>Method dalam satu class tetap berkelompok karena berbagi state (@BeforeClass, RestAssured.baseURI).
+ * Method dengan priority, dependsOnMethods atau dependsOnGroups (beserta method yang ditunggu) digabung
+ * menjadi satu unit yang urutan internalnya tetap mengikuti priority dan dependency; hanya method independen
+ * yang bebas dipindah.
+ * Urutan class diubah di {@link #alter(List)} karena dengan preserve-order TestNG mengikuti urutan testng.xml.</p>
+ */
+public class FailFastMethodInterceptor implements IAlterSuiteListener, IMethodInterceptor {
+    private static final Logger logger = LoggerUtils.getLogger(FailFastMethodInterceptor.class);
+    private static final Comparator<Unit> BY_SCORE = Comparator.comparingDouble(Unit::score).reversed()
+            .thenComparingInt(unit -> unit.position);
+
+    private final Path historyFile;
+    private final boolean enabled;
+    private TestOutcomeHistory history;
+
+    public FailFastMethodInterceptor() {
+        this(Paths.get(System.getProperty(OrderingConstant.HISTORY_FILE_PROPERTY, OrderingConstant.DEFAULT_HISTORY_FILE)),
+                Boolean.parseBoolean(System.getProperty(OrderingConstant.ENABLED_PROPERTY, "true")));
+    }
+
+    public FailFastMethodInterceptor(Path historyFile, boolean enabled) {
+        this.historyFile = historyFile;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!enabled) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                reorderClasses(test);
+            }
+            alter(suite.getChildSuites());
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!enabled || methods.size() < 2) {
+            return methods;
+        }
+
+        Map<String, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            byClass.computeIfAbsent(method.getMethod().getTestClass().getName(), key -> new ArrayList<>()).add(method);
+        }
+
+        List<Unit> classUnits = new ArrayList<>();
+        byClass.forEach((className, classMethods) -> {
+            List<Unit> units = methodUnits(className, classMethods);
+            units.sort(BY_SCORE);
+            Unit classUnit = new Unit(classUnits.size());
+            units.forEach(classUnit::addAll);
+            classUnits.add(classUnit);
+        });
+        classUnits.sort(BY_SCORE);
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        classUnits.forEach(unit -> ordered.addAll(unit.methods));
+        logger.info("🧭 Fail-fast order for {}: {}", context.getName(), ordered.stream()
+                .map(method -> method.getMethod().getRealClass().getSimpleName() + "." + method.getMethod().getMethodName())
+                .collect(Collectors.joining(", ")));
+        return ordered;
+    }
+
+    /**
+     * Urutkan class di testng.xml dengan skor dari history; class tanpa history memakai prior
+     */
+    private void reorderClasses(XmlTest test) {
+        List<XmlClass> xmlClasses = test.getXmlClasses();
+        if (xmlClasses.size() < 2) {
+            return;
+        }
+
+        List<Unit> units = new ArrayList<>();
+        Map<Unit, XmlClass> classesByUnit = new LinkedHashMap<>();
+        for (XmlClass xmlClass : xmlClasses) {
+            Unit unit = new Unit(units.size());
+            Map<String, Long> durations = history().getMethodDurations(xmlClass.getName());
+            if (durations.isEmpty()) {
+                unit.add(null, history().getFailureProbability(xmlClass.getName(), ""), OrderingConstant.DEFAULT_DURATION_MILLIS);
+            }
+            durations.forEach((method, millis) ->
+                    unit.add(null, history().getFailureProbability(xmlClass.getName(), method), millis));
+            units.add(unit);
+            classesByUnit.put(unit, xmlClass);
+        }
+        units.sort(BY_SCORE);
+
+        List<XmlClass> ordered = new ArrayList<>();
+        for (Unit unit : units) {
+            XmlClass xmlClass = classesByUnit.get(unit);
+            xmlClass.setIndex(ordered.size());
+            ordered.add(xmlClass);
+        }
+        test.setXmlClasses(ordered);
+    }
+
+    /**
+     * Kelompokkan method satu class menjadi unit: method independen masing-masing satu unit,
+     * method yang terikat priority/dependency digabung (union-find)
+     */
+    private List<Unit> methodUnits(String className, List<IMethodInstance> methods) {
+        int size = methods.size();
+        int[] parent = new int[size];
+        Arrays.setAll(parent, i -> i);
+
+        int firstPrioritized = -1;
+        for (int i = 0; i < size; i++) {
+            ITestNGMethod method = methods.get(i).getMethod();
+            if (method.getPriority() != 0) {
+                if (firstPrioritized < 0) {
+                    firstPrioritized = i;
+                } else {
+                    union(parent, firstPrioritized, i);
+                }
+            }
+            for (int j = 0; j < size; j++) {
+                if (i != j && dependsOn(method, methods.get(j).getMethod())) {
+                    union(parent, i, j);
+                }
+            }
+        }
+
+        long fallbackMillis = fallbackDuration(className);
+        Map<Integer, Unit> unitsByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            ITestNGMethod method = methods.get(i).getMethod();
+            Long duration = history().getDurationMillis(className, method.getMethodName());
+            int position = i;
+            unitsByRoot.computeIfAbsent(find(parent, i), root -> new Unit(position))
+                    .add(methods.get(i), history().getFailureProbability(className, method.getMethodName()),
+                            duration != null ? duration : fallbackMillis);
+        }
+        for (Unit unit : unitsByRoot.values()) {
+            List<IMethodInstance> ordered = dependencyOrder(unit.methods);
+            unit.methods.clear();
+            unit.methods.addAll(ordered);
+        }
+        return new ArrayList<>(unitsByRoot.values());
+    }
+
+    /**
+     * Urutan TestNG sebelum interceptor belum tentu menaruh method yang ditunggu lebih dulu,
+     * jadi dalam satu unit method dipilih berurutan: yang pertama tanpa upstream yang tersisa
+     */
+    private static List<IMethodInstance> dependencyOrder(List<IMethodInstance> methods) {
+        List<IMethodInstance> remaining = new ArrayList<>(methods);
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        while (!remaining.isEmpty()) {
+            IMethodInstance next = remaining.stream()
+                    .filter(candidate -> remaining.stream().noneMatch(upstream ->
+                            upstream != candidate && dependsOn(candidate.getMethod(), upstream.getMethod())))
+                    .findFirst()
+                    // Dependency melingkar dilaporkan sendiri oleh TestNG
+                    .orElse(remaining.get(0));
+            ordered.add(next);
+            remaining.remove(next);
+        }
+        return ordered;
+    }
+
+    private static boolean dependsOn(ITestNGMethod method, ITestNGMethod upstream) {
+        for (String dependency : method.getMethodsDependedUpon()) {
+            if (matches(dependency, upstream.getQualifiedName())) {
+                return true;
+            }
+        }
+        for (String group : method.getGroupsDependedUpon()) {
+            for (String upstreamGroup : upstream.getGroups()) {
+                if (matches(group, upstreamGroup)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * dependsOnMethods dan dependsOnGroups boleh berupa regular expression
+     */
+    private static boolean matches(String pattern, String value) {
+        if (pattern.equals(value)) {
+            return true;
+        }
+        try {
+            return value.matches(pattern);
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method tanpa history diestimasi dengan rata-rata method lain di class yang sama
+     */
+    private long fallbackDuration(String className) {
+        Map<String, Long> durations = history().getMethodDurations(className);
+        if (durations.isEmpty()) {
+            return OrderingConstant.DEFAULT_DURATION_MILLIS;
+        }
+        return Math.round(durations.values().stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    private synchronized TestOutcomeHistory history() {
+        if (history == null) {
+            try {
+                history = TestOutcomeHistory.load(historyFile);
+            } catch (IOException e) {
+                logger.warn("Failed to read test outcome history {}: {}", historyFile, LoggerUtils.formatException(e));
+                history = new TestOutcomeHistory();
+            }
+        }
+        return history;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        // Root selalu posisi terkecil supaya unit mengikuti posisi method pertamanya
+        parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+
+    /**
+     * Sekumpulan method yang dijalankan berurutan: peluang minimal satu gagal dan total durasi
+     */
+    private static final class Unit {
+        private final int position;
+        private final List<IMethodInstance> methods = new ArrayList<>();
+        private double passProbability = 1;
+        private long durationMillis;
+
+        private Unit(int position) {
+            this.position = position;
+        }
+
+        private void add(IMethodInstance method, double failureProbability, long millis) {
+            if (method != null) {
+                methods.add(method);
+            }
+            passProbability *= 1 - failureProbability;
+            durationMillis += millis;
+        }
+
+        private void addAll(Unit other) {
+            methods.addAll(other.methods);
+            passProbability *= other.passProbability;
+            durationMillis += other.durationMillis;
+        }
+
+        private double score() {
+            return (1 - passProbability) / Math.max(1, durationMillis);
+        }
+    }
+}
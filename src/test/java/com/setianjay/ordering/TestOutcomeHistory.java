@@ -0,0 +1,137 @@
+package com.setianjay.ordering;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.constants.OrderingConstant;
+import com.setianjay.utils.JsonHistoryStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hasil test per method dari run sebelumnya: jumlah run dan jumlah gagal (keduanya di-decay setiap run
+ * supaya run terbaru lebih berpengaruh) serta durasi rata-rata (exponential moving average).
+ * Peluang gagal dihitung dengan prior Beta(1, 1), jadi test yang belum pernah jalan bernilai 0.5.
+ *
+ * <p>Format file: {"classes": {"&lt;class&gt;": {"&lt;method&gt;": {"runs": n, "failures": n, "durationMillis": n}}}}</p>
+ */
+public class TestOutcomeHistory {
+    private final Map<String, Map<String, MethodOutcome>> classes = new TreeMap<>();
+
+    /**
+     * Load history dari file; file yang belum ada menghasilkan history kosong
+     */
+    public static TestOutcomeHistory load(Path file) throws IOException {
+        TestOutcomeHistory history = new TestOutcomeHistory();
+        for (Map.Entry<String, JsonNode> classEntry : JsonHistoryStore.readClasses(file)) {
+            for (Map.Entry<String, JsonNode> method : classEntry.getValue().properties()) {
+                MethodOutcome outcome = history.outcome(classEntry.getKey(), method.getKey());
+                outcome.runs = method.getValue().path("runs").asDouble();
+                outcome.failures = method.getValue().path("failures").asDouble();
+                outcome.durationMillis = method.getValue().path("durationMillis").asLong();
+            }
+        }
+        return history;
+    }
+
+    public void save(Path file) throws IOException {
+        JsonHistoryStore.writeClasses(file, classesNode -> classes.forEach((className, methods) -> {
+            ObjectNode classNode = classesNode.putObject(className);
+            methods.forEach((method, outcome) -> {
+                ObjectNode methodNode = classNode.putObject(method);
+                methodNode.put("runs", round(outcome.runs));
+                methodNode.put("failures", round(outcome.failures));
+                methodNode.put("durationMillis", outcome.durationMillis);
+            });
+        }));
+    }
+
+    /**
+     * Catat hasil satu run (tanpa decay), dipakai listener untuk run saat ini. Beberapa invocation
+     * method yang sama (data provider) digabung: gagal jika salah satu gagal, durasi dijumlah.
+     */
+    public void record(String className, String methodName, boolean failed, long durationMillis) {
+        MethodOutcome outcome = outcome(className, methodName);
+        outcome.runs = 1;
+        outcome.failures = failed || outcome.failures > 0 ? 1 : 0;
+        outcome.durationMillis += durationMillis;
+    }
+
+    /**
+     * Gabungkan observasi run terbaru ke history ini: run lama di-decay, durasi di-smooth
+     */
+    public void update(TestOutcomeHistory latest) {
+        latest.classes.forEach((className, methods) -> methods.forEach((method, observed) -> {
+            MethodOutcome current = classes.computeIfAbsent(className, key -> new TreeMap<>()).get(method);
+            if (current == null) {
+                outcome(className, method).copyFrom(observed);
+                return;
+            }
+            current.runs = current.runs * OrderingConstant.HISTORY_DECAY + observed.runs;
+            current.failures = current.failures * OrderingConstant.HISTORY_DECAY + observed.failures;
+            current.durationMillis = Math.round(current.durationMillis * (1 - OrderingConstant.DURATION_SMOOTHING)
+                    + observed.durationMillis * OrderingConstant.DURATION_SMOOTHING);
+        }));
+    }
+
+    /**
+     * Estimasi peluang gagal di run berikutnya, 0.5 untuk test yang belum pernah tercatat
+     */
+    public double getFailureProbability(String className, String methodName) {
+        MethodOutcome outcome = find(className, methodName);
+        double runs = outcome == null ? 0 : outcome.runs;
+        double failures = outcome == null ? 0 : outcome.failures;
+        return (failures + OrderingConstant.PRIOR_FAILURES) / (runs + OrderingConstant.PRIOR_RUNS);
+    }
+
+    /**
+     * Durasi rata-rata method, atau null jika belum pernah tercatat
+     */
+    public Long getDurationMillis(String className, String methodName) {
+        MethodOutcome outcome = find(className, methodName);
+        return outcome == null ? null : outcome.durationMillis;
+    }
+
+    public Map<String, Long> getMethodDurations(String className) {
+        Map<String, MethodOutcome> methods = classes.get(className);
+        if (methods == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> durations = new TreeMap<>();
+        methods.forEach((method, outcome) -> durations.put(method, outcome.durationMillis));
+        return durations;
+    }
+
+    public boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    private MethodOutcome find(String className, String methodName) {
+        Map<String, MethodOutcome> methods = classes.get(className);
+        return methods == null ? null : methods.get(methodName);
+    }
+
+    private MethodOutcome outcome(String className, String methodName) {
+        return classes.computeIfAbsent(className, key -> new TreeMap<>())
+                .computeIfAbsent(methodName, key -> new MethodOutcome());
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static final class MethodOutcome {
+        private double runs;
+        private double failures;
+        private long durationMillis;
+
+        private void copyFrom(MethodOutcome other) {
+            runs = other.runs;
+            failures = other.failures;
+            durationMillis = other.durationMillis;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.setianjay.ordering;
+
+import com.setianjay.constants.OrderingConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Catat hasil (pass/fail) dan durasi setiap test method lalu update {@link TestOutcomeHistory} di akhir
+ * eksekusi. Dengan -Dordering.failFastThreshold=N, semua test setelah N test gagal di-skip;
+ * configuration method (@AfterClass dan sejenisnya) tetap jalan supaya resource dibersihkan.
+ * Test yang di-skip tidak dicatat ke history.
+ */
+public class TestOutcomeListener implements ITestListener, IInvokedMethodListener, IExecutionListener {
+    private static final Logger logger = LoggerUtils.getLogger(TestOutcomeListener.class);
+
+    private final Path historyFile;
+    private final int failFastThreshold;
+    private final Map<String, Map<String, long[]>> outcomes = new ConcurrentHashMap<>();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicBoolean stopped = new AtomicBoolean();
+
+    public TestOutcomeListener() {
+        this(Paths.get(System.getProperty(OrderingConstant.HISTORY_FILE_PROPERTY, OrderingConstant.DEFAULT_HISTORY_FILE)),
+                Integer.getInteger(OrderingConstant.FAIL_FAST_THRESHOLD_PROPERTY, OrderingConstant.DEFAULT_FAIL_FAST_THRESHOLD));
+    }
+
+    public TestOutcomeListener(Path historyFile, int failFastThreshold) {
+        this.historyFile = historyFile;
+        this.failFastThreshold = failFastThreshold;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || failFastThreshold <= 0 || failures.get() < failFastThreshold) {
+            return;
+        }
+        if (stopped.compareAndSet(false, true)) {
+            logger.warn("🛑 Fail-fast: {} test(s) failed, skipping the remaining tests", failures.get());
+        }
+        throw new SkipException("Fail-fast threshold of " + failFastThreshold + " failed test(s) reached");
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        failures.incrementAndGet();
+        record(result, true);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+
+        TestOutcomeHistory observed = new TestOutcomeHistory();
+        outcomes.forEach((className, methods) -> methods.forEach((method, outcome) ->
+                observed.record(className, method, outcome[0] > 0, outcome[1])));
+        try {
+            TestOutcomeHistory history = TestOutcomeHistory.load(historyFile);
+            history.update(observed);
+            history.save(historyFile);
+            logger.info("🧭 Updated test outcome history {} ({} failed)", historyFile, failures.get());
+        } catch (IOException e) {
+            logger.warn("Failed to update test outcome history {}: {}", historyFile, LoggerUtils.formatException(e));
+        }
+    }
+
+    /**
+     * Jumlah test gagal sejauh ini di eksekusi ini
+     */
+    public int getFailures() {
+        return failures.get();
+    }
+
+    private void record(ITestResult result, boolean failed) {
+        outcomes.computeIfAbsent(result.getTestClass().getName(), key -> new ConcurrentHashMap<>())
+                .merge(result.getMethod().getMethodName(),
+                        new long[]{failed ? 1 : 0, result.getEndMillis() - result.getStartMillis()},
+                        (current, latest) -> new long[]{current[0] + latest[0], current[1] + latest[1]});
+    }
+}
@@ -0,0 +1,297 @@
+package com.setianjay.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.setianjay.constants.DataConstant;
+import com.setianjay.enums.BookingEdgeCase;
+import com.setianjay.models.response.booking.BookingResponse;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Generator body booking (POST /booking) yang deterministik: booking ke-index selalu sama untuk seed dan stream
+ * yang sama, tanpa state bersama antar thread, jadi booking yang gagal bisa di-reproduce dari index di log.
+ * Sebagian booking (edgeCaseRatio) adalah edge case ({@link BookingEdgeCase}), sisanya valid: checkout setelah
+ * checkin dan totalprice positif.
+ *
+ * <p>Semua nama, tanggal dan additionalneeds di-encode sekali di tabel statis lalu ditulis langsung ke
+ * JsonGenerator, jadi {@link #writeBooking(JsonGenerator, long)} tidak membuat object per booking dan
+ * {@link #bookingBytes(long)} hanya meng-alokasi byte[] hasilnya.</p>
+ *
+ * <pre>
+ * BookingDataGenerator data = BookingDataGenerator.fromSystemProperties();
+ * executeRequest(CREATE_BOOKING.bind().body(data.bookingBytes(index)));
+ * </pre>
+ */
+public final class BookingDataGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private static final SerializedString FIRSTNAME = new SerializedString("firstname");
+    private static final SerializedString LASTNAME = new SerializedString("lastname");
+    private static final SerializedString TOTALPRICE = new SerializedString("totalprice");
+    private static final SerializedString DEPOSITPAID = new SerializedString("depositpaid");
+    private static final SerializedString BOOKINGDATES = new SerializedString("bookingdates");
+    private static final SerializedString CHECKIN = new SerializedString("checkin");
+    private static final SerializedString CHECKOUT = new SerializedString("checkout");
+    private static final SerializedString ADDITIONALNEEDS = new SerializedString("additionalneeds");
+
+    private static final SerializedString[] FIRST_NAMES = serialized("Vinsmoke", "Monkey", "Roronoa", "Nico", "Tony",
+            "Nami", "Usopp", "Franky", "Brook", "Jinbe", "Portgas", "Trafalgar", "Boa", "Eustass", "Shanks", "Dracule");
+    private static final SerializedString[] LAST_NAMES = serialized("Sanji", "Luffy", "Zoro", "Robin", "Chopper",
+            "Ace", "Law", "Hancock", "Kid", "Mihawk", "Sabo", "Vivi", "Yamato", "Carrot", "Koby", "Smoker");
+    private static final SerializedString[] UNICODE_FIRST_NAMES = serialized("José", "Zoë", "Łukasz", "Søren",
+            "Nguyễn", "山田", "Дмитрий", "محمد", "Αλέξανδρος", "👩‍🚀 Ana");
+    private static final SerializedString[] UNICODE_LAST_NAMES = serialized("Müller", "Ñúñez", "Wójcik", "Ærø",
+            "Văn An", "太郎", "Иванов", "الأحمد", "Παπαδόπουλος", "O'Brien-Ölçer");
+    private static final SerializedString[] BLANK_OR_LONG_NAMES = serialized("", " ",
+            "x".repeat(DataConstant.LONG_TEXT_CHARS));
+    private static final SerializedString[] NEEDS = serialized("Breakfast", "Late checkout", "Professional Chef",
+            "Airport transfer", "Extra bed", "Sea view", "Vegetarian meals", "Early check-in");
+    private static final SerializedString[] SPECIAL_NEEDS = serialized("", "Quote \" and backslash \\",
+            "Line\nbreak\ttab\r\u0000", "<script>alert(1)</script>", "'; DROP TABLE booking; --", "null",
+            "n".repeat(DataConstant.LONG_TEXT_CHARS));
+    private static final int[] LIMIT_PRICES = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+    // Pasangan checkin/checkout: hari kabisat, pergantian bulan/tahun, epoch dan tanggal terakhir ISO-8601 4 digit
+    private static final SerializedString[] BOUNDARY_DATES = serialized("2024-02-28", "2024-02-29",
+            "2024-02-29", "2024-03-01", "2025-12-31", "2026-01-01", "1970-01-01", "1970-01-02",
+            "9999-12-30", "9999-12-31");
+    private static final SerializedString[] DATES = dates();
+    private static final BookingEdgeCase[] EDGE_CASES = BookingEdgeCase.values();
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private final long seed;
+    private final long stream;
+    private final double edgeCaseRatio;
+    private final long streamKey;
+
+    public BookingDataGenerator(long seed, long stream, double edgeCaseRatio) {
+        if (!(edgeCaseRatio >= 0.0 && edgeCaseRatio <= 1.0)) {
+            throw new IllegalArgumentException("Edge case ratio must be between 0 and 1: " + edgeCaseRatio);
+        }
+        this.seed = seed;
+        this.stream = stream;
+        this.edgeCaseRatio = edgeCaseRatio;
+        this.streamKey = mix(seed ^ mix(stream + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Generator dari -Ddata.seed, -Ddata.stream dan -Ddata.edgeCaseRatio
+     */
+    public static BookingDataGenerator fromSystemProperties() {
+        return new BookingDataGenerator(
+                Long.getLong(DataConstant.SEED_PROPERTY, DataConstant.DEFAULT_SEED),
+                Long.getLong(DataConstant.STREAM_PROPERTY, DataConstant.DEFAULT_STREAM),
+                Double.parseDouble(System.getProperty(DataConstant.EDGE_CASE_RATIO_PROPERTY,
+                        String.valueOf(DataConstant.DEFAULT_EDGE_CASE_RATIO))));
+    }
+
+    /**
+     * Tulis booking ke-index sebagai satu JSON object
+     */
+    public void writeBooking(JsonGenerator generator, long index) throws IOException {
+        long state = mix(streamKey + index * GOLDEN_GAMMA);
+        BookingEdgeCase edgeCase = edgeCaseOf(state);
+
+        state = mix(state + GOLDEN_GAMMA);
+        SerializableString firstname = pick(FIRST_NAMES, state);
+        SerializableString lastname = pick(LAST_NAMES, state >>> 16);
+        if (edgeCase == BookingEdgeCase.UNICODE_NAME) {
+            firstname = pick(UNICODE_FIRST_NAMES, state);
+            lastname = pick(UNICODE_LAST_NAMES, state >>> 16);
+        } else if (edgeCase == BookingEdgeCase.BLANK_OR_LONG_NAME) {
+            firstname = pick(BLANK_OR_LONG_NAMES, state);
+        }
+
+        state = mix(state + GOLDEN_GAMMA);
+        int totalprice = edgeCase == BookingEdgeCase.PRICE_LIMIT ? LIMIT_PRICES[bounded(state, LIMIT_PRICES.length)]
+                : DataConstant.MIN_VALID_PRICE
+                + bounded(state, DataConstant.MAX_VALID_PRICE - DataConstant.MIN_VALID_PRICE + 1);
+        boolean depositpaid = (state & 1) == 0;
+
+        state = mix(state + GOLDEN_GAMMA);
+        int checkinDay = bounded(state, DataConstant.CHECKIN_RANGE_DAYS);
+        int nights = 1 + bounded(state << 32, DataConstant.MAX_NIGHTS);
+        SerializableString checkin = DATES[checkinDay];
+        SerializableString checkout = DATES[checkinDay + nights];
+        if (edgeCase == BookingEdgeCase.SAME_DAY) {
+            checkout = checkin;
+        } else if (edgeCase == BookingEdgeCase.INVERTED_DATES) {
+            checkin = checkout;
+            checkout = DATES[checkinDay];
+        } else if (edgeCase == BookingEdgeCase.CALENDAR_BOUNDARY) {
+            int pair = bounded(state, BOUNDARY_DATES.length / 2) * 2;
+            checkin = BOUNDARY_DATES[pair];
+            checkout = BOUNDARY_DATES[pair + 1];
+        }
+
+        state = mix(state + GOLDEN_GAMMA);
+        SerializableString additionalneeds = edgeCase == BookingEdgeCase.SPECIAL_CHARACTERS
+                ? pick(SPECIAL_NEEDS, state) : pick(NEEDS, state);
+
+        generator.writeStartObject();
+        generator.writeFieldName(FIRSTNAME);
+        generator.writeString(firstname);
+        generator.writeFieldName(LASTNAME);
+        generator.writeString(lastname);
+        generator.writeFieldName(TOTALPRICE);
+        generator.writeNumber(totalprice);
+        generator.writeFieldName(DEPOSITPAID);
+        generator.writeBoolean(depositpaid);
+        generator.writeFieldName(BOOKINGDATES);
+        generator.writeStartObject();
+        generator.writeFieldName(CHECKIN);
+        generator.writeString(checkin);
+        generator.writeFieldName(CHECKOUT);
+        generator.writeString(checkout);
+        generator.writeEndObject();
+        generator.writeFieldName(ADDITIONALNEEDS);
+        generator.writeString(additionalneeds);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Booking ke-index sebagai JSON UTF-8, siap dipakai sebagai body BoundRequest
+     */
+    public byte[] bookingBytes(long index) {
+        Buffer buffer = BUFFER.get();
+        try {
+            buffer.bytes.reset();
+            writeBooking(buffer.generator, index);
+            buffer.generator.flush();
+            return buffer.bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Booking ke-index sebagai model, hasil parse dari {@link #bookingBytes(long)} (untuk assertion)
+     */
+    public BookingResponse booking(long index) {
+        try {
+            return JsonUtils.getObjectMapper().readValue(bookingBytes(index), BookingResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Edge case booking ke-index, atau null jika booking valid
+     */
+    public BookingEdgeCase edgeCase(long index) {
+        return edgeCaseOf(mix(streamKey + index * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Baris DataProvider {index, BookingResponse} untuk count booking mulai dari fromIndex
+     */
+    public Iterator<Object[]> rows(long fromIndex, int count) {
+        return new Iterator<>() {
+            private long next = fromIndex;
+
+            @Override
+            public boolean hasNext() {
+                return next < fromIndex + count;
+            }
+
+            @Override
+            public Object[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long index = next++;
+                return new Object[]{index, booking(index)};
+            }
+        };
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getStream() {
+        return stream;
+    }
+
+    public double getEdgeCaseRatio() {
+        return edgeCaseRatio;
+    }
+
+    @Override
+    public String toString() {
+        return "booking-data(seed=" + seed + ", stream=" + stream + ", edgeCaseRatio=" + edgeCaseRatio + ")";
+    }
+
+    private BookingEdgeCase edgeCaseOf(long state) {
+        // 53 bit atas sebagai double [0, 1); bit bawah dipakai untuk memilih jenis edge case
+        if ((state >>> 11) * 0x1.0p-53 >= edgeCaseRatio) {
+            return null;
+        }
+        return EDGE_CASES[bounded(state << 32, EDGE_CASES.length)];
+    }
+
+    /**
+     * Finalizer SplitMix64
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Angka [0, bound) dari 32 bit atas state, tanpa modulo
+     */
+    private static int bounded(long state, int bound) {
+        return (int) (((state >>> 32) * bound) >>> 32);
+    }
+
+    private static SerializableString pick(SerializableString[] values, long state) {
+        return values[bounded(state, values.length)];
+    }
+
+    private static SerializedString[] serialized(String... values) {
+        SerializedString[] result = new SerializedString[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = new SerializedString(values[i]);
+            // Encode sekarang, bukan saat booking pertama ditulis
+            result[i].asQuotedUTF8();
+        }
+        return result;
+    }
+
+    private static SerializedString[] dates() {
+        LocalDate first = LocalDate.parse(DataConstant.FIRST_CHECKIN_DATE);
+        String[] dates = new String[DataConstant.CHECKIN_RANGE_DAYS + DataConstant.MAX_NIGHTS];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = first.plusDays(i).toString();
+        }
+        return serialized(dates);
+    }
+
+    /**
+     * Generator Jackson dan buffer output per thread, dipakai ulang untuk setiap booking
+     */
+    private static final class Buffer {
+        private final ByteArrayBuilder bytes = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        private final JsonGenerator generator;
+
+        private Buffer() {
+            try {
+                generator = JsonUtils.getObjectMapper().getFactory().createGenerator(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Setiap booking adalah root value baru di generator yang sama, tanpa separator di depannya
+            generator.setRootValueSeparator(null);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.setianjay.payload;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.setianjay.constants.PayloadConstant;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * InputStream yang meng-generate JSON valid berukuran tepat targetBytes sambil dibaca.
+ * JsonGenerator menulis ke buffer kecil yang di-reset setiap kali habis dibaca, jadi memory
+ * yang dipakai sekitar {@link PayloadConstant#CHUNK_BYTES} berapapun ukuran payload.
+ * String padding ditulis raw per chunk (karakternya tidak perlu di-escape).
+ */
+final class JsonPayloadStream extends InputStream {
+    private enum State { HEADER, ENTRIES, PADDING_START, PADDING, FOOTER, DONE }
+
+    private final PayloadShape shape;
+    private final SplittableRandom random;
+    private final long targetBytes;
+    private final ChunkBuffer buffer = new ChunkBuffer();
+    private final JsonGenerator generator;
+    private final char[] padding = new char[PayloadConstant.CHUNK_BYTES];
+
+    private State state = State.HEADER;
+    private int position;
+    private int entries;
+    private long paddingRemaining;
+
+    JsonPayloadStream(PayloadShape shape, long seed, long targetBytes) {
+        this.shape = shape;
+        this.random = new SplittableRandom(seed);
+        this.targetBytes = targetBytes;
+        try {
+            this.generator = JsonUtils.getObjectMapper().getFactory().createGenerator(buffer, JsonEncoding.UTF8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create JSON generator", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return buffer.bytes[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.count - position);
+        System.arraycopy(buffer.bytes, position, target, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return buffer.count - position;
+    }
+
+    @Override
+    public void close() {
+        state = State.DONE;
+        position = buffer.count;
+    }
+
+    private boolean ensureAvailable() throws IOException {
+        while (position == buffer.count) {
+            if (state == State.DONE) {
+                return false;
+            }
+            buffer.reset();
+            position = 0;
+            generateNext();
+            generator.flush();
+        }
+        return true;
+    }
+
+    private void generateNext() throws IOException {
+        switch (state) {
+            case HEADER:
+                shape.writeHeader(generator, random);
+                state = shape.hasEntries() ? State.ENTRIES : State.PADDING_START;
+                break;
+            case ENTRIES:
+                // Entry terakhir harus tetap menyisakan ruang untuk field padding dan penutup
+                while (buffer.count < PayloadConstant.CHUNK_BYTES) {
+                    generator.flush();
+                    if (buffer.total + PayloadConstant.ENTRY_RESERVE_BYTES >= targetBytes) {
+                        state = State.PADDING_START;
+                        break;
+                    }
+                    shape.writeEntry(generator, random, entries++);
+                }
+                break;
+            case PADDING_START:
+                generator.writeFieldName(shape.paddingField());
+                // Raw value supaya generator menganggap value sudah ditulis; isi string menyusul raw
+                generator.writeRawValue("\"");
+                generator.flush();
+                paddingRemaining = targetBytes - buffer.total - 1 - shape.closingDepth();
+                if (paddingRemaining < 0) {
+                    throw new IllegalStateException("Target size " + targetBytes + " bytes is too small for payload");
+                }
+                state = State.PADDING;
+                break;
+            case PADDING:
+                int length = (int) Math.min(padding.length, paddingRemaining);
+                for (int i = 0; i < length; i++) {
+                    padding[i] = PayloadConstant.PADDING_ALPHABET.charAt(
+                            random.nextInt(PayloadConstant.PADDING_ALPHABET.length()));
+                }
+                generator.writeRaw(padding, 0, length);
+                paddingRemaining -= length;
+                if (paddingRemaining == 0) {
+                    state = State.FOOTER;
+                }
+                break;
+            case FOOTER:
+                generator.writeRaw('"');
+                for (int i = 0; i < shape.closingDepth(); i++) {
+                    generator.writeEndObject();
+                }
+                generator.flush();
+                if (buffer.total != targetBytes) {
+                    throw new IllegalStateException("Generated " + buffer.total + " bytes, expected " + targetBytes);
+                }
+                state = State.DONE;
+                break;
+            default:
+        }
+    }
+
+    /**
+     * Buffer output generator yang dipakai ulang; total menghitung semua byte yang pernah ditulis
+     */
+    private static final class ChunkBuffer extends OutputStream {
+        private byte[] bytes = new byte[PayloadConstant.CHUNK_BYTES + PayloadConstant.ENTRY_RESERVE_BYTES];
+        private int count;
+        private long total;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+            total++;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+            total += length;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        private void reset() {
+            count = 0;
+        }
+    }
+}
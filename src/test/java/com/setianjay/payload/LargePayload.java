@@ -0,0 +1,141 @@
+package com.setianjay.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.setianjay.constants.PayloadConstant;
+import com.setianjay.request.StreamingBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Payload JSON besar untuk upload stress test (batas ukuran body), di-generate dari seed dengan ukuran
+ * tepat sizeBytes. Seed yang sama selalu menghasilkan bytes yang sama, jadi request yang gagal bisa
+ * di-reproduce. Payload di-stream langsung ke request entity lewat {@link #open()}.
+ *
+ * <pre>
+ * executeRequest(CREATE_BOOKING.bind().body(LargePayload.booking(42, 8 * 1024 * 1024)));
+ * </pre>
+ */
+public final class LargePayload implements StreamingBody {
+    private static final String[] FIRST_NAMES = {"Vinsmoke", "Monkey", "Roronoa", "Nico", "Tony"};
+    private static final String[] LAST_NAMES = {"Sanji", "Luffy", "Zoro", "Robin", "Chopper"};
+    private static final String[] COLORS = {"Cloudy White", "Obsidian", "Sorta Seafoam", "Midnight Blue", "Rose Gold"};
+
+    private final String name;
+    private final PayloadShape shape;
+    private final long seed;
+    private final long sizeBytes;
+
+    private LargePayload(String name, PayloadShape shape, long seed, long sizeBytes) {
+        if (sizeBytes < PayloadConstant.MIN_SIZE_BYTES) {
+            throw new IllegalArgumentException("Payload size must be >= " + PayloadConstant.MIN_SIZE_BYTES
+                    + " bytes: " + sizeBytes);
+        }
+        this.name = name;
+        this.shape = shape;
+        this.seed = seed;
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * Body POST /booking dengan additionalneeds sepanjang sisa ukuran target
+     */
+    public static LargePayload booking(long seed, long sizeBytes) {
+        return new LargePayload("booking", BookingShape.INSTANCE, seed, sizeBytes);
+    }
+
+    /**
+     * Body POST /objects dengan data berisi banyak spesifikasi (color/capacity) sampai ukuran target
+     */
+    public static LargePayload objects(long seed, long sizeBytes) {
+        return new LargePayload("objects", ObjectsShape.INSTANCE, seed, sizeBytes);
+    }
+
+    @Override
+    public InputStream open() {
+        return new JsonPayloadStream(shape, seed, sizeBytes);
+    }
+
+    @Override
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return name + "(seed=" + seed + ", " + sizeBytes + " bytes)";
+    }
+
+    private static final class BookingShape implements PayloadShape {
+        private static final BookingShape INSTANCE = new BookingShape();
+
+        @Override
+        public void writeHeader(JsonGenerator generator, SplittableRandom random) throws IOException {
+            LocalDate checkin = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365));
+            generator.writeStartObject();
+            generator.writeStringField("firstname", FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            generator.writeStringField("lastname", LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            generator.writeNumberField("totalprice", random.nextInt(1, 1_000_000));
+            generator.writeBooleanField("depositpaid", random.nextBoolean());
+            generator.writeObjectFieldStart("bookingdates");
+            generator.writeStringField("checkin", checkin.toString());
+            generator.writeStringField("checkout", checkin.plusDays(random.nextInt(1, 30)).toString());
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void writeEntry(JsonGenerator generator, SplittableRandom random, int index) {
+            // Booking tidak punya entry map (hasEntries() false)
+        }
+
+        @Override
+        public String paddingField() {
+            return "additionalneeds";
+        }
+
+        @Override
+        public int closingDepth() {
+            return 1;
+        }
+    }
+
+    private static final class ObjectsShape implements PayloadShape {
+        private static final ObjectsShape INSTANCE = new ObjectsShape();
+
+        @Override
+        public void writeHeader(JsonGenerator generator, SplittableRandom random) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("name", "Upload Stress " + Long.toHexString(random.nextLong()));
+            generator.writeObjectFieldStart("data");
+        }
+
+        @Override
+        public boolean hasEntries() {
+            return true;
+        }
+
+        @Override
+        public void writeEntry(JsonGenerator generator, SplittableRandom random, int index) throws IOException {
+            generator.writeObjectFieldStart("spec-" + index);
+            generator.writeStringField("color", COLORS[random.nextInt(COLORS.length)]);
+            generator.writeStringField("capacity", (64 << random.nextInt(5)) + " GB");
+            generator.writeEndObject();
+        }
+
+        @Override
+        public String paddingField() {
+            return "notes";
+        }
+
+        @Override
+        public int closingDepth() {
+            return 2;
+        }
+    }
+}
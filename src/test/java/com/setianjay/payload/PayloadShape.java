@@ -0,0 +1,37 @@
+package com.setianjay.payload;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Struktur JSON yang di-generate {@link JsonPayloadStream}: header (field tetap), entry map
+ * yang diulang, lalu satu string padding di akhir untuk mencapai ukuran target.
+ */
+interface PayloadShape {
+
+    /**
+     * Tulis field tetap sampai posisi entry map (atau field padding jika tidak ada entry)
+     */
+    void writeHeader(JsonGenerator generator, SplittableRandom random) throws IOException;
+
+    default boolean hasEntries() {
+        return false;
+    }
+
+    /**
+     * Tulis satu entry map; hanya dipanggil jika {@link #hasEntries()} true
+     */
+    void writeEntry(JsonGenerator generator, SplittableRandom random, int index) throws IOException;
+
+    /**
+     * Nama field string terakhir yang diisi padding
+     */
+    String paddingField();
+
+    /**
+     * Jumlah object yang ditutup setelah field padding
+     */
+    int closingDepth();
+}
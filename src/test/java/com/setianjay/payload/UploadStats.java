@@ -0,0 +1,77 @@
+package com.setianjay.payload;
+
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.timing.RequestTrace;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput upload per endpoint: byte request body dibagi waktu phase SEND (header + body ditulis ke socket)
+ */
+public final class UploadStats {
+    private static final Map<String, EndpointUploads> STATS = new ConcurrentHashMap<>();
+
+    private UploadStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Record upload dari trace; request tanpa body diabaikan
+     */
+    public static void record(String endpoint, RequestTrace trace) {
+        long bytes = trace.getUploadBytes();
+        if (bytes == 0 || !trace.has(RequestPhase.SEND)) {
+            return;
+        }
+        STATS.computeIfAbsent(endpoint, key -> new EndpointUploads()).record(bytes, trace.getNanos(RequestPhase.SEND));
+    }
+
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-32s%10s%14s%14s%12s%12s%n",
+                "endpoint", "uploads", "bytes", "max(B)", "MB/s", "min MB/s"));
+        new TreeMap<>(STATS).forEach((endpoint, uploads) -> {
+            synchronized (uploads) {
+                sb.append(String.format("%-32s%10d%14d%14d%12.2f%12.2f%n", endpoint, uploads.count.sum(),
+                        uploads.bytes.sum(), uploads.maxBytes,
+                        megabytesPerSecond(uploads.bytes.sum(), uploads.sendNanos.sum()), uploads.minMegabytesPerSecond));
+            }
+        });
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("📤 Upload throughput:\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static double megabytesPerSecond(long bytes, long nanos) {
+        return nanos == 0 ? 0.0 : bytes / 1e6 / (nanos / 1e9);
+    }
+
+    private static final class EndpointUploads {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder sendNanos = new LongAdder();
+        private long maxBytes;
+        private double minMegabytesPerSecond = Double.MAX_VALUE;
+
+        private void record(long uploadBytes, long uploadNanos) {
+            count.increment();
+            bytes.add(uploadBytes);
+            sendNanos.add(uploadNanos);
+            synchronized (this) {
+                maxBytes = Math.max(maxBytes, uploadBytes);
+                minMegabytesPerSecond = Math.min(minMegabytesPerSecond, megabytesPerSecond(uploadBytes, uploadNanos));
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.setianjay.progress;
+
+import com.setianjay.constants.ProgressConstant;
+import com.setianjay.enums.StatusClass;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live progress untuk run panjang (load/soak): setiap interval menampilkan req/s, in-flight, rate per StatusClass
+ * dan p50/p99 per endpoint dari RollingWindow. Di terminal ANSI ringkasan di-redraw di tempat,
+ * selain itu (CI, output di-redirect) ditulis sebagai satu baris log per interval.
+ * Selama tidak di-start, {@link #begin()} hanya membaca satu flag volatile.
+ *
+ * <pre>mvn test -Dprogress.enabled=true</pre>
+ */
+public final class LiveProgress {
+    private static final Logger logger = LoggerUtils.getLogger(LiveProgress.class);
+    // Token dari begin() saat live progress tidak aktif
+    public static final long UNTRACKED = Long.MIN_VALUE;
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final String ANSI_PREVIOUS_LINES = "\u001B[%dF";
+    private static final String ANSI_CLEAR_LINE = "\u001B[2K";
+    private static final String ANSI_CLEAR_BELOW = "\u001B[J";
+
+    private static final Map<String, RollingWindow> ENDPOINTS = new ConcurrentHashMap<>();
+    private static final LongAdder IN_FLIGHT = new LongAdder();
+    private static volatile boolean recording;
+    private static volatile int windowSeconds = ProgressConstant.DEFAULT_WINDOW_SECONDS;
+    private static volatile long startNanos = ORIGIN_NANOS;
+    private static ScheduledExecutorService reporter;
+    private static PrintStream ansiOut;
+    private static int drawnLines;
+
+    private LiveProgress() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Start reporter jika -Dprogress.enabled=true. Mode ANSI dari -Dprogress.ansi (true/false/auto)
+     */
+    public static void startFromSystemProperties() {
+        if (!Boolean.getBoolean(ProgressConstant.ENABLED_PROPERTY)) {
+            return;
+        }
+        boolean ansi = isAnsiTerminal();
+        long intervalMillis = ansi
+                ? Long.getLong(ProgressConstant.INTERVAL_MILLIS_PROPERTY, ProgressConstant.DEFAULT_INTERVAL_MILLIS)
+                : Long.getLong(ProgressConstant.PLAIN_INTERVAL_MILLIS_PROPERTY, ProgressConstant.DEFAULT_PLAIN_INTERVAL_MILLIS);
+        start(ansi ? System.out : null, Duration.ofMillis(intervalMillis),
+                Integer.getInteger(ProgressConstant.WINDOW_SECONDS_PROPERTY, ProgressConstant.DEFAULT_WINDOW_SECONDS));
+    }
+
+    /**
+     * Mulai recording dan reporter. Jika ansiOut null, ringkasan ditulis sebagai baris log biasa.
+     * Memanggil start saat sudah berjalan tidak melakukan apa-apa.
+     */
+    public static synchronized void start(PrintStream ansiOut, Duration interval, int windowSeconds) {
+        if (reporter != null) {
+            return;
+        }
+        ENDPOINTS.clear();
+        LiveProgress.windowSeconds = windowSeconds;
+        LiveProgress.ansiOut = ansiOut;
+        drawnLines = 0;
+        startNanos = System.nanoTime();
+        recording = true;
+        reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, ProgressConstant.THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, interval.toMillis());
+        reporter.scheduleAtFixedRate(LiveProgress::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("📈 Live progress started ({}, every {} ms, window {}s)",
+                ansiOut != null ? "ANSI" : "plain", intervalMillis, windowSeconds);
+    }
+
+    /**
+     * Hentikan reporter dan tampilkan ringkasan terakhir. Request yang masih in-flight tetap di-end dengan benar.
+     */
+    public static synchronized void stop() {
+        if (reporter == null) {
+            return;
+        }
+        recording = false;
+        reporter.shutdown();
+        try {
+            reporter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reporter = null;
+        report();
+    }
+
+    public static boolean isRunning() {
+        return recording;
+    }
+
+    /**
+     * Panggil sebelum request dikirim; hasilnya diberikan ke {@link #end}
+     */
+    public static long begin() {
+        if (!recording) {
+            return UNTRACKED;
+        }
+        IN_FLIGHT.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Panggil setelah request selesai (status 0 jika tidak ada response)
+     */
+    public static void end(long token, String endpointName, int status) {
+        if (token == UNTRACKED) {
+            return;
+        }
+        long now = System.nanoTime();
+        IN_FLIGHT.decrement();
+        RollingWindow window = ENDPOINTS.get(endpointName);
+        if (window == null) {
+            window = ENDPOINTS.computeIfAbsent(endpointName, name -> new RollingWindow(windowSeconds));
+        }
+        window.record(secondOf(now), StatusClass.of(status), (now - token) / 1_000);
+    }
+
+    /**
+     * Ringkasan dari detik lengkap terakhir dalam window (detik berjalan belum dihitung)
+     */
+    public static ProgressSnapshot snapshot() {
+        long now = System.nanoTime();
+        long toSecond = secondOf(now) - 1;
+        int seconds = (int) Math.max(0, Math.min(windowSeconds, toSecond - secondOf(startNanos) + 1));
+        long fromSecond = toSecond - seconds + 1;
+
+        long[] statuses = RollingWindow.newStatusCounts();
+        List<ProgressSnapshot.EndpointProgress> endpoints = new ArrayList<>();
+        if (seconds > 0) {
+            for (Map.Entry<String, RollingWindow> entry : ENDPOINTS.entrySet()) {
+                long[] endpointStatuses = RollingWindow.newStatusCounts();
+                long[] latencies = RollingWindow.newLatencyCounts();
+                entry.getValue().addTo(fromSecond, toSecond, endpointStatuses, latencies);
+                long requests = 0;
+                for (int i = 0; i < statuses.length; i++) {
+                    statuses[i] += endpointStatuses[i];
+                    requests += endpointStatuses[i];
+                }
+                if (requests > 0) {
+                    endpoints.add(new ProgressSnapshot.EndpointProgress(entry.getKey(), (double) requests / seconds,
+                            RollingWindow.valueAtPercentile(latencies, 50) / 1000.0,
+                            RollingWindow.valueAtPercentile(latencies, 99) / 1000.0));
+                }
+            }
+        }
+        endpoints.sort(Comparator.comparingDouble(ProgressSnapshot.EndpointProgress::getRequestsPerSecond).reversed()
+                .thenComparing(ProgressSnapshot.EndpointProgress::getName));
+        if (endpoints.size() > ProgressConstant.MAX_ENDPOINTS_SHOWN) {
+            endpoints = new ArrayList<>(endpoints.subList(0, ProgressConstant.MAX_ENDPOINTS_SHOWN));
+        }
+        return new ProgressSnapshot(Duration.ofNanos(now - startNanos), seconds, Math.max(0, IN_FLIGHT.sum()),
+                statuses, endpoints);
+    }
+
+    public static void reset() {
+        ENDPOINTS.clear();
+        IN_FLIGHT.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Auto: redraw ANSI hanya jika ada console interaktif, bukan di CI dan TERM bukan "dumb"
+     */
+    static boolean isAnsiTerminal() {
+        String ansi = System.getProperty(ProgressConstant.ANSI_PROPERTY, ProgressConstant.DEFAULT_ANSI);
+        if (!ansi.equalsIgnoreCase(ProgressConstant.DEFAULT_ANSI)) {
+            return Boolean.parseBoolean(ansi);
+        }
+        String term = System.getenv("TERM");
+        return System.console() != null && System.getenv("CI") == null && term != null && !term.equals("dumb");
+    }
+
+    private static void report() {
+        try {
+            ProgressSnapshot snapshot = snapshot();
+            if (ansiOut == null) {
+                logger.info(snapshot.formatLine());
+                return;
+            }
+            List<String> lines = snapshot.formatLines();
+            StringBuilder frame = new StringBuilder();
+            if (drawnLines > 0) {
+                frame.append(String.format(ANSI_PREVIOUS_LINES, drawnLines));
+            }
+            for (String line : lines) {
+                frame.append(ANSI_CLEAR_LINE).append(line).append(System.lineSeparator());
+            }
+            frame.append(ANSI_CLEAR_BELOW);
+            ansiOut.print(frame);
+            ansiOut.flush();
+            drawnLines = lines.size();
+        } catch (RuntimeException e) {
+            // Jangan sampai reporter mati diam-diam karena satu frame gagal
+            logger.warn("⚠️ Live progress frame failed: {}", e.toString());
+        }
+    }
+
+    private static long secondOf(long nanos) {
+        return (nanos - ORIGIN_NANOS) / 1_000_000_000L;
+    }
+}
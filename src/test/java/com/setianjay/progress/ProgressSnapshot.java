@@ -0,0 +1,160 @@
+package com.setianjay.progress;
+
+import com.setianjay.enums.StatusClass;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ringkasan live progress pada satu titik waktu: req/s, in-flight, rate per StatusClass dan p50/p99 per endpoint
+ * selama rolling window
+ */
+public final class ProgressSnapshot {
+    private final Duration elapsed;
+    private final int windowSeconds;
+    private final long inFlight;
+    private final long[] statuses;
+    private final List<EndpointProgress> endpoints;
+
+    ProgressSnapshot(Duration elapsed, int windowSeconds, long inFlight, long[] statuses, List<EndpointProgress> endpoints) {
+        this.elapsed = elapsed;
+        this.windowSeconds = windowSeconds;
+        this.inFlight = inFlight;
+        this.statuses = statuses;
+        this.endpoints = Collections.unmodifiableList(endpoints);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    public long getRequests() {
+        long total = 0;
+        for (long count : statuses) {
+            total += count;
+        }
+        return total;
+    }
+
+    public double getRequestsPerSecond() {
+        return windowSeconds == 0 ? 0 : (double) getRequests() / windowSeconds;
+    }
+
+    /**
+     * Persentase request di window dengan StatusClass ini
+     */
+    public double getRate(StatusClass statusClass) {
+        long requests = getRequests();
+        return requests == 0 ? 0 : 100.0 * statuses[statusClass.ordinal()] / requests;
+    }
+
+    public double getErrorRate() {
+        double rate = 0;
+        for (StatusClass statusClass : StatusClass.values()) {
+            if (statusClass.isError()) {
+                rate += getRate(statusClass);
+            }
+        }
+        return rate;
+    }
+
+    /**
+     * Endpoint yang ada request-nya di window, urut dari req/s tertinggi
+     */
+    public List<EndpointProgress> getEndpoints() {
+        return endpoints;
+    }
+
+    public EndpointProgress getEndpoint(String name) {
+        for (EndpointProgress endpoint : endpoints) {
+            if (endpoint.getName().equals(name)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Satu baris untuk log (mode plain, misal di CI)
+     */
+    public String formatLine() {
+        StringBuilder line = new StringBuilder(String.format("📈 %s | %.1f req/s | in-flight %d | %s",
+                formatElapsed(), getRequestsPerSecond(), inFlight, formatStatusRates()));
+        for (EndpointProgress endpoint : endpoints) {
+            line.append(String.format(" | %s %.1f/s p50=%.1fms p99=%.1fms", endpoint.getName(),
+                    endpoint.getRequestsPerSecond(), endpoint.getP50Millis(), endpoint.getP99Millis()));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Beberapa baris untuk di-redraw di terminal (mode ANSI)
+     */
+    public List<String> formatLines() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("📈 Live progress %s (window %ds) | %.1f req/s | in-flight %d | errors %.2f%%",
+                formatElapsed(), windowSeconds, getRequestsPerSecond(), inFlight, getErrorRate()));
+        lines.add("   " + formatStatusRates());
+        lines.add(String.format("   %-45s%10s%12s%12s", "endpoint", "req/s", "p50(ms)", "p99(ms)"));
+        for (EndpointProgress endpoint : endpoints) {
+            lines.add(String.format("   %-45s%10.1f%12.1f%12.1f", endpoint.getName(), endpoint.getRequestsPerSecond(),
+                    endpoint.getP50Millis(), endpoint.getP99Millis()));
+        }
+        return lines;
+    }
+
+    private String formatStatusRates() {
+        StringBuilder rates = new StringBuilder();
+        for (StatusClass statusClass : StatusClass.values()) {
+            if (rates.length() > 0) {
+                rates.append("  ");
+            }
+            rates.append(String.format("%s %.2f%%", statusClass.label(), getRate(statusClass)));
+        }
+        return rates.toString();
+    }
+
+    private String formatElapsed() {
+        long seconds = elapsed.getSeconds();
+        return String.format("%02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+    }
+
+    /**
+     * Req/s dan p50/p99 satu endpoint selama window
+     */
+    public static final class EndpointProgress {
+        private final String name;
+        private final double requestsPerSecond;
+        private final double p50Millis;
+        private final double p99Millis;
+
+        EndpointProgress(String name, double requestsPerSecond, double p50Millis, double p99Millis) {
+            this.name = name;
+            this.requestsPerSecond = requestsPerSecond;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.setianjay.progress;
+
+import com.setianjay.enums.StatusClass;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Aggregate rolling-window per endpoint: ring slot per detik, masing-masing berisi count per StatusClass
+ * dan histogram latency kasar (log-linear, presisi relatif ~6%).
+ * Record lock-free (satu read slot + dua increment atomic); slot yang sudah lewat window di-reset oleh
+ * thread pertama yang masuk detik baru, jadi angka di batas detik bisa sedikit meleset (cukup untuk live view).
+ */
+final class RollingWindow {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int BUCKET_COUNT = (63 - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    private static final int STATUS_CLASS_COUNT = StatusClass.values().length;
+
+    private final Slot[] slots;
+
+    /**
+     * Dua slot lebih banyak dari window: slot detik berjalan dan slot yang sedang di-reset
+     * tidak pernah ikut terbaca
+     */
+    RollingWindow(int windowSeconds) {
+        slots = new Slot[windowSeconds + 2];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    void record(long second, StatusClass statusClass, long micros) {
+        Slot slot = slots[(int) (second % slots.length)];
+        long slotSecond = slot.second.get();
+        if (slotSecond < second && slot.second.compareAndSet(slotSecond, second)) {
+            slot.clear();
+        }
+        slot.statuses.getAndIncrement(statusClass.ordinal());
+        slot.latencies.getAndIncrement(indexOf(Math.max(0, micros)));
+    }
+
+    /**
+     * Tambahkan isi slot detik [fromSecond, toSecond] ke statuses dan latencies
+     */
+    void addTo(long fromSecond, long toSecond, long[] statuses, long[] latencies) {
+        for (Slot slot : slots) {
+            long slotSecond = slot.second.get();
+            if (slotSecond < fromSecond || slotSecond > toSecond) {
+                continue;
+            }
+            for (int i = 0; i < STATUS_CLASS_COUNT; i++) {
+                statuses[i] += slot.statuses.get(i);
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                latencies[i] += slot.latencies.get(i);
+            }
+        }
+    }
+
+    static long[] newStatusCounts() {
+        return new long[STATUS_CLASS_COUNT];
+    }
+
+    static long[] newLatencyCounts() {
+        return new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Nilai (microseconds, batas atas bucket) pada percentile tertentu dari hasil {@link #addTo}
+     */
+    static long valueAtPercentile(long[] latencies, double percentile) {
+        long total = 0;
+        for (long count : latencies) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            seen += latencies[i];
+            if (seen >= target) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(latencies.length - 1);
+    }
+
+    static int indexOf(long value) {
+        int bucket = Math.max(0, 63 - Long.numberOfLeadingZeros(value | (SUB_BUCKET_COUNT - 1)) - (SUB_BUCKET_BITS - 1));
+        int subBucket = (int) (value >>> bucket);
+        return bucket == 0 ? subBucket : (bucket - 1) * HALF_SUB_BUCKET_COUNT + subBucket + HALF_SUB_BUCKET_COUNT;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int bucket = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << bucket) - 1;
+    }
+
+    private static final class Slot {
+        // Detik (sejak origin LiveProgress) yang sedang diisi slot ini, -1 jika belum pernah dipakai
+        private final AtomicLong second = new AtomicLong(-1);
+        private final AtomicLongArray statuses = new AtomicLongArray(STATUS_CLASS_COUNT);
+        private final AtomicLongArray latencies = new AtomicLongArray(BUCKET_COUNT);
+
+        private void clear() {
+            for (int i = 0; i < STATUS_CLASS_COUNT; i++) {
+                statuses.set(i, 0);
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                latencies.set(i, 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.setianjay.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.setianjay.enums.Method;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.RequestUtils;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Satu request hasil bind dari {@link RequestTemplate}. Dibuat per call oleh satu thread;
+ * setelah selesai dikonfigurasi boleh di-share read-only (misal sebagai load scenario).
+ */
+public final class BoundRequest {
+    private static final String[] EMPTY_HEADERS = new String[0];
+    private static final Object[] EMPTY_QUERY_PARAMS = new Object[0];
+
+    private final RequestTemplate template;
+    private final String path;
+    private String[] headers = EMPTY_HEADERS;
+    private int headerCount;
+    private Object[] queryParams = EMPTY_QUERY_PARAMS;
+    private int queryParamCount;
+    private Object body;
+
+    BoundRequest(RequestTemplate template, Object[] pathValues) {
+        this.template = template;
+        this.path = template.expandPath(pathValues);
+    }
+
+    /**
+     * Header tambahan per call (misal Cookie token), di luar fixed headers template
+     */
+    public BoundRequest header(String name, String value) {
+        if (headers.length == headerCount * 2) {
+            headers = Arrays.copyOf(headers, Math.max(4, headers.length * 2));
+        }
+        headers[headerCount * 2] = name;
+        headers[headerCount * 2 + 1] = value;
+        headerCount++;
+        return this;
+    }
+
+    /**
+     * Query param per call, nama yang sama boleh diulang (misal id=1&id=2)
+     */
+    public BoundRequest queryParam(String name, Object value) {
+        if (queryParams.length == queryParamCount * 2) {
+            queryParams = Arrays.copyOf(queryParams, Math.max(4, queryParams.length * 2));
+        }
+        queryParams[queryParamCount * 2] = name;
+        queryParams[queryParamCount * 2 + 1] = value;
+        queryParamCount++;
+        return this;
+    }
+
+    /**
+     * Body per call, override static body dari template. {@link StreamingBody} dikirim sebagai stream,
+     * byte[] dikirim apa adanya (JSON yang sudah di-render, misal body scenario)
+     */
+    public BoundRequest body(Object body) {
+        this.body = body;
+        return this;
+    }
+
+    /**
+     * Terapkan headers, query params dan body ke RequestSpecification
+     */
+    public RequestSpecification applyTo(RequestSpecification request) throws JsonProcessingException {
+        for (Map.Entry<String, String> header : template.getHeaders().entrySet()) {
+            request.header(header.getKey(), header.getValue());
+        }
+        for (int i = 0; i < headerCount; i++) {
+            request.header(headers[i * 2], headers[i * 2 + 1]);
+        }
+        for (int i = 0; i < queryParamCount; i++) {
+            request.queryParam((String) queryParams[i * 2], queryParams[i * 2 + 1]);
+        }
+
+        if (body instanceof StreamingBody) {
+            StreamingBody streamingBody = (StreamingBody) body;
+            request.config(RequestUtils.streamingBodyConfig(((FilterableRequestSpecification) request).getConfig()));
+            request.body(new StreamingBodyStream(streamingBody.open(), streamingBody.getSizeBytes()));
+            return request;
+        }
+        byte[] requestBody = body instanceof byte[] ? (byte[]) body
+                : body != null ? JsonUtils.toJsonBytes(body) : template.getStaticBody();
+        if (requestBody != null) {
+            request.body(requestBody);
+        }
+        return request;
+    }
+
+    public RequestTemplate getTemplate() {
+        return template;
+    }
+
+    public Method getMethod() {
+        return template.getMethod();
+    }
+
+    /**
+     * Path yang sudah di-expand, relatif terhadap base URI
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,168 @@
+package com.setianjay.request;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.setianjay.enums.Method;
+import com.setianjay.utils.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Definisi request yang immutable dan reusable: method, path template, fixed headers
+ * dan static body yang sudah di-serialize ke bytes. Dibuat sekali per test class,
+ * lalu di-bind per call dengan {@link #bind(Object...)}.
+ */
+public final class RequestTemplate {
+    private final String name;
+    private final Method method;
+    private final String pathTemplate;
+    private final Map<String, String> headers;
+    private final byte[] staticBody;
+    private final String[] pathLiterals;
+    private final String[] pathVariables;
+
+    private RequestTemplate(Builder builder) {
+        this.name = builder.name != null ? builder.name : builder.method.name() + " " + builder.pathTemplate;
+        this.method = builder.method;
+        this.pathTemplate = builder.pathTemplate;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(builder.headers));
+        this.staticBody = builder.staticBody;
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int cursor = 0;
+        int open;
+        while ((open = pathTemplate.indexOf('{', cursor)) >= 0) {
+            int close = pathTemplate.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed path variable in template: " + pathTemplate);
+            }
+            literals.add(pathTemplate.substring(cursor, open));
+            variables.add(pathTemplate.substring(open + 1, close));
+            cursor = close + 1;
+        }
+        literals.add(pathTemplate.substring(cursor));
+        this.pathLiterals = literals.toArray(new String[0]);
+        this.pathVariables = variables.toArray(new String[0]);
+    }
+
+    public static Builder builder(Method method, String pathTemplate) {
+        return new Builder(method, pathTemplate);
+    }
+
+    /**
+     * Bind path variables sesuai urutan kemunculan di path template
+     */
+    public BoundRequest bind(Object... pathValues) {
+        if (pathValues.length != pathVariables.length) {
+            throw new IllegalArgumentException(String.format("Template %s expects %d path variables but got %d",
+                    name, pathVariables.length, pathValues.length));
+        }
+        return new BoundRequest(this, pathValues);
+    }
+
+    /**
+     * Bind path variables berdasarkan nama, contoh {id}
+     */
+    public BoundRequest bind(Map<String, ?> pathValues) {
+        Object[] values = new Object[pathVariables.length];
+        for (int i = 0; i < pathVariables.length; i++) {
+            if (!pathValues.containsKey(pathVariables[i])) {
+                throw new IllegalArgumentException("Missing path variable '" + pathVariables[i] + "' for template " + name);
+            }
+            values[i] = pathValues.get(pathVariables[i]);
+        }
+        return new BoundRequest(this, values);
+    }
+
+    /**
+     * Expand path template dengan values tanpa regex atau Map lookup
+     */
+    String expandPath(Object[] pathValues) {
+        if (pathVariables.length == 0) {
+            return pathTemplate;
+        }
+
+        StringBuilder path = new StringBuilder(pathTemplate.length() + pathValues.length * 8);
+        for (int i = 0; i < pathVariables.length; i++) {
+            path.append(pathLiterals[i]).append(pathValues[i]);
+        }
+        return path.append(pathLiterals[pathVariables.length]).toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Static body dalam UTF-8 bytes, dipakai langsung sebagai request entity (jangan di-mutate)
+     */
+    byte[] getStaticBody() {
+        return staticBody;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    public static final class Builder {
+        private final Method method;
+        private final String pathTemplate;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+        private String name;
+        private byte[] staticBody;
+
+        private Builder(Method method, String pathTemplate) {
+            if (method == null || pathTemplate == null) {
+                throw new IllegalArgumentException("Method and path template are required");
+            }
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+        }
+
+        /**
+         * Nama template untuk logging dan statistik, default "METHOD path"
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * Static body, di-serialize sekali ke bytes saat template dibuat
+         */
+        public Builder body(Object body) {
+            try {
+                this.staticBody = JsonUtils.toJsonBytes(body);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to serialize static body for " + method + " " + pathTemplate, e);
+            }
+            return this;
+        }
+
+        public RequestTemplate build() {
+            return new RequestTemplate(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.setianjay.request;
+
+import java.io.InputStream;
+
+/**
+ * Body yang di-stream ke request entity tanpa dibuat utuh di memory.
+ * Setiap {@link #open()} menghasilkan stream baru, jadi BoundRequest yang memakainya tetap bisa di-share
+ * (misal sebagai load scenario).
+ */
+public interface StreamingBody {
+
+    InputStream open();
+
+    /**
+     * Ukuran body dalam bytes
+     */
+    long getSizeBytes();
+}
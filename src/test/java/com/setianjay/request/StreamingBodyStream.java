@@ -0,0 +1,21 @@
+package com.setianjay.request;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * Stream dari {@link StreamingBody} yang membawa ukurannya, supaya request dikirim dengan
+ * Content-Length (lihat {@link StreamingContentLength}) dan tidak chunked
+ */
+public final class StreamingBodyStream extends FilterInputStream {
+    private final long sizeBytes;
+
+    StreamingBodyStream(InputStream in, long sizeBytes) {
+        super(in);
+        this.sizeBytes = sizeBytes;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+}
@@ -0,0 +1,43 @@
+package com.setianjay.request;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * RestAssured mengirim InputStream body sebagai chunked karena ukurannya tidak diketahui. Untuk
+ * {@link StreamingBodyStream} ukurannya diketahui, jadi interceptor ini (dipasang setelah RequestContent)
+ * mengganti Transfer-Encoding dengan Content-Length, sama seperti body byte[] biasa.
+ */
+public final class StreamingContentLength implements HttpRequestInterceptor {
+
+    @Override
+    public void process(HttpRequest request, HttpContext context) throws HttpException, IOException {
+        if (!(request instanceof HttpEntityEnclosingRequest)) {
+            return;
+        }
+        HttpEntityEnclosingRequest enclosingRequest = (HttpEntityEnclosingRequest) request;
+        HttpEntity entity = enclosingRequest.getEntity();
+        if (entity == null || entity.getContentLength() >= 0 || !entity.isStreaming()) {
+            return;
+        }
+
+        InputStream content = entity.getContent();
+        if (content instanceof StreamingBodyStream) {
+            long sizeBytes = ((StreamingBodyStream) content).getSizeBytes();
+            InputStreamEntity sized = new InputStreamEntity(content, sizeBytes);
+            sized.setContentType(entity.getContentType());
+            enclosingRequest.setEntity(sized);
+            request.removeHeaders(HttpHeaders.TRANSFER_ENCODING);
+            request.setHeader(HttpHeaders.CONTENT_LENGTH, Long.toString(sizeBytes));
+        }
+    }
+}
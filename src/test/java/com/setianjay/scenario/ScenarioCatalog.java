@@ -0,0 +1,63 @@
+package com.setianjay.scenario;
+
+import com.setianjay.constants.ScenarioConstant;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File scenario di -Dscenario.dir (default src/test/resources/scenarios), satu &lt;nama&gt;.scenario.json
+ * per scenario. Plan di-compile sekali per JVM lalu di-cache.
+ */
+public final class ScenarioCatalog {
+    private static final Map<Path, ScenarioPlan> PLANS = new ConcurrentHashMap<>();
+
+    private ScenarioCatalog() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Plan berdasarkan nama file tanpa suffix, contoh "booking-lifecycle"
+     */
+    public static ScenarioPlan get(String name) {
+        Path file = directory().resolve(name + ScenarioConstant.FILE_SUFFIX);
+        if (!Files.exists(file)) {
+            throw new IllegalArgumentException("Unknown scenario '" + name + "', no file " + file);
+        }
+        return load(file);
+    }
+
+    /**
+     * Semua scenario di directory, urut nama file
+     */
+    public static List<ScenarioPlan> all() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(ScenarioConstant.FILE_SUFFIX))
+                    .sorted()
+                    .map(ScenarioCatalog::load)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list scenarios in " + directory, e);
+        }
+    }
+
+    private static ScenarioPlan load(Path file) {
+        return PLANS.computeIfAbsent(file.toAbsolutePath().normalize(), ScenarioPlan::load);
+    }
+
+    private static Path directory() {
+        return Paths.get(System.getProperty(ScenarioConstant.DIRECTORY_PROPERTY, ScenarioConstant.DEFAULT_DIRECTORY));
+    }
+}
@@ -0,0 +1,173 @@
+package com.setianjay.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.constants.ScenarioConstant;
+import com.setianjay.load.LoadScenario;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scenario dari file JSON yang di-compile sekali menjadi plan immutable: path template, header/body
+ * yang sudah di-serialize, assertion, schema dan slot variable semuanya di-resolve sebelum eksekusi.
+ * Plan yang sama dijalankan sebagai functional test ({@link #execute(StepExchange)} lewat BaseTest.runScenario)
+ * atau digandakan sebagai load scenario ({@link #toLoadScenario(String)}); setiap eksekusi punya variable sendiri.
+ *
+ * <pre>
+ * {"name": "booking-lifecycle", "baseUri": "https://...", "variables": {"firstname": "Vinsmoke"},
+ *  "steps": [{"name": "create", "method": "POST", "path": "/booking", "body": {"firstname": "${firstname}"},
+ *             "expect": {"status": 200, "schema": "BookingCreateResponse", "assertions": ["$.bookingid &gt; 0"]},
+ *             "capture": {"bookingid": "$.bookingid"}},
+ *            {"name": "get", "method": "GET", "path": "/booking/{bookingid}", "headers": {"Cookie": "token=${token}"}}]}
+ * </pre>
+ */
+public final class ScenarioPlan {
+    private final String name;
+    private final String baseUri;
+    private final List<ScenarioStep> steps;
+    private final String[] variableNames;
+    private final Object[] initialValues;
+
+    private ScenarioPlan(String name, String baseUri, List<ScenarioStep> steps, String[] variableNames,
+                         Object[] initialValues) {
+        this.name = name;
+        this.baseUri = baseUri;
+        this.steps = Collections.unmodifiableList(steps);
+        this.variableNames = variableNames;
+        this.initialValues = initialValues;
+    }
+
+    /**
+     * Load dan compile file scenario; nama default dari nama file tanpa .scenario.json
+     */
+    public static ScenarioPlan load(Path file) {
+        try {
+            String fileName = file.getFileName().toString();
+            String defaultName = fileName.endsWith(ScenarioConstant.FILE_SUFFIX)
+                    ? fileName.substring(0, fileName.length() - ScenarioConstant.FILE_SUFFIX.length()) : fileName;
+            return compile(JsonUtils.getObjectMapper().readTree(file.toFile()), defaultName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read scenario file " + file, e);
+        }
+    }
+
+    public static ScenarioPlan compile(JsonNode root, String defaultName) {
+        String name = root.path("name").asText(defaultName);
+        JsonNode stepsNode = root.path("steps");
+        if (!stepsNode.isArray() || stepsNode.isEmpty()) {
+            throw new IllegalArgumentException("Scenario " + name + ": 'steps' must be a non-empty array");
+        }
+
+        VariableSlots variables = new VariableSlots();
+        List<Object> initial = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> variable : root.path("variables").properties()) {
+            variables.define(variable.getKey());
+            initial.add(scalar(variable.getValue()));
+        }
+
+        List<ScenarioStep> steps = new ArrayList<>();
+        for (int i = 0; i < stepsNode.size(); i++) {
+            steps.add(ScenarioStep.compile(stepsNode.get(i), i, variables, name));
+        }
+
+        String[] names = variables.names();
+        // Slot capture ada setelah initial variable, nilainya null sampai step yang meng-capture selesai
+        Object[] initialValues = new Object[names.length];
+        for (int i = 0; i < initial.size(); i++) {
+            initialValues[i] = initial.get(i);
+        }
+        return new ScenarioPlan(name, root.path("baseUri").asText(null), steps, names, initialValues);
+    }
+
+    /**
+     * Jalankan semua step berurutan; step yang gagal menghentikan scenario dengan AssertionError
+     */
+    public ScenarioResult execute(StepExchange exchange) throws Exception {
+        Object[] variables = initialValues.clone();
+        int[] statuses = new int[steps.size()];
+        execute(exchange, variables, statuses);
+        return new ScenarioResult(variableNames, variables, statuses);
+    }
+
+    /**
+     * Satu eksekusi scenario = satu arrival di load driver; status yang dihitung adalah status step terakhir,
+     * step yang gagal dihitung sebagai error
+     */
+    public LoadScenario toLoadScenario(String baseUri) {
+        String resolvedBaseUri = resolveBaseUri(baseUri);
+        StepExchange exchange = request -> LoadScenarios.exchange(resolvedBaseUri, request);
+        return () -> {
+            int[] statuses = new int[steps.size()];
+            try {
+                execute(exchange, initialValues.clone(), statuses);
+            } catch (AssertionError e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            return statuses[statuses.length - 1];
+        };
+    }
+
+    /**
+     * Base URI dari argument, lalu -Dscenario.baseUri, lalu baseUri di file scenario
+     */
+    public String resolveBaseUri(String override) {
+        String property = System.getProperty(ScenarioConstant.BASE_URI_PROPERTY, "");
+        String resolved = override != null && !override.isBlank() ? override : !property.isBlank() ? property : baseUri;
+        if (resolved == null || resolved.isBlank()) {
+            throw new IllegalStateException("Scenario " + name + " has no baseUri, set it in the file or with -D"
+                    + ScenarioConstant.BASE_URI_PROPERTY);
+        }
+        return resolved;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * baseUri dari file scenario, atau null
+     */
+    public String getBaseUri() {
+        return baseUri;
+    }
+
+    public List<ScenarioStep> getSteps() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private void execute(StepExchange exchange, Object[] variables, int[] statuses) throws Exception {
+        for (int i = 0; i < steps.size(); i++) {
+            ScenarioStep step = steps.get(i);
+            Response response = exchange.exchange(step.bind(variables));
+            statuses[i] = response.statusCode();
+            List<String> failures = step.verify(response, variables);
+            if (!failures.isEmpty()) {
+                throw new AssertionError("Scenario " + name + " step '" + step.getName() + "' ("
+                        + step.getTemplate().getName() + ") failed:\n  - " + String.join("\n  - ", failures));
+            }
+        }
+    }
+
+    private static Object scalar(JsonNode value) {
+        if (value.isNumber()) {
+            return value.numberValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        return value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,38 @@
+package com.setianjay.scenario;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hasil satu eksekusi scenario: nilai akhir semua variable (termasuk capture) dan status setiap step
+ */
+public final class ScenarioResult {
+    private final Map<String, Object> variables;
+    private final int[] statuses;
+
+    ScenarioResult(String[] names, Object[] values, int[] statuses) {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            variables.put(names[i], values[i]);
+        }
+        this.variables = Collections.unmodifiableMap(variables);
+        this.statuses = statuses;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public Object getVariable(String name) {
+        return variables.get(name);
+    }
+
+    public int getStatus(int step) {
+        return statuses[step];
+    }
+
+    public int getLastStatus() {
+        return statuses[statuses.length - 1];
+    }
+}
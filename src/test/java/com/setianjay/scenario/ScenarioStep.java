@@ -0,0 +1,226 @@
+package com.setianjay.scenario;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.assertions.JsonAssertionResult;
+import com.setianjay.assertions.JsonAssertions;
+import com.setianjay.constants.FileConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.utils.JsonUtils;
+import io.restassured.response.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Satu step scenario yang sudah di-compile: request template, slot variable untuk path/header/query/body,
+ * expected status, schema, assertions dan capture. Step tanpa placeholder sama sekali di-bind sekali saat
+ * compile, jadi eksekusinya tidak membuat object request baru. Immutable dan thread-safe.
+ */
+public final class ScenarioStep {
+    private final String name;
+    private final RequestTemplate template;
+    private final int[] pathSlots;
+    private final String[] headerNames;
+    private final TemplateText[] headerValues;
+    private final String[] queryNames;
+    private final TemplateText[] queryValues;
+    private final TemplateText body;
+    private final BoundRequest staticRequest;
+    private final int expectedStatus;
+    private final JsonSchema schema;
+    private final JsonAssertions assertions;
+    private final String[] captureNames;
+    private final int[] captureSlots;
+
+    private ScenarioStep(String name, RequestTemplate template, int[] pathSlots, String[] headerNames,
+                         TemplateText[] headerValues, String[] queryNames, TemplateText[] queryValues, TemplateText body,
+                         int expectedStatus, JsonSchema schema, JsonAssertions assertions, String[] captureNames,
+                         int[] captureSlots) {
+        this.name = name;
+        this.template = template;
+        this.pathSlots = pathSlots;
+        this.headerNames = headerNames;
+        this.headerValues = headerValues;
+        this.queryNames = queryNames;
+        this.queryValues = queryValues;
+        this.body = body;
+        this.expectedStatus = expectedStatus;
+        this.schema = schema;
+        this.assertions = assertions;
+        this.captureNames = captureNames;
+        this.captureSlots = captureSlots;
+        this.staticRequest = pathSlots.length == 0 && headerNames.length == 0 && queryNames.length == 0 && body == null
+                ? template.bind() : null;
+    }
+
+    /**
+     * Compile step dari JSON: method, path ({var}), headers, query, body (${var} di string), expect
+     * (status, schema, assertions) dan capture (nama variable -> JSON path)
+     */
+    static ScenarioStep compile(JsonNode node, int index, VariableSlots variables, String scenarioName) {
+        String name = node.path("name").asText("step " + (index + 1));
+        String context = "Scenario " + scenarioName + ", step '" + name + "'";
+        String method = required(node, "method", context);
+        String path = required(node, "path", context);
+
+        RequestTemplate.Builder template;
+        try {
+            template = RequestTemplate.builder(Method.valueOf(method.trim().toUpperCase(Locale.ROOT)), path);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(context + ": unknown method '" + method + "'", e);
+        }
+
+        List<Integer> pathSlots = new ArrayList<>();
+        int cursor = 0;
+        int open;
+        while ((open = path.indexOf('{', cursor)) >= 0) {
+            int close = path.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException(context + ": unclosed path variable in " + path);
+            }
+            pathSlots.add(variables.reference(path.substring(open + 1, close), context));
+            cursor = close + 1;
+        }
+
+        // Header dan body tanpa placeholder masuk ke template (di-serialize sekali), sisanya di-render per eksekusi
+        List<String> headerNames = new ArrayList<>();
+        List<TemplateText> headerValues = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> header : node.path("headers").properties()) {
+            TemplateText value = TemplateText.compile(header.getValue().asText(), false, variables, context);
+            if (value.isConstant()) {
+                template.header(header.getKey(), value.render(null));
+            } else {
+                headerNames.add(header.getKey());
+                headerValues.add(value);
+            }
+        }
+
+        List<String> queryNames = new ArrayList<>();
+        List<TemplateText> queryValues = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> query : node.path("query").properties()) {
+            queryNames.add(query.getKey());
+            queryValues.add(TemplateText.compile(query.getValue().asText(), false, variables, context));
+        }
+
+        TemplateText body = null;
+        JsonNode bodyNode = node.get("body");
+        if (bodyNode != null && !bodyNode.isNull()) {
+            TemplateText compiled = TemplateText.compile(serialize(bodyNode, context), true, variables, context);
+            if (compiled.isConstant()) {
+                template.body(bodyNode);
+            } else {
+                body = compiled;
+            }
+        }
+
+        JsonNode expect = node.path("expect");
+        String schemaName = expect.path("schema").asText(null);
+        JsonSchema schema = schemaName == null ? null : JsonSchemaRegistry.fromResource(
+                FileConstant.SCHEMA_RESOURCE_DIRECTORY + schemaName + FileConstant.SCHEMA_RESOURCE_SUFFIX);
+
+        // Capture didefinisikan setelah request di-compile: step tidak boleh memakai capture-nya sendiri
+        JsonAssertions.Builder assertions = JsonAssertions.builder();
+        expect.path("assertions").forEach(assertion -> assertions.that(assertion.asText()));
+        List<String> captureNames = new ArrayList<>();
+        List<Integer> captureSlots = new ArrayList<>();
+        for (Map.Entry<String, JsonNode> capture : node.path("capture").properties()) {
+            assertions.capture(capture.getKey(), capture.getValue().asText());
+            captureNames.add(capture.getKey());
+            captureSlots.add(variables.define(capture.getKey()));
+        }
+        boolean hasAssertions = expect.path("assertions").size() > 0 || !captureNames.isEmpty();
+
+        return new ScenarioStep(name, template.build(),
+                pathSlots.stream().mapToInt(Integer::intValue).toArray(),
+                headerNames.toArray(new String[0]), headerValues.toArray(new TemplateText[0]),
+                queryNames.toArray(new String[0]), queryValues.toArray(new TemplateText[0]), body,
+                expect.path("status").asInt(0), schema, hasAssertions ? assertions.build() : null,
+                captureNames.toArray(new String[0]), captureSlots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Bind request untuk satu eksekusi dari nilai variable saat ini
+     */
+    public BoundRequest bind(Object[] variables) {
+        if (staticRequest != null) {
+            return staticRequest;
+        }
+
+        Object[] pathValues = new Object[pathSlots.length];
+        for (int i = 0; i < pathSlots.length; i++) {
+            pathValues[i] = variables[pathSlots[i]];
+        }
+        BoundRequest request = template.bind(pathValues);
+        for (int i = 0; i < headerNames.length; i++) {
+            request.header(headerNames[i], headerValues[i].render(variables));
+        }
+        for (int i = 0; i < queryNames.length; i++) {
+            request.queryParam(queryNames[i], queryValues[i].renderValue(variables));
+        }
+        if (body != null) {
+            request.body(body.render(variables).getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    /**
+     * Cek status, schema dan assertions lalu simpan capture ke variables; return daftar failure
+     */
+    List<String> verify(Response response, Object[] variables) {
+        int status = response.statusCode();
+        boolean statusMatched = expectedStatus > 0 ? status == expectedStatus : status < 400;
+        if (!statusMatched) {
+            return List.of("expected status " + (expectedStatus > 0 ? String.valueOf(expectedStatus) : "< 400")
+                    + " but was " + status);
+        }
+        if (schema == null && assertions == null) {
+            return List.of();
+        }
+
+        byte[] responseBody = response.asByteArray();
+        List<String> failures = new ArrayList<>();
+        if (schema != null) {
+            failures.addAll(schema.validate(responseBody).getErrors());
+        }
+        if (assertions != null) {
+            JsonAssertionResult result = assertions.evaluate(responseBody);
+            failures.addAll(result.getFailures());
+            for (int i = 0; i < captureNames.length; i++) {
+                variables[captureSlots[i]] = result.getCaptured(captureNames[i]);
+            }
+        }
+        return failures;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RequestTemplate getTemplate() {
+        return template;
+    }
+
+    private static String required(JsonNode node, String field, String context) {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalArgumentException(context + ": missing '" + field + "'");
+        }
+        return value.asText();
+    }
+
+    private static String serialize(JsonNode body, String context) {
+        try {
+            return JsonUtils.getObjectMapper().writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(context + ": invalid body", e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.setianjay.scenario;
+
+import com.setianjay.request.BoundRequest;
+import io.restassured.response.Response;
+
+/**
+ * Cara mengirim satu request step: lewat BaseTest.executeRequest (functional) atau LoadScenarios.exchange (load)
+ */
+@FunctionalInterface
+public interface StepExchange {
+
+    Response exchange(BoundRequest request) throws Exception;
+}
@@ -0,0 +1,111 @@
+package com.setianjay.scenario;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Text dengan placeholder ${name} yang di-compile sekali menjadi literal dan slot variable.
+ * Mode JSON dipakai untuk body yang sudah di-serialize: placeholder yang mengisi seluruh string
+ * ("${bookingid}") diganti dengan nilai JSON apa adanya (number tetap number), placeholder di tengah
+ * string di-escape sebagai isi string.
+ */
+final class TemplateText {
+    private static final String OPEN = "${";
+    private static final String CLOSE = "}";
+
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean[] wholeValues;
+    private final boolean json;
+
+    private TemplateText(String[] literals, int[] slots, boolean[] wholeValues, boolean json) {
+        this.literals = literals;
+        this.slots = slots;
+        this.wholeValues = wholeValues;
+        this.json = json;
+    }
+
+    static TemplateText compile(String text, boolean json, VariableSlots variables, String context) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Boolean> wholeValues = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int cursor = 0;
+        int open;
+        while ((open = text.indexOf(OPEN, cursor)) >= 0) {
+            int close = text.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException(context + ": unclosed placeholder in '" + text + "'");
+            }
+            literal.append(text, cursor, open);
+            cursor = close + CLOSE.length();
+
+            int last = literal.length() - 1;
+            boolean wholeValue = json && last >= 0 && literal.charAt(last) == '"'
+                    && (last == 0 || literal.charAt(last - 1) != '\\') && text.startsWith("\"", cursor);
+            if (wholeValue) {
+                literal.setLength(literal.length() - 1);
+                cursor++;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            slots.add(variables.reference(text.substring(open + OPEN.length(), close).trim(), context));
+            wholeValues.add(wholeValue);
+        }
+        literals.add(literal.append(text.substring(cursor)).toString());
+
+        boolean[] whole = new boolean[wholeValues.size()];
+        for (int i = 0; i < whole.length; i++) {
+            whole[i] = wholeValues.get(i);
+        }
+        return new TemplateText(literals.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(),
+                whole, json);
+    }
+
+    boolean isConstant() {
+        return slots.length == 0;
+    }
+
+    /**
+     * Nilai variable apa adanya jika text hanya berisi satu placeholder (misal query param "${id}"),
+     * selain itu hasil render sebagai String
+     */
+    Object renderValue(Object[] variables) {
+        if (slots.length == 1 && literals[0].isEmpty() && literals[1].isEmpty()) {
+            return variables[slots[0]];
+        }
+        return render(variables);
+    }
+
+    String render(Object[] variables) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder sb = new StringBuilder(literals[0].length() * 2 + 16);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]);
+            Object value = variables[slots[i]];
+            if (!json) {
+                sb.append(value);
+            } else if (wholeValues[i]) {
+                appendJsonValue(sb, value);
+            } else {
+                JsonStringEncoder.getInstance().quoteAsString(String.valueOf(value), sb);
+            }
+        }
+        return sb.append(literals[slots.length]).toString();
+    }
+
+    private static void appendJsonValue(StringBuilder sb, Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+            return;
+        }
+        sb.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(value.toString(), sb);
+        sb.append('"');
+    }
+}
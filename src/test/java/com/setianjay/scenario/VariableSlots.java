@@ -0,0 +1,40 @@
+package com.setianjay.scenario;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Nama variable scenario dipetakan ke index array saat compile, jadi eksekusi cukup membaca Object[]
+ * tanpa Map lookup. Juga mencatat variable yang sudah terdefinisi (initial variable atau capture step
+ * sebelumnya) supaya referensi ke variable yang belum ada gagal saat compile, bukan saat run.
+ */
+final class VariableSlots {
+    private final Map<String, Integer> slots = new LinkedHashMap<>();
+    private final Set<String> defined = new HashSet<>();
+
+    int define(String name) {
+        defined.add(name);
+        return slot(name);
+    }
+
+    /**
+     * Slot untuk variable yang dipakai; throw jika variable belum terdefinisi
+     */
+    int reference(String name, String context) {
+        if (!defined.contains(name)) {
+            throw new IllegalArgumentException(context + ": variable '" + name
+                    + "' is not defined by 'variables' or captured by an earlier step");
+        }
+        return slot(name);
+    }
+
+    String[] names() {
+        return slots.keySet().toArray(new String[0]);
+    }
+
+    private int slot(String name) {
+        return slots.computeIfAbsent(name, key -> slots.size());
+    }
+}
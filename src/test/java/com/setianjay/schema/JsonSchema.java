@@ -0,0 +1,243 @@
+package com.setianjay.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.setianjay.enums.JsonType;
+import com.setianjay.utils.JsonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiled JSON Schema (subset: type, properties, required, additionalProperties, items,
+ * minItems, minLength, minimum). Immutable dan thread-safe, validasi dilakukan streaming
+ * langsung dari JsonParser tanpa membangun tree.
+ */
+public final class JsonSchema {
+    private static final int MAX_ERRORS = 20;
+
+    private final String name;
+    private final Set<JsonType> types;
+    private Map<String, JsonSchema> properties;
+    private Map<String, Integer> requiredIndex;
+    private final boolean additionalProperties;
+    private JsonSchema items;
+    private final Integer minItems;
+    private final Integer minLength;
+    private final BigDecimal minimum;
+
+    JsonSchema(String name, Set<JsonType> types, boolean additionalProperties,
+               Integer minItems, Integer minLength, BigDecimal minimum) {
+        this.name = name;
+        this.types = types.isEmpty() ? EnumSet.allOf(JsonType.class) : EnumSet.copyOf(types);
+        this.properties = Collections.emptyMap();
+        this.requiredIndex = Collections.emptyMap();
+        this.additionalProperties = additionalProperties;
+        this.minItems = minItems;
+        this.minLength = minLength;
+        this.minimum = minimum;
+    }
+
+    /**
+     * Di-set sekali saat compile (sebelum schema dipublish ke cache), supaya schema rekursif bisa dibuat
+     */
+    void initialize(Map<String, JsonSchema> properties, List<String> required, JsonSchema items) {
+        this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+        Map<String, Integer> index = new HashMap<>();
+        for (String property : required) {
+            index.putIfAbsent(property, index.size());
+        }
+        this.requiredIndex = Collections.unmodifiableMap(index);
+        this.items = items;
+    }
+
+    /**
+     * Validate response bytes terhadap schema dalam satu streaming pass
+     */
+    public SchemaValidationResult validate(byte[] json) {
+        return validate(() -> JsonUtils.getObjectMapper().getFactory().createParser(json));
+    }
+
+    /**
+     * Validate langsung dari stream (misal body gzip yang di-decompress sambil dibaca) tanpa
+     * menampung seluruh body di memory. Stream di-close oleh parser setelah validasi.
+     */
+    public SchemaValidationResult validate(InputStream json) {
+        return validate(() -> JsonUtils.getObjectMapper().getFactory().createParser(json));
+    }
+
+    private SchemaValidationResult validate(ParserSource source) {
+        long start = System.nanoTime();
+        List<String> errors = new ArrayList<>();
+        try (JsonParser parser = source.open()) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                errors.add("$: empty document");
+            } else {
+                validateValue(parser, token, new ArrayList<>(), errors);
+            }
+        } catch (IOException e) {
+            errors.add("$: invalid JSON (" + e.getMessage() + ")");
+        }
+        long durationNanos = System.nanoTime() - start;
+        JsonSchemaRegistry.recordValidation(name, durationNanos, errors.isEmpty());
+        return new SchemaValidationResult(name, errors, durationNanos);
+    }
+
+    private void validateValue(JsonParser parser, JsonToken token, List<Object> path, List<String> errors) throws IOException {
+        JsonType actual = typeOf(token);
+        if (!allows(actual)) {
+            addError(errors, path, "expected " + describeTypes() + " but was " + actual.schemaName());
+            parser.skipChildren();
+            return;
+        }
+
+        switch (actual) {
+            case OBJECT:
+                validateObject(parser, path, errors);
+                break;
+            case ARRAY:
+                validateArray(parser, path, errors);
+                break;
+            case STRING:
+                if (minLength != null && parser.getTextLength() < minLength) {
+                    addError(errors, path, "length must be >= " + minLength);
+                }
+                break;
+            case INTEGER:
+            case NUMBER:
+                if (minimum != null && parser.getDecimalValue().compareTo(minimum) < 0) {
+                    addError(errors, path, "value must be >= " + minimum);
+                }
+                break;
+            default:
+        }
+    }
+
+    private void validateObject(JsonParser parser, List<Object> path, List<String> errors) throws IOException {
+        boolean[] seen = requiredIndex.isEmpty() ? null : new boolean[requiredIndex.size()];
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+
+            if (seen != null) {
+                Integer index = requiredIndex.get(field);
+                if (index != null) {
+                    seen[index] = true;
+                }
+            }
+
+            JsonSchema propertySchema = properties.get(field);
+            if (propertySchema == null) {
+                if (!additionalProperties) {
+                    path.add(field);
+                    addError(errors, path, "additional property is not allowed");
+                    path.remove(path.size() - 1);
+                }
+                parser.skipChildren();
+                continue;
+            }
+
+            path.add(field);
+            propertySchema.validateValue(parser, valueToken, path, errors);
+            path.remove(path.size() - 1);
+        }
+
+        if (seen != null) {
+            for (Map.Entry<String, Integer> required : requiredIndex.entrySet()) {
+                if (!seen[required.getValue()]) {
+                    addError(errors, path, "missing required property '" + required.getKey() + "'");
+                }
+            }
+        }
+    }
+
+    private void validateArray(JsonParser parser, List<Object> path, List<String> errors) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (items != null) {
+                path.add(count);
+                items.validateValue(parser, token, path, errors);
+                path.remove(path.size() - 1);
+            } else {
+                parser.skipChildren();
+            }
+            count++;
+        }
+
+        if (minItems != null && count < minItems) {
+            addError(errors, path, "array must contain >= " + minItems + " items but had " + count);
+        }
+    }
+
+    private boolean allows(JsonType actual) {
+        return types.contains(actual) || (actual == JsonType.INTEGER && types.contains(JsonType.NUMBER));
+    }
+
+    private String describeTypes() {
+        List<String> names = new ArrayList<>();
+        for (JsonType type : types) {
+            names.add(type.schemaName());
+        }
+        return String.join("|", names);
+    }
+
+    private static JsonType typeOf(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return JsonType.OBJECT;
+            case START_ARRAY:
+                return JsonType.ARRAY;
+            case VALUE_STRING:
+                return JsonType.STRING;
+            case VALUE_NUMBER_INT:
+                return JsonType.INTEGER;
+            case VALUE_NUMBER_FLOAT:
+                return JsonType.NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return JsonType.BOOLEAN;
+            default:
+                return JsonType.NULL;
+        }
+    }
+
+    private static void addError(List<String> errors, List<Object> path, String message) {
+        if (errors.size() >= MAX_ERRORS) {
+            return;
+        }
+        StringBuilder location = new StringBuilder("$");
+        for (Object segment : path) {
+            if (segment instanceof Integer) {
+                location.append('[').append(segment).append(']');
+            } else {
+                location.append('.').append(segment);
+            }
+        }
+        errors.add(location + ": " + message);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser open() throws IOException;
+    }
+}
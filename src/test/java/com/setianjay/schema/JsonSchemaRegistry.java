@@ -0,0 +1,271 @@
+package com.setianjay.schema;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.setianjay.constants.FileConstant;
+import com.setianjay.enums.JsonType;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe cache untuk compiled schema. Schema diambil dari resource
+ * schemas/&lt;SimpleName&gt;.schema.json jika ada (mendukung $ref ke file schema lain),
+ * jika tidak di-derive dari model class lewat Jackson introspection.
+ * Setiap schema hanya di-compile sekali.
+ */
+public final class JsonSchemaRegistry {
+    private static final Logger logger = LoggerUtils.getLogger(JsonSchemaRegistry.class);
+    private static final Map<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<String, ValidationStats> STATS = new ConcurrentHashMap<>();
+
+    private JsonSchemaRegistry() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Schema untuk satu object model class
+     */
+    public static JsonSchema forClass(Class<?> clazz) {
+        JsonSchema cached = SCHEMAS.get(clazz.getName());
+        if (cached != null) {
+            return cached;
+        }
+        return SCHEMAS.computeIfAbsent(clazz.getName(), key -> {
+            String resource = FileConstant.SCHEMA_RESOURCE_DIRECTORY + clazz.getSimpleName() + FileConstant.SCHEMA_RESOURCE_SUFFIX;
+            JsonNode schemaNode = readResource(resource);
+            if (schemaNode != null) {
+                logger.info("Compiled schema {} from resource {}", clazz.getSimpleName(), resource);
+                return compile(clazz.getSimpleName(), schemaNode);
+            }
+
+            logger.info("Derived schema {} from model class", clazz.getSimpleName());
+            ObjectMapper mapper = JsonUtils.getObjectMapper();
+            return derive(clazz.getSimpleName(), mapper.constructType(clazz), false, new HashMap<>());
+        });
+    }
+
+    /**
+     * Schema untuk JSON array berisi object model class
+     */
+    public static JsonSchema forListOf(Class<?> elementClass) {
+        String key = "List<" + elementClass.getName() + ">";
+        JsonSchema cached = SCHEMAS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        JsonSchema elementSchema = forClass(elementClass);
+        return SCHEMAS.computeIfAbsent(key, ignored -> {
+            JsonSchema schema = new JsonSchema("List<" + elementClass.getSimpleName() + ">",
+                    EnumSet.of(JsonType.ARRAY), true, null, null, null);
+            schema.initialize(Map.of(), List.of(), elementSchema);
+            return schema;
+        });
+    }
+
+    /**
+     * Schema dari resource classpath dengan path tertentu
+     */
+    public static JsonSchema fromResource(String resource) {
+        return SCHEMAS.computeIfAbsent("resource:" + resource, key -> {
+            JsonNode schemaNode = readResource(resource);
+            if (schemaNode == null) {
+                throw new IllegalArgumentException("Schema resource not found: " + resource);
+            }
+            return compile(resource, schemaNode);
+        });
+    }
+
+    // ========== COMPILATION ==========
+
+    private static JsonNode readResource(String resource) {
+        try (InputStream stream = JsonSchemaRegistry.class.getClassLoader().getResourceAsStream(resource)) {
+            return stream == null ? null : JsonUtils.getObjectMapper().readTree(stream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read schema resource " + resource, e);
+        }
+    }
+
+    private static JsonSchema compile(String name, JsonNode node) {
+        if (node.has("$ref")) {
+            // $ref sederhana: nama file lain di direktori schemas/
+            String resource = FileConstant.SCHEMA_RESOURCE_DIRECTORY + node.get("$ref").asText();
+            JsonNode referenced = readResource(resource);
+            if (referenced == null) {
+                throw new IllegalArgumentException("Schema $ref not found: " + resource + " (from " + name + ")");
+            }
+            return compile(name, referenced);
+        }
+
+        Set<JsonType> types = EnumSet.noneOf(JsonType.class);
+        JsonNode typeNode = node.get("type");
+        if (typeNode != null) {
+            if (typeNode.isArray()) {
+                typeNode.forEach(type -> types.add(parseType(name, type.asText())));
+            } else {
+                types.add(parseType(name, typeNode.asText()));
+            }
+        }
+
+        JsonSchema schema = new JsonSchema(name, types,
+                node.path("additionalProperties").asBoolean(true),
+                node.has("minItems") ? node.get("minItems").asInt() : null,
+                node.has("minLength") ? node.get("minLength").asInt() : null,
+                node.has("minimum") ? node.get("minimum").decimalValue() : null);
+
+        Map<String, JsonSchema> properties = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> field : node.path("properties").properties()) {
+            properties.put(field.getKey(), compile(name + "." + field.getKey(), field.getValue()));
+        }
+
+        List<String> required = new ArrayList<>();
+        node.path("required").forEach(property -> required.add(property.asText()));
+
+        JsonSchema items = node.has("items") ? compile(name + "[]", node.get("items")) : null;
+        schema.initialize(properties, required, items);
+        return schema;
+    }
+
+    private static JsonType parseType(String schemaName, String type) {
+        JsonType jsonType = JsonType.fromSchemaName(type);
+        if (jsonType == null) {
+            throw new IllegalArgumentException("Unsupported type '" + type + "' in schema " + schemaName);
+        }
+        return jsonType;
+    }
+
+    private static JsonSchema derive(String name, JavaType type, boolean nullable, Map<JavaType, JsonSchema> inProgress) {
+        Class<?> raw = type.getRawClass();
+        Set<JsonType> types = EnumSet.noneOf(JsonType.class);
+        if (nullable) {
+            types.add(JsonType.NULL);
+        }
+
+        if (type.isCollectionLikeType() || type.isArrayType()) {
+            types.add(JsonType.ARRAY);
+            JsonSchema schema = new JsonSchema(name, types, true, null, null, null);
+            schema.initialize(Map.of(), List.of(), derive(name + "[]", type.getContentType(), true, inProgress));
+            return schema;
+        }
+        if (raw == Object.class || JsonNode.class.isAssignableFrom(raw)) {
+            return leaf(name, EnumSet.allOf(JsonType.class));
+        }
+        if (type.isMapLikeType()) {
+            types.add(JsonType.OBJECT);
+            return leaf(name, types);
+        }
+        if (CharSequence.class.isAssignableFrom(raw) || raw.isEnum() || raw == Character.class || raw == char.class) {
+            types.add(JsonType.STRING);
+            return leaf(name, types);
+        }
+        if (raw == Integer.class || raw == int.class || raw == Long.class || raw == long.class
+                || raw == Short.class || raw == short.class || raw == Byte.class || raw == byte.class
+                || raw == BigInteger.class) {
+            types.add(JsonType.INTEGER);
+            return leaf(name, types);
+        }
+        if (Number.class.isAssignableFrom(raw) || raw == double.class || raw == float.class || raw == BigDecimal.class) {
+            types.add(JsonType.NUMBER);
+            return leaf(name, types);
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            types.add(JsonType.BOOLEAN);
+            return leaf(name, types);
+        }
+
+        JsonSchema existing = inProgress.get(type);
+        if (existing != null) {
+            return existing;
+        }
+
+        types.add(JsonType.OBJECT);
+        JsonSchema schema = new JsonSchema(name, types, true, null, null, null);
+        inProgress.put(type, schema);
+
+        BeanDescription description = JsonUtils.getObjectMapper().getDeserializationConfig().introspect(type);
+        Map<String, JsonSchema> properties = new LinkedHashMap<>();
+        List<String> required = new ArrayList<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            JavaType propertyType = property.getPrimaryType();
+            properties.put(property.getName(), derive(name + "." + property.getName(), propertyType,
+                    !propertyType.isPrimitive(), inProgress));
+            if (property.isRequired()) {
+                required.add(property.getName());
+            }
+        }
+        schema.initialize(properties, required, null);
+        return schema;
+    }
+
+    private static JsonSchema leaf(String name, Set<JsonType> types) {
+        JsonSchema schema = new JsonSchema(name, types, true, null, null, null);
+        schema.initialize(Map.of(), List.of(), null);
+        return schema;
+    }
+
+    // ========== OVERHEAD STATS ==========
+
+    static void recordValidation(String schemaName, long durationNanos, boolean valid) {
+        STATS.computeIfAbsent(schemaName, key -> new ValidationStats()).record(durationNanos, valid);
+    }
+
+    /**
+     * Ringkasan overhead validasi per schema: jumlah, failure, mean dan max (microseconds)
+     */
+    public static String formatStats() {
+        StringBuilder sb = new StringBuilder(String.format("%-32s%10s%10s%12s%12s%n",
+                "schema", "count", "invalid", "mean(us)", "max(us)"));
+        new TreeMap<>(STATS).forEach((name, stats) -> {
+            long count = stats.count.sum();
+            sb.append(String.format("%-32s%10d%10d%12.1f%12.1f%n", name, count, stats.invalid.sum(),
+                    count == 0 ? 0.0 : stats.totalNanos.sum() / 1000.0 / count, stats.maxNanos.get() / 1000.0));
+        });
+        return sb.toString();
+    }
+
+    public static void logStats(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("🧾 Schema validation overhead:\n{}", formatStats());
+        }
+    }
+
+    public static void resetStats() {
+        STATS.clear();
+    }
+
+    private static final class ValidationStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder invalid = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long durationNanos, boolean valid) {
+            count.increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+            if (!valid) {
+                invalid.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.setianjay.schema;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hasil validasi satu response terhadap {@link JsonSchema}
+ */
+public final class SchemaValidationResult {
+    private final String schemaName;
+    private final List<String> errors;
+    private final long durationNanos;
+
+    SchemaValidationResult(String schemaName, List<String> errors, long durationNanos) {
+        this.schemaName = schemaName;
+        this.errors = Collections.unmodifiableList(errors);
+        this.durationNanos = durationNanos;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Throw AssertionError berisi semua pelanggaran contract jika tidak valid
+     */
+    public SchemaValidationResult assertValid() {
+        if (!isValid()) {
+            throw new AssertionError("Response violates schema " + schemaName + ":\n  - " + String.join("\n  - ", errors));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,144 @@
+package com.setianjay.sharding;
+
+import com.setianjay.constants.ShardConstant;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Bagi test class dari satu suite ke K shard dengan durasi seimbang (greedy LPT:
+ * class terlama lebih dulu, selalu ke shard dengan total estimasi terkecil).
+ * Unit sharding adalah class, karena method dalam satu class berbagi state
+ * (priority, dependsOnMethods, instance field) sehingga tidak aman dipisah antar JVM.
+ */
+public class ShardPlanner {
+    private final TestDurationHistory history;
+
+    public ShardPlanner(TestDurationHistory history) {
+        this.history = history;
+    }
+
+    /**
+     * Buat maksimal shardCount shard dari suite; shard kosong tidak dibuat
+     */
+    public List<Shard> plan(XmlSuite suite, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive: " + shardCount);
+        }
+
+        Set<String> classNames = new LinkedHashSet<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                classNames.add(xmlClass.getName());
+            }
+        }
+
+        long fallbackMillis = fallbackDuration(classNames);
+        List<String> ordered = new ArrayList<>(classNames);
+        ordered.sort(Comparator.comparingLong((String name) -> estimate(name, fallbackMillis)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        int actualShards = Math.min(shardCount, Math.max(1, ordered.size()));
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(
+                Comparator.comparingLong(Shard::getEstimatedMillis).thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < actualShards; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            byLoad.add(shard);
+        }
+
+        for (String className : ordered) {
+            Shard lightest = byLoad.poll();
+            lightest.add(className, estimate(className, fallbackMillis));
+            byLoad.add(lightest);
+        }
+        return shards;
+    }
+
+    private long estimate(String className, long fallbackMillis) {
+        Long duration = history.getClassDuration(className);
+        return duration != null ? duration : fallbackMillis;
+    }
+
+    /**
+     * Class tanpa history diestimasi dengan rata-rata class yang sudah tercatat
+     */
+    private long fallbackDuration(Set<String> classNames) {
+        long total = 0;
+        int known = 0;
+        for (String className : classNames) {
+            Long duration = history.getClassDuration(className);
+            if (duration != null) {
+                total += duration;
+                known++;
+            }
+        }
+        return known == 0 ? ShardConstant.DEFAULT_CLASS_DURATION_MILLIS : total / known;
+    }
+
+    /**
+     * Batasi suite ke class milik shard. Suite dimodifikasi langsung, jadi pakai hasil parse
+     * tersendiri per shard (XmlTest TestNG tidak bisa di-copy tanpa ikut menempel ke suite asal).
+     * Listener, parameter dan setting suite asli tetap dibawa.
+     */
+    public static XmlSuite restrictSuite(XmlSuite suite, Shard shard, int shardCount) {
+        suite.setName(suite.getName() + " - shard " + (shard.getIndex() + 1) + " of " + shardCount);
+
+        List<XmlTest> tests = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                if (shard.classNames.contains(xmlClass.getName())) {
+                    classes.add(xmlClass);
+                }
+            }
+            if (!classes.isEmpty()) {
+                test.setXmlClasses(classes);
+                tests.add(test);
+            }
+        }
+        suite.setTests(tests);
+        return suite;
+    }
+
+    public static final class Shard {
+        private final int index;
+        private final List<String> classNames = new ArrayList<>();
+        private long estimatedMillis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+
+        private void add(String className, long millis) {
+            classNames.add(className);
+            estimatedMillis += millis;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<String> getClassNames() {
+            return Collections.unmodifiableList(classNames);
+        }
+
+        public long getEstimatedMillis() {
+            return estimatedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("shard %d: ~%dms %s", index + 1, estimatedMillis, classNames);
+        }
+    }
+}
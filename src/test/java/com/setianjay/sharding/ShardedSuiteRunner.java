@@ -0,0 +1,248 @@
+package com.setianjay.sharding;
+
+import com.setianjay.constants.AccountingConstant;
+import com.setianjay.constants.OrderingConstant;
+import com.setianjay.constants.ShardConstant;
+import com.setianjay.utils.JsonHistoryStore;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.internal.Parser;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Jalankan suite TestNG sebagai K shard paralel, masing-masing di JVM terpisah.
+ * Shard dibagi berdasarkan durasi dari history (ShardPlanner), hasil testng-results.xml
+ * setiap shard di-merge menjadi satu report, dan history di-update dari durasi terbaru.
+ * Setiap shard menulis history ke directory-nya sendiri (bukan file bersama), lalu digabung di sini:
+ * durasi dari observasi shard; outcome (-Dordering.historyFile) dan resource (-Daccounting.historyFile)
+ * di-seed dari history utama supaya urutan fail-fast dan trend di shard tetap memakai history,
+ * lalu entry class milik shard diambil kembali.
+ *
+ * <p>Konfigurasi lewat system properties: -Dshard.count, -Dshard.suiteXmlFile,
+ * -Dshard.historyFile dan -Dshard.outputDirectory. System property -D lain yang dipakai
+ * untuk menjalankan runner ini diteruskan ke setiap shard JVM.</p>
+ */
+public final class ShardedSuiteRunner {
+    private static final Logger logger = LoggerUtils.getLogger(ShardedSuiteRunner.class);
+    private static final String[] RESULT_COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    private ShardedSuiteRunner() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int shardCount = Integer.getInteger(ShardConstant.SHARD_COUNT_PROPERTY, Runtime.getRuntime().availableProcessors());
+        Path suiteFile = Paths.get(System.getProperty(ShardConstant.SUITE_XML_FILE_PROPERTY, ShardConstant.DEFAULT_SUITE_XML_FILE));
+        Path historyFile = Paths.get(System.getProperty(ShardConstant.HISTORY_FILE_PROPERTY, ShardConstant.DEFAULT_HISTORY_FILE));
+        Path outputDirectory = Paths.get(System.getProperty(ShardConstant.OUTPUT_DIRECTORY_PROPERTY, ShardConstant.DEFAULT_OUTPUT_DIRECTORY));
+
+        boolean passed = run(suiteFile, historyFile, outputDirectory, shardCount);
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Plan, jalankan dan merge semua shard. Return false jika ada shard yang gagal
+     */
+    public static boolean run(Path suiteFile, Path historyFile, Path outputDirectory, int shardCount) throws Exception {
+        TestDurationHistory history = TestDurationHistory.load(historyFile);
+        if (history.isEmpty()) {
+            logger.warn("No test duration history at {}, shards are balanced by class count", historyFile);
+        }
+        List<ShardPlanner.Shard> shards = new ShardPlanner(history).plan(parseSuite(suiteFile), shardCount);
+
+        Path outcomeFile = Paths.get(System.getProperty(OrderingConstant.HISTORY_FILE_PROPERTY, OrderingConstant.DEFAULT_HISTORY_FILE));
+        Path resourceFile = Paths.get(System.getProperty(AccountingConstant.HISTORY_FILE_PROPERTY, AccountingConstant.DEFAULT_HISTORY_FILE));
+
+        long startNanos = System.nanoTime();
+        List<Process> processes = new ArrayList<>();
+        List<CompletableFuture<Long>> finished = new ArrayList<>();
+        for (ShardPlanner.Shard shard : shards) {
+            Path shardDirectory = shardDirectory(outputDirectory, shard);
+            Files.createDirectories(shardDirectory);
+            Path shardSuite = shardDirectory.resolve("testng-shard.xml");
+            XmlSuite suite = ShardPlanner.restrictSuite(parseSuite(suiteFile), shard, shards.size());
+            Files.writeString(shardSuite, suite.toXml(), StandardCharsets.UTF_8);
+
+            seedHistory(outcomeFile, shardDirectory.resolve(OrderingConstant.DEFAULT_HISTORY_FILE));
+            seedHistory(resourceFile, shardDirectory.resolve(AccountingConstant.DEFAULT_HISTORY_FILE));
+
+            logger.info("🧩 Starting {}", shard);
+            Process process = startShard(shardDirectory, shardSuite);
+            processes.add(process);
+            finished.add(process.onExit().thenApply(ignored -> System.nanoTime() - startNanos));
+        }
+
+        boolean passed = true;
+        long[] shardNanos = new long[shards.size()];
+        for (int i = 0; i < processes.size(); i++) {
+            shardNanos[i] = finished.get(i).join();
+            int exitCode = processes.get(i).exitValue();
+            if (exitCode != 0) {
+                passed = false;
+                logger.error("❌ Shard {} exited with code {}, see {}", i + 1, exitCode,
+                        shardDirectory(outputDirectory, shards.get(i)).resolve("output.log"));
+            }
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+
+        mergeResults(shards, outputDirectory);
+        for (ShardPlanner.Shard shard : shards) {
+            Path shardHistory = shardDirectory(outputDirectory, shard).resolve(ShardConstant.DEFAULT_HISTORY_FILE);
+            history.update(TestDurationHistory.load(shardHistory));
+        }
+        history.save(historyFile);
+        mergeShardHistory(shards, outputDirectory, outcomeFile, OrderingConstant.DEFAULT_HISTORY_FILE, "test outcome");
+        mergeShardHistory(shards, outputDirectory, resourceFile, AccountingConstant.DEFAULT_HISTORY_FILE, "test resource");
+
+        logger.info("🧩 Sharded run summary:\n{}", formatSummary(shards, shardNanos, wallNanos));
+        return passed;
+    }
+
+    private static XmlSuite parseSuite(Path suiteFile) throws IOException {
+        List<XmlSuite> suites = new Parser(suiteFile.toString()).parseToList();
+        if (suites.size() != 1) {
+            throw new IllegalArgumentException("Sharding supports a single suite without <suite-files>: " + suiteFile);
+        }
+        return suites.get(0);
+    }
+
+    private static Process startShard(Path shardDirectory, Path shardSuite) throws IOException {
+        // Setiap history file per shard, supaya shard JVM yang paralel tidak saling menimpa
+        Map<String, Path> historyFiles = new LinkedHashMap<>();
+        historyFiles.put(ShardConstant.HISTORY_FILE_PROPERTY, shardDirectory.resolve(ShardConstant.DEFAULT_HISTORY_FILE));
+        historyFiles.put(OrderingConstant.HISTORY_FILE_PROPERTY, shardDirectory.resolve(OrderingConstant.DEFAULT_HISTORY_FILE));
+        historyFiles.put(AccountingConstant.HISTORY_FILE_PROPERTY, shardDirectory.resolve(AccountingConstant.DEFAULT_HISTORY_FILE));
+
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-D") && historyFiles.keySet().stream()
+                    .noneMatch(property -> argument.startsWith("-D" + property + "="))) {
+                command.add(argument);
+            }
+        }
+        historyFiles.forEach((property, file) -> command.add("-D" + property + "=" + file));
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TestNG.class.getName());
+        command.add("-d");
+        command.add(shardDirectory.toString());
+        command.add(shardSuite.toString());
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(shardDirectory.resolve("output.log").toFile())
+                .start();
+    }
+
+    /**
+     * Copy history utama ke directory shard (atau hapus sisa run sebelumnya jika history belum ada)
+     */
+    private static void seedHistory(Path historyFile, Path shardHistory) throws IOException {
+        if (Files.exists(historyFile)) {
+            Files.copy(historyFile, shardHistory, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(shardHistory);
+        }
+    }
+
+    /**
+     * Ambil entry class setiap shard dari history shard (shardFileName di directory shard) ke history utama
+     */
+    private static void mergeShardHistory(List<ShardPlanner.Shard> shards, Path outputDirectory, Path historyFile,
+                                          String shardFileName, String description) throws IOException {
+        Map<Path, List<String>> classesByShardFile = new LinkedHashMap<>();
+        for (ShardPlanner.Shard shard : shards) {
+            classesByShardFile.put(shardDirectory(outputDirectory, shard).resolve(shardFileName), shard.getClassNames());
+        }
+        if (JsonHistoryStore.mergeClasses(historyFile, classesByShardFile)) {
+            logger.info("🧩 Merged {} history of {} shards -> {}", description, shards.size(), historyFile);
+        }
+    }
+
+    /**
+     * Gabungkan testng-results.xml dari semua shard: counter dijumlahkan, element suite digabung
+     */
+    private static void mergeResults(List<ShardPlanner.Shard> shards, Path outputDirectory) throws Exception {
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testng-results");
+        merged.appendChild(root);
+        long[] counters = new long[RESULT_COUNTERS.length];
+
+        for (ShardPlanner.Shard shard : shards) {
+            File results = shardDirectory(outputDirectory, shard).resolve(ShardConstant.RESULTS_FILE).toFile();
+            if (!results.exists()) {
+                logger.warn("Shard {} produced no {}", shard.getIndex() + 1, ShardConstant.RESULTS_FILE);
+                continue;
+            }
+
+            Element shardRoot = builder.parse(results).getDocumentElement();
+            for (int i = 0; i < RESULT_COUNTERS.length; i++) {
+                String value = shardRoot.getAttribute(RESULT_COUNTERS[i]);
+                counters[i] += value.isEmpty() ? 0 : Long.parseLong(value);
+            }
+            NodeList children = shardRoot.getChildNodes();
+            for (int i = 0; i < children.getLength(); i++) {
+                Node child = children.item(i);
+                if (child.getNodeType() == Node.ELEMENT_NODE) {
+                    root.appendChild(merged.importNode(child, true));
+                }
+            }
+        }
+        for (int i = 0; i < RESULT_COUNTERS.length; i++) {
+            root.setAttribute(RESULT_COUNTERS[i], String.valueOf(counters[i]));
+        }
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+        Path mergedFile = outputDirectory.resolve(ShardConstant.RESULTS_FILE);
+        transformer.transform(new DOMSource(merged), new StreamResult(mergedFile.toFile()));
+        logger.info("🧩 Merged results: total={} passed={} failed={} skipped={} -> {}",
+                counters[0], counters[1], counters[2], counters[3], mergedFile);
+    }
+
+    private static String formatSummary(List<ShardPlanner.Shard> shards, long[] shardNanos, long wallNanos) {
+        StringBuilder sb = new StringBuilder(String.format("%-8s%14s%14s  %s%n", "shard", "estimate(s)", "actual(s)", "classes"));
+        long totalNanos = 0;
+        for (ShardPlanner.Shard shard : shards) {
+            totalNanos += shardNanos[shard.getIndex()];
+            sb.append(String.format("%-8d%14.2f%14.2f  %s%n", shard.getIndex() + 1, shard.getEstimatedMillis() / 1000.0,
+                    shardNanos[shard.getIndex()] / 1e9, shard.getClassNames()));
+        }
+        double idealSeconds = totalNanos / 1e9 / shards.size();
+        sb.append(String.format("wall-clock %.2fs, sum of shards %.2fs, ideal (sum / %d) %.2fs%n",
+                wallNanos / 1e9, totalNanos / 1e9, shards.size(), idealSeconds));
+        return sb.toString();
+    }
+
+    private static Path shardDirectory(Path outputDirectory, ShardPlanner.Shard shard) {
+        return outputDirectory.resolve("shard-" + (shard.getIndex() + 1));
+    }
+}
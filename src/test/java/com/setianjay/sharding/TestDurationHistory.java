@@ -0,0 +1,111 @@
+package com.setianjay.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.setianjay.constants.ShardConstant;
+import com.setianjay.utils.JsonHistoryStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Durasi test per class dan per method (milliseconds) dari run sebelumnya.
+ * Durasi baru digabung dengan exponential moving average supaya satu run yang lambat
+ * tidak langsung merusak pembagian shard.
+ *
+ * <p>Format file: {"classes": {"&lt;class&gt;": {"durationMillis": n, "methods": {"&lt;method&gt;": n}}}}</p>
+ */
+public class TestDurationHistory {
+    private final Map<String, ClassDuration> classes = new TreeMap<>();
+
+    /**
+     * Load history dari file; file yang belum ada menghasilkan history kosong
+     */
+    public static TestDurationHistory load(Path file) throws IOException {
+        TestDurationHistory history = new TestDurationHistory();
+        for (Map.Entry<String, JsonNode> classEntry : JsonHistoryStore.readClasses(file)) {
+            ClassDuration duration = history.classDuration(classEntry.getKey());
+            duration.durationMillis = classEntry.getValue().path("durationMillis").asLong();
+            for (Map.Entry<String, JsonNode> method : classEntry.getValue().path("methods").properties()) {
+                duration.methods.put(method.getKey(), method.getValue().asLong());
+            }
+        }
+        return history;
+    }
+
+    public void save(Path file) throws IOException {
+        JsonHistoryStore.writeClasses(file, classesNode -> classes.forEach((className, duration) -> {
+            ObjectNode classNode = classesNode.putObject(className);
+            classNode.put("durationMillis", duration.durationMillis);
+            ObjectNode methodsNode = classNode.putObject("methods");
+            duration.methods.forEach(methodsNode::put);
+        }));
+    }
+
+    /**
+     * Set durasi hasil observasi (tanpa smoothing), dipakai listener untuk run saat ini
+     */
+    public void recordClass(String className, long durationMillis) {
+        classDuration(className).durationMillis = durationMillis;
+    }
+
+    public void recordMethod(String className, String methodName, long durationMillis) {
+        classDuration(className).methods.merge(methodName, durationMillis, Long::sum);
+    }
+
+    /**
+     * Gabungkan observasi run terbaru ke history ini memakai exponential moving average
+     */
+    public void update(TestDurationHistory latest) {
+        latest.classes.forEach((className, observed) -> {
+            ClassDuration current = classes.get(className);
+            if (current == null) {
+                classes.put(className, observed.copy());
+                return;
+            }
+            current.durationMillis = smooth(current.durationMillis, observed.durationMillis);
+            observed.methods.forEach((method, millis) ->
+                    current.methods.merge(method, millis, TestDurationHistory::smooth));
+        });
+    }
+
+    /**
+     * Durasi class, atau null jika belum pernah tercatat
+     */
+    public Long getClassDuration(String className) {
+        ClassDuration duration = classes.get(className);
+        return duration == null ? null : duration.durationMillis;
+    }
+
+    public Map<String, Long> getMethodDurations(String className) {
+        ClassDuration duration = classes.get(className);
+        return duration == null ? Collections.emptyMap() : Collections.unmodifiableMap(duration.methods);
+    }
+
+    public boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    private ClassDuration classDuration(String className) {
+        return classes.computeIfAbsent(className, key -> new ClassDuration());
+    }
+
+    private static long smooth(long previous, long latest) {
+        return Math.round(previous * (1 - ShardConstant.HISTORY_SMOOTHING) + latest * ShardConstant.HISTORY_SMOOTHING);
+    }
+
+    private static final class ClassDuration {
+        private long durationMillis;
+        private final Map<String, Long> methods = new TreeMap<>();
+
+        private ClassDuration copy() {
+            ClassDuration copy = new ClassDuration();
+            copy.durationMillis = durationMillis;
+            copy.methods.putAll(methods);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.setianjay.sharding;
+
+import com.setianjay.constants.ShardConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.testng.IConfigurationListener;
+import org.testng.IExecutionListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catat durasi setiap test method dan wall-clock span setiap test class (termasuk
+ * configuration method seperti @BeforeClass), lalu update history file di akhir eksekusi.
+ * History ini dipakai ShardPlanner untuk membagi suite ke beberapa shard.
+ */
+public class TestDurationListener implements ITestListener, IConfigurationListener, IExecutionListener {
+    private static final Logger logger = LoggerUtils.getLogger(TestDurationListener.class);
+
+    private final Map<String, long[]> classSpans = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> methodDurations = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        recordMethod(result);
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result) {
+        recordSpan(result);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result) {
+        recordSpan(result);
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        if (classSpans.isEmpty()) {
+            return;
+        }
+
+        TestDurationHistory observed = new TestDurationHistory();
+        classSpans.forEach((className, span) -> observed.recordClass(className, span[1] - span[0]));
+        methodDurations.forEach((className, methods) ->
+                methods.forEach((method, millis) -> observed.recordMethod(className, method, millis)));
+
+        Path file = Paths.get(System.getProperty(ShardConstant.HISTORY_FILE_PROPERTY, ShardConstant.DEFAULT_HISTORY_FILE));
+        try {
+            TestDurationHistory history = TestDurationHistory.load(file);
+            history.update(observed);
+            history.save(file);
+            logger.info("⏱️ Updated test duration history {} ({} classes)", file, classSpans.size());
+        } catch (IOException e) {
+            logger.warn("Failed to update test duration history {}: {}", file, LoggerUtils.formatException(e));
+        }
+    }
+
+    private void recordMethod(ITestResult result) {
+        recordSpan(result);
+        String className = result.getTestClass().getName();
+        methodDurations.computeIfAbsent(className, key -> new ConcurrentHashMap<>())
+                .merge(result.getMethod().getMethodName(), result.getEndMillis() - result.getStartMillis(), Long::sum);
+    }
+
+    private void recordSpan(ITestResult result) {
+        if (result.getTestClass() == null) {
+            return;
+        }
+        // @BeforeSuite/@AfterSuite tidak dihitung ke class manapun
+        if (result.getMethod().isBeforeSuiteConfiguration() || result.getMethod().isAfterSuiteConfiguration()) {
+            return;
+        }
+        classSpans.compute(result.getTestClass().getName(), (key, span) -> {
+            if (span == null) {
+                return new long[]{result.getStartMillis(), result.getEndMillis()};
+            }
+            span[0] = Math.min(span[0], result.getStartMillis());
+            span[1] = Math.max(span[1], result.getEndMillis());
+            return span;
+        });
+    }
+}
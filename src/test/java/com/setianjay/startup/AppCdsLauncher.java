@@ -0,0 +1,76 @@
+package com.setianjay.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Jalankan main class di child JVM dengan AppCDS archive untuk classpath saat ini.
+ * JVM hanya membuat ulang archive otomatis jika archive belum ada; archive yang stale karena
+ * jar di classpath berubah (misal test jar di-build ulang) akan diabaikan tanpa dibuat ulang,
+ * jadi launcher ini menghapusnya lebih dulu.
+ *
+ * <p>Sengaja tidak memakai logger/Jackson supaya launcher sendiri tetap ringan.</p>
+ *
+ * <pre>java -cp &lt;jars&gt; com.setianjay.startup.AppCdsLauncher &lt;archive&gt; &lt;mainClass&gt; [args...]</pre>
+ */
+public final class AppCdsLauncher {
+
+    private AppCdsLauncher() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: AppCdsLauncher <archive> <mainClass> [args...]");
+        }
+        Path archive = Paths.get(args[0]).toAbsolutePath();
+        String classpath = System.getProperty("java.class.path");
+
+        if (isStale(archive, classpath)) {
+            System.out.println("[appcds] Classpath changed, recreating " + archive);
+            Files.delete(archive);
+        }
+        Files.createDirectories(archive.getParent());
+
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-XX:SharedArchiveFile=" + archive);
+        command.add("-XX:+AutoCreateSharedArchive");
+        command.add("-Xlog:cds=error");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-D")) {
+                command.add(argument);
+            }
+        }
+        command.add("-cp");
+        command.add(classpath);
+        command.addAll(Arrays.asList(args).subList(1, args.length));
+
+        Process process = new ProcessBuilder(command).inheritIO().start();
+        System.exit(process.waitFor());
+    }
+
+    /**
+     * Archive stale jika ada jar di classpath yang lebih baru dari archive
+     */
+    private static boolean isStale(Path archive, String classpath) throws IOException {
+        if (!Files.exists(archive)) {
+            return false;
+        }
+        long archiveModified = Files.getLastModifiedTime(archive).toMillis();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            Path path = Paths.get(entry);
+            if (Files.isRegularFile(path) && Files.getLastModifiedTime(path).toMillis() > archiveModified) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
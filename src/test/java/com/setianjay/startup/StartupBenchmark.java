@@ -0,0 +1,113 @@
+package com.setianjay.startup;
+
+import com.setianjay.constants.BenchmarkConstant;
+import com.setianjay.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bandingkan startup time test JVM tanpa dan dengan AppCDS archive.
+ * Setiap mode menjalankan StartupProbe di child JVM beberapa kali dan melaporkan median
+ * uptime sampai request pertama selesai serta wall-clock process.
+ *
+ * <p>AppCDS tidak bisa dipakai jika classpath berisi directory yang tidak kosong
+ * (misal target/test-classes), jadi jalankan lewat profile appcds yang memakai test jar.</p>
+ */
+public final class StartupBenchmark {
+    private static final Logger logger = LoggerUtils.getLogger(StartupBenchmark.class);
+
+    private StartupBenchmark() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = Integer.getInteger(BenchmarkConstant.ITERATIONS_PROPERTY, BenchmarkConstant.DEFAULT_ITERATIONS);
+        Path archive = Paths.get(System.getProperty(BenchmarkConstant.APPCDS_ARCHIVE_PROPERTY,
+                BenchmarkConstant.DEFAULT_STARTUP_ARCHIVE)).toAbsolutePath();
+        String classpath = System.getProperty("java.class.path");
+
+        StringBuilder sb = new StringBuilder(String.format("%-22s%8s%22s%20s%n",
+                "mode", "runs", "first request (ms)", "process (ms)"));
+        appendRow(sb, "default (JDK CDS)", measure(List.of(), classpath, iterations));
+
+        String directory = nonEmptyDirectory(classpath);
+        if (directory != null) {
+            logger.warn("AppCDS skipped: classpath contains non-empty directory {}, run with -Pappcds", directory);
+        } else {
+            Files.createDirectories(archive.getParent());
+            Files.deleteIfExists(archive);
+            List<String> cdsOptions = List.of("-XX:SharedArchiveFile=" + archive, "-XX:+AutoCreateSharedArchive");
+            // Run pertama hanya membuat archive, tidak dihitung
+            measure(cdsOptions, classpath, 1);
+            appendRow(sb, "AppCDS", measure(cdsOptions, classpath, iterations));
+        }
+        logger.info("🚀 Startup benchmark ({} runs per mode, median):\n{}", iterations, sb);
+    }
+
+    private static long[][] measure(List<String> jvmOptions, String classpath, int iterations)
+            throws IOException, InterruptedException {
+        long[] firstRequestMillis = new long[iterations];
+        long[] processMillis = new long[iterations];
+
+        for (int i = 0; i < iterations; i++) {
+            List<String> command = new ArrayList<>();
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.addAll(jvmOptions);
+            command.add("-cp");
+            command.add(classpath);
+            command.add(StartupProbe.class.getName());
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            long uptime = -1;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(BenchmarkConstant.STARTUP_RESULT_PREFIX)) {
+                        uptime = Long.parseLong(line.substring(BenchmarkConstant.STARTUP_RESULT_PREFIX.length()).trim());
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0 || uptime < 0) {
+                throw new IllegalStateException("StartupProbe failed with exit code " + exitCode);
+            }
+            firstRequestMillis[i] = uptime;
+            processMillis[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        return new long[][]{firstRequestMillis, processMillis};
+    }
+
+    private static void appendRow(StringBuilder sb, String mode, long[][] samples) {
+        sb.append(String.format("%-22s%8d%22d%20d%n", mode, samples[0].length, median(samples[0]), median(samples[1])));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String nonEmptyDirectory(String classpath) {
+        for (String entry : classpath.split(File.pathSeparator)) {
+            File file = new File(entry);
+            String[] children = file.isDirectory() ? file.list() : null;
+            if (children != null && children.length > 0) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
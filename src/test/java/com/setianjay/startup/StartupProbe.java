@@ -0,0 +1,60 @@
+package com.setianjay.startup;
+
+import com.setianjay.constants.BenchmarkConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.models.response.phone.PhoneResponse;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.RequestUtils;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.response.Response;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Child JVM untuk StartupBenchmark: jalankan satu request lengkap (template, RestAssured,
+ * Jackson, schema validation, Logback) ke HttpServer lokal, lalu print uptime JVM
+ * saat response pertama selesai diproses.
+ */
+public final class StartupProbe {
+    private static final byte[] RESPONSE_BODY =
+            "{\"id\":1,\"name\":\"Google Pixel 6 Pro\",\"data\":{\"color\":\"Cloudy White\",\"capacity\":\"128 GB\"}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private StartupProbe() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void main(String[] args) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+
+        try {
+            String baseUri = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+            BoundRequest request = RequestTemplate.builder(Method.GET, "/objects/{id}").build().bind(1);
+            Response response = RequestUtils.dispatch(request.getMethod(),
+                    request.applyTo(RequestUtils.newRequestSpec()), baseUri + request.getPath());
+
+            byte[] body = response.asByteArray();
+            JsonSchemaRegistry.forClass(PhoneResponse.class).validate(body).assertValid();
+            JsonUtils.getObjectMapper().readValue(body, PhoneResponse.class);
+
+            System.out.println(BenchmarkConstant.STARTUP_RESULT_PREFIX + ManagementFactory.getRuntimeMXBean().getUptime());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
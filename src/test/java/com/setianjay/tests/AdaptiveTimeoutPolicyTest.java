@@ -0,0 +1,117 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.OfflineTest;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.constants.TimeoutConstant;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.timeout.AdaptiveTimeoutPolicy;
+import com.setianjay.timeout.AdaptiveTimeouts;
+import com.setianjay.timeout.EndpointTimeout;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Timeout adaptif: percentile x factor dengan floor dan ceiling, percentile (default p99.9)
+ * yang dipelajari dari rolling window latency per endpoint, dan timeout yang dicatat per phase (tanpa network)
+ */
+public class AdaptiveTimeoutPolicyTest extends OfflineTest {
+    private static final long MILLISECOND = 1_000_000L;
+
+    @Test(testName = "testTimeoutWithinFloorAndCeiling")
+    public void testTimeoutWithinFloorAndCeiling() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        AdaptiveTimeoutPolicy policy = new AdaptiveTimeoutPolicy(99.9, 3.0, 2000, 30_000, 5000, 30, 1000);
+        assertEquals(policy.socketTimeoutMillis(100), 2000);
+        assertEquals(policy.socketTimeoutMillis(1000), 3000);
+        // Hasil pecahan dibulatkan ke atas
+        assertEquals(new AdaptiveTimeoutPolicy(99.9, 1.5, 1, 30_000, 5000, 30, 1000).socketTimeoutMillis(1001), 1502);
+        assertEquals(policy.socketTimeoutMillis(20_000), 30_000);
+        assertEquals(policy.socketTimeoutMillis(Long.MAX_VALUE / 2), 30_000);
+
+        // Connect timeout memakai ceiling sendiri, tapi tidak pernah di bawah floor
+        assertEquals(policy.connectTimeoutMillis(1000), 3000);
+        assertEquals(policy.connectTimeoutMillis(20_000), 5000);
+        assertEquals(new AdaptiveTimeoutPolicy(99.9, 3.0, 2000, 30_000, 500, 30, 1000).connectTimeoutMillis(20_000), 2000);
+
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(0, 3.0, 2000, 30_000, 5000, 30, 1000));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(100.1, 3.0, 2000, 30_000, 5000, 30, 1000));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(99.9, 0.5, 2000, 30_000, 5000, 30, 1000));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(99.9, 3.0, 0, 30_000, 5000, 30, 1000));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(99.9, 3.0, 2000, 1000, 5000, 30, 1000));
+        expectThrows(IllegalArgumentException.class, () -> new AdaptiveTimeoutPolicy(99.9, 3.0, 2000, 30_000, 5000, 30, 10));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testEndpointLearnsPercentileFromWindow")
+    public void testEndpointLearnsPercentileFromWindow() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Policy default: p99.9 x 3 dalam [2000, 60000]ms, minSamples 30, window 1000, hitung ulang tiap 20 sample
+        EndpointTimeout timeout = AdaptiveTimeouts.forEndpoint("GET /adaptive/" + getTestName());
+        record(timeout, TimeoutConstant.DEFAULT_MIN_SAMPLES - 1, 1000);
+        assertNull(timeout.restAssuredConfig());
+        assertEquals(timeout.getSocketTimeoutMillis(), NetworkConstant.SOCKET_TIMEOUT);
+
+        record(timeout, 1, 1000);
+        assertNotNull(timeout.restAssuredConfig());
+        assertEquals(timeout.getPercentileMillis(), 1000L);
+        assertEquals(timeout.getSocketTimeoutMillis(), 3000);
+        assertEquals(timeout.getConnectTimeoutMillis(), 3000);
+
+        // Window penuh (1000 sample): satu outlier ada di atas p99.9, dua outlier sudah masuk p99.9
+        record(timeout, 979, 1000);
+        record(timeout, 1, 5000);
+        assertEquals(timeout.getSampleCount(), TimeoutConstant.DEFAULT_WINDOW);
+        assertEquals(timeout.getPercentileMillis(), 1000L);
+        record(timeout, 19, 1000);
+        record(timeout, 1, 5000);
+        assertEquals(timeout.getPercentileMillis(), 5000L);
+        assertEquals(timeout.getSocketTimeoutMillis(), 15_000);
+        assertEquals(timeout.getConnectTimeoutMillis(), 15_000);
+
+        // Latency sangat lambat dibatasi ceiling, latency sangat cepat dibatasi floor
+        record(timeout, 20, 100_000);
+        assertEquals(timeout.getSocketTimeoutMillis(), TimeoutConstant.DEFAULT_CEILING_MILLIS);
+        assertEquals(timeout.getConnectTimeoutMillis(), TimeoutConstant.DEFAULT_CONNECT_CEILING_MILLIS);
+        EndpointTimeout fast = AdaptiveTimeouts.forEndpoint("GET /adaptive/fast/" + getTestName());
+        record(fast, TimeoutConstant.DEFAULT_MIN_SAMPLES, 10);
+        assertEquals(fast.getSocketTimeoutMillis(), TimeoutConstant.DEFAULT_FLOOR_MILLIS);
+        assertEquals(fast.getConnectTimeoutMillis(), TimeoutConstant.DEFAULT_FLOOR_MILLIS);
+        logger.info("⏳ Adaptive timeouts:\n{}", AdaptiveTimeouts.format());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testTimeoutRecordedForPhaseThatTimedOut")
+    public void testTimeoutRecordedForPhaseThatTimedOut() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // 15000ms x 3: socket timeout 45000ms, connect timeout dibatasi connect ceiling 30000ms
+        EndpointTimeout connect = AdaptiveTimeouts.forEndpoint("GET /adaptive/connect/" + getTestName());
+        EndpointTimeout read = AdaptiveTimeouts.forEndpoint("GET /adaptive/read/" + getTestName());
+        for (EndpointTimeout timeout : new EndpointTimeout[]{connect, read}) {
+            record(timeout, TimeoutConstant.DEFAULT_MIN_SAMPLES, 15_000);
+            assertEquals(timeout.getSocketTimeoutMillis(), 45_000);
+            assertEquals(timeout.getConnectTimeoutMillis(), TimeoutConstant.DEFAULT_CONNECT_CEILING_MILLIS);
+        }
+
+        // Connect timeout dicatat sebesar connect timeout, bukan socket timeout yang lebih besar
+        for (int i = 0; i < TimeoutConstant.RECOMPUTE_EVERY; i++) {
+            connect.recordTimeout(RequestPhase.CONNECT);
+            read.recordTimeout(RequestPhase.TTFB);
+        }
+        assertEquals(connect.getPercentileMillis(), (long) TimeoutConstant.DEFAULT_CONNECT_CEILING_MILLIS);
+        assertEquals(read.getPercentileMillis(), 45_000L);
+        assertEquals(connect.getTimeoutsFired(), (long) TimeoutConstant.RECOMPUTE_EVERY);
+        assertEquals(read.getTimeoutsFired(), (long) TimeoutConstant.RECOMPUTE_EVERY);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static void record(EndpointTimeout timeout, int samples, long millis) {
+        for (int i = 0; i < samples; i++) {
+            timeout.record(millis * MILLISECOND);
+        }
+    }
+}
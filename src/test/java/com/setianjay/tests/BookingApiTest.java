@@ -1,22 +1,72 @@
 package com.setianjay.tests;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.setianjay.assertions.JsonAssertionResult;
+import com.setianjay.assertions.JsonAssertions;
 import com.setianjay.base.BaseTest;
+import com.setianjay.cleanup.CleanupTargets;
+import com.setianjay.cleanup.ResourceCleanup;
+import com.setianjay.constants.DataConstant;
+import com.setianjay.constants.NetworkConstant;
 import com.setianjay.enums.HttpStatus;
 import com.setianjay.enums.Method;
 import com.setianjay.models.request.booking.BookingAuthRequest;
 import com.setianjay.models.response.booking.*;
+import com.setianjay.payload.BookingDataGenerator;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
 import com.setianjay.utils.LoggerUtils;
+import com.setianjay.warmup.WarmupRegistry;
 import io.restassured.RestAssured;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Iterator;
 
 import static org.testng.Assert.*;
 
 public class BookingApiTest extends BaseTest {
+    private static final RequestTemplate CREATE_TOKEN = RequestTemplate.builder(Method.POST, "/auth")
+            .body(new BookingAuthRequest("admin", "password123"))
+            .build();
+    private static final RequestTemplate CREATE_BOOKING = RequestTemplate.builder(Method.POST, "/booking").build();
+    private static final RequestTemplate UPDATE_BOOKING = RequestTemplate.builder(Method.PUT, "/booking/{id}").build();
+    private static final RequestTemplate PARTIAL_UPDATE_BOOKING = RequestTemplate.builder(Method.PATCH, "/booking/{id}").build();
+    private static final RequestTemplate GET_BOOKING = RequestTemplate.builder(Method.GET, "/booking/{id}").build();
+    private static final RequestTemplate DELETE_BOOKING = RequestTemplate.builder(Method.DELETE, "/booking/{id}").build();
+    private static final RequestTemplate GET_BOOKING_IDS = RequestTemplate.builder(Method.GET, "/booking").build();
+
+    private static final JsonSchema BOOKING_SCHEMA = JsonSchemaRegistry.forClass(BookingResponse.class);
+    private static final JsonSchema BOOKING_CREATE_SCHEMA = JsonSchemaRegistry.forClass(BookingCreateResponse.class);
+
+    private static final JsonAssertions CREATE_TOKEN_ASSERTIONS = JsonAssertions.builder()
+            .that("$.token exists")
+            .capture("token", "$.token")
+            .build();
+    private static final JsonAssertions PARTIAL_UPDATE_BOOKING_ASSERTIONS = JsonAssertions.of(
+            "$.firstname == \"Nico\"",
+            "$.lastname == \"Robin\"",
+            "$.totalprice == 400000");
+    private static final JsonAssertions GET_BOOKING_ASSERTIONS = JsonAssertions.of(
+            "$.firstname exists",
+            "$.bookingdates.checkin exists");
+    private static final JsonAssertions GET_BOOKING_IDS_ASSERTIONS = JsonAssertions.of("$[*].bookingid size > 0");
+    // Hanya booking valid; index booking yang gagal bisa di-reproduce dengan -Ddata.seed yang sama
+    private static final BookingDataGenerator GENERATED_BOOKINGS = new BookingDataGenerator(
+            Long.getLong(DataConstant.SEED_PROPERTY, DataConstant.DEFAULT_SEED), DataConstant.DEFAULT_STREAM, 0.0);
+    private static final int GENERATED_BOOKING_COUNT = 3;
+
+    static {
+        // POST /auth aman diulang (hanya membuat token), request lain yang mengubah data tidak di-warm-up
+        WarmupRegistry.request(NetworkConstant.BOOKING_BASE_URI, CREATE_TOKEN.bind(), null);
+        WarmupRegistry.request(NetworkConstant.BOOKING_BASE_URI, GET_BOOKING_IDS.bind(), null);
+        BookingResponse booking = new BookingResponse("Vinsmoke", "Sanji", 100000, true,
+                new BookingDatesResponse("2025-09-16", "2025-09-17"), "Professional Chef");
+        WarmupRegistry.serializer(booking);
+        WarmupRegistry.serializer(new BookingCreateResponse(1, booking));
+    }
+
     private Integer id;
 
     private void setId(Integer id) {
@@ -34,7 +84,7 @@ public class BookingApiTest extends BaseTest {
 
     @Override
     protected void setBaseURI() {
-        RestAssured.baseURI = "https://restful-booker.herokuapp.com";
+        RestAssured.baseURI = NetworkConstant.BOOKING_BASE_URI;
     }
 
     @Override
@@ -51,18 +101,13 @@ public class BookingApiTest extends BaseTest {
 
     private void testCreateToken() throws JsonProcessingException {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
-        BookingAuthRequest bookingAuthRequestBody = new BookingAuthRequest("admin", "password123");
-        Map<String, String> headers = new HashMap<>() {{
-            put("Content-Type", "application/json");
-            put("Accept", "application/json");
-            put("User-Agent", "API-Test-Automation/1.0");
-        }};
-        executeRequest(Method.POST, "/auth", bookingAuthRequestBody, headers, null, null);
-        BookingAuthResponse response = deserializeResponse(getResponse().asString(), BookingAuthResponse.class);
+        executeRequest(CREATE_TOKEN.bind());
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertNotNull(response.getToken());
-        setToken(response.getToken());
+        JsonAssertionResult result = assertResponse(CREATE_TOKEN_ASSERTIONS);
+        setToken(result.getCapturedString("token"));
+        // Token yang sama dipakai ResourceCleanup untuk menghapus booking yang dibuat test
+        ResourceCleanup.authorize(getBaseUri(), "Cookie", "token=" + getTokenAuth());
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 
@@ -71,13 +116,16 @@ public class BookingApiTest extends BaseTest {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
         BookingDatesResponse bookingDatesBodyRequest = new BookingDatesResponse("2025-09-16", "2025-09-17");
         BookingResponse bookingBodyRequest = new BookingResponse("Vinsmoke", "Sanji", 100000, true, bookingDatesBodyRequest, "Professional Chef");
-        executeRequest(Method.POST, "/booking", bookingBodyRequest, null, null, null);
+        executeRequest(CREATE_BOOKING.bind().body(bookingBodyRequest));
         BookingCreateResponse bookingCreateResponse = deserializeResponse(getResponse().asString(), BookingCreateResponse.class);
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertSchema(BOOKING_CREATE_SCHEMA);
         assertNotNull(bookingCreateResponse);
         assertEquals(bookingCreateResponse.getBooking(), bookingBodyRequest);
         setId(bookingCreateResponse.getBookingid());
+        // Tetap terhapus walaupun testDeleteBooking gagal atau di-skip
+        trackForCleanup(CleanupTargets.BOOKING, getId());
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 
@@ -86,16 +134,13 @@ public class BookingApiTest extends BaseTest {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
         BookingDatesResponse bookingDatesBodyRequest = new BookingDatesResponse("2025-09-17", "2025-09-18");
         BookingResponse bookingBodyRequest = new BookingResponse("Tony", "Chopper", 200000, false, bookingDatesBodyRequest, "Professional Doctor");
-        Map<String, String> customHeader = new HashMap<>() {{
-            put("Cookie", "token=" + getTokenAuth());
-        }};
-        Map<String, Object> requestPaths = new HashMap<>() {{
-            put("id", getId());
-        }};
-        executeRequest(Method.PUT, "/booking/{id}", bookingBodyRequest, customHeader, null, requestPaths);
+        executeRequest(UPDATE_BOOKING.bind(getId())
+                .header("Cookie", "token=" + getTokenAuth())
+                .body(bookingBodyRequest));
         BookingResponse bookingUpdateResponse = deserializeResponse(getResponse().asString(), BookingResponse.class);
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertSchema(BOOKING_SCHEMA);
         assertNotNull(bookingUpdateResponse);
         assertEquals(bookingUpdateResponse, bookingBodyRequest);
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
@@ -106,34 +151,24 @@ public class BookingApiTest extends BaseTest {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
         BookingResponse bookingBodyRequest =
                 BookingResponse.builder().firstname("Nico").lastname("Robin").totalprice(400000).build();
-        Map<String, String> customHeader = new HashMap<>() {{
-            put("Cookie", "token=" + getTokenAuth());
-        }};
-        Map<String, Object> requestPaths = new HashMap<>() {{
-            put("id", getId());
-        }};
-        executeRequest(Method.PATCH, "/booking/{id}", bookingBodyRequest, customHeader, null, requestPaths);
-        BookingResponse bookingPartialUpdateResponse = deserializeResponse(getResponse().asString(), BookingResponse.class);
+        executeRequest(PARTIAL_UPDATE_BOOKING.bind(getId())
+                .header("Cookie", "token=" + getTokenAuth())
+                .body(bookingBodyRequest));
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertNotNull(bookingPartialUpdateResponse);
-        assertEquals(bookingPartialUpdateResponse.getFirstname(), bookingBodyRequest.getFirstname());
-        assertEquals(bookingPartialUpdateResponse.getLastname(), bookingBodyRequest.getLastname());
-        assertEquals(bookingPartialUpdateResponse.getTotalprice(), bookingBodyRequest.getTotalprice());
+        assertSchema(BOOKING_SCHEMA);
+        assertResponse(PARTIAL_UPDATE_BOOKING_ASSERTIONS);
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 
     @Test(testName = "testGetBooking", priority = 4)
     public void testGetBooking() throws JsonProcessingException {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
-        Map<String, Object> requestPaths = new HashMap<>() {{
-            put("id", getId());
-        }};
-        executeRequest(Method.GET, "/booking/{id}", null, null, null, requestPaths);
-        BookingResponse bookingResponse = deserializeResponse(getResponse().asString(), BookingResponse.class);
+        executeRequest(GET_BOOKING.bind(getId()));
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertNotNull(bookingResponse);
+        assertSchema(BOOKING_SCHEMA);
+        assertResponse(GET_BOOKING_ASSERTIONS);
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 
@@ -142,18 +177,14 @@ public class BookingApiTest extends BaseTest {
     @Test(testName = "testDeleteBooking", priority = 5)
     public void testDeleteBooking() {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
-        Map<String, String> customHeader = new HashMap<>() {{
-            put("Cookie", "token=" + getTokenAuth());
-        }};
-        Map<String, Object> requestPaths = new HashMap<>() {{
-            put("id", getId());
-        }};
-        executeRequest(Method.DELETE, "/booking/{id}", null,customHeader, null, requestPaths);
+        executeRequest(DELETE_BOOKING.bind(getId())
+                .header("Cookie", "token=" + getTokenAuth()));
         String bookingDeleteResponse = getResponse().asString();
 
         assertEquals(getResponse().statusCode(), HttpStatus.CREATED.code());
         assertNotNull(bookingDeleteResponse);
         assertEquals(bookingDeleteResponse, "Created");
+        ResourceCleanup.forget(getBaseUri(), CleanupTargets.BOOKING, getId());
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
 
     }
@@ -162,11 +193,29 @@ public class BookingApiTest extends BaseTest {
     @Test(testName = "testGetBookingId", priority = 6)
     public void testGetBookingId() throws JsonProcessingException {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
-        executeRequest(Method.GET, "/booking", null, null, null, null);
-        List<BookingIdResponse> listBookingIdResponse = deserializeResponseToList(getResponse().asString(), BookingIdResponse.class);
+        executeRequest(GET_BOOKING_IDS.bind());
+
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertResponse(GET_BOOKING_IDS_ASSERTIONS);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @DataProvider(name = "generatedBookings")
+    public Iterator<Object[]> generatedBookings() {
+        return GENERATED_BOOKINGS.rows(0, GENERATED_BOOKING_COUNT);
+    }
+
+    @Test(testName = "testCreateGeneratedBooking", priority = 7, dataProvider = "generatedBookings")
+    public void testCreateGeneratedBooking(long index, BookingResponse booking) throws JsonProcessingException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        logger.info("🎲 Booking #{} from {}", index, GENERATED_BOOKINGS);
+        executeRequest(CREATE_BOOKING.bind().body(GENERATED_BOOKINGS.bookingBytes(index)));
+        BookingCreateResponse bookingCreateResponse = deserializeResponse(getResponse().asString(), BookingCreateResponse.class);
+        trackForCleanup(CleanupTargets.BOOKING, bookingCreateResponse.getBookingid());
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertFalse(listBookingIdResponse.isEmpty());
+        assertSchema(BOOKING_CREATE_SCHEMA);
+        assertEquals(bookingCreateResponse.getBooking(), booking);
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 }
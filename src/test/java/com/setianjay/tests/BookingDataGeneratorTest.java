@@ -0,0 +1,299 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.DataConstant;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.BookingEdgeCase;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.load.LoadReport;
+import com.setianjay.load.LoadScenarioCatalog;
+import com.setianjay.load.OpenLoopLoadDriver;
+import com.setianjay.models.response.booking.BookingCreateResponse;
+import com.setianjay.models.response.booking.BookingResponse;
+import com.setianjay.payload.BookingDataGenerator;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Reproducibility, validitas, cakupan edge case dan throughput BookingDataGenerator, termasuk pemakaian
+ * dari DataProvider dan load mode terhadap stub API lokal (JDK HttpServer) yang meng-echo booking
+ */
+public class BookingDataGeneratorTest extends BaseTest {
+    private static final RequestTemplate CREATE_BOOKING = RequestTemplate.builder(Method.POST, "/booking").build();
+    private static final BookingDataGenerator EDGE_CASES = new BookingDataGenerator(7, 0, 0.5);
+    private static final int SAMPLE_BOOKINGS = 10_000;
+    private static final int BENCHMARK_BOOKINGS = 1_000_000;
+
+    private final AtomicInteger nextBookingId = new AtomicInteger();
+    private final Set<String> receivedBodies = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private HttpServer upstream;
+    private String baseUri;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/booking", this::handleCreateBooking);
+            // Login ResourceCleanup untuk menghapus booking dari load scenario
+            upstream.createContext("/auth", exchange -> {
+                byte[] token = "{\"token\":\"stub\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(HttpStatus.OK.code(), token.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(token);
+                }
+            });
+            upstream.setExecutor(executor);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test(testName = "testSameSeedStreamAndIndexGiveSameBytes")
+    public void testSameSeedStreamAndIndexGiveSameBytes() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        BookingDataGenerator generator = new BookingDataGenerator(42, 0, 0.2);
+        BookingDataGenerator sameSeed = new BookingDataGenerator(42, 0, 0.2);
+        BookingDataGenerator otherStream = new BookingDataGenerator(42, 1, 0.2);
+        BookingDataGenerator otherSeed = new BookingDataGenerator(43, 0, 0.2);
+
+        // Urutan generate tidak berpengaruh: booking ke-index hanya bergantung pada seed, stream dan index
+        for (int index = 999; index >= 0; index--) {
+            assertEquals(sameSeed.bookingBytes(index), generator.bookingBytes(index), "index " + index);
+        }
+        int sameAsOtherStream = 0;
+        int sameAsOtherSeed = 0;
+        Set<String> distinct = ConcurrentHashMap.newKeySet();
+        for (int index = 0; index < 1000; index++) {
+            byte[] bytes = generator.bookingBytes(index);
+            sameAsOtherStream += Arrays.equals(bytes, otherStream.bookingBytes(index)) ? 1 : 0;
+            sameAsOtherSeed += Arrays.equals(bytes, otherSeed.bookingBytes(index)) ? 1 : 0;
+            distinct.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        assertEquals(sameAsOtherStream, 0);
+        assertEquals(sameAsOtherSeed, 0);
+        assertEquals(distinct.size(), 1000);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testBytesMatchSerializedModel")
+    public void testBytesMatchSerializedModel() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ObjectMapper mapper = JsonUtils.getObjectMapper();
+        for (int index = 0; index < 2000; index++) {
+            // Dibandingkan sebagai tree: emoji ditulis ObjectMapper sebagai escape surrogate, generator sebagai UTF-8
+            byte[] bytes = EDGE_CASES.bookingBytes(index);
+            assertEquals(mapper.readTree(bytes), mapper.readTree(mapper.writeValueAsBytes(EDGE_CASES.booking(index))),
+                    "index " + index + ": " + new String(bytes, StandardCharsets.UTF_8));
+        }
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testValidBookingsAndEdgeCaseCoverage")
+    public void testValidBookingsAndEdgeCaseCoverage() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Map<BookingEdgeCase, Integer> counts = new EnumMap<>(BookingEdgeCase.class);
+        for (int index = 0; index < SAMPLE_BOOKINGS; index++) {
+            BookingResponse booking = EDGE_CASES.booking(index);
+            BookingEdgeCase edgeCase = EDGE_CASES.edgeCase(index);
+            LocalDate checkin = LocalDate.parse(booking.getBookingdates().getCheckin());
+            LocalDate checkout = LocalDate.parse(booking.getBookingdates().getCheckout());
+            String context = "index " + index + " (" + edgeCase + "): " + booking;
+            if (edgeCase == null) {
+                assertTrue(checkout.isAfter(checkin), context);
+                assertTrue(booking.getTotalprice() >= DataConstant.MIN_VALID_PRICE
+                        && booking.getTotalprice() <= DataConstant.MAX_VALID_PRICE, context);
+                assertFalse(booking.getFirstname().isBlank(), context);
+                continue;
+            }
+            counts.merge(edgeCase, 1, Integer::sum);
+            switch (edgeCase) {
+                case UNICODE_NAME:
+                    assertTrue(booking.getFirstname().chars().anyMatch(c -> c > 127)
+                            || booking.getLastname().chars().anyMatch(c -> c > 127), context);
+                    break;
+                case BLANK_OR_LONG_NAME:
+                    assertTrue(booking.getFirstname().isBlank()
+                            || booking.getFirstname().length() == DataConstant.LONG_TEXT_CHARS, context);
+                    break;
+                case PRICE_LIMIT:
+                    assertTrue(booking.getTotalprice() <= 0 || booking.getTotalprice() == Integer.MAX_VALUE, context);
+                    break;
+                case SAME_DAY:
+                    assertEquals(checkout, checkin, context);
+                    break;
+                case INVERTED_DATES:
+                    assertTrue(checkout.isBefore(checkin), context);
+                    break;
+                default:
+                    assertNotNull(booking.getAdditionalneeds(), context);
+            }
+        }
+
+        logger.info("🎲 Edge cases in {} bookings from {}: {}", SAMPLE_BOOKINGS, EDGE_CASES, counts);
+        assertEquals(counts.keySet(), Set.of(BookingEdgeCase.values()));
+        int edgeCases = counts.values().stream().mapToInt(Integer::intValue).sum();
+        assertTrue(Math.abs(edgeCases - SAMPLE_BOOKINGS / 2) < SAMPLE_BOOKINGS / 20, "edge cases=" + edgeCases);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testThroughputWithoutPerBookingAllocation")
+    public void testThroughputWithoutPerBookingAllocation() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CountingSink sink = new CountingSink();
+        try (JsonGenerator generator = JsonUtils.getObjectMapper().getFactory().createGenerator(sink)) {
+            generator.setRootValueSeparator(null);
+            for (int index = 0; index < 10_000; index++) {
+                EDGE_CASES.writeBooking(generator, index);
+            }
+
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int index = 0; index < BENCHMARK_BOOKINGS; index++) {
+                EDGE_CASES.writeBooking(generator, index);
+            }
+            generator.flush();
+            long writeNanos = System.nanoTime() - start;
+            long allocatedPerBooking = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / BENCHMARK_BOOKINGS;
+
+            start = System.nanoTime();
+            long bytes = 0;
+            for (int index = 0; index < BENCHMARK_BOOKINGS; index++) {
+                bytes += EDGE_CASES.bookingBytes(index).length;
+            }
+            long bytesNanos = System.nanoTime() - start;
+
+            logger.info("🎲 {} bookings: writeBooking {} ms ({} bookings/s, {} B allocated per booking), "
+                            + "bookingBytes {} ms ({} bookings/s, avg {} B)", BENCHMARK_BOOKINGS,
+                    writeNanos / 1_000_000, (long) (BENCHMARK_BOOKINGS / (writeNanos / 1e9)), allocatedPerBooking,
+                    bytesNanos / 1_000_000, (long) (BENCHMARK_BOOKINGS / (bytesNanos / 1e9)), bytes / BENCHMARK_BOOKINGS);
+            // Tabel pre-encoded ditulis langsung ke buffer generator, tidak ada String/object per booking
+            assertTrue(allocatedPerBooking < 16, "allocated per booking=" + allocatedPerBooking);
+            assertTrue(sink.count > 0);
+        }
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @DataProvider(name = "generatedBookings")
+    public Iterator<Object[]> generatedBookings() {
+        return EDGE_CASES.rows(100, 10);
+    }
+
+    @Test(testName = "testGeneratedBookingsFromDataProvider", dataProvider = "generatedBookings")
+    public void testGeneratedBookingsFromDataProvider(long index, BookingResponse booking) throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        executeRequest(CREATE_BOOKING.bind().body(EDGE_CASES.bookingBytes(index)));
+        BookingCreateResponse created = deserializeResponse(getResponse().asString(), BookingCreateResponse.class);
+
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertEquals(created.getBooking(), booking, "index " + index + " (" + EDGE_CASES.edgeCase(index) + ")");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testGeneratedBookingsUnderLoad")
+    public void testGeneratedBookingsUnderLoad() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        String name = "booking-create-generated";
+        receivedBodies.clear();
+        LoadReport report = new OpenLoopLoadDriver(8).run(name, LoadProfile.constantRate(100, Duration.ofSeconds(1)),
+                LoadScenarioCatalog.create(name, baseUri));
+        report.log(logger);
+
+        // Setiap arrival mengirim booking berikutnya, divalidasi dengan schema BookingCreateResponse
+        assertEquals(report.getErrors(), 0L);
+        assertEquals(report.getCompleted(), 100L);
+        assertEquals(receivedBodies.size(), 100);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * POST /booking: echo body sebagai {"bookingid": n, "booking": body}; DELETE /booking/{id} dari ResourceCleanup
+     */
+    private void handleCreateBooking(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals(Method.POST.name())) {
+            exchange.sendResponseHeaders(HttpStatus.CREATED.code(), -1);
+            exchange.close();
+            return;
+        }
+        byte[] request = exchange.getRequestBody().readAllBytes();
+        receivedBodies.add(new String(request, StandardCharsets.UTF_8));
+        byte[] prefix = ("{\"bookingid\":" + nextBookingId.incrementAndGet() + ",\"booking\":")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(HttpStatus.OK.code(), prefix.length + request.length + 1);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(prefix);
+            out.write(request);
+            out.write('}');
+        }
+    }
+
+    private static final class CountingSink extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            count += length;
+        }
+    }
+}
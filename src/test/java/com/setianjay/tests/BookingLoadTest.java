@@ -0,0 +1,67 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.cleanup.CleanupTargets;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadReport;
+import com.setianjay.models.response.booking.BookingCreateResponse;
+import com.setianjay.models.response.booking.BookingDatesResponse;
+import com.setianjay.models.response.booking.BookingResponse;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.warmup.WarmupRegistry;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+public class BookingLoadTest extends BaseTest {
+    private static final RequestTemplate CREATE_BOOKING = RequestTemplate.builder(Method.POST, "/booking").build();
+    private static final RequestTemplate GET_BOOKING_IDS = RequestTemplate.builder(Method.GET, "/booking").build();
+
+    private static final JsonSchema BOOKING_CREATE_SCHEMA = JsonSchemaRegistry.forClass(BookingCreateResponse.class);
+
+    static {
+        WarmupRegistry.request(NetworkConstant.BOOKING_BASE_URI, GET_BOOKING_IDS.bind(), null);
+        WarmupRegistry.serializer(new BookingResponse("Vinsmoke", "Sanji", 100000, true,
+                new BookingDatesResponse("2025-09-16", "2025-09-17"), "Professional Chef"));
+    }
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = NetworkConstant.BOOKING_BASE_URI;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        setBaseURI();
+    }
+
+    @Test(testName = "testCreateBookingLoad", priority = 1)
+    public void testCreateBookingLoad() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        BookingDatesResponse bookingDatesBodyRequest = new BookingDatesResponse("2025-09-16", "2025-09-17");
+        BookingResponse bookingBodyRequest = new BookingResponse("Vinsmoke", "Sanji", 100000, true, bookingDatesBodyRequest, "Professional Chef");
+        LoadReport report = runOpenLoopLoad("booking-create",
+                loadScenario(CREATE_BOOKING.bind().body(bookingBodyRequest), BOOKING_CREATE_SCHEMA, CleanupTargets.BOOKING));
+
+        assertLoadReport(report);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testGetBookingIdLoad", priority = 2)
+    public void testGetBookingIdLoad() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoadReport report = runOpenLoopLoad("booking-list",
+                loadScenario(GET_BOOKING_IDS.bind()));
+
+        assertLoadReport(report);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
@@ -0,0 +1,195 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.analysis.AnalysisReport;
+import com.setianjay.analysis.ExchangeAggregate;
+import com.setianjay.analysis.ExchangeAnalyzer;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.journal.ExchangeJournal;
+import com.setianjay.load.LatencyHistogram;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Analisis journal dan log sintetis di directory temporary (tanpa network)
+ */
+public class ExchangeAnalyzerTest extends BaseTest {
+    private static final DateTimeFormatter LOG_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final LocalDateTime LOG_START = LocalDateTime.of(2026, 1, 15, 10, 0, 0);
+
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("exchange-analyzer");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testJournalPercentilesErrorsAndSlowest")
+    public void testJournalPercentilesErrorsAndSlowest() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path path = Files.createDirectories(directory.resolve("journal")).resolve("run" + JournalConstant.FILE_EXTENSION);
+        try (ExchangeJournal journal = ExchangeJournal.open(path, 1)) {
+            for (int i = 1; i <= 1000; i++) {
+                journal.record("GET /objects/{id}", i % 20 == 0 ? 503 : 200, false, null, i * 1_000_000L, 0, null);
+            }
+            for (int i = 0; i < 10; i++) {
+                journal.record("POST /booking", -1, true, null, 5_000_000, 0, null);
+            }
+        }
+
+        // Segment kecil supaya journal benar-benar dibagi ke banyak task
+        AnalysisReport report = ExchangeAnalyzer.builder().top(5).parallelism(4).segmentSize(64, 4096).build()
+                .analyze(List.of(path));
+        report.log(logger);
+        ExchangeAggregate aggregate = report.getAggregate();
+
+        assertEquals(aggregate.getCount(), 1010);
+        assertEquals(aggregate.getErrors(), 60);
+        assertEquals(aggregate.getStatusCounts(), Map.of(-1, 10L, 200, 950L, 503, 50L));
+        assertEquals(aggregate.getErrorCounts(), Map.of("GET /objects/{id}", Map.of(503, 50L), "POST /booking", Map.of(-1, 10L)));
+
+        LatencyHistogram objects = aggregate.getLatencies().get("GET /objects/{id}");
+        assertEquals(objects.getTotalCount(), 1000);
+        assertEquals(objects.getValueAtPercentile(50) / 1000.0, 500.0, 500.0 * 0.02);
+        assertEquals(objects.getMax(), 1_000_000);
+
+        List<ExchangeAggregate.SlowExchange> slowest = aggregate.getSlowest();
+        assertEquals(slowest.size(), 5);
+        for (int i = 0; i < slowest.size(); i++) {
+            assertEquals(slowest.get(i).getTotalNanos(), (1000 - i) * 1_000_000L);
+        }
+        assertEquals(aggregate.getWindows().stream().mapToLong(ExchangeAggregate.Window::getCount).sum(), 1010);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testLogSegmentsDoNotLoseOrDuplicateLines")
+    public void testLogSegmentsDoNotLoseOrDuplicateLines() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path log = Files.createDirectories(directory.resolve("logs")).resolve("api-tests.log");
+        int requests = 6000;
+        writeLog(log, requests);
+
+        ExchangeAnalyzer.Builder builder = ExchangeAnalyzer.builder().zone(ZoneOffset.UTC).parallelism(4);
+        // Segment 1KB memotong hampir semua baris di tengah; hasil harus sama dengan satu segment
+        AnalysisReport segmented = builder.segmentSize(64, 1024).build().analyze(List.of(log));
+        AnalysisReport single = builder.segmentSize(64, Long.MAX_VALUE).build().analyze(List.of(log));
+        segmented.log(logger);
+
+        for (AnalysisReport report : List.of(segmented, single)) {
+            ExchangeAggregate aggregate = report.getAggregate();
+            assertEquals(aggregate.getCount(), requests);
+            assertEquals(aggregate.getStatusCounts(), Map.of(0, (long) requests));
+            assertEquals(aggregate.getLatencies().keySet(), Set.of("GET /objects", "GET /objects/{id}", "POST /booking"));
+            assertEquals(aggregate.getLatencies().get("GET /objects/{id}").getTotalCount(), requests / 3);
+
+            // Satu request per 10ms selama 60 detik = 6 window 10 detik
+            List<ExchangeAggregate.Window> windows = aggregate.getWindows();
+            assertEquals(windows.size(), 6);
+            windows.forEach(window -> assertEquals(window.getCount(), requests / 6));
+            assertEquals(windows.get(0).getStartEpochMicros(), LOG_START.toEpochSecond(ZoneOffset.UTC) * 1_000_000);
+        }
+        assertEquals(segmented.getAggregate().getOverallLatency().getValueAtPercentile(99),
+                single.getAggregate().getOverallLatency().getValueAtPercentile(99));
+        assertEquals(segmented.getAggregate().getSlowest().get(0).getTotalNanos(), 299 * 1_000_000L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testDirectoryPrefersJournalAndWritesJson", dependsOnMethods = {
+            "testJournalPercentilesErrorsAndSlowest", "testLogSegmentsDoNotLoseOrDuplicateLines"})
+    public void testDirectoryPrefersJournalAndWritesJson() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path mixed = Files.createDirectories(directory.resolve("mixed"));
+        Files.copy(directory.resolve("journal").resolve("run" + JournalConstant.FILE_EXTENSION),
+                mixed.resolve("run" + JournalConstant.FILE_EXTENSION));
+        Files.copy(directory.resolve("logs").resolve("api-tests.log"), mixed.resolve("api-tests.log"));
+
+        ExchangeAnalyzer analyzer = ExchangeAnalyzer.builder().build();
+        AnalysisReport journalReport = analyzer.analyze(List.of(mixed));
+        assertEquals(journalReport.getSources().size(), 1);
+        assertEquals(journalReport.getAggregate().getCount(), 1010);
+
+        AnalysisReport logReport = analyzer.analyze(List.of(directory.resolve("logs")));
+        assertEquals(logReport.getAggregate().getCount(), 6000);
+
+        Path json = directory.resolve("report.json");
+        journalReport.writeJson(json);
+        JsonNode root = JsonUtils.getObjectMapper().readTree(json.toFile());
+        assertEquals(root.path("summary").path("exchanges").asLong(), 1010);
+        assertEquals(root.path("statusCounts").path("failed").asLong(), 10);
+        assertEquals(root.path("errors").path("GET /objects/{id}").path("503").asLong(), 50);
+        assertTrue(root.path("latency").path("GET /objects/{id}").path("p99Ms").asDouble() > 900);
+        assertEquals(root.path("slowest").size(), 20);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Log dengan format logback.xml: baris request diselingi baris lain dan emoji multi-byte
+     */
+    private static void writeLog(Path log, int requests) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < requests; i++) {
+                long durationMillis = i % 300;
+                // Baris ditulis setelah response, jadi exchange i mulai tepat di i * 10ms + 5ms
+                String timestamp = LOG_TIMESTAMP.format(LOG_START.plusNanos((i * 10L + 5 + durationMillis) * 1_000_000));
+                String prefix = timestamp + " [main] INFO  [TEST-" + i + "] [] c.s.tests.PhoneApiTest - ";
+                String request;
+                switch (i % 3) {
+                    case 0:
+                        request = "GET https://api.restful-api.dev/objects";
+                        break;
+                    case 1:
+                        request = "GET https://api.restful-api.dev/objects/" + (i % 13) + "?x=1";
+                        break;
+                    default:
+                        request = "POST https://restful-booker.herokuapp.com/booking";
+                }
+                writer.write(prefix + "🚀 Starting test: " + i + "\n");
+                // Duration dicatat di log sebagai milliseconds walaupun label-nya "seconds"
+                writer.write(prefix + "📤 API Request: " + request + " with duration " + durationMillis + " seconds\n");
+                writer.write(prefix + "📥 Response: {\"id\":\"" + i + "\"}\n");
+            }
+        }
+    }
+}
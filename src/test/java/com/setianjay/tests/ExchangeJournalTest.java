@@ -0,0 +1,202 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.JournalConstant;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.journal.ExchangeJournal;
+import com.setianjay.journal.ExchangeJournalReader;
+import com.setianjay.journal.ExchangeRecord;
+import com.setianjay.timing.RequestTrace;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tulis dan baca ulang journal exchange di directory temporary (tanpa network)
+ */
+public class ExchangeJournalTest extends BaseTest {
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("exchange-journal");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testRecordsAreReadBackWithAllFields")
+    public void testRecordsAreReadBackWithAllFields() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path path = directory.resolve("fields" + JournalConstant.FILE_EXTENSION);
+        RequestTrace trace = RequestTrace.start();
+        try {
+            trace.record(RequestPhase.TTFB, 12_345_000);
+            trace.record(RequestPhase.DOWNLOAD, 2_000_000);
+        } finally {
+            RequestTrace.stop();
+        }
+        byte[] body = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+        try (ExchangeJournal journal = ExchangeJournal.open(path, 1)) {
+            journal.record("GET /objects/{id}", 200, false, trace, 15_000_000, body.length, 0x5EED);
+            journal.record("POST /booking", -1, true, null, 30_000_000, 0, null);
+        }
+
+        List<ExchangeRecord> records = new ArrayList<>();
+        try (ExchangeJournalReader reader = ExchangeJournalReader.open(path)) {
+            assertTrue(reader.isClosedCleanly());
+            assertEquals(reader.getTemplates().size(), 2);
+            reader.forEach(records::add);
+        }
+
+        assertEquals(records.size(), 2);
+        ExchangeRecord ok = records.get(0);
+        assertEquals(ok.getTemplate(), "GET /objects/{id}");
+        assertEquals(ok.getStatus(), 200);
+        assertEquals(ok.getTotalNanos(), 15_000_000);
+        assertEquals(ok.getPhaseMicros(RequestPhase.TTFB), 12_345);
+        assertFalse(ok.hasPhase(RequestPhase.CONNECT));
+        assertEquals(ok.getDecodedBytes(), body.length);
+        assertTrue(ok.hasBodyDigest());
+        assertEquals(ok.getBodyDigest(), 0x5EED);
+
+        ExchangeRecord failed = records.get(1);
+        assertEquals(failed.getTemplate(), "POST /booking");
+        assertTrue(failed.isFailed());
+        assertFalse(failed.hasBodyDigest());
+        // start = waktu record dikurangi total, jadi exchange yang lebih lama mulai lebih awal
+        long nowMicros = System.currentTimeMillis() * 1000;
+        assertTrue(Math.abs(nowMicros - ok.getStartEpochMicros()) < 60_000_000L);
+        assertTrue(failed.getStartEpochMicros() < ok.getStartEpochMicros());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testConcurrentWritersDoNotLoseRecords")
+    public void testConcurrentWritersDoNotLoseRecords() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path path = directory.resolve("concurrent" + JournalConstant.FILE_EXTENSION);
+        int threads = 8;
+        int perThread = 25_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (ExchangeJournal journal = ExchangeJournal.open(path, 64)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String template = "GET /objects/" + (t % 3);
+                int status = 200 + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        journal.record(template, status, false, null, i, i, null);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Integer, AtomicLong> perStatus = new ConcurrentHashMap<>();
+        try (ExchangeJournalReader reader = ExchangeJournalReader.open(path)) {
+            assertEquals(reader.getTemplates().size(), 3);
+            reader.forEach(record -> perStatus.computeIfAbsent(record.getStatus(), key -> new AtomicLong()).incrementAndGet());
+        }
+        assertEquals(perStatus.size(), threads);
+        perStatus.values().forEach(count -> assertEquals(count.get(), perThread));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testUncleanJournalReadsPastUncommittedSlot")
+    public void testUncleanJournalReadsPastUncommittedSlot() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path path = directory.resolve("unclean" + JournalConstant.FILE_EXTENSION);
+        try (ExchangeJournal journal = ExchangeJournal.open(path, 1)) {
+            for (int i = 0; i < 10; i++) {
+                journal.record("GET /booking", 200 + i, false, null, i, 0, null);
+            }
+        }
+
+        // Proses mati: header belum ditulis close, dan slot 3 (exchange status 202) sudah diambil tapi belum di-commit
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES), JournalConstant.HEADER_COMMITTED_RECORDS);
+            channel.write(ByteBuffer.allocate(Integer.BYTES),
+                    JournalConstant.HEADER_BYTES + 3L * JournalConstant.RECORD_BYTES + JournalConstant.RECORD_TYPE);
+        }
+
+        List<Integer> statuses = new ArrayList<>();
+        try (ExchangeJournalReader reader = ExchangeJournalReader.open(path)) {
+            assertFalse(reader.isClosedCleanly());
+            // Satu slot template + 10 exchange
+            assertEquals(reader.getSlotCount(), 11L);
+            reader.forEach(record -> statuses.add(record.getStatus()));
+        }
+        assertEquals(statuses, List.of(200, 201, 203, 204, 205, 206, 207, 208, 209));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testFullJournalDropsAndCounts")
+    public void testFullJournalDropsAndCounts() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path path = directory.resolve("full" + JournalConstant.FILE_EXTENSION);
+        long capacity = (1024 * 1024 - JournalConstant.HEADER_BYTES) / JournalConstant.RECORD_BYTES;
+
+        try (ExchangeJournal journal = ExchangeJournal.open(path, 1)) {
+            for (long i = 0; i < capacity + 100; i++) {
+                journal.record("GET /booking", 200, false, null, i, 0, null);
+            }
+            // Satu slot dipakai record template
+            assertEquals(journal.getDropped(), 101);
+        }
+
+        AtomicLong exchanges = new AtomicLong();
+        try (ExchangeJournalReader reader = ExchangeJournalReader.open(path)) {
+            assertEquals(reader.getDropped(), 101);
+            reader.forEach(record -> exchanges.incrementAndGet());
+        }
+        assertEquals(exchanges.get(), capacity - 1);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
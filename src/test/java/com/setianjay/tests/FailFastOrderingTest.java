@@ -0,0 +1,141 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.ordering.FailFastMethodInterceptor;
+import com.setianjay.ordering.TestOutcomeHistory;
+import com.setianjay.ordering.TestOutcomeListener;
+import com.setianjay.tests.fixtures.OrderingFixture;
+import com.setianjay.tests.fixtures.StableFixture;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Jalankan suite TestNG kecil (fixture di package tests.fixtures) dengan history sintetis untuk memeriksa
+ * urutan fail-fast dan penghentian run setelah threshold gagal (tanpa network)
+ */
+public class FailFastOrderingTest extends BaseTest {
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("fail-fast-ordering");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        OrderingFixture.reset(Set.of());
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testLikelyFailuresRunFirstWithinConstraints")
+    public void testLikelyFailuresRunFirstWithinConstraints() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path file = seedHistory("ordering");
+
+        run(file, 0);
+
+        // Class yang selalu lolos dan lambat pindah ke belakang walaupun pertama di XML.
+        // step1/step2 (priority) tetap berurutan, dependent tetap setelah stableFast.
+        assertEquals(OrderingFixture.EXECUTED, List.of("flakyFast", "step1", "step2", "stableFast", "dependent", "unseen", "flakySlow",
+                "slowStable"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testFailFastSkipsRemainingTestsAndUpdatesHistory")
+    public void testFailFastSkipsRemainingTestsAndUpdatesHistory() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path file = seedHistory("fail-fast");
+        double before = TestOutcomeHistory.load(file).getFailureProbability(OrderingFixture.class.getName(), "flakyFast");
+        OrderingFixture.reset(Set.of("flakyFast"));
+
+        TestListenerAdapter results = run(file, 1);
+
+        assertEquals(OrderingFixture.EXECUTED, List.of("flakyFast"));
+        assertEquals(results.getFailedTests().size(), 1);
+        assertEquals(results.getSkippedTests().size(), 7);
+
+        // Hanya test yang benar-benar jalan yang masuk history
+        TestOutcomeHistory history = TestOutcomeHistory.load(file);
+        assertTrue(history.getFailureProbability(OrderingFixture.class.getName(), "flakyFast") > before);
+        assertEquals(history.getDurationMillis(OrderingFixture.class.getName(), "unseen"), null);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Lima run sebelumnya: flakyFast, flakySlow dan step2 selalu gagal, sisanya lolos
+     */
+    private Path seedHistory(String name) throws IOException {
+        TestOutcomeHistory history = new TestOutcomeHistory();
+        for (int run = 0; run < 5; run++) {
+            TestOutcomeHistory observed = new TestOutcomeHistory();
+            String fixture = OrderingFixture.class.getName();
+            observed.record(fixture, "flakyFast", true, 10);
+            observed.record(fixture, "flakySlow", true, 5000);
+            observed.record(fixture, "stableFast", false, 10);
+            observed.record(fixture, "step1", false, 10);
+            observed.record(fixture, "step2", true, 10);
+            observed.record(StableFixture.class.getName(), "slowStable", false, 20_000);
+            history.update(observed);
+        }
+        Path file = directory.resolve(name + ".json");
+        history.save(file);
+        return file;
+    }
+
+    private TestListenerAdapter run(Path historyFile, int failFastThreshold) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("OrderingFixtureSuite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("OrderingFixtureTest");
+        test.setXmlClasses(List.of(new XmlClass(StableFixture.class), new XmlClass(OrderingFixture.class)));
+
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(new FailFastMethodInterceptor(historyFile, true));
+        testng.addListener(new TestOutcomeListener(historyFile, failFastThreshold));
+        testng.addListener(results);
+        testng.run();
+        return results;
+    }
+}
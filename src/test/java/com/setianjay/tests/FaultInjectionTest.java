@@ -0,0 +1,221 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.enums.FaultType;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.fault.FaultInjectionProxy;
+import com.setianjay.fault.FaultRule;
+import com.setianjay.fault.LatencyDistribution;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.utils.RequestUtils;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Perilaku harness saat API degrade. Semua berjalan di localhost: stub upstream (JDK HttpServer)
+ * di belakang FaultInjectionProxy, dan executeRequest diarahkan ke proxy.
+ */
+public class FaultInjectionTest extends BaseTest {
+    private static final RequestTemplate GET_ALL_OBJECTS = RequestTemplate.builder(Method.GET, "/objects").build();
+    private static final RequestTemplate GET_OBJECT_BY_ID = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+    private static final RequestTemplate GET_LARGE_OBJECT = RequestTemplate.builder(Method.GET, "/large").build();
+
+    private static final byte[] OBJECTS_BODY = "[{\"id\":\"1\",\"name\":\"Google Pixel 6 Pro\",\"data\":null}]"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_BODY = "{\"id\":\"1\",\"name\":\"Google Pixel 6 Pro\",\"data\":null}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final int LARGE_BODY_BYTES = 16 * 1024;
+
+    private HttpServer upstream;
+    private FaultInjectionProxy proxy;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = proxy.getBaseUri();
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/objects", exchange -> {
+                byte[] body = exchange.getRequestURI().getPath().equals("/objects") ? OBJECTS_BODY : OBJECT_BODY;
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(HttpStatus.OK.code(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            upstream.createContext("/large", exchange -> {
+                byte[] body = new byte[LARGE_BODY_BYTES];
+                Arrays.fill(body, (byte) 'x');
+                exchange.sendResponseHeaders(HttpStatus.OK.code(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            upstream.start();
+
+            proxy = FaultInjectionProxy.start("http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        proxy.clearRules();
+        proxy.resetCounters();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (proxy != null) {
+            proxy.close();
+        }
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+    }
+
+    @Test(testName = "testPassThroughWithoutRules")
+    public void testPassThroughWithoutRules() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        executeRequest(GET_ALL_OBJECTS.bind());
+
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertEquals(getResponse().asByteArray(), OBJECTS_BODY);
+        assertEquals(proxy.getRequestCount(), 1);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testInjectedLatencyOnMatchingRouteOnly")
+    public void testInjectedLatencyOnMatchingRouteOnly() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        proxy.addRule(FaultRule.builder(Method.GET, "/objects/*")
+                .latency(LatencyDistribution.fixed(Duration.ofMillis(300)))
+                .build());
+
+        long start = System.nanoTime();
+        executeRequest(GET_OBJECT_BY_ID.bind(1));
+        long delayedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertTrue(delayedMillis >= 300, "Expected >= 300ms but took " + delayedMillis + "ms");
+
+        executeRequest(GET_ALL_OBJECTS.bind());
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertEquals(proxy.getFaultCount(FaultType.LATENCY), 1);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testInjectedErrorStatus")
+    public void testInjectedErrorStatus() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        proxy.addRule(FaultRule.builder("/objects").status(HttpStatus.SERVICE_UNAVAILABLE.code()).build());
+        executeRequest(GET_ALL_OBJECTS.bind());
+
+        assertEquals(getResponse().statusCode(), HttpStatus.SERVICE_UNAVAILABLE.code());
+        assertEquals(proxy.getFaultCount(FaultType.STATUS), 1);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testConnectionResetFailsRequest")
+    public void testConnectionResetFailsRequest() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        proxy.addRule(FaultRule.builder(Method.GET, "/objects").reset().build());
+
+        assertThrows(IOException.class, () -> executeRequest(GET_ALL_OBJECTS.bind()));
+        // Apache HttpClient me-retry request idempotent setelah reset (default 3x), jadi satu executeRequest = 4 koneksi
+        assertEquals(proxy.getFaultCount(FaultType.RESET), proxy.getRequestCount());
+        assertEquals(proxy.getRequestCount(), 4);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testTruncatedBodyFailsRead")
+    public void testTruncatedBodyFailsRead() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        proxy.addRule(FaultRule.builder(Method.GET, "/large").truncate(0.5).build());
+
+        assertThrows(IOException.class, () -> executeRequest(GET_LARGE_OBJECT.bind()).asByteArray());
+        assertEquals(proxy.getFaultCount(FaultType.TRUNCATE), 1);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testStallTriggersSocketTimeout")
+    public void testStallTriggersSocketTimeout() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        int socketTimeoutMillis = 500;
+        proxy.addRule(FaultRule.builder(Method.GET, "/objects")
+                .stall(Duration.ofMillis(socketTimeoutMillis * 4L))
+                .build());
+        getRequestSpec().config(RequestUtils.buildRestAssuredConfig(NetworkConstant.CONNECTION_TIMEOUT, socketTimeoutMillis));
+
+        long start = System.nanoTime();
+        assertThrows(SocketTimeoutException.class, () -> executeRequest(GET_ALL_OBJECTS.bind()));
+        long failedAfterMillis = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(failedAfterMillis < socketTimeoutMillis * 4L,
+                "Socket timeout fired after " + failedAfterMillis + "ms, stall was not interrupted");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testBandwidthCapSlowsDownload")
+    public void testBandwidthCapSlowsDownload() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        long bytesPerSecond = LARGE_BODY_BYTES * 2L;
+        proxy.addRule(FaultRule.builder(Method.GET, "/large").bandwidth(bytesPerSecond).build());
+
+        long start = System.nanoTime();
+        executeRequest(GET_LARGE_OBJECT.bind());
+        int received = getResponse().asByteArray().length;
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(received, LARGE_BODY_BYTES);
+        assertTrue(elapsedMillis >= 450, "16KB at 32KB/s should take ~500ms but took " + elapsedMillis + "ms");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testProbabilisticFaults")
+    public void testProbabilisticFaults() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        proxy.addRule(FaultRule.builder(Method.GET, "/objects/*")
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.code())
+                .probability(0.5)
+                .build());
+
+        int requests = 40;
+        int failures = 0;
+        for (int i = 0; i < requests; i++) {
+            if (executeRequest(GET_OBJECT_BY_ID.bind(i)).statusCode() == HttpStatus.INTERNAL_SERVER_ERROR.code()) {
+                failures++;
+            }
+        }
+
+        assertEquals(proxy.getFaultCount(FaultType.STATUS), failures);
+        assertTrue(failures > 0 && failures < requests, "Expected some but not all requests to fail: " + failures);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
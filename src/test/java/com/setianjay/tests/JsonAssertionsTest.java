@@ -0,0 +1,116 @@
+package com.setianjay.tests;
+
+import com.setianjay.assertions.JsonAssertionResult;
+import com.setianjay.assertions.JsonAssertions;
+import com.setianjay.assertions.JsonPath;
+import com.setianjay.base.OfflineTest;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Parsing JsonPath dan evaluasi JsonAssertions (satu streaming pass) terhadap JSON statis, tanpa network
+ */
+public class JsonAssertionsTest extends OfflineTest {
+    private static final byte[] BOOKING = ("{\"bookingid\": 42, \"booking\": {\"firstname\": \"Jim\", \"totalprice\": 111.0,"
+            + " \"depositpaid\": true, \"additionalneeds\": null, \"full.name\": \"Jim Brown\"},"
+            + " \"tags\": [\"late\", \"vip\", \"breakfast\"],"
+            + " \"rooms\": [{\"number\": 101, \"price\": 100}, {\"number\": 102, \"price\": 150}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test(testName = "testCompilesPaths")
+    public void testCompilesPaths() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonPath field = JsonPath.compile(" $.booking.firstname ");
+        assertEquals(field.depth(), 2);
+        assertFalse(field.hasWildcard());
+        assertEquals(field.toString(), "$.booking.firstname");
+
+        assertEquals(JsonPath.compile("$").depth(), 0);
+        assertEquals(JsonPath.compile("$['first name'][0]").depth(), 2);
+        assertTrue(JsonPath.compile("$.rooms[*].price").hasWildcard());
+        assertTrue(JsonPath.compile("$.booking.*").hasWildcard());
+        assertEquals(JsonPath.compile("$.rooms[1].number").depth(), 3);
+
+        for (String invalid : List.of("booking.firstname", "$.", "$.booking..firstname", "$.rooms[0", "$booking", "$[x]")) {
+            expectThrows(IllegalArgumentException.class, () -> JsonPath.compile(invalid));
+        }
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testEvaluatesAssertionsAndCaptures")
+    public void testEvaluatesAssertionsAndCaptures() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonAssertions assertions = JsonAssertions.builder()
+                .that("$.bookingid > 0")
+                .that("$.booking.firstname == \"Jim\"")
+                .that("$.booking['full.name'] != \"Jim\"")
+                .that("$.booking.totalprice == 111")
+                .that("$.booking.depositpaid == true")
+                .that("$.booking.additionalneeds == null")
+                .that("$.booking exists")
+                .that("$.tags size == 3")
+                .that("$.tags[1] == \"vip\"")
+                .that("$.rooms[*].price >= 100")
+                .that("$.rooms[*] size == 2")
+                .that("$.rooms[1].number == 102")
+                .capture("bookingid", "$.bookingid")
+                .capture("firstname", "$.booking.firstname")
+                .capture("price", "$.rooms[*].price")
+                .build();
+
+        // byte[] dan InputStream memakai parser yang sama, hasil harus identik
+        JsonAssertionResult fromBytes = assertions.evaluate(BOOKING).assertPassed();
+        JsonAssertionResult fromStream = assertions.evaluate(new ByteArrayInputStream(BOOKING)).assertPassed();
+        assertEquals(fromStream.getCaptures(), fromBytes.getCaptures());
+        assertEquals(fromBytes.getCapturedInt("bookingid"), (Integer) 42);
+        assertEquals(fromBytes.getCapturedString("firstname"), "Jim");
+        // Capture mengambil scalar pertama yang cocok
+        assertEquals(fromBytes.getCapturedInt("price"), (Integer) 100);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testReportsEveryFailure")
+    public void testReportsEveryFailure() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonAssertionResult result = JsonAssertions.builder()
+                .that("$.booking.firstname == \"Mary\"")
+                .that("$.booking.lastname exists")
+                .that("$.booking == 1")
+                .that("$.tags size == 2")
+                .that("$.bookingid size > 0")
+                .that("$.rooms[*].price > 100")
+                .capture("token", "$.token")
+                .build()
+                .evaluate(BOOKING);
+
+        List<String> failures = result.getFailures();
+        logger.info("🧾 Failures:\n  - {}", String.join("\n  - ", failures));
+        assertEquals(failures.size(), 7, failures.toString());
+        assertTrue(failures.get(0).contains("expected == \"Mary\" but was \"Jim\""), failures.get(0));
+        assertTrue(failures.get(1).contains("no value at $.booking.lastname"), failures.get(1));
+        assertTrue(failures.get(2).contains("is an object/array"), failures.get(2));
+        assertTrue(failures.get(3).contains("expected size == 2 but was 3"), failures.get(3));
+        assertTrue(failures.get(4).contains("no object/array at $.bookingid"), failures.get(4));
+        assertTrue(failures.get(5).contains("but was 100"), failures.get(5));
+        assertTrue(failures.get(6).contains("capture 'token'"), failures.get(6));
+        AssertionError error = expectThrows(AssertionError.class, result::assertPassed);
+        assertTrue(error.getMessage().startsWith("JSON assertions failed"), error.getMessage());
+
+        JsonAssertionResult invalid = JsonAssertions.of("$.bookingid > 0").evaluate("{\"bookingid\": ".getBytes(StandardCharsets.UTF_8));
+        assertFalse(invalid.isPassed());
+        assertTrue(invalid.getFailures().get(0).startsWith("Invalid JSON"), invalid.getFailures().toString());
+        expectThrows(IllegalArgumentException.class, () -> JsonAssertions.of("$.bookingid"));
+        expectThrows(IllegalArgumentException.class, () -> JsonAssertions.of("$.bookingid ~ 1"));
+        expectThrows(IllegalArgumentException.class, () -> JsonAssertions.of("$.bookingid exists 1"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
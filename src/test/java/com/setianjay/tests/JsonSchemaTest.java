@@ -0,0 +1,94 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.OfflineTest;
+import com.setianjay.models.response.booking.BookingCreateResponse;
+import com.setianjay.models.response.phone.PhoneResponse;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.schema.SchemaValidationResult;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Validasi streaming JsonSchema terhadap JSON statis: object bersarang ($ref), array, required dan constraint,
+ * untuk schema dari resource dan list of model class (tanpa network)
+ */
+public class JsonSchemaTest extends OfflineTest {
+    private static final String VALID_BOOKING = "{\"bookingid\": 7, \"booking\": {\"firstname\": \"Jim\", \"lastname\": \"Brown\","
+            + " \"totalprice\": 111, \"depositpaid\": true, \"additionalneeds\": null,"
+            + " \"bookingdates\": {\"checkin\": \"2018-01-01\", \"checkout\": \"2019-01-01\"}}}";
+
+    @Test(testName = "testValidatesNestedObjects")
+    public void testValidatesNestedObjects() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonSchema schema = JsonSchemaRegistry.forClass(BookingCreateResponse.class);
+        schema.validate(bytes(VALID_BOOKING)).assertValid();
+        assertTrue(schema.validate(new ByteArrayInputStream(bytes(VALID_BOOKING))).isValid());
+
+        // Error di object bersarang memakai path lengkap; semua pelanggaran dilaporkan dalam satu pass
+        SchemaValidationResult result = schema.validate(bytes("{\"bookingid\": 0, \"booking\": {\"firstname\": \"Jim\","
+                + " \"lastname\": \"Brown\", \"totalprice\": \"111\", \"depositpaid\": true,"
+                + " \"bookingdates\": {\"checkin\": \"2018-1-1\"}}}"));
+        List<String> errors = result.getErrors();
+        logger.info("🧾 Errors:\n  - {}", String.join("\n  - ", errors));
+        assertFalse(result.isValid());
+        assertEquals(errors.size(), 4, errors.toString());
+        assertTrue(errors.contains("$.bookingid: value must be >= 1"), errors.toString());
+        assertTrue(errors.contains("$.booking.totalprice: expected integer but was string"), errors.toString());
+        assertTrue(errors.contains("$.booking.bookingdates.checkin: length must be >= 10"), errors.toString());
+        assertTrue(errors.contains("$.booking.bookingdates: missing required property 'checkout'"), errors.toString());
+
+        AssertionError error = expectThrows(AssertionError.class, result::assertValid);
+        assertTrue(error.getMessage().contains("violates schema BookingCreateResponse"), error.getMessage());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testRequiredPropertiesAndTypeUnions")
+    public void testRequiredPropertiesAndTypeUnions() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonSchema schema = JsonSchemaRegistry.forClass(PhoneResponse.class);
+        schema.validate(bytes("{\"id\": \"7\", \"name\": \"Pixel\", \"data\": {\"color\": \"black\"}}")).assertValid();
+        schema.validate(bytes("{\"id\": 7, \"name\": \"Pixel\", \"data\": null, \"extra\": [1, 2]}")).assertValid();
+
+        List<String> errors = schema.validate(bytes("{\"id\": true, \"data\": \"none\"}")).getErrors();
+        assertEquals(errors.size(), 3, errors.toString());
+        assertTrue(errors.get(0).startsWith("$.id: expected ") && errors.get(0).endsWith(" but was boolean"), errors.toString());
+        assertTrue(errors.get(1).startsWith("$.data: expected "), errors.toString());
+        assertEquals(errors.get(2), "$: missing required property 'name'");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testValidatesArrayItems")
+    public void testValidatesArrayItems() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        JsonSchema schema = JsonSchemaRegistry.forListOf(PhoneResponse.class);
+        schema.validate(bytes("[]")).assertValid();
+        schema.validate(bytes("[{\"id\": \"1\", \"name\": \"Pixel\"}, {\"id\": 2, \"name\": \"iPhone\", \"data\": null}]")).assertValid();
+
+        // Setiap item divalidasi dengan schema element, path memakai index item
+        List<String> errors = schema.validate(bytes("[{\"id\": \"1\", \"name\": \"Pixel\"}, {\"id\": \"2\", \"name\": \"\"},"
+                + " {\"name\": \"Galaxy\"}, [3]]")).getErrors();
+        assertEquals(errors, List.of("$[1].name: length must be >= 1", "$[2]: missing required property 'id'",
+                "$[3]: expected object but was array"));
+
+        assertEquals(schema.validate(bytes("{\"id\": 1}")).getErrors(), List.of("$: expected array but was object"));
+        assertEquals(schema.validate(bytes("")).getErrors(), List.of("$: empty document"));
+        List<String> truncated = schema.validate(bytes("[{\"id\": 1, \"name\": \"Pixel\"}")).getErrors();
+        assertEquals(truncated.size(), 1, truncated.toString());
+        assertTrue(truncated.get(0).startsWith("$: invalid JSON"), truncated.toString());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
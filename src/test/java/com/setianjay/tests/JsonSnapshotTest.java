@@ -0,0 +1,222 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.assertions.JsonSnapshot;
+import com.setianjay.assertions.SnapshotResult;
+import com.setianjay.assertions.SnapshotStore;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.enums.SnapshotMode;
+import com.setianjay.enums.SnapshotOutcome;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Golden snapshot terhadap stub API lokal (JDK HttpServer) yang mengembalikan id dan timestamp
+ * berbeda di setiap response, dengan urutan field yang berubah-ubah
+ */
+public class JsonSnapshotTest extends BaseTest {
+    private static final RequestTemplate GET_BOOKING = RequestTemplate.builder(Method.GET, "/booking/{id}").build();
+    private static final JsonSnapshot BOOKING_SNAPSHOT = JsonSnapshot.of(GET_BOOKING, "$.requestId", "$.createdAt", "$.history[*].at");
+
+    private static final String BOOKING_TEMPLATE = "{\"requestId\":\"%s\",\"createdAt\":\"%s\",\"firstname\":\"%s\",\"totalprice\":%s,"
+            + "\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2026-01-01\",\"checkout\":\"2026-01-03\"},"
+            + "\"history\":[{\"status\":\"created\",\"at\":%d},{\"status\":\"paid\",\"at\":%d}]}";
+    // Field sama, urutan berbeda
+    private static final String REORDERED_BOOKING_TEMPLATE = "{\"history\":[{\"at\":%6$d,\"status\":\"created\"},{\"at\":%5$d,\"status\":\"paid\"}],"
+            + "\"bookingdates\":{\"checkout\":\"2026-01-03\",\"checkin\":\"2026-01-01\"},\"depositpaid\":true,"
+            + "\"totalprice\":%4$s,\"firstname\":\"%3$s\",\"createdAt\":\"%2$s\",\"requestId\":\"%1$s\"}";
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicReference<String> firstname = new AtomicReference<>("Jim");
+    private final AtomicReference<String> totalprice = new AtomicReference<>("111");
+    private HttpServer upstream;
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("json-snapshot");
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/booking", exchange -> {
+                byte[] body = booking(sequence.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(HttpStatus.OK.code(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        firstname.set("Jim");
+        totalprice.set("111");
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testRecordsCanonicalGoldenThenMatchesByHash")
+    public void testRecordsCanonicalGoldenThenMatchesByHash() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        SnapshotStore store = SnapshotStore.open(directory.resolve("record"), SnapshotMode.VERIFY);
+        BoundRequest request = GET_BOOKING.bind(1);
+
+        executeRequest(request);
+        assertEquals(compare(store, request).getOutcome(), SnapshotOutcome.RECORDED);
+
+        Path file = directory.resolve("record").resolve("GET_booking_id.snapshot.json");
+        JsonNode golden = JsonUtils.getObjectMapper().readTree(file.toFile());
+        assertEquals(golden.path("template").asText(), GET_BOOKING.getName());
+        Iterator<String> fields = golden.path("variants").path("/booking/1").fieldNames();
+        String previous = "";
+        while (fields.hasNext()) {
+            String field = fields.next();
+            assertTrue(previous.compareTo(field) < 0, "Golden fields are not sorted: " + previous + " before " + field);
+            previous = field;
+        }
+
+        // requestId, createdAt dan history[*].at berubah, urutan field juga berubah setiap response
+        for (int i = 0; i < 5; i++) {
+            executeRequest(request);
+            SnapshotResult result = compare(store, request);
+            assertEquals(result.getOutcome(), SnapshotOutcome.MATCHED);
+            assertFalse(result.isDiffed(), "Equal responses must match on hash alone");
+        }
+
+        // Angka 111 dan 111.0 sama secara numerik
+        totalprice.set("111.0");
+        executeRequest(request);
+        assertEquals(compare(store, request).getOutcome(), SnapshotOutcome.MATCHED);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testMismatchReportsFieldLevelDifferences")
+    public void testMismatchReportsFieldLevelDifferences() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        SnapshotStore store = SnapshotStore.open(directory.resolve("mismatch"), SnapshotMode.VERIFY);
+        BoundRequest request = GET_BOOKING.bind(2);
+        executeRequest(request);
+        compare(store, request);
+
+        firstname.set("Sally");
+        totalprice.set("250");
+        executeRequest(request);
+        SnapshotResult result = compare(store, request);
+
+        assertEquals(result.getOutcome(), SnapshotOutcome.MISMATCHED);
+        assertTrue(result.isDiffed());
+        assertEquals(result.getDifferences(), List.of(
+                "$.firstname: expected \"Jim\" but was \"Sally\"",
+                "$.totalprice: expected 111 but was 250"));
+        AssertionError error = expectThrows(AssertionError.class, result::assertMatched);
+        assertTrue(error.getMessage().contains("$.firstname"), error.getMessage());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testStrictFailsOnMissingAndUpdateOverwrites")
+    public void testStrictFailsOnMissingAndUpdateOverwrites() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path snapshots = directory.resolve("update");
+        BoundRequest request = GET_BOOKING.bind(3);
+        executeRequest(request);
+
+        SnapshotResult missing = compare(SnapshotStore.open(snapshots, SnapshotMode.STRICT), request);
+        assertEquals(missing.getOutcome(), SnapshotOutcome.MISSING);
+        assertThrows(AssertionError.class, missing::assertMatched);
+
+        SnapshotStore update = SnapshotStore.open(snapshots, SnapshotMode.UPDATE);
+        assertEquals(compare(update, request).getOutcome(), SnapshotOutcome.RECORDED);
+        firstname.set("Mary");
+        executeRequest(request);
+        assertEquals(compare(update, request).getOutcome(), SnapshotOutcome.UPDATED);
+
+        // Store baru membaca golden yang sudah di-update dari file
+        executeRequest(request);
+        assertEquals(compare(SnapshotStore.open(snapshots, SnapshotMode.STRICT), request).getOutcome(), SnapshotOutcome.MATCHED);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testThousandsOfComparisonsUseHashOnly")
+    public void testThousandsOfComparisonsUseHashOnly() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        SnapshotStore store = SnapshotStore.open(directory.resolve("bulk"), SnapshotMode.VERIFY);
+        store.compare(BOOKING_SNAPSHOT, "bulk", booking(0).getBytes(StandardCharsets.UTF_8));
+
+        int comparisons = 5000;
+        long startTime = System.nanoTime();
+        for (int i = 1; i <= comparisons; i++) {
+            SnapshotResult result = store.compare(BOOKING_SNAPSHOT, "bulk", booking(i).getBytes(StandardCharsets.UTF_8));
+            assertEquals(result.getOutcome(), SnapshotOutcome.MATCHED);
+            assertFalse(result.isDiffed());
+        }
+        logger.info("📸 {} snapshot comparisons in {} ms", comparisons, (System.nanoTime() - startTime) / 1_000_000);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private SnapshotResult compare(SnapshotStore store, BoundRequest request) {
+        return store.compare(BOOKING_SNAPSHOT, request.getPath(), getResponse().asByteArray());
+    }
+
+    /**
+     * Response booking dengan field volatile dari nomor urut; response genap memakai urutan field berbeda
+     */
+    private String booking(int sequence) {
+        long now = System.currentTimeMillis();
+        return String.format(sequence % 2 == 0 ? REORDERED_BOOKING_TEMPLATE : BOOKING_TEMPLATE,
+                "req-" + sequence, "2026-01-01T00:00:" + String.format("%02d", sequence % 60) + "Z",
+                firstname.get(), totalprice.get(), now - sequence, now);
+    }
+}
@@ -0,0 +1,165 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.base.BaseTest;
+import com.setianjay.compression.CountingInputStream;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.models.response.booking.BookingResponse;
+import com.setianjay.payload.LargePayload;
+import com.setianjay.payload.UploadStats;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Upload payload besar dari LargePayload ke stub localhost (JDK HttpServer) yang mem-parse body
+ * secara streaming dan menolak body di atas batas ukuran dengan 413.
+ */
+public class LargePayloadUploadTest extends BaseTest {
+    private static final RequestTemplate CREATE_BOOKING = RequestTemplate.builder(Method.POST, "/booking").build();
+    private static final RequestTemplate CREATE_OBJECT = RequestTemplate.builder(Method.POST, "/objects").build();
+    private static final long BODY_LIMIT_BYTES = 4L * 1024 * 1024;
+
+    private HttpServer upstream;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/", LargePayloadUploadTest::handleUpload);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+    }
+
+    @Test(testName = "testBookingPayloadHasExactSizeAndIsValid")
+    public void testBookingPayloadHasExactSizeAndIsValid() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        long sizeBytes = 1_000_003;
+        byte[] body;
+        try (InputStream in = LargePayload.booking(7, sizeBytes).open()) {
+            body = in.readAllBytes();
+        }
+
+        assertEquals(body.length, sizeBytes);
+        BookingResponse booking = JsonUtils.getObjectMapper().readValue(body, BookingResponse.class);
+        assertTrue(booking.getAdditionalneeds().length() > 990_000, "additionalneeds should fill the payload");
+        assertTrue(booking.getBookingdates().getCheckin().compareTo(booking.getBookingdates().getCheckout()) < 0);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testPayloadIsReproducibleFromSeed")
+    public void testPayloadIsReproducibleFromSeed() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        byte[] first = LargePayload.objects(42, 200_000).open().readAllBytes();
+        byte[] second = LargePayload.objects(42, 200_000).open().readAllBytes();
+        byte[] otherSeed = LargePayload.objects(43, 200_000).open().readAllBytes();
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+        JsonNode data = JsonUtils.getObjectMapper().readTree(first).get("data");
+        assertTrue(data.size() > 1000, "Expected many specification entries but got " + data.size());
+        assertTrue(data.get("spec-0").has("color") && data.get("spec-0").has("capacity"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testStreamedUploadIsReceivedWithContentLength")
+    public void testStreamedUploadIsReceivedWithContentLength() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        long sizeBytes = 3L * 1024 * 1024;
+        executeRequest(CREATE_OBJECT.bind().body(LargePayload.objects(1, sizeBytes)));
+
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+        assertEquals(getResponse().jsonPath().getLong("contentLength"), sizeBytes);
+        assertEquals(getResponse().jsonPath().getLong("bytes"), sizeBytes);
+        assertTrue(getResponse().jsonPath().getBoolean("valid"));
+        assertTrue(UploadStats.format().contains("POST /objects"), "Upload throughput was not recorded");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testUploadAboveBodyLimitIsRejected")
+    public void testUploadAboveBodyLimitIsRejected() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        executeRequest(CREATE_BOOKING.bind().body(LargePayload.booking(1, BODY_LIMIT_BYTES)));
+        assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
+
+        executeRequest(CREATE_BOOKING.bind().body(LargePayload.booking(1, BODY_LIMIT_BYTES + 1)));
+        assertEquals(getResponse().statusCode(), HttpStatus.PAYLOAD_TOO_LARGE.code());
+        assertFalse(getResponse().jsonPath().getBoolean("valid"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Parse body sambil dibaca (tidak ditampung), lalu balas jumlah byte dan apakah JSON valid
+     */
+    private static void handleUpload(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        long bytes = 0;
+        boolean valid = true;
+        try (CountingInputStream in = new CountingInputStream(exchange.getRequestBody());
+             JsonParser parser = JsonUtils.getObjectMapper().getFactory().createParser(in)) {
+            // Sisa body tetap dibaca setelah parse selesai/gagal
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            try {
+                while (parser.nextToken() != null) {
+                    if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                        parser.getText();
+                    }
+                }
+            } catch (IOException e) {
+                valid = false;
+            }
+            in.transferTo(OutputStream.nullOutputStream());
+            bytes = in.getCount();
+        }
+
+        int status = bytes > BODY_LIMIT_BYTES ? HttpStatus.PAYLOAD_TOO_LARGE.code() : HttpStatus.OK.code();
+        byte[] response = String.format("{\"contentLength\":%s,\"bytes\":%d,\"valid\":%b}",
+                contentLength == null ? "null" : contentLength, bytes, valid && status == HttpStatus.OK.code())
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+}
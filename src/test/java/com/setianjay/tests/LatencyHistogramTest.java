@@ -0,0 +1,139 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.OfflineTest;
+import com.setianjay.load.LatencyHistogram;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Presisi percentile, merge dan serialize round-trip LatencyHistogram (dipakai load coordinator antar JVM), tanpa network
+ */
+public class LatencyHistogramTest extends OfflineTest {
+    private static final double[] PERCENTILES = {0, 50, 90, 99, 99.9, 100};
+
+    @Test(testName = "testPercentilesWithinRelativePrecision")
+    public void testPercentilesWithinRelativePrecision() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.recordValue(micros);
+        }
+
+        assertEquals(histogram.getTotalCount(), 100_000L);
+        assertEquals(histogram.getMin(), 1L);
+        assertEquals(histogram.getMax(), 100_000L);
+        assertEquals(histogram.getMean(), 50_000.5, 0.001);
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long expected = (long) (percentile * 1000);
+            long actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * 1.016, "p" + percentile + " = " + actual);
+        }
+        assertEquals(histogram.getValueAtPercentile(100), 100_000L);
+
+        // Nilai kecil exact, nanos dibulatkan ke micros, nilai negatif menjadi 0
+        LatencyHistogram small = new LatencyHistogram();
+        small.recordValue(100);
+        small.recordNanos(42_999);
+        small.recordValue(-5);
+        assertEquals(small.getValueAtPercentile(100), 100L);
+        assertEquals(small.getValueAtPercentile(50), 42L);
+        assertEquals(small.getMin(), 0L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testMergeEqualsSingleHistogram")
+    public void testMergeEqualsSingleHistogram() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        SplittableRandom random = new SplittableRandom(31);
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram[] workers = {new LatencyHistogram(), new LatencyHistogram(), new LatencyHistogram()};
+        for (int i = 0; i < 30_000; i++) {
+            long micros = (long) Math.exp(random.nextDouble(2, 15));
+            all.recordValue(micros);
+            workers[i % workers.length].recordValue(micros);
+        }
+
+        LatencyHistogram merged = new LatencyHistogram();
+        merged.merge(new LatencyHistogram());
+        for (LatencyHistogram worker : workers) {
+            merged.merge(worker);
+        }
+        assertSameHistogram(merged, all);
+
+        // Histogram kosong tidak mengubah min/max
+        LatencyHistogram single = new LatencyHistogram();
+        single.recordValue(500);
+        single.merge(new LatencyHistogram());
+        assertEquals(single.getMin(), 500L);
+        assertEquals(single.getMax(), 500L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testSerializeRoundTrip")
+    public void testSerializeRoundTrip() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LatencyHistogram histogram = new LatencyHistogram();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            histogram.recordValue(random.nextLong(50, 2_000_000));
+        }
+
+        byte[] bytes = serialize(histogram);
+        LatencyHistogram copy = deserialize(bytes);
+        assertSameHistogram(copy, histogram);
+        // Hanya bucket yang tidak kosong yang ditulis: header 36 byte + 10 byte per bucket
+        long nonEmpty = Arrays.stream(histogram.bucketCounts()).filter(count -> count != 0).count();
+        assertEquals(bytes.length, 36 + nonEmpty * 10);
+
+        // Round-trip lalu merge tetap sama dengan merge langsung
+        LatencyHistogram direct = new LatencyHistogram();
+        direct.merge(histogram);
+        direct.merge(histogram);
+        LatencyHistogram remote = new LatencyHistogram();
+        remote.merge(copy);
+        remote.merge(deserialize(serialize(copy)));
+        assertSameHistogram(remote, direct);
+
+        LatencyHistogram empty = deserialize(serialize(new LatencyHistogram()));
+        assertEquals(empty.getTotalCount(), 0L);
+        assertEquals(empty.getMin(), 0L);
+        assertEquals(empty.getValueAtPercentile(99), 0L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static void assertSameHistogram(LatencyHistogram actual, LatencyHistogram expected) {
+        assertEquals(actual.bucketCounts(), expected.bucketCounts());
+        assertEquals(actual.getTotalCount(), expected.getTotalCount());
+        assertEquals(actual.getMin(), expected.getMin());
+        assertEquals(actual.getMax(), expected.getMax());
+        assertEquals(actual.getMean(), expected.getMean(), 0.0);
+        for (double percentile : PERCENTILES) {
+            assertEquals(actual.getValueAtPercentile(percentile), expected.getValueAtPercentile(percentile), "p" + percentile);
+        }
+    }
+
+    private static byte[] serialize(LatencyHistogram histogram) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            histogram.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static LatencyHistogram deserialize(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return LatencyHistogram.readFrom(in);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.enums.StatusClass;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.load.LoadReport;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.load.OpenLoopLoadDriver;
+import com.setianjay.progress.LiveProgress;
+import com.setianjay.progress.ProgressSnapshot;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Live progress terhadap stub API lokal (JDK HttpServer): /booking lambat tapi selalu 200,
+ * /objects/{id} cepat dengan 503 untuk id "fail" dan 404 untuk id "missing"
+ */
+public class LiveProgressTest extends BaseTest {
+    private static final RequestTemplate GET_BOOKING = RequestTemplate.builder(Method.GET, "/booking").build();
+    private static final RequestTemplate GET_OBJECT = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+    private static final long BOOKING_LATENCY_MILLIS = 20;
+    private static final int RATE = 100;
+    private static final int RECORDING_THREADS = 4;
+    private static final int RECORDS_PER_THREAD = 1_000_000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(32);
+    private HttpServer upstream;
+    private String baseUri;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/booking", this::handleBooking);
+            upstream.createContext("/objects", this::handleObjects);
+            upstream.setExecutor(executor);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        LiveProgress.stop();
+        LiveProgress.reset();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test(testName = "testLoadRunRedrawsRollingSummaryInPlace")
+    public void testLoadRunRedrawsRollingSummaryInPlace() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ByteArrayOutputStream terminal = new ByteArrayOutputStream();
+        LiveProgress.start(new PrintStream(terminal, true, StandardCharsets.UTF_8), Duration.ofMillis(200), 5);
+
+        // 8 dari 10 request ke /booking, sisanya /objects dengan 503 dan 404
+        AtomicLong arrivals = new AtomicLong();
+        AtomicLong maxInFlight = new AtomicLong();
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                maxInFlight.accumulateAndGet(LiveProgress.snapshot().getInFlight(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.start();
+        LoadReport report = new OpenLoopLoadDriver(16).run("live-progress", LoadProfile.constantRate(RATE, Duration.ofMillis(2500)),
+                LoadScenarios.http(baseUri, () -> nextRequest(arrivals.getAndIncrement()), null));
+        sampler.interrupt();
+        sampler.join();
+
+        ProgressSnapshot snapshot = LiveProgress.snapshot();
+        logger.info(snapshot.formatLine());
+        // 503 dan 404 juga dihitung error oleh load driver
+        assertEquals(report.getErrors(), report.getCompleted() / 5);
+        assertTrue(snapshot.getRequestsPerSecond() > RATE * 0.5 && snapshot.getRequestsPerSecond() < RATE * 1.5,
+                "req/s=" + snapshot.getRequestsPerSecond());
+        assertTrue(Math.abs(snapshot.getRate(StatusClass.SERVER_ERROR) - 10) < 5, snapshot.formatLine());
+        assertTrue(Math.abs(snapshot.getRate(StatusClass.CLIENT_ERROR) - 10) < 5, snapshot.formatLine());
+        assertTrue(Math.abs(snapshot.getErrorRate() - 20) < 7, snapshot.formatLine());
+        assertTrue(maxInFlight.get() >= 1, "max in-flight=" + maxInFlight.get());
+        assertEquals(snapshot.getInFlight(), 0L);
+
+        ProgressSnapshot.EndpointProgress booking = snapshot.getEndpoint(GET_BOOKING.getName());
+        ProgressSnapshot.EndpointProgress object = snapshot.getEndpoint(GET_OBJECT.getName());
+        assertNotNull(booking, snapshot.formatLine());
+        assertNotNull(object, snapshot.formatLine());
+        assertEquals(snapshot.getEndpoints().get(0).getName(), GET_BOOKING.getName());
+        assertTrue(booking.getP50Millis() >= BOOKING_LATENCY_MILLIS, snapshot.formatLine());
+        assertTrue(booking.getP99Millis() >= booking.getP50Millis(), snapshot.formatLine());
+        assertTrue(object.getP50Millis() < booking.getP50Millis(), snapshot.formatLine());
+
+        // Setiap frame setelah yang pertama naik ke awal frame sebelumnya lalu menimpa baris-barisnya
+        LiveProgress.stop();
+        String output = terminal.toString(StandardCharsets.UTF_8);
+        int frames = output.split("Live progress", -1).length - 1;
+        assertTrue(frames >= 10, "frames=" + frames);
+        assertTrue(output.contains("\u001B[" + snapshot.formatLines().size() + "F"), output);
+        assertTrue(output.contains(GET_OBJECT.getName()), output);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testExecuteRequestFeedsPlainSummary")
+    public void testExecuteRequestFeedsPlainSummary() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LiveProgress.start(null, Duration.ofMillis(500), 10);
+        for (int i = 0; i < 20; i++) {
+            Response response = executeRequest(GET_OBJECT.bind(i % 2 == 0 ? "missing" : String.valueOf(i)));
+            assertTrue(response.statusCode() == HttpStatus.OK.code() || response.statusCode() == HttpStatus.NOT_FOUND.code());
+        }
+        // Detik berjalan belum masuk window
+        Thread.sleep(1100);
+
+        ProgressSnapshot snapshot = LiveProgress.snapshot();
+        String line = snapshot.formatLine();
+        logger.info(line);
+        assertEquals(snapshot.getRequests(), 20L, line);
+        assertEquals(snapshot.getRate(StatusClass.CLIENT_ERROR), 50.0, line);
+        assertEquals(snapshot.getRate(StatusClass.SUCCESS), 50.0, line);
+        assertEquals(snapshot.getInFlight(), 0L);
+        assertTrue(line.contains(GET_OBJECT.getName()) && line.contains("4xx 50.00%"), line);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testRecordingCostOnRequestPath")
+    public void testRecordingCostOnRequestPath() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Tidak aktif: begin/end hanya membaca flag
+        long disabledNanos = recordConcurrently();
+        assertEquals(LiveProgress.begin(), LiveProgress.UNTRACKED);
+
+        LiveProgress.start(null, Duration.ofMinutes(1), 10);
+        long enabledNanos = recordConcurrently();
+        Thread.sleep(1100);
+        ProgressSnapshot snapshot = LiveProgress.snapshot();
+
+        long records = (long) RECORDING_THREADS * RECORDS_PER_THREAD;
+        double disabledPerRecord = (double) disabledNanos / records;
+        double enabledPerRecord = (double) enabledNanos / records;
+        logger.info("📈 Live progress recording cost ({} threads x {} records): disabled {} ns, enabled {} ns CPU per request",
+                RECORDING_THREADS, RECORDS_PER_THREAD, String.format("%.1f", disabledPerRecord),
+                String.format("%.1f", enabledPerRecord));
+        // Count hanya boleh hilang sedikit di batas detik (reset slot tanpa lock)
+        assertTrue(snapshot.getRequests() >= records * 0.99 && snapshot.getRequests() <= records,
+                "recorded " + snapshot.getRequests() + " of " + records);
+        assertEquals(snapshot.getInFlight(), 0L);
+        assertTrue(enabledPerRecord < 1_000, "enabled cost " + enabledPerRecord + " ns per request");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Jalankan begin/end di beberapa thread sekaligus, kembalikan total CPU time semua thread
+     */
+    private static long recordConcurrently() throws InterruptedException {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        List<Thread> threads = new ArrayList<>();
+        AtomicLong cpuNanos = new AtomicLong();
+        for (int t = 0; t < RECORDING_THREADS; t++) {
+            String endpointName = t % 2 == 0 ? GET_BOOKING.getName() : GET_OBJECT.getName();
+            threads.add(new Thread(() -> {
+                long startTime = threadMXBean.getCurrentThreadCpuTime();
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    long progress = LiveProgress.begin();
+                    LiveProgress.end(progress, endpointName, i % 10 == 0 ? HttpStatus.SERVICE_UNAVAILABLE.code() : HttpStatus.OK.code());
+                }
+                cpuNanos.addAndGet(threadMXBean.getCurrentThreadCpuTime() - startTime);
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return cpuNanos.get();
+    }
+
+    private static BoundRequest nextRequest(long arrival) {
+        switch ((int) (arrival % 10)) {
+            case 8:
+                return GET_OBJECT.bind("fail");
+            case 9:
+                return GET_OBJECT.bind("missing");
+            default:
+                return GET_BOOKING.bind();
+        }
+    }
+
+    private void handleBooking(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(BOOKING_LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, HttpStatus.OK.code(), "[{\"bookingid\":1}]");
+    }
+
+    private void handleObjects(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/objects/".length());
+        if (id.equals("fail")) {
+            respond(exchange, HttpStatus.SERVICE_UNAVAILABLE.code(), "{\"error\":\"unavailable\"}");
+        } else if (id.equals("missing")) {
+            respond(exchange, HttpStatus.NOT_FOUND.code(), "{\"error\":\"not found\"}");
+        } else {
+            respond(exchange, HttpStatus.OK.code(), "{\"id\":\"" + id + "\"}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.OfflineTest;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Jadwal open-loop LoadProfile dan share per worker distributed load: gabungan jadwal semua worker
+ * sama dengan jadwal profile asal, bukan N worker yang mengirim serentak (tanpa network)
+ */
+public class LoadProfileTest extends OfflineTest {
+
+    @Test(testName = "testConstantRateSchedule")
+    public void testConstantRateSchedule() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoadProfile profile = LoadProfile.constantRate(100, Duration.ofSeconds(10));
+        assertEquals(profile.totalRequests(), 1000L);
+        assertEquals(profile.offsetNanos(0), 0L);
+        assertEquals(profile.offsetNanos(1), 10_000_000L);
+        assertEquals(profile.offsetNanos(999), 9_990_000_000L);
+
+        // Worker 2 dari 4: 25 rps, mulai 10ms setelah worker 1 dan selalu di antara worker lain
+        LoadProfile share = profile.share(1, 4);
+        assertEquals(share.totalRequests(), 250L);
+        assertEquals(share.offsetNanos(0), 10_000_000L);
+        assertEquals(share.offsetNanos(1), 50_000_000L);
+        assertEquals(share.getStartRps(), 25.0);
+
+        expectThrows(IllegalArgumentException.class, () -> profile.share(4, 4));
+        expectThrows(IllegalArgumentException.class, () -> profile.share(0, 0));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testSharesInterleaveToFullSchedule")
+    public void testSharesInterleaveToFullSchedule() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Total yang tidak habis dibagi jumlah worker dan rate yang tidak exact setelah dibagi
+        assertInterleaved(LoadProfile.constantRate(200, Duration.ofSeconds(1)), 3);
+        assertInterleaved(LoadProfile.constantRate(10.5, Duration.ofSeconds(2)), 4);
+        assertInterleaved(LoadProfile.ramp(10, 70, Duration.ofSeconds(3)), 3);
+        assertInterleaved(LoadProfile.ramp(50, 0, Duration.ofSeconds(2)), 2);
+
+        // Satu worker sama dengan profile asal
+        LoadProfile profile = LoadProfile.ramp(10, 70, Duration.ofSeconds(3));
+        assertEquals(schedule(profile.share(0, 1)), schedule(profile));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Request ke-k worker i harus tepat request ke-(k * workers + i) profile asal (toleransi pembulatan 1 micro)
+     */
+    private static void assertInterleaved(LoadProfile profile, int workers) {
+        List<Long> full = schedule(profile);
+        long total = 0;
+        for (int worker = 0; worker < workers; worker++) {
+            List<Long> share = schedule(profile.share(worker, workers));
+            total += share.size();
+            for (int k = 0; k < share.size(); k++) {
+                long expected = full.get(k * workers + worker);
+                assertTrue(Math.abs(share.get(k) - expected) <= 1000,
+                        profile + " worker " + worker + " request " + k + ": " + share.get(k) + " != " + expected);
+            }
+        }
+        assertEquals(total, full.size(), profile + " x" + workers);
+    }
+
+    private static List<Long> schedule(LoadProfile profile) {
+        List<Long> offsets = new ArrayList<>();
+        for (long i = 0; i < profile.totalRequests(); i++) {
+            offsets.add(profile.offsetNanos(i));
+        }
+        return offsets;
+    }
+}
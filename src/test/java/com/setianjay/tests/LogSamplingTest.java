@@ -0,0 +1,201 @@
+package com.setianjay.tests;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.constants.LoggingConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.LogSampleDecision;
+import com.setianjay.enums.Method;
+import com.setianjay.logging.CountingAsyncAppender;
+import com.setianjay.logging.LogSampler;
+import com.setianjay.logging.LogSampling;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Sampling log API terhadap stub lokal (JDK HttpServer) dan appender async yang menghitung baris yang dibuang
+ */
+public class LogSamplingTest extends BaseTest {
+    private static final RequestTemplate GET_OK = RequestTemplate.builder(Method.GET, "/ok").build();
+    private static final RequestTemplate GET_FAIL = RequestTemplate.builder(Method.GET, "/fail").build();
+    private static final RequestTemplate GET_SLOW = RequestTemplate.builder(Method.GET, "/slow").build();
+    private static final long SLOW_MILLIS = 300;
+
+    private HttpServer upstream;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/ok", exchange -> respond(exchange, HttpStatus.OK.code()));
+            upstream.createContext("/fail", exchange -> respond(exchange, HttpStatus.INTERNAL_SERVER_ERROR.code()));
+            upstream.createContext("/slow", exchange -> {
+                try {
+                    Thread.sleep(SLOW_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, HttpStatus.OK.code());
+            });
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        setBaseURI();
+        System.setProperty(LoggingConstant.SAMPLE_EVERY_PROPERTY, "10");
+        System.setProperty(LoggingConstant.SLOW_THRESHOLD_MILLIS_PROPERTY, String.valueOf(SLOW_MILLIS - 50));
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        System.clearProperty(LoggingConstant.SAMPLE_EVERY_PROPERTY);
+        System.clearProperty(LoggingConstant.SLOW_THRESHOLD_MILLIS_PROPERTY);
+        LogSampling.reset();
+    }
+
+    @Test(testName = "testSamplesSuccessesAndKeepsFailuresAndSlowOutliers")
+    public void testSamplesSuccessesAndKeepsFailuresAndSlowOutliers() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Request pertama membuka koneksi dan bisa melewati slow threshold, jadi tidak dihitung
+        executeRequest(GET_OK.bind());
+        LogSampling.reset();
+
+        for (int i = 0; i < 50; i++) {
+            executeRequest(GET_OK.bind());
+            if (i % 10 == 0) {
+                executeRequest(GET_FAIL.bind());
+            }
+        }
+        executeRequest(GET_SLOW.bind());
+        executeRequest(GET_SLOW.bind());
+
+        // 1 dari 10 exchange sukses di-log, failure dan exchange lambat selalu
+        assertEquals(LogSampling.getCount(LogSampleDecision.SAMPLED), 5);
+        assertEquals(LogSampling.getCount(LogSampleDecision.SKIPPED_SAMPLE), 45);
+        assertEquals(LogSampling.getCount(LogSampleDecision.FAILURE), 5);
+        assertEquals(LogSampling.getCount(LogSampleDecision.SLOW), 2);
+        LogSampling.log(logger);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testRateCapLimitsSuccessesPerSecond")
+    public void testRateCapLimitsSuccessesPerSecond() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LogSampler sampler = new LogSampler(1, 5, 0);
+        for (int i = 0; i < 100; i++) {
+            sampler.decide(HttpStatus.OK.code(), 1);
+        }
+        assertEquals(sampler.decide(HttpStatus.SERVICE_UNAVAILABLE.code(), 1), LogSampleDecision.FAILURE);
+
+        // Window per detik bisa berganti sekali selama loop
+        long sampled = sampler.getCount(LogSampleDecision.SAMPLED);
+        assertTrue(sampled >= 5 && sampled <= 10, "sampled=" + sampled);
+        assertEquals(sampler.getCount(LogSampleDecision.SKIPPED_RATE), 100 - sampled);
+        assertEquals(sampler.getTotal(), 101);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testAsyncAppenderCountsDiscardedLines")
+    public void testAsyncAppenderCountsDiscardedLines() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        SlowAppender slow = new SlowAppender();
+        slow.setContext(context);
+        slow.start();
+
+        // neverBlock=false: INFO dibuang saat queue hampir penuh, WARN menunggu dan tidak pernah hilang
+        CountingAsyncAppender async = new CountingAsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(16);
+        async.setNeverBlock(false);
+        async.addAppender(slow);
+        async.start();
+        ch.qos.logback.classic.Logger target = context.getLogger("sampling-test");
+        target.setAdditive(false);
+        target.addAppender(async);
+
+        long droppedBefore = LogSampling.getDroppedLines();
+        int lines = 500;
+        int warnings = 0;
+        for (int i = 0; i < lines; i++) {
+            if (i % 50 == 0) {
+                target.warn("warn {}", i);
+                warnings++;
+            } else {
+                target.info("info {}", i);
+            }
+        }
+        async.stop();
+        context.stop();
+
+        long dropped = LogSampling.getDroppedLines() - droppedBefore;
+        logger.info("🪵 {} of {} lines delivered, {} dropped", slow.delivered.get(), lines, dropped);
+        assertTrue(dropped > 0, "Slow appender must make the queue overflow");
+        assertEquals(slow.delivered.get() + dropped, lines);
+        assertEquals(slow.warnings.get(), warnings);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        byte[] body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Appender yang lebih lambat dari producer supaya queue async penuh
+     */
+    private static final class SlowAppender extends AppenderBase<ILoggingEvent> {
+        private final AtomicInteger delivered = new AtomicInteger();
+        private final AtomicInteger warnings = new AtomicInteger();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            delivered.incrementAndGet();
+            if (event.getLevel() == Level.WARN) {
+                warnings.incrementAndGet();
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.base.BaseTest;
+import com.setianjay.batch.BatchStats;
+import com.setianjay.batch.ObjectBatchFetcher;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Batch fetch /objects?id=... terhadap stub API lokal (JDK HttpServer) dengan latency tetap per request,
+ * termasuk benchmark batched vs satu per satu
+ */
+public class ObjectBatchFetcherTest extends BaseTest {
+    private static final RequestTemplate GET_OBJECT_BY_ID = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+    private static final String BATCH_TEMPLATE = "GET /objects?id=*";
+    // Id di atas batas ini tidak ada di stub
+    private static final int MAX_EXISTING_ID = 5000;
+    private static final String FAILING_ID = "boom";
+    private static final long LATENCY_MILLIS = 2;
+    private static final int BENCHMARK_IDS = 500;
+
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final AtomicInteger largestBatch = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private HttpServer upstream;
+    private String baseUri;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/objects", this::handleObjects);
+            upstream.setExecutor(executor);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customSetupBeforeMethod() {
+        batchRequests.set(0);
+        largestBatch.set(0);
+        BatchStats.reset();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test(testName = "testConcurrentFetchesAreMergedAndRoutedBack")
+    public void testConcurrentFetchesAreMergedAndRoutedBack() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(baseUri)
+                .maxBatchSize(50).window(Duration.ofMillis(20)).build()) {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int caller = 0; caller < 8; caller++) {
+                int firstId = caller * 25 + 1;
+                results.add(callers.submit(() -> {
+                    List<CompletableFuture<JsonNode>> futures = IntStream.range(firstId, firstId + 25)
+                            .mapToObj(fetcher::fetch).collect(Collectors.toList());
+                    List<String> mismatches = new ArrayList<>();
+                    for (int i = 0; i < futures.size(); i++) {
+                        String id = futures.get(i).join().path("id").asText();
+                        if (!id.equals(String.valueOf(firstId + i))) {
+                            mismatches.add(firstId + i + " -> " + id);
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            for (Future<List<String>> result : results) {
+                assertEquals(result.get(), List.of(), "Elements routed to the wrong caller");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // 200 fetch by-id menjadi beberapa request multi-id, masing-masing maksimal 50 id
+        logger.info("📦 200 by-id fetches sent as {} batch requests", batchRequests.get());
+        assertTrue(batchRequests.get() >= 4 && batchRequests.get() < 200, "batches=" + batchRequests.get());
+        assertTrue(largestBatch.get() <= 50, "largest batch=" + largestBatch.get());
+        assertEquals(BatchStats.getIds(BATCH_TEMPLATE), 200L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testWindowFlushesPartialBatchWithDuplicatesAndMissingIds")
+    public void testWindowFlushesPartialBatchWithDuplicatesAndMissingIds() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(baseUri)
+                .maxBatchSize(50).window(Duration.ofMillis(10)).build();
+        try (fetcher) {
+            CompletableFuture<JsonNode> first = fetcher.fetch(3);
+            CompletableFuture<JsonNode> duplicate = fetcher.fetch("3");
+            CompletableFuture<JsonNode> missing = fetcher.fetch(MAX_EXISTING_ID + 1);
+
+            assertEquals(first.join().path("name").asText(), "Object 3");
+            assertTrue(first.join() == duplicate.join(), "Duplicate ids must share one element");
+            assertNull(missing.join());
+        }
+        // Setelah close, fetch dan fetchAll sama-sama ditolak
+        expectThrows(IllegalStateException.class, () -> fetcher.fetch(4));
+        expectThrows(IllegalStateException.class, () -> fetcher.fetchAll(List.of(4, 5)));
+        assertEquals(batchRequests.get(), 1);
+        assertEquals(largestBatch.get(), 2);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testFailedBatchFailsEveryCallerInIt")
+    public void testFailedBatchFailsEveryCallerInIt() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        try (ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(baseUri).maxBatchSize(3).build()) {
+            CompletableFuture<JsonNode> healthy = fetcher.fetch(1);
+            CompletableFuture<JsonNode> failing = fetcher.fetch(FAILING_ID);
+            fetcher.fetch(2);
+
+            CompletionException error = expectThrows(CompletionException.class, healthy::join);
+            assertTrue(error.getCause().getMessage().contains(String.valueOf(HttpStatus.SERVICE_UNAVAILABLE.code())),
+                    error.getCause().getMessage());
+            expectThrows(CompletionException.class, failing::join);
+
+            // Batch berikutnya tidak terpengaruh
+            assertEquals(fetcher.fetchAll(List.of(4, 5)).get("5").path("id").asText(), "5");
+        }
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testBatchedThroughputAgainstOneByOne")
+    public void testBatchedThroughputAgainstOneByOne() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        List<Integer> ids = IntStream.rangeClosed(1, BENCHMARK_IDS).boxed().collect(Collectors.toList());
+
+        long oneByOneStart = System.nanoTime();
+        for (Integer id : ids) {
+            Response response = LoadScenarios.exchange(baseUri, GET_OBJECT_BY_ID.bind(id));
+            assertEquals(response.statusCode(), HttpStatus.OK.code());
+        }
+        long oneByOneNanos = System.nanoTime() - oneByOneStart;
+
+        Map<String, JsonNode> objects;
+        long batchedStart = System.nanoTime();
+        try (ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(baseUri).maxBatchSize(50).build()) {
+            objects = fetcher.fetchAll(ids);
+        }
+        long batchedNanos = System.nanoTime() - batchedStart;
+
+        assertEquals(objects.size(), BENCHMARK_IDS);
+        assertEquals(objects.get(String.valueOf(BENCHMARK_IDS)).path("id").asText(), String.valueOf(BENCHMARK_IDS));
+        assertEquals(batchRequests.get(), BENCHMARK_IDS / 50);
+
+        double oneByOneRate = BENCHMARK_IDS / (oneByOneNanos / 1e9);
+        double batchedRate = BENCHMARK_IDS / (batchedNanos / 1e9);
+        logger.info("📦 Batch benchmark ({} ids, {} ms latency per request):\n{}", BENCHMARK_IDS, LATENCY_MILLIS,
+                String.format("%-14s%10s%12s%12s%n%-14s%10d%12d%12.0f%n%-14s%10d%12d%12.0f%n",
+                        "mode", "requests", "time(ms)", "ids/s",
+                        "one-by-one", BENCHMARK_IDS, oneByOneNanos / 1_000_000, oneByOneRate,
+                        "batched", batchRequests.get(), batchedNanos / 1_000_000, batchedRate));
+        assertTrue(batchedRate > oneByOneRate, "Batched " + batchedRate + " ids/s <= one-by-one " + oneByOneRate);
+        BatchStats.log(logger);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * GET /objects/{id} atau GET /objects?id=1&id=2, setiap request ditahan LATENCY_MILLIS
+     */
+    private void handleObjects(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals("/objects")) {
+            String id = path.substring("/objects/".length());
+            respond(exchange, HttpStatus.OK.code(), object(id));
+            return;
+        }
+
+        String query = exchange.getRequestURI().getQuery();
+        List<String> ids = query == null ? List.of() : Arrays.stream(query.split("&"))
+                .filter(param -> param.startsWith("id="))
+                .map(param -> param.substring(3))
+                .collect(Collectors.toList());
+        batchRequests.incrementAndGet();
+        largestBatch.accumulateAndGet(ids.size(), Math::max);
+        if (ids.contains(FAILING_ID)) {
+            respond(exchange, HttpStatus.SERVICE_UNAVAILABLE.code(), "{\"error\":\"unavailable\"}");
+            return;
+        }
+        String body = ids.stream()
+                .filter(id -> Integer.parseInt(id) <= MAX_EXISTING_ID)
+                .map(ObjectBatchFetcherTest::object)
+                .collect(Collectors.joining(",", "[", "]"));
+        respond(exchange, HttpStatus.OK.code(), body);
+    }
+
+    private static String object(String id) {
+        return "{\"id\":\"" + id + "\",\"name\":\"Object " + id + "\",\"data\":{\"color\":\"Cloudy White\"}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
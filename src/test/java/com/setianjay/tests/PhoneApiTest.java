@@ -1,21 +1,45 @@
 package com.setianjay.tests;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.assertions.JsonAssertions;
+import com.setianjay.assertions.JsonSnapshot;
 import com.setianjay.base.BaseTest;
+import com.setianjay.batch.ObjectBatchFetcher;
+import com.setianjay.constants.NetworkConstant;
 import com.setianjay.enums.HttpStatus;
 import com.setianjay.enums.Method;
 import com.setianjay.models.response.phone.PhoneResponse;
 import com.setianjay.models.response.phone.PhoneSpecificationResponse;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
 import com.setianjay.utils.LoggerUtils;
+import com.setianjay.warmup.WarmupRegistry;
 import io.restassured.RestAssured;
 import org.testng.annotations.Test;
 
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
 
 public class PhoneApiTest extends BaseTest {
+    private static final RequestTemplate GET_ALL_OBJECTS = RequestTemplate.builder(Method.GET, "/objects").build();
+    private static final RequestTemplate GET_OBJECT_BY_ID = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+
+    private static final JsonSchema PHONE_SCHEMA = JsonSchemaRegistry.forClass(PhoneResponse.class);
+    private static final JsonSchema PHONE_LIST_SCHEMA = JsonSchemaRegistry.forListOf(PhoneResponse.class);
+
+    private static final JsonAssertions GET_ALL_OBJECTS_ASSERTIONS = JsonAssertions.of("$[*].id size == 13");
+    private static final JsonSnapshot OBJECT_SNAPSHOT = JsonSnapshot.of(GET_OBJECT_BY_ID);
+
+    static {
+        WarmupRegistry.request(NetworkConstant.PHONE_BASE_URI, GET_ALL_OBJECTS.bind(), PHONE_LIST_SCHEMA);
+        WarmupRegistry.request(NetworkConstant.PHONE_BASE_URI, GET_OBJECT_BY_ID.bind(1), PHONE_SCHEMA);
+        WarmupRegistry.serializer(new PhoneResponse(1, "Google Pixel 6 Pro", new PhoneSpecificationResponse("Cloudy White", "128 GB")));
+    }
 
     /*
      * RestAssured punya 3 method utama, yaitu given, when, then
@@ -31,7 +55,7 @@ public class PhoneApiTest extends BaseTest {
 
     @Override
     protected void setBaseURI() {
-        RestAssured.baseURI = "https://api.restful-api.dev";
+        RestAssured.baseURI = NetworkConstant.PHONE_BASE_URI;
     }
 
     @Override
@@ -40,27 +64,44 @@ public class PhoneApiTest extends BaseTest {
     }
 
     @Test(testName = "testGetAllObject")
-    public void testGetAllObjects() throws JsonProcessingException {
+    public void testGetAllObjects() {
         LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
-        executeRequest(Method.GET, "/objects", null, null,null, null);
-        List<PhoneResponse> jsonToObj = deserializeResponseToList(getResponse().asString(), PhoneResponse.class);
+        executeRequest(GET_ALL_OBJECTS.bind());
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertEquals(jsonToObj.size(), 13);
+        assertSchema(PHONE_LIST_SCHEMA);
+        assertResponse(GET_ALL_OBJECTS_ASSERTIONS);
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 
     @Test(testName = "testGetObjectById")
-    public void testGetObjectById() throws JsonProcessingException {
+    public void testGetObjectById() {
         LoggerUtils.logTestStart(logger, getClazzName(), getClazzName());
-        PhoneResponse expectedPhoneResponse = new PhoneResponse(1, "Google Pixel 6 Pro", new PhoneSpecificationResponse("Cloudy White", "128 GB"));
-        executeRequest(Method.GET,"/objects/{id}", null, null, null, new HashMap<>(){{
-            put("id", 1);
-        }});
-        PhoneResponse actualPhoneResponse = deserializeResponse(getResponse().asString(), PhoneResponse.class);
+        BoundRequest request = GET_OBJECT_BY_ID.bind(1);
+        executeRequest(request);
 
         assertEquals(getResponse().statusCode(), HttpStatus.OK.code());
-        assertEquals(actualPhoneResponse, expectedPhoneResponse);
+        assertSchema(PHONE_SCHEMA);
+        // Golden: src/test/resources/snapshots/GET_objects_id.snapshot.json
+        assertSnapshot(OBJECT_SNAPSHOT, request);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testGetObjectsByIdsBatched")
+    public void testGetObjectsByIdsBatched() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        List<Integer> ids = List.of(1, 2, 3, 4, 5, 6, 7);
+        Map<String, JsonNode> objects;
+        // Satu request /objects?id=1&id=2..., element dikembalikan per id
+        try (ObjectBatchFetcher fetcher = ObjectBatchFetcher.builder(NetworkConstant.PHONE_BASE_URI).build()) {
+            objects = fetcher.fetchAll(ids);
+        }
+
+        assertEquals(objects.size(), ids.size());
+        objects.forEach((id, object) -> {
+            assertNotNull(object, "Object " + id + " missing from batch response");
+            assertEquals(object.path("id").asText(), id);
+        });
         LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
     }
 }
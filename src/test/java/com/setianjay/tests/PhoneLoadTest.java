@@ -0,0 +1,62 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadReport;
+import com.setianjay.models.response.phone.PhoneResponse;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.schema.JsonSchemaRegistry;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.warmup.WarmupRegistry;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+public class PhoneLoadTest extends BaseTest {
+    private static final RequestTemplate GET_ALL_OBJECTS = RequestTemplate.builder(Method.GET, "/objects").build();
+    private static final RequestTemplate GET_OBJECT_BY_ID = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+
+    private static final JsonSchema PHONE_SCHEMA = JsonSchemaRegistry.forClass(PhoneResponse.class);
+    private static final JsonSchema PHONE_LIST_SCHEMA = JsonSchemaRegistry.forListOf(PhoneResponse.class);
+
+    static {
+        WarmupRegistry.request(NetworkConstant.PHONE_BASE_URI, GET_ALL_OBJECTS.bind(), PHONE_LIST_SCHEMA);
+        WarmupRegistry.request(NetworkConstant.PHONE_BASE_URI, GET_OBJECT_BY_ID.bind(1), PHONE_SCHEMA);
+    }
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = NetworkConstant.PHONE_BASE_URI;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        setBaseURI();
+    }
+
+    @Test(testName = "testGetAllObjectsLoad")
+    public void testGetAllObjectsLoad() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoadReport report = runOpenLoopLoad("objects-list",
+                loadScenario(GET_ALL_OBJECTS.bind(), PHONE_LIST_SCHEMA));
+
+        assertLoadReport(report);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testGetObjectByIdLoad")
+    public void testGetObjectByIdLoad() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoadReport report = runOpenLoopLoad("objects-by-id",
+                loadScenario(GET_OBJECT_BY_ID.bind(1), PHONE_SCHEMA));
+
+        assertLoadReport(report);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
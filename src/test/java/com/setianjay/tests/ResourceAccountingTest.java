@@ -0,0 +1,196 @@
+package com.setianjay.tests;
+
+import com.setianjay.accounting.ResourceAccounting;
+import com.setianjay.accounting.ResourceAccountingListener;
+import com.setianjay.accounting.ResourceUsage;
+import com.setianjay.accounting.TestResourceHistory;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.tests.fixtures.AccountingFixture;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Jalankan suite TestNG kecil (AccountingFixture) dengan ResourceAccountingListener untuk memeriksa ranking,
+ * atribusi request ke test method dan history; plus biaya executeRequest terhadap stub API lokal (tanpa network)
+ */
+public class ResourceAccountingTest extends BaseTest {
+    private static final String FIXTURE = AccountingFixture.class.getName();
+    private static final RequestTemplate GET_OBJECT = RequestTemplate.builder(Method.GET, "/objects/{id}").build();
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private HttpServer upstream;
+    private String baseUri;
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("resource-accounting");
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/objects", this::handleObjects);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+        // Request dari test class lain di suite yang sama tidak ikut dihitung
+        ResourceAccounting.reset();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        AccountingFixture.setAllocationMegabytes(16);
+        ResourceAccounting.reset();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testMethodsRankedWithRequestsAttributed")
+    public void testMethodsRankedWithRequestsAttributed() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path file = directory.resolve("ranking.json");
+        ResourceAccountingListener listener = run(file);
+
+        ResourceUsage allocateHeavily = listener.getTest(FIXTURE, "allocateHeavily");
+        ResourceUsage burnCpu = listener.getTest(FIXTURE, "burnCpu");
+        ResourceUsage cheap = listener.getTest(FIXTURE, "cheap");
+        assertTrue(allocateHeavily.getAllocatedBytes() >= 16 * MEGABYTE, "allocated " + allocateHeavily.getAllocatedBytes());
+        assertTrue(cheap.getAllocatedBytes() < MEGABYTE, "allocated " + cheap.getAllocatedBytes());
+        assertTrue(burnCpu.getCpuNanos() >= 1_000_000L, "cpu " + burnCpu.getCpuNanos());
+        assertTrue(burnCpu.getCpuNanos() > cheap.getCpuNanos() * 10, "cpu " + burnCpu.getCpuNanos() + " vs " + cheap.getCpuNanos());
+
+        // Request dihitung ke test yang sedang berjalan, @BeforeMethod ke configuration class
+        ResourceUsage cheapRequests = listener.getTestRequests(FIXTURE, "cheap");
+        assertEquals(cheapRequests.getInvocations(), 2L);
+        assertEquals(cheapRequests.getCpuNanos(), 2 * AccountingFixture.REQUEST_CPU_NANOS);
+        assertEquals(listener.getTestRequests(FIXTURE, "burnCpu").getInvocations(), 0L);
+        assertEquals(listener.getConfiguration(FIXTURE).getInvocations(), 3L);
+        assertTrue(listener.getConfiguration(FIXTURE).getAllocatedBytes() >= 3 * AccountingFixture.CONFIGURATION_MEGABYTES * MEGABYTE);
+        assertEquals(ResourceAccounting.getRequests(AccountingFixture.REQUEST_TEMPLATE).getInvocations(), 2L);
+
+        String ranking = listener.format(new TestResourceHistory());
+        logger.info("💾 Fixture ranking:\n{}", ranking);
+        String[] lines = ranking.split("\\R");
+        assertTrue(lines[1].contains("AccountingFixture#burnCpu") && lines[1].trim().endsWith("new"), ranking);
+
+        TestResourceHistory history = TestResourceHistory.load(file);
+        assertEquals(history.getMethodAllocatedBytes(FIXTURE, "allocateHeavily"), (Long) allocateHeavily.getAllocatedBytes());
+        assertTrue(history.getClassCpuNanos(FIXTURE) >= burnCpu.getCpuNanos());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testHistorySmoothsAndShowsTrend")
+    public void testHistorySmoothsAndShowsTrend() throws IOException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        Path file = directory.resolve("trend.json");
+        run(file);
+        long before = TestResourceHistory.load(file).getMethodAllocatedBytes(FIXTURE, "allocateHeavily");
+
+        AccountingFixture.setAllocationMegabytes(64);
+        ResourceAccountingListener listener = run(file);
+        long latest = listener.getTest(FIXTURE, "allocateHeavily").getAllocatedBytes();
+
+        // Exponential moving average: di tengah run lama dan run terbaru, tetap ditandai naik di ranking
+        TestResourceHistory history = TestResourceHistory.load(file);
+        long smoothed = history.getMethodAllocatedBytes(FIXTURE, "allocateHeavily");
+        assertTrue(Math.abs(smoothed - (before + latest) / 2) <= 1, smoothed + " vs " + before + "/" + latest);
+        String ranking = listener.format(history);
+        String allocateLine = Stream.of(ranking.split("\\R")).filter(line -> line.contains("#allocateHeavily"))
+                .findFirst().orElseThrow();
+        assertTrue(allocateLine.contains("alloc +"), ranking);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testExecuteRequestCostPerTemplate")
+    public void testExecuteRequestCostPerTemplate() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(executeRequest(GET_OBJECT.bind(i)).statusCode(), HttpStatus.OK.code());
+        }
+
+        ResourceUsage requests = ResourceAccounting.getRequests(GET_OBJECT.getName());
+        assertNotNull(requests);
+        assertEquals(requests.getInvocations(), 20L);
+        assertTrue(requests.getCpuNanos() > 0 && requests.getAllocatedBytes() > 0, ResourceAccounting.format());
+        ResourceAccounting.log(logger);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private ResourceAccountingListener run(Path historyFile) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("AccountingFixtureSuite");
+        XmlTest test = new XmlTest(suite);
+        test.setName("AccountingFixtureTest");
+        test.setXmlClasses(List.of(new XmlClass(AccountingFixture.class)));
+
+        ResourceAccountingListener listener = new ResourceAccountingListener(historyFile, 10);
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(List.of(suite));
+        testng.addListener(listener);
+        testng.addListener(results);
+        testng.run();
+        assertEquals(results.getPassedTests().size(), 3);
+        return listener;
+    }
+
+    private void handleObjects(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/objects/".length());
+        byte[] bytes = ("{\"id\":\"" + id + "\",\"name\":\"Object " + id + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(HttpStatus.OK.code(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.cleanup.CleanupTarget;
+import com.setianjay.cleanup.ResourceCleanup;
+import com.setianjay.constants.CleanupConstant;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.CleanupMode;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.Method;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.load.LoadReport;
+import com.setianjay.load.LoadScenarios;
+import com.setianjay.load.OpenLoopLoadDriver;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * ResourceCleanup terhadap stub API booking lokal (JDK HttpServer): DELETE butuh Cookie token dari /auth,
+ * booking {@link #UNDELETABLE_ID} selalu gagal dihapus
+ */
+public class ResourceCleanupTest extends BaseTest {
+    private static final String TOKEN = "cleanup-token";
+    private static final int UNDELETABLE_ID = 7;
+    private static final int MAX_CONCURRENCY = 3;
+    private static final long DELETE_LATENCY_MILLIS = 5;
+    private static final RequestTemplate CREATE_BOOKING = RequestTemplate.builder(Method.POST, "/booking").build();
+    private static final RequestTemplate DELETE_BOOKING = RequestTemplate.builder(Method.DELETE, "/booking/{id}").build();
+    private static final CleanupTarget BOOKING = CleanupTarget.builder(DELETE_BOOKING, "bookingid")
+            .auth("Cookie", "token=")
+            .login(RequestTemplate.builder(Method.POST, "/auth").build().bind(), "token")
+            .build();
+
+    private final Set<Integer> bookings = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextBookingId = new AtomicInteger();
+    private final AtomicInteger logins = new AtomicInteger();
+    private final AtomicInteger activeDeletes = new AtomicInteger();
+    private final AtomicInteger maxActiveDeletes = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+    private HttpServer upstream;
+    private String baseUri;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/auth", this::handleAuth);
+            upstream.createContext("/booking", this::handleBooking);
+            upstream.setExecutor(executor);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customSetupBeforeMethod() {
+        System.setProperty(CleanupConstant.MAX_CONCURRENCY_PROPERTY, String.valueOf(MAX_CONCURRENCY));
+        ResourceCleanup.reset();
+        bookings.clear();
+        nextBookingId.set(0);
+        logins.set(0);
+        maxActiveDeletes.set(0);
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        System.clearProperty(CleanupConstant.MAX_CONCURRENCY_PROPERTY);
+        System.clearProperty(CleanupConstant.MODE_PROPERTY);
+        ResourceCleanup.reset();
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        executor.shutdownNow();
+    }
+
+    @Test(testName = "testTrackedBookingsDeletedInBackgroundAfterRelease")
+    public void testTrackedBookingsDeletedInBackgroundAfterRelease() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ResourceCleanup.authorize(baseUri, "Cookie", "token=" + TOKEN);
+        for (int i = 0; i < 30; i++) {
+            ResourceCleanup.track("OwnerTest", baseUri, BOOKING, createBooking());
+        }
+
+        // Ditahan selama test class pemilik masih berjalan
+        assertEquals(ResourceCleanup.getPending(), 30);
+        assertEquals(bookings.size(), 30);
+
+        ResourceCleanup.release("OwnerTest");
+        awaitNoPending();
+        ResourceCleanup.awaitAll();
+        ResourceCleanup.log(logger);
+
+        // Token dari authorize dipakai ulang, DELETE paralel maksimal cleanup.maxConcurrency
+        assertEquals(bookings, Set.of(UNDELETABLE_ID));
+        assertEquals(ResourceCleanup.getDeleted(DELETE_BOOKING.getName()), 29L);
+        assertEquals(ResourceCleanup.getFailed(DELETE_BOOKING.getName()), 1L);
+        assertTrue(ResourceCleanup.format().contains("id=" + UNDELETABLE_ID + " @ " + baseUri + ": status "
+                + HttpStatus.INTERNAL_SERVER_ERROR.code()), ResourceCleanup.format());
+        assertEquals(logins.get(), 0);
+        assertTrue(maxActiveDeletes.get() <= MAX_CONCURRENCY, "max active deletes=" + maxActiveDeletes.get());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testForgottenAndMissingBookings")
+    public void testForgottenAndMissingBookings() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ResourceCleanup.authorize(baseUri, "Cookie", "token=" + TOKEN);
+        int kept = createBooking();
+        ResourceCleanup.track(getClazzName(), baseUri, BOOKING, kept);
+        // Sudah dihapus sendiri oleh test
+        ResourceCleanup.forget(baseUri, BOOKING, kept);
+        // Tidak ada di API lagi: dihitung gone, bukan gagal
+        ResourceCleanup.track(getClazzName(), baseUri, BOOKING, 999);
+
+        ResourceCleanup.awaitAll();
+        assertEquals(bookings, Set.of(kept));
+        assertEquals(ResourceCleanup.getDeleted(DELETE_BOOKING.getName()), 0L);
+        assertEquals(ResourceCleanup.getFailed(DELETE_BOOKING.getName()), 0L);
+        assertTrue(ResourceCleanup.format().contains(DELETE_BOOKING.getName()), ResourceCleanup.format());
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testLoadCreatedBookingsDeletedWithSingleLogin")
+    public void testLoadCreatedBookingsDeletedWithSingleLogin() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        LoadReport report = new OpenLoopLoadDriver(8).run("booking-create", LoadProfile.constantRate(50, Duration.ofSeconds(1)),
+                LoadScenarios.http(baseUri, CREATE_BOOKING::bind, null, BOOKING));
+        assertEquals(report.getErrors(), 0L);
+        ResourceCleanup.awaitAll();
+        ResourceCleanup.log(logger);
+
+        // Tanpa authorize: satu login untuk semua DELETE ke base URI ini
+        assertEquals(logins.get(), 1);
+        assertEquals(bookings, Set.of(UNDELETABLE_ID));
+        assertEquals(ResourceCleanup.getDeleted(DELETE_BOOKING.getName()), 49L);
+        assertEquals(ResourceCleanup.getFailed(DELETE_BOOKING.getName()), 1L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testSuiteEndModeDeletesOnlyInAwaitAll")
+    public void testSuiteEndModeDeletesOnlyInAwaitAll() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        System.setProperty(CleanupConstant.MODE_PROPERTY, CleanupMode.SUITE_END.name());
+        ResourceCleanup.reset();
+        ResourceCleanup.authorize(baseUri, "Cookie", "token=" + TOKEN);
+        for (int i = 0; i < 10; i++) {
+            ResourceCleanup.track(getClazzName(), baseUri, BOOKING, createBooking());
+            ResourceCleanup.delete(baseUri, BOOKING, createBooking());
+        }
+        ResourceCleanup.release(getClazzName());
+        Thread.sleep(50);
+        assertEquals(bookings.size(), 20);
+        assertEquals(ResourceCleanup.getPending(), 20);
+
+        ResourceCleanup.awaitAll();
+        assertEquals(bookings, Set.of(UNDELETABLE_ID));
+        assertEquals(ResourceCleanup.getPending(), 0);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private int createBooking() {
+        int id = nextBookingId.incrementAndGet();
+        bookings.add(id);
+        return id;
+    }
+
+    private static void awaitNoPending() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (ResourceCleanup.getPending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(ResourceCleanup.getPending(), 0);
+    }
+
+    private void handleAuth(HttpExchange exchange) throws IOException {
+        logins.incrementAndGet();
+        respond(exchange, HttpStatus.OK.code(), "{\"token\":\"" + TOKEN + "\"}");
+    }
+
+    /**
+     * POST /booking membuat booking baru, DELETE /booking/{id} menghapus (201 seperti restful-booker)
+     */
+    private void handleBooking(HttpExchange exchange) throws IOException {
+        if (exchange.getRequestMethod().equals(Method.POST.name())) {
+            exchange.getRequestBody().readAllBytes();
+            respond(exchange, HttpStatus.OK.code(), "{\"bookingid\":" + createBooking() + "}");
+            return;
+        }
+
+        int active = activeDeletes.incrementAndGet();
+        maxActiveDeletes.accumulateAndGet(active, Math::max);
+        try {
+            Thread.sleep(DELETE_LATENCY_MILLIS);
+            int id = Integer.parseInt(exchange.getRequestURI().getPath().substring("/booking/".length()));
+            if (!("token=" + TOKEN).equals(exchange.getRequestHeaders().getFirst("Cookie"))) {
+                respond(exchange, HttpStatus.FORBIDDEN.code(), "Forbidden");
+            } else if (id == UNDELETABLE_ID) {
+                respond(exchange, HttpStatus.INTERNAL_SERVER_ERROR.code(), "Internal Server Error");
+            } else if (bookings.remove(id)) {
+                respond(exchange, HttpStatus.CREATED.code(), "Created");
+            } else {
+                respond(exchange, HttpStatus.NOT_FOUND.code(), "Not Found");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            activeDeletes.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.setianjay.tests;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.constants.ScenarioConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.load.LoadProfile;
+import com.setianjay.load.LoadReport;
+import com.setianjay.load.LoadScenarioCatalog;
+import com.setianjay.load.OpenLoopLoadDriver;
+import com.setianjay.scenario.ScenarioCatalog;
+import com.setianjay.scenario.ScenarioPlan;
+import com.setianjay.scenario.ScenarioResult;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.LoggerUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Scenario deklaratif terhadap stub booking API lokal (JDK HttpServer): capture dan templating antar step,
+ * plan yang sama dijalankan sebagai functional test dan sebagai load scenario, serta error saat compile
+ */
+public class ScenarioEngineTest extends BaseTest {
+    private static final String TOKEN = "stub-token";
+    private static final String LIFECYCLE = "{\"name\": \"lifecycle\", \"variables\": {\"firstname\": \"Nico\"},"
+            + " \"steps\": ["
+            + "  {\"name\": \"auth\", \"method\": \"POST\", \"path\": \"/auth\", \"body\": {\"username\": \"admin\"},"
+            + "   \"expect\": {\"status\": 200}, \"capture\": {\"token\": \"$.token\"}},"
+            + "  {\"name\": \"create\", \"method\": \"POST\", \"path\": \"/booking\","
+            + "   \"body\": {\"firstname\": \"${firstname}\", \"totalprice\": 250},"
+            + "   \"expect\": {\"status\": 200, \"assertions\": [\"$.bookingid > 0\"]}, \"capture\": {\"bookingid\": \"$.bookingid\"}},"
+            + "  {\"name\": \"note\", \"method\": \"PUT\", \"path\": \"/booking/{bookingid}\","
+            + "   \"body\": {\"id\": \"${bookingid}\", \"note\": \"booking ${bookingid} by \\\"${firstname}\\\"\"},"
+            + "   \"expect\": {\"assertions\": [\"$.firstname == \\\"Nico\\\"\"]}},"
+            + "  {\"name\": \"delete\", \"method\": \"DELETE\", \"path\": \"/booking/{bookingid}\","
+            + "   \"headers\": {\"Cookie\": \"token=${token}\"}, \"expect\": {\"status\": 201}}"
+            + "]}";
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<String, String> bookings = new ConcurrentHashMap<>();
+    private final Queue<String> updates = new ConcurrentLinkedQueue<>();
+    private final Queue<String[]> reads = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private HttpServer upstream;
+    private String baseUri;
+    private Path directory;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            directory = Files.createTempDirectory("scenario");
+            Files.writeString(directory.resolve("lifecycle" + ScenarioConstant.FILE_SUFFIX), LIFECYCLE);
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/auth", exchange -> respond(exchange, HttpStatus.OK.code(), "{\"token\":\"" + TOKEN + "\"}"));
+            upstream.createContext("/booking", this::handleBooking);
+            upstream.setExecutor(executor);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        System.clearProperty(ScenarioConstant.DIRECTORY_PROPERTY);
+        System.clearProperty(ScenarioConstant.BASE_URI_PROPERTY);
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+        executor.shutdownNow();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            logger.warn("Failed to clean up {}: {}", directory, e.getMessage());
+        }
+    }
+
+    @Test(testName = "testRunsStepsWithCapturedVariables")
+    public void testRunsStepsWithCapturedVariables() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        System.setProperty(ScenarioConstant.DIRECTORY_PROPERTY, directory.toString());
+        ScenarioPlan plan = ScenarioCatalog.get("lifecycle");
+        assertEquals(plan.getSteps().size(), 4);
+
+        updates.clear();
+        ScenarioResult result = runScenario(plan);
+
+        assertEquals(result.getVariable("token"), TOKEN);
+        int bookingId = ((Number) result.getVariable("bookingid")).intValue();
+        assertTrue(bookingId > 0);
+        assertEquals(result.getStatus(1), HttpStatus.OK.code());
+        assertEquals(result.getLastStatus(), HttpStatus.CREATED.code());
+
+        // "${bookingid}" sebagai seluruh value tetap number, di tengah string di-escape sebagai text
+        JsonNode update = JsonUtils.getObjectMapper().readTree(updates.poll());
+        assertTrue(update.path("id").isInt(), update.toString());
+        assertEquals(update.path("note").asText(),
+                "booking " + bookingId + " by \"Nico\"");
+        assertNull(bookings.get(String.valueOf(bookingId)), "DELETE with the captured token must remove the booking");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testEachStepStartsFromFreshRequest")
+    public void testEachStepStartsFromFreshRequest() throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ScenarioPlan plan = compile("{\"name\": \"read-after-write\", \"steps\": ["
+                + "{\"name\": \"create\", \"method\": \"POST\", \"path\": \"/booking\", \"body\": {\"firstname\": \"Jim\"},"
+                + " \"headers\": {\"Cookie\": \"token=" + TOKEN + "\"}, \"capture\": {\"bookingid\": \"$.bookingid\"}},"
+                + "{\"name\": \"read\", \"method\": \"GET\", \"path\": \"/booking/{bookingid}\","
+                + " \"expect\": {\"assertions\": [\"$.firstname == \\\"Jim\\\"\"]}}]}");
+
+        reads.clear();
+        runScenario(plan);
+
+        // Body dan header step POST tidak boleh ikut ke step GET (sama seperti load mode)
+        String[] read = reads.poll();
+        assertEquals(read[0], "", "GET step must go out without a body");
+        assertNull(read[1], "GET step must not carry the Cookie header of the previous step");
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testSamePlanRunsAsLoadScenario")
+    public void testSamePlanRunsAsLoadScenario() throws InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        System.setProperty(ScenarioConstant.DIRECTORY_PROPERTY, directory.toString());
+        System.setProperty(ScenarioConstant.BASE_URI_PROPERTY, baseUri);
+        String name = ScenarioConstant.LOAD_SCENARIO_PREFIX + "lifecycle";
+        LoadScenarioCatalog.validate(name);
+
+        int deletedBefore = deleted.get();
+        LoadReport report = new OpenLoopLoadDriver(8).run(name, LoadProfile.constantRate(40, Duration.ofSeconds(1)),
+                LoadScenarioCatalog.create(name, null));
+        report.log(logger);
+
+        // Setiap arrival menjalankan seluruh scenario dengan variable sendiri
+        assertEquals(report.getErrors(), 0L);
+        assertEquals(report.getCompleted(), 40L);
+        assertEquals(report.getStatusCounts(), Map.of(HttpStatus.CREATED.code(), 40L));
+        assertEquals(deleted.get() - deletedBefore, 40);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testFailedStepNamesScenarioAndStep")
+    public void testFailedStepNamesScenarioAndStep() throws IOException, InterruptedException {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ScenarioPlan plan = compile("{\"name\": \"no-token\", \"steps\": ["
+                + "{\"name\": \"create\", \"method\": \"POST\", \"path\": \"/booking\", \"body\": {\"firstname\": \"Jim\"},"
+                + " \"capture\": {\"bookingid\": \"$.bookingid\"}},"
+                + "{\"name\": \"delete\", \"method\": \"DELETE\", \"path\": \"/booking/{bookingid}\", \"expect\": {\"status\": 201}}]}");
+
+        AssertionError error = expectThrows(AssertionError.class, () -> runScenario(plan));
+        assertTrue(error.getMessage().contains("Scenario no-token step 'delete'"), error.getMessage());
+        assertTrue(error.getMessage().contains("expected status 201 but was 403"), error.getMessage());
+
+        // Di load mode step yang gagal dihitung sebagai error
+        LoadReport report = new OpenLoopLoadDriver(2).run("no-token", LoadProfile.constantRate(10, Duration.ofSeconds(1)),
+                plan.toLoadScenario(baseUri));
+        assertEquals(report.getErrors(), 10L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testInvalidScenarioFailsAtCompileTime")
+    public void testInvalidScenarioFailsAtCompileTime() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        List<String> invalid = List.of(
+                "{\"name\": \"undefined\", \"steps\": [{\"method\": \"GET\", \"path\": \"/booking/{bookingid}\"}]}",
+                "{\"name\": \"self\", \"steps\": [{\"method\": \"POST\", \"path\": \"/booking\","
+                        + " \"body\": {\"id\": \"${bookingid}\"}, \"capture\": {\"bookingid\": \"$.bookingid\"}}]}",
+                "{\"name\": \"method\", \"steps\": [{\"method\": \"FETCH\", \"path\": \"/booking\"}]}",
+                "{\"name\": \"empty\", \"steps\": []}");
+        for (String scenario : invalid) {
+            IllegalArgumentException error = expectThrows(IllegalArgumentException.class, () -> compile(scenario));
+            logger.info("🧾 {}", error.getMessage());
+        }
+        IllegalArgumentException error = expectThrows(IllegalArgumentException.class, () -> compile(invalid.get(0)));
+        assertTrue(error.getMessage().contains("variable 'bookingid' is not defined"), error.getMessage());
+        expectThrows(IllegalArgumentException.class, () -> LoadScenarioCatalog.validate("unknown-scenario"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static ScenarioPlan compile(String json) throws IOException {
+        return ScenarioPlan.compile(JsonUtils.getObjectMapper().readTree(json), "inline");
+    }
+
+    private void handleBooking(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String id = path.substring("/booking".length()).replace("/", "");
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if ("POST".equals(method)) {
+            int bookingId = sequence.incrementAndGet();
+            bookings.put(String.valueOf(bookingId), body);
+            respond(exchange, HttpStatus.OK.code(), "{\"bookingid\":" + bookingId + ",\"booking\":" + body + "}");
+        } else if ("PUT".equals(method)) {
+            updates.add(body);
+            respond(exchange, HttpStatus.OK.code(), bookings.getOrDefault(id, "{}"));
+        } else if ("DELETE".equals(method)) {
+            String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+            if (!("token=" + TOKEN).equals(cookie)) {
+                respond(exchange, HttpStatus.FORBIDDEN.code(), "Forbidden");
+                return;
+            }
+            bookings.remove(id);
+            deleted.incrementAndGet();
+            respond(exchange, HttpStatus.CREATED.code(), "Created");
+        } else {
+            reads.add(new String[]{body, exchange.getRequestHeaders().getFirst("Cookie")});
+            respond(exchange, HttpStatus.OK.code(), bookings.getOrDefault(id, "{}"));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
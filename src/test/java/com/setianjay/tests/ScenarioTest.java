@@ -0,0 +1,40 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.scenario.ScenarioCatalog;
+import com.setianjay.scenario.ScenarioPlan;
+import com.setianjay.utils.LoggerUtils;
+import io.restassured.RestAssured;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Menjalankan semua file scenario di -Dscenario.dir sebagai functional test, satu invocation per scenario
+ */
+public class ScenarioTest extends BaseTest {
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        // Base URI per scenario, di-set di test
+    }
+
+    @DataProvider(name = "scenarios")
+    public Object[][] scenarios() {
+        return ScenarioCatalog.all().stream()
+                .map(plan -> new Object[]{plan})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(testName = "testScenario", dataProvider = "scenarios")
+    public void testScenario(ScenarioPlan plan) throws Exception {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        RestAssured.baseURI = plan.resolveBaseUri(null);
+        runScenario(plan);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+}
@@ -0,0 +1,116 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.OfflineTest;
+import com.setianjay.constants.ShardConstant;
+import com.setianjay.sharding.ShardPlanner;
+import com.setianjay.sharding.TestDurationHistory;
+import com.setianjay.utils.LoggerUtils;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Pembagian class ke shard oleh ShardPlanner (greedy LPT dari history durasi) dan pembatasan suite per shard,
+ * memakai XmlSuite yang dibangun di memory (tanpa network dan tanpa menjalankan test)
+ */
+public class ShardPlannerTest extends OfflineTest {
+
+    @Test(testName = "testLongestClassesFirstToLightestShard")
+    public void testLongestClassesFirstToLightestShard() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        TestDurationHistory history = history(Map.of("A", 7000L, "B", 6000L, "C", 5000L, "D", 4000L, "E", 3000L, "F", 2000L));
+
+        // A(7)->1, B(6)->2, C(5)->2 (6<7), D(4)->1 (7<11), E(3)->1 (11=11, index terkecil), F(2)->2 (14>11)
+        List<ShardPlanner.Shard> shards = new ShardPlanner(history).plan(suite(List.of("F", "E", "D"), List.of("C", "B", "A")), 2);
+        assertEquals(shards.size(), 2);
+        assertEquals(shards.get(0).getClassNames(), List.of("A", "D", "E"));
+        assertEquals(shards.get(0).getEstimatedMillis(), 14_000L);
+        assertEquals(shards.get(1).getClassNames(), List.of("B", "C", "F"));
+        assertEquals(shards.get(1).getEstimatedMillis(), 13_000L);
+
+        // Satu class yang sangat lama mendapat shard sendiri
+        shards = new ShardPlanner(history(Map.of("Slow", 60_000L, "X", 1000L, "Y", 1000L, "Z", 1000L)))
+                .plan(suite(List.of("X", "Y", "Z", "Slow")), 2);
+        assertEquals(shards.get(0).getClassNames(), List.of("Slow"));
+        assertEquals(shards.get(1).getClassNames(), List.of("X", "Y", "Z"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testClassesWithoutHistory")
+    public void testClassesWithoutHistory() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Tanpa history sama sekali: durasi default, urutan nama sebagai tie-break (round-robin)
+        List<ShardPlanner.Shard> shards = new ShardPlanner(new TestDurationHistory()).plan(suite(List.of("D", "B", "C", "A")), 2);
+        assertEquals(shards.get(0).getClassNames(), List.of("A", "C"));
+        assertEquals(shards.get(1).getClassNames(), List.of("B", "D"));
+        assertEquals(shards.get(0).getEstimatedMillis(), 2 * ShardConstant.DEFAULT_CLASS_DURATION_MILLIS);
+
+        // Class baru diestimasi dengan rata-rata class yang sudah tercatat
+        shards = new ShardPlanner(history(Map.of("Known1", 2000L, "Known2", 4000L))).plan(suite(List.of("Known1", "Known2", "New")), 3);
+        assertEquals(shards.get(1).getClassNames(), List.of("New"));
+        assertEquals(shards.get(1).getEstimatedMillis(), 3000L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testShardCountAndRestrictedSuite")
+    public void testShardCountAndRestrictedSuite() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        ShardPlanner planner = new ShardPlanner(history(Map.of("A", 3000L, "B", 2000L, "C", 1000L)));
+        // Shard kosong tidak dibuat, class yang muncul di beberapa <test> dihitung sekali
+        assertEquals(planner.plan(suite(List.of("A", "B"), List.of("B", "C")), 8).size(), 3);
+        assertEquals(planner.plan(new XmlSuite(), 4).size(), 1);
+        expectThrows(IllegalArgumentException.class, () -> planner.plan(suite(List.of("A")), 0));
+
+        List<ShardPlanner.Shard> shards = planner.plan(suite(List.of("A", "B"), List.of("C")), 2);
+        XmlSuite restricted = ShardPlanner.restrictSuite(suite(List.of("A", "B"), List.of("C")), shards.get(1), shards.size());
+        assertEquals(restricted.getName(), "Planned - shard 2 of 2");
+        assertEquals(restricted.getTests().size(), 2);
+        assertEquals(classNames(restricted.getTests().get(0)), List.of("B"));
+        assertEquals(classNames(restricted.getTests().get(1)), List.of("C"));
+
+        // <test> tanpa class milik shard dibuang
+        restricted = ShardPlanner.restrictSuite(suite(List.of("A", "B"), List.of("C")), shards.get(0), shards.size());
+        assertEquals(restricted.getTests().size(), 1);
+        assertEquals(classNames(restricted.getTests().get(0)), List.of("A"));
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    private static TestDurationHistory history(Map<String, Long> classDurations) {
+        TestDurationHistory history = new TestDurationHistory();
+        classDurations.forEach(history::recordClass);
+        return history;
+    }
+
+    /**
+     * Suite dengan satu &lt;test&gt; per daftar class; class tidak di-load
+     */
+    @SafeVarargs
+    private static XmlSuite suite(List<String>... tests) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Planned");
+        for (int i = 0; i < tests.length; i++) {
+            XmlTest test = new XmlTest(suite);
+            test.setName("Group" + i);
+            List<XmlClass> classes = new ArrayList<>();
+            for (String className : tests[i]) {
+                classes.add(new XmlClass(className, false));
+            }
+            test.setXmlClasses(classes);
+        }
+        return suite;
+    }
+
+    private static List<String> classNames(XmlTest test) {
+        List<String> names = new ArrayList<>();
+        test.getXmlClasses().forEach(xmlClass -> names.add(xmlClass.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,148 @@
+package com.setianjay.tests;
+
+import com.setianjay.base.BaseTest;
+import com.setianjay.constants.FaultConstant;
+import com.setianjay.enums.HttpStatus;
+import com.setianjay.enums.MeasurementPhase;
+import com.setianjay.enums.Method;
+import com.setianjay.request.BoundRequest;
+import com.setianjay.request.RequestTemplate;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.utils.RequestUtils;
+import com.setianjay.warmup.TimingStats;
+import com.setianjay.warmup.WarmupRegistry;
+import com.setianjay.warmup.WarmupRunner;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Stop rule warm-up (coefficient of variation di window terakhir) dengan clock palsu, dan pemisahan timing
+ * warm-up dari steady-state terhadap stub API lokal (tanpa network)
+ */
+public class WarmupRunnerTest extends BaseTest {
+    private static final RequestTemplate GET_ITEM = RequestTemplate.builder(Method.GET, "/warmup/{id}").build();
+    private static final long MILLISECOND = 1_000_000L;
+
+    private HttpServer upstream;
+    private String baseUri;
+
+    @Override
+    protected Class<?> getClazz() {
+        return this.getClass();
+    }
+
+    @Override
+    protected void setBaseURI() {
+        RestAssured.baseURI = baseUri;
+    }
+
+    @Override
+    protected void customSetupBeforeClass() {
+        try {
+            upstream = HttpServer.create(new InetSocketAddress(FaultConstant.LOOPBACK_HOST, 0), 0);
+            upstream.createContext("/warmup", this::handleItem);
+            upstream.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        baseUri = "http://" + FaultConstant.LOOPBACK_HOST + ":" + upstream.getAddress().getPort();
+        setBaseURI();
+    }
+
+    @Override
+    protected void customTearDownAfterMethod() {
+        // Tidak ada state per method
+    }
+
+    @Override
+    protected void customTearDownAfterClass() {
+        if (upstream != null) {
+            upstream.stop(0);
+        }
+    }
+
+    @Test(testName = "testStopsOnceWindowIsStable")
+    public void testStopsOnceWindowIsStable() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        // Window 5: [50,10,30,10,10] .. [30,10,10,10,10] masih bervariasi, [10,10,10,10,10] cv 0 di iterasi ke-8
+        AtomicLong clock = new AtomicLong();
+        String name = "stable " + getTestName();
+        int iterations = new WarmupRunner(20, 3, 5, 0.10, 0, clock::get)
+                .warmUp(name, scripted(clock, 50, 10, 30, 10, 10, 10, 10, 10, 10, 10));
+
+        assertEquals(iterations, 8);
+        assertEquals(TimingStats.getCount(MeasurementPhase.WARMUP, name), 8L);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testIterationBoundsAndFailure")
+    public void testIterationBoundsAndFailure() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        AtomicLong clock = new AtomicLong();
+        // Timing konstan tetap menunggu window penuh (max(minIterations, window))
+        assertEquals(new WarmupRunner(20, 3, 5, 0.10, 0, clock::get).warmUp("constant", scripted(clock, 10)), 5);
+        // Tidak pernah stabil (cv 0.5): berhenti di maxIterations
+        assertEquals(new WarmupRunner(12, 3, 4, 0.10, 0, clock::get).warmUp("alternating", scripted(clock, 10, 30)), 12);
+        // minIterations lebih besar dari window
+        assertEquals(new WarmupRunner(20, 7, 3, 0.10, 0, clock::get).warmUp("minimum", scripted(clock, 10)), 7);
+
+        // Exception menghentikan warm-up item tanpa menggagalkan run
+        AtomicInteger calls = new AtomicInteger();
+        int iterations = new WarmupRunner(20, 3, 5, 0.10, 0, clock::get).warmUp("failing", () -> {
+            if (calls.incrementAndGet() == 3) {
+                throw new IOException("Connection refused");
+            }
+        });
+        assertEquals(iterations, 2);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    @Test(testName = "testWarmupTimingsSeparateFromSteadyState")
+    public void testWarmupTimingsSeparateFromSteadyState() {
+        LoggerUtils.logTestStart(logger, getClazzName(), getTestName());
+        BoundRequest item = GET_ITEM.bind(1);
+        String endpoint = baseUri + item.getPath();
+        // Threshold 0 tidak pernah tercapai dengan clock asli, jadi tepat maxIterations
+        int iterations = new WarmupRunner(4, 2, 2, 0.0, 0).warmUp(GET_ITEM.getName(),
+                () -> RequestUtils.dispatch(item.getMethod(), item.applyTo(RequestUtils.newRequestSpec()), endpoint).asByteArray());
+        assertEquals(iterations, 4);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(executeRequest(GET_ITEM.bind(i)).statusCode(), HttpStatus.OK.code());
+        }
+
+        assertEquals(TimingStats.getCount(MeasurementPhase.WARMUP, GET_ITEM.getName()), 4L);
+        assertEquals(TimingStats.getCount(MeasurementPhase.STEADY_STATE, GET_ITEM.getName()), 3L);
+        TimingStats.log(logger);
+        LoggerUtils.logTestEnd(logger, getClazzName(), getTestName());
+    }
+
+    /**
+     * Action yang memajukan clock sesuai durasi (ms) berurutan, diulang dari awal setelah durasi terakhir
+     */
+    private static WarmupRegistry.WarmupAction scripted(AtomicLong clock, long... millis) {
+        AtomicInteger index = new AtomicInteger();
+        return () -> clock.addAndGet(millis[index.getAndIncrement() % millis.length] * MILLISECOND);
+    }
+
+    private void handleItem(HttpExchange exchange) throws IOException {
+        byte[] bytes = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(HttpStatus.OK.code(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.setianjay.tests.fixtures;
+
+import com.setianjay.accounting.ResourceAccounting;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixture untuk ResourceAccountingTest, hanya dijalankan lewat TestNG programmatic (tidak ada di suite xml).
+ * Satu test mengalokasikan {@link #allocationMegabytes} MB, satu membakar CPU, satu murah dengan request sintetis.
+ */
+public class AccountingFixture {
+    public static final String REQUEST_TEMPLATE = "GET /fixture";
+    public static final int CONFIGURATION_MEGABYTES = 1;
+    public static final long REQUEST_CPU_NANOS = 1_000_000;
+    public static final long REQUEST_ALLOCATED_BYTES = 2048;
+    // Target CPU time, bukan jumlah iterasi: loop yang sudah di-JIT di run sebelumnya bisa lebih murah dari alokasi 16MB
+    public static final long BURN_CPU_NANOS = 50_000_000;
+    private static final int MEGABYTE = 1024 * 1024;
+    private static volatile int allocationMegabytes = 16;
+    // Ditahan sampai method selesai supaya alokasi tidak dieliminasi JIT
+    private static volatile List<byte[]> retained;
+    private static volatile long sink;
+
+    public static void setAllocationMegabytes(int megabytes) {
+        allocationMegabytes = megabytes;
+    }
+
+    @BeforeMethod
+    public void prepare() {
+        retained = List.of(new byte[CONFIGURATION_MEGABYTES * MEGABYTE]);
+    }
+
+    @Test
+    public void allocateHeavily() {
+        List<byte[]> chunks = new ArrayList<>();
+        for (int i = 0; i < allocationMegabytes; i++) {
+            chunks.add(new byte[MEGABYTE]);
+        }
+        retained = chunks;
+        retained = null;
+    }
+
+    @Test
+    public void burnCpu() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long deadline = threads.getCurrentThreadCpuTime() + BURN_CPU_NANOS;
+        long value = 1;
+        while (threads.getCurrentThreadCpuTime() < deadline) {
+            for (int i = 0; i < 1_000_000; i++) {
+                value = value * 6364136223846793005L + 1442695040888963407L;
+            }
+        }
+        sink = value;
+    }
+
+    @Test
+    public void cheap() {
+        ResourceAccounting.recordRequest(REQUEST_TEMPLATE, REQUEST_CPU_NANOS, REQUEST_ALLOCATED_BYTES);
+        ResourceAccounting.recordRequest(REQUEST_TEMPLATE, REQUEST_CPU_NANOS, REQUEST_ALLOCATED_BYTES);
+    }
+}
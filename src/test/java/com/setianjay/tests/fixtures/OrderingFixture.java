@@ -0,0 +1,63 @@
+package com.setianjay.tests.fixtures;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fixture untuk FailFastOrderingTest, hanya dijalankan lewat TestNG programmatic (tidak ada di suite xml).
+ * Setiap method mencatat namanya ke {@link #EXECUTED} dan gagal jika namanya ada di {@link #failing}.
+ */
+public class OrderingFixture {
+    public static final List<String> EXECUTED = new CopyOnWriteArrayList<>();
+    private static volatile Set<String> failing = Set.of();
+
+    public static void reset(Set<String> failingMethods) {
+        EXECUTED.clear();
+        failing = failingMethods;
+    }
+
+    static void execute(String method) {
+        EXECUTED.add(method);
+        if (failing.contains(method)) {
+            throw new AssertionError(method + " failed");
+        }
+    }
+
+    @Test
+    public void stableFast() {
+        execute("stableFast");
+    }
+
+    @Test(dependsOnMethods = "stableFast")
+    public void dependent() {
+        execute("dependent");
+    }
+
+    @Test
+    public void flakySlow() {
+        execute("flakySlow");
+    }
+
+    @Test
+    public void flakyFast() {
+        execute("flakyFast");
+    }
+
+    @Test
+    public void unseen() {
+        execute("unseen");
+    }
+
+    @Test(priority = 1)
+    public void step1() {
+        execute("step1");
+    }
+
+    @Test(priority = 2)
+    public void step2() {
+        execute("step2");
+    }
+}
@@ -0,0 +1,13 @@
+package com.setianjay.tests.fixtures;
+
+import org.testng.annotations.Test;
+
+/**
+ * Fixture untuk FailFastOrderingTest: class yang selalu lolos tapi lambat
+ */
+public class StableFixture {
+    @Test
+    public void slowStable() {
+        OrderingFixture.execute("slowStable");
+    }
+}
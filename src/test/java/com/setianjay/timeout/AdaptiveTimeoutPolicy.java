@@ -0,0 +1,89 @@
+package com.setianjay.timeout;
+
+import com.setianjay.constants.TimeoutConstant;
+
+/**
+ * Aturan timeout adaptif: timeout = percentile latency x factor, dibatasi floor dan ceiling.
+ * Connect timeout memakai nilai yang sama dengan ceiling sendiri.
+ */
+public class AdaptiveTimeoutPolicy {
+    private final double percentile;
+    private final double factor;
+    private final int floorMillis;
+    private final int ceilingMillis;
+    private final int connectCeilingMillis;
+    private final int minSamples;
+    private final int window;
+
+    public AdaptiveTimeoutPolicy(double percentile, double factor, int floorMillis, int ceilingMillis,
+                                 int connectCeilingMillis, int minSamples, int window) {
+        if (percentile <= 0 || percentile > 100 || factor < 1.0 || floorMillis <= 0
+                || ceilingMillis < floorMillis || minSamples < 1 || window < minSamples) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid adaptive timeout policy: p%s x %s [%d..%d]ms minSamples=%d window=%d",
+                    percentile, factor, floorMillis, ceilingMillis, minSamples, window));
+        }
+        this.percentile = percentile;
+        this.factor = factor;
+        this.floorMillis = floorMillis;
+        this.ceilingMillis = ceilingMillis;
+        this.connectCeilingMillis = connectCeilingMillis;
+        this.minSamples = minSamples;
+        this.window = window;
+    }
+
+    /**
+     * Build policy dari system properties -Dtimeout.*
+     */
+    public static AdaptiveTimeoutPolicy fromSystemProperties() {
+        return new AdaptiveTimeoutPolicy(
+                Double.parseDouble(System.getProperty(TimeoutConstant.PERCENTILE_PROPERTY,
+                        String.valueOf(TimeoutConstant.DEFAULT_PERCENTILE))),
+                Double.parseDouble(System.getProperty(TimeoutConstant.FACTOR_PROPERTY,
+                        String.valueOf(TimeoutConstant.DEFAULT_FACTOR))),
+                Integer.getInteger(TimeoutConstant.FLOOR_MILLIS_PROPERTY, TimeoutConstant.DEFAULT_FLOOR_MILLIS),
+                Integer.getInteger(TimeoutConstant.CEILING_MILLIS_PROPERTY, TimeoutConstant.DEFAULT_CEILING_MILLIS),
+                Integer.getInteger(TimeoutConstant.CONNECT_CEILING_MILLIS_PROPERTY,
+                        TimeoutConstant.DEFAULT_CONNECT_CEILING_MILLIS),
+                Integer.getInteger(TimeoutConstant.MIN_SAMPLES_PROPERTY, TimeoutConstant.DEFAULT_MIN_SAMPLES),
+                Integer.getInteger(TimeoutConstant.WINDOW_PROPERTY, TimeoutConstant.DEFAULT_WINDOW));
+    }
+
+    /**
+     * Socket timeout untuk latency percentile yang diamati
+     */
+    public int socketTimeoutMillis(long percentileMillis) {
+        return clamp(percentileMillis, ceilingMillis);
+    }
+
+    public int connectTimeoutMillis(long percentileMillis) {
+        return clamp(percentileMillis, Math.max(floorMillis, connectCeilingMillis));
+    }
+
+    private int clamp(long percentileMillis, int ceiling) {
+        long timeout = (long) Math.ceil(percentileMillis * factor);
+        return (int) Math.max(floorMillis, Math.min(ceiling, timeout));
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getFactor() {
+        return factor;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p%s x %.1f within [%d, %d]ms (connect <= %dms), minSamples=%d, window=%d",
+                percentile, factor, floorMillis, ceilingMillis, connectCeilingMillis, minSamples, window);
+    }
+}
@@ -0,0 +1,136 @@
+package com.setianjay.timeout;
+
+import com.setianjay.constants.TimeoutConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.timing.RequestTrace;
+import com.setianjay.utils.RequestUtils;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.slf4j.Logger;
+
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timeout per endpoint yang dipelajari dari latency network yang diamati (lihat RequestTrace),
+ * dipakai oleh executeRequest dan load scenario. Endpoint diidentifikasi dengan nama request template (contoh "GET /booking/{id}").
+ * Bisa dimatikan dengan -Dtimeout.adaptive=false.
+ */
+public final class AdaptiveTimeouts {
+    private static final Map<String, EndpointTimeout> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private AdaptiveTimeouts() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(TimeoutConstant.ADAPTIVE_PROPERTY, "true"));
+    }
+
+    public static EndpointTimeout forEndpoint(String name) {
+        return ENDPOINTS.computeIfAbsent(name, key -> new EndpointTimeout(key, PolicyHolder.POLICY));
+    }
+
+    /**
+     * Kirim request dengan timeout adaptif endpoint ini. Request yang memakai configuration sendiri
+     * (bukan configuration bersama dari RequestUtils) tidak diubah, tapi latency-nya tetap dicatat.
+     */
+    public static Response dispatch(String name, Method method, RequestSpecification request, String endpoint) {
+        if (!isEnabled()) {
+            return RequestUtils.dispatch(method, request, endpoint);
+        }
+
+        EndpointTimeout timeout = forEndpoint(name);
+        if (timeout.restAssuredConfig() != null
+                && ((FilterableRequestSpecification) request).getConfig() == RequestUtils.restAssuredConfig()) {
+            request.config(timeout.restAssuredConfig());
+        }
+
+        // Load scenario tidak punya trace sendiri, jadi trace dibuat di sini selama dispatch
+        RequestTrace trace = RequestTrace.current();
+        boolean ownTrace = trace == null;
+        if (ownTrace) {
+            trace = RequestTrace.start();
+        }
+        long networkBefore = networkWaitNanos(trace);
+        long startTime = System.nanoTime();
+        try {
+            Response response = RequestUtils.dispatch(method, request, endpoint);
+            long networkWait = networkWaitNanos(trace) - networkBefore;
+            timeout.record(networkWait > 0 ? networkWait : System.nanoTime() - startTime);
+            return response;
+        } catch (Exception e) {
+            RequestPhase phase = timeoutPhase(e);
+            if (phase != null) {
+                timeout.recordTimeout(phase);
+            }
+            throw e;
+        } finally {
+            if (ownTrace) {
+                RequestTrace.stop();
+            }
+        }
+    }
+
+    /**
+     * Waktu menunggu network yang dijaga oleh connect/socket timeout (connect, TLS, send, TTFB),
+     * tanpa overhead client seperti class loading RestAssured di request pertama
+     */
+    private static long networkWaitNanos(RequestTrace trace) {
+        return trace.getNanos(RequestPhase.CONNECT) + trace.getNanos(RequestPhase.TLS)
+                + trace.getNanos(RequestPhase.SEND) + trace.getNanos(RequestPhase.TTFB);
+    }
+
+    /**
+     * Table timeout per endpoint: sample, percentile, timeout yang berlaku dan berapa kali timeout terjadi
+     */
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-40s%10s%12s%14s%14s%10s%n",
+                "endpoint", "samples", "p(ms)", "socket(ms)", "connect(ms)", "timeouts"));
+        new TreeMap<>(ENDPOINTS).forEach((name, timeout) -> sb.append(String.format("%-40s%10d%12s%14d%14d%10d%n",
+                name, timeout.getSampleCount(),
+                timeout.getPercentileMillis() < 0 ? "-" : String.valueOf(timeout.getPercentileMillis()),
+                timeout.getSocketTimeoutMillis(), timeout.getConnectTimeoutMillis(), timeout.getTimeoutsFired())));
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!ENDPOINTS.isEmpty()) {
+            logger.info("⏳ Adaptive timeouts ({}):\n{}", PolicyHolder.POLICY, format());
+        }
+    }
+
+    public static void reset() {
+        ENDPOINTS.clear();
+    }
+
+    /**
+     * Phase yang timeout, atau null jika bukan timeout network. Menunggu connection pool
+     * (ConnectionPoolTimeoutException, turunan ConnectTimeoutException) bukan latency endpoint, jadi tidak dicatat.
+     */
+    private static RequestPhase timeoutPhase(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectionPoolTimeoutException) {
+                return null;
+            }
+            if (cause instanceof ConnectTimeoutException) {
+                return RequestPhase.CONNECT;
+            }
+            // SocketTimeoutException (read) dan InterruptedIOException lain dijaga oleh socket timeout
+            if (cause instanceof InterruptedIOException) {
+                return RequestPhase.TTFB;
+            }
+        }
+        return null;
+    }
+
+    private static final class PolicyHolder {
+        private static final AdaptiveTimeoutPolicy POLICY = AdaptiveTimeoutPolicy.fromSystemProperties();
+    }
+}
@@ -0,0 +1,128 @@
+package com.setianjay.timeout;
+
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.constants.TimeoutConstant;
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.utils.RequestUtils;
+import io.restassured.config.RestAssuredConfig;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rolling window latency satu endpoint dan timeout yang dipelajari darinya.
+ * Timeout dihitung ulang setiap beberapa sample dan RestAssuredConfig-nya di-cache,
+ * jadi request hanya membaca field volatile.
+ */
+public class EndpointTimeout {
+    private static final Logger logger = LoggerUtils.getLogger(EndpointTimeout.class);
+
+    private final String endpoint;
+    private final AdaptiveTimeoutPolicy policy;
+    private final long[] windowMillis;
+    private final LongAdder timeoutsFired = new LongAdder();
+    private int count;
+    private int next;
+    private int sinceRecompute;
+
+    private volatile long percentileMillis = -1;
+    private volatile int socketTimeoutMillis = NetworkConstant.SOCKET_TIMEOUT;
+    private volatile int connectTimeoutMillis = NetworkConstant.CONNECTION_TIMEOUT;
+    // null selama sample belum cukup: request memakai configuration default
+    private volatile RestAssuredConfig config;
+
+    EndpointTimeout(String endpoint, AdaptiveTimeoutPolicy policy) {
+        this.endpoint = endpoint;
+        this.policy = policy;
+        this.windowMillis = new long[policy.getWindow()];
+    }
+
+    /**
+     * Catat waktu tunggu network request yang selesai (status apapun)
+     */
+    public void record(long durationNanos) {
+        add(durationNanos / 1_000_000);
+    }
+
+    /**
+     * Request timeout: latency sebenarnya tidak diketahui (censored), dicatat sebesar timeout yang berlaku
+     * untuk phase yang timeout (CONNECT memakai connect timeout, phase lain socket timeout)
+     * supaya timeout berulang ikut menaikkan percentile dan bukan terus memicu false failure
+     */
+    public void recordTimeout(RequestPhase phase) {
+        timeoutsFired.increment();
+        boolean connect = phase == RequestPhase.CONNECT;
+        int timeout = connect ? connectTimeoutMillis : socketTimeoutMillis;
+        logger.warn("⏳ {} timed out during {} ({} timeout {}ms)",
+                endpoint, phase.label(), connect ? "connect" : "socket", timeout);
+        add(timeout);
+    }
+
+    private synchronized void add(long millis) {
+        windowMillis[next] = millis;
+        next = (next + 1) % windowMillis.length;
+        count = Math.min(count + 1, windowMillis.length);
+
+        if (count >= policy.getMinSamples() && (config == null || ++sinceRecompute >= TimeoutConstant.RECOMPUTE_EVERY)) {
+            sinceRecompute = 0;
+            recompute();
+        }
+    }
+
+    private void recompute() {
+        long[] sorted = Arrays.copyOf(windowMillis, count);
+        Arrays.sort(sorted);
+        // Kalikan dulu baru bagi: 99.9 / 100.0 * 1000 = 999.0000000000001 sehingga p99.9 menjadi nilai max
+        int index = (int) Math.ceil(policy.getPercentile() * count / 100.0) - 1;
+        long percentile = sorted[Math.max(0, Math.min(count - 1, index))];
+
+        int socketTimeout = policy.socketTimeoutMillis(percentile);
+        int connectTimeout = policy.connectTimeoutMillis(percentile);
+        boolean first = config == null;
+        boolean changed = Math.abs(socketTimeout - socketTimeoutMillis) > socketTimeoutMillis * TimeoutConstant.LOG_CHANGE_RATIO;
+
+        percentileMillis = percentile;
+        if (first || socketTimeout != socketTimeoutMillis || connectTimeout != connectTimeoutMillis) {
+            socketTimeoutMillis = socketTimeout;
+            connectTimeoutMillis = connectTimeout;
+            config = RequestUtils.buildRestAssuredConfig(connectTimeout, socketTimeout);
+        }
+        if (first || changed) {
+            logger.info("⏳ {}: p{}={}ms over {} samples -> socket timeout {}ms, connect timeout {}ms",
+                    endpoint, policy.getPercentile(), percentile, count, socketTimeout, connectTimeout);
+        }
+    }
+
+    /**
+     * Configuration dengan timeout adaptif, atau null jika sample belum cukup
+     */
+    public RestAssuredConfig restAssuredConfig() {
+        return config;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized int getSampleCount() {
+        return count;
+    }
+
+    public long getPercentileMillis() {
+        return percentileMillis;
+    }
+
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public long getTimeoutsFired() {
+        return timeoutsFired.sum();
+    }
+}
@@ -0,0 +1,74 @@
+package com.setianjay.timing;
+
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.load.LatencyHistogram;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histogram per endpoint per phase, untuk melihat kemana milliseconds request habis
+ * (connect, TLS, server time, download, deserialize) sebelum melakukan tuning.
+ */
+public final class PhaseTimingStats {
+    private static final Map<String, Map<RequestPhase, LatencyHistogram>> STATS = new ConcurrentHashMap<>();
+
+    private PhaseTimingStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Record semua phase yang tercatat di trace
+     */
+    public static void record(String endpoint, RequestTrace trace) {
+        Map<RequestPhase, LatencyHistogram> phases = phasesOf(endpoint);
+        for (RequestPhase phase : RequestPhase.values()) {
+            if (trace.has(phase)) {
+                phases.computeIfAbsent(phase, key -> new LatencyHistogram()).recordNanos(trace.getNanos(phase));
+            }
+        }
+    }
+
+    public static void record(String endpoint, RequestPhase phase, long durationNanos) {
+        phasesOf(endpoint).computeIfAbsent(phase, key -> new LatencyHistogram()).recordNanos(durationNanos);
+    }
+
+    /**
+     * Table per endpoint dengan mean/p90 (milliseconds) setiap phase; '-' jika phase tidak terjadi
+     * (misal koneksi dipakai ulang sehingga tidak ada connect/TLS)
+     */
+    public static String format() {
+        StringBuilder sb = new StringBuilder(String.format("%-32s", "endpoint (mean/p90 ms)"));
+        for (RequestPhase phase : RequestPhase.values()) {
+            sb.append(String.format("%16s", phase.label()));
+        }
+        sb.append(System.lineSeparator());
+
+        new TreeMap<>(STATS).forEach((endpoint, phases) -> {
+            sb.append(String.format("%-32s", endpoint));
+            for (RequestPhase phase : RequestPhase.values()) {
+                LatencyHistogram histogram = phases.get(phase);
+                sb.append(String.format("%16s", histogram == null ? "-" : String.format("%.2f/%.2f",
+                        histogram.getMean() / 1000.0, histogram.getValueAtPercentile(90) / 1000.0)));
+            }
+            sb.append(System.lineSeparator());
+        });
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        if (!STATS.isEmpty()) {
+            logger.info("⏱️ Request phase breakdown:\n{}", format());
+        }
+    }
+
+    public static void reset() {
+        STATS.clear();
+    }
+
+    private static Map<RequestPhase, LatencyHistogram> phasesOf(String endpoint) {
+        return STATS.computeIfAbsent(endpoint, key -> new ConcurrentHashMap<>());
+    }
+}
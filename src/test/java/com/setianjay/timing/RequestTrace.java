@@ -0,0 +1,124 @@
+package com.setianjay.timing;
+
+import com.setianjay.enums.RequestPhase;
+
+/**
+ * Durasi per phase untuk satu request. Trace aktif disimpan di thread-local supaya hook di
+ * HttpClient (socket factory, request executor) bisa mencatat phase tanpa mengubah signature
+ * RestAssured; request tanpa trace aktif (load driver, warm-up) tidak dicatat.
+ */
+public final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long[] nanos = new long[RequestPhase.values().length];
+    private final boolean[] recorded = new boolean[RequestPhase.values().length];
+    private long wireBytes;
+    private long uploadBytes;
+    private String contentEncoding;
+
+    private RequestTrace() {
+    }
+
+    /**
+     * Mulai trace baru untuk request di thread ini
+     */
+    public static RequestTrace start() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Tambahkan durasi ke trace aktif di thread ini (no-op jika tidak ada)
+     */
+    static void recordCurrent(RequestPhase phase, long durationNanos) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.record(phase, durationNanos);
+        }
+    }
+
+    /**
+     * Durasi phase yang sama dijumlahkan (misal request yang di-retry)
+     */
+    public synchronized void record(RequestPhase phase, long durationNanos) {
+        nanos[phase.ordinal()] += Math.max(0, durationNanos);
+        recorded[phase.ordinal()] = true;
+    }
+
+    /**
+     * Byte body yang dibaca dari socket (sebelum decompress)
+     */
+    synchronized void addWireBytes(long bytes) {
+        wireBytes += bytes;
+    }
+
+    /**
+     * Byte request body yang ditulis ke socket
+     */
+    synchronized void addUploadBytes(long bytes) {
+        uploadBytes += bytes;
+    }
+
+    synchronized void setContentEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    public synchronized long getWireBytes() {
+        return wireBytes;
+    }
+
+    public synchronized long getUploadBytes() {
+        return uploadBytes;
+    }
+
+    /**
+     * Content-Encoding response, null jika body tidak dikompres
+     */
+    public synchronized String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public synchronized boolean has(RequestPhase phase) {
+        return recorded[phase.ordinal()];
+    }
+
+    public synchronized long getNanos(RequestPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * Total phase network (acquire sampai download)
+     */
+    public synchronized long networkNanos() {
+        long total = 0;
+        for (RequestPhase phase : RequestPhase.values()) {
+            if (phase.ordinal() >= RequestPhase.ACQUIRE.ordinal() && phase.ordinal() <= RequestPhase.DOWNLOAD.ordinal()) {
+                total += nanos[phase.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (RequestPhase phase : RequestPhase.values()) {
+            if (recorded[phase.ordinal()]) {
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+                sb.append(phase.label()).append('=').append(String.format("%.2fms", nanos[phase.ordinal()] / 1e6));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,366 @@
+package com.setianjay.timing;
+
+import com.setianjay.enums.RequestPhase;
+import com.setianjay.request.StreamingContentLength;
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpProcessor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClient factory untuk RestAssured yang mencatat phase request ke {@link RequestTrace} aktif:
+ * connection acquire, TCP connect, TLS handshake, send, time to first byte (request terkirim sampai
+ * response headers diterima) dan download body. Sama seperti default RestAssured, client yang dibuat
+ * adalah DefaultHttpClient, hanya socket factory, connection manager dan request executor yang di-wrap
+ * (ditambah interceptor Content-Length untuk streaming body).
+ */
+@SuppressWarnings("deprecation")
+public class TimedHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    @Override
+    public HttpClient createHttpClient() {
+        return new DefaultHttpClient() {
+            @Override
+            protected ClientConnectionManager createClientConnectionManager() {
+                return new TimedConnectionManager(timedSchemeRegistry());
+            }
+
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new TimedRequestExecutor();
+            }
+
+            @Override
+            protected BasicHttpProcessor createHttpProcessor() {
+                // Content-Length untuk StreamingBody, setelah RequestContent
+                BasicHttpProcessor processor = super.createHttpProcessor();
+                processor.addInterceptor(new StreamingContentLength());
+                return processor;
+            }
+        };
+    }
+
+    private static SchemeRegistry timedSchemeRegistry() {
+        SchemeRegistry defaults = SchemeRegistryFactory.createDefault();
+        SchemeRegistry registry = new SchemeRegistry();
+        for (String name : defaults.getSchemeNames()) {
+            Scheme scheme = defaults.getScheme(name);
+            SchemeSocketFactory socketFactory = scheme.getSchemeSocketFactory();
+            registry.register(new Scheme(name, scheme.getDefaultPort(),
+                    socketFactory instanceof SchemeLayeredSocketFactory
+                            ? new TimedLayeredSocketFactory((SchemeLayeredSocketFactory) socketFactory)
+                            : new TimedSocketFactory(socketFactory)));
+        }
+        return registry;
+    }
+
+    /**
+     * Wrapper connection manager (method di BasicClientConnectionManager final) yang mencatat waktu acquire
+     */
+    private static final class TimedConnectionManager implements ClientConnectionManager {
+        private final ClientConnectionManager delegate;
+
+        private TimedConnectionManager(SchemeRegistry registry) {
+            this.delegate = new BasicClientConnectionManager(registry);
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return delegate.getSchemeRegistry();
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = delegate.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.getConnection(timeout, unit);
+                    } finally {
+                        RequestTrace.recordCurrent(RequestPhase.ACQUIRE, System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            delegate.releaseConnection(connection, validDuration, timeUnit);
+        }
+
+        @Override
+        public void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            delegate.closeIdleConnections(idleTime, timeUnit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            delegate.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+    }
+
+    private static class TimedSocketFactory implements SchemeSocketFactory {
+        protected final SchemeSocketFactory delegate;
+
+        private TimedSocketFactory(SchemeSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.connectSocket(socket, remoteAddress, localAddress, params);
+            } finally {
+                RequestTrace.recordCurrent(RequestPhase.CONNECT, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket socket) {
+            return delegate.isSecure(socket);
+        }
+    }
+
+    /**
+     * SSLSocketFactory melakukan TCP connect dan handshake dalam satu call, jadi connect dilakukan
+     * di sini lalu handshake lewat createLayeredSocket supaya keduanya bisa diukur terpisah
+     */
+    private static final class TimedLayeredSocketFactory extends TimedSocketFactory implements SchemeLayeredSocketFactory {
+
+        private TimedLayeredSocketFactory(SchemeLayeredSocketFactory delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException {
+            Socket plainSocket = socket != null ? socket : new Socket();
+            if (localAddress != null) {
+                plainSocket.setReuseAddress(HttpConnectionParams.getSoReuseaddr(params));
+                plainSocket.bind(localAddress);
+            }
+
+            long start = System.nanoTime();
+            try {
+                plainSocket.setSoTimeout(HttpConnectionParams.getSoTimeout(params));
+                plainSocket.connect(remoteAddress, HttpConnectionParams.getConnectionTimeout(params));
+            } catch (SocketTimeoutException e) {
+                throw new ConnectTimeoutException("Connect to " + remoteAddress + " timed out");
+            } finally {
+                RequestTrace.recordCurrent(RequestPhase.CONNECT, System.nanoTime() - start);
+            }
+
+            String host = remoteAddress instanceof HttpInetSocketAddress
+                    ? ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName()
+                    : remoteAddress.getHostName();
+            return createLayeredSocket(plainSocket, host, remoteAddress.getPort(), params);
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return ((SchemeLayeredSocketFactory) delegate).createLayeredSocket(socket, target, port, params);
+            } finally {
+                RequestTrace.recordCurrent(RequestPhase.TLS, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static final class TimedRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null && request instanceof HttpEntityEnclosingRequest) {
+                HttpEntityEnclosingRequest enclosingRequest = (HttpEntityEnclosingRequest) request;
+                if (enclosingRequest.getEntity() != null) {
+                    enclosingRequest.setEntity(new CountingRequestEntity(enclosingRequest.getEntity(), trace));
+                }
+            }
+            long start = System.nanoTime();
+            try {
+                return super.doSendRequest(request, conn, context);
+            } finally {
+                RequestTrace.recordCurrent(RequestPhase.SEND, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            long start = System.nanoTime();
+            HttpResponse response = super.doReceiveResponse(request, conn, context);
+
+            RequestTrace trace = RequestTrace.current();
+            if (trace != null) {
+                trace.record(RequestPhase.TTFB, System.nanoTime() - start);
+                if (response.getFirstHeader("Content-Encoding") != null) {
+                    trace.setContentEncoding(response.getFirstHeader("Content-Encoding").getValue());
+                }
+                if (response.getEntity() != null) {
+                    response.setEntity(new TimedEntity(response.getEntity(), trace));
+                }
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Hitung byte request body yang ditulis ke socket (upload); waktu tulisnya masuk phase SEND
+     */
+    private static final class CountingRequestEntity extends HttpEntityWrapper {
+        private final RequestTrace trace;
+
+        private CountingRequestEntity(HttpEntity entity, RequestTrace trace) {
+            super(entity);
+            this.trace = trace;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            super.writeTo(new FilterOutputStream(out) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    trace.addUploadBytes(1);
+                }
+
+                @Override
+                public void write(byte[] buffer, int offset, int length) throws IOException {
+                    out.write(buffer, offset, length);
+                    trace.addUploadBytes(length);
+                }
+            });
+        }
+    }
+
+    /**
+     * Download dihitung dari read pertama sampai body habis dibaca (EOF atau close). RestAssured membaca
+     * body secara lazy, jadi jeda antara headers diterima dan read pertama tidak ikut dihitung.
+     * Entity ini dipasang sebelum interceptor decompress HttpClient, jadi byte yang dihitung adalah byte di wire.
+     */
+    private static final class TimedEntity extends HttpEntityWrapper {
+        private final RequestTrace trace;
+        private long firstReadNanos;
+        private boolean recorded;
+
+        private TimedEntity(HttpEntity entity, RequestTrace trace) {
+            super(entity);
+            this.trace = trace;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    started();
+                    int b = super.read();
+                    if (b < 0) {
+                        finish();
+                    } else {
+                        trace.addWireBytes(1);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    started();
+                    int count = super.read(buffer, offset, length);
+                    if (count < 0) {
+                        finish();
+                    } else {
+                        trace.addWireBytes(count);
+                    }
+                    return count;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        finish();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = getContent()) {
+                in.transferTo(out);
+            }
+        }
+
+        private synchronized void started() {
+            if (firstReadNanos == 0) {
+                firstReadNanos = System.nanoTime();
+            }
+        }
+
+        private synchronized void finish() {
+            if (!recorded && firstReadNanos != 0) {
+                recorded = true;
+                trace.record(RequestPhase.DOWNLOAD, System.nanoTime() - firstReadNanos);
+            }
+        }
+    }
+}
@@ -10,6 +10,12 @@ public class AnnotationUtil {
     }
 
     public static <T extends Annotation> T findMethodAnnotation(Class<?> clazz, String methodName, Class<T> annotationClass) throws NoSuchMethodException {
+        // Test dengan DataProvider punya parameter, jadi method dicari berdasarkan nama
+        for (Method method : clazz.getMethods()) {
+            if (method.getName().equals(methodName) && method.isAnnotationPresent(annotationClass)) {
+                return method.getAnnotation(annotationClass);
+            }
+        }
         Method method = clazz.getMethod(methodName);
         return method.getAnnotation(annotationClass);
     }
@@ -0,0 +1,81 @@
+package com.setianjay.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Baca/tulis file history JSON per test class ({"classes": {"&lt;class&gt;": {...}}}) yang dipakai
+ * history durasi, outcome dan resource. Isi per class diatur oleh masing-masing history.
+ */
+public final class JsonHistoryStore {
+    private static final String CLASSES = "classes";
+
+    private JsonHistoryStore() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Entry per class dari file history; file yang belum ada menghasilkan set kosong
+     */
+    public static Set<Map.Entry<String, JsonNode>> readClasses(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Collections.emptySet();
+        }
+        return JsonUtils.getObjectMapper().readTree(file.toFile()).path(CLASSES).properties();
+    }
+
+    /**
+     * Ganti entry class di file history dengan entry dari file history lain (misal history per shard yang di-seed
+     * dari file ini); setiap source hanya menyumbang class miliknya. Source yang belum ada dilewati, dan file tidak
+     * ditulis jika tidak ada source sama sekali.
+     *
+     * @return true jika file ditulis ulang
+     */
+    public static boolean mergeClasses(Path file, Map<Path, ? extends Collection<String>> classesBySource) throws IOException {
+        Map<String, JsonNode> merged = new TreeMap<>();
+        readClasses(file).forEach(entry -> merged.put(entry.getKey(), entry.getValue()));
+
+        boolean found = false;
+        for (Map.Entry<Path, ? extends Collection<String>> source : classesBySource.entrySet()) {
+            if (!Files.exists(source.getKey())) {
+                continue;
+            }
+            found = true;
+            JsonNode classes = JsonUtils.getObjectMapper().readTree(source.getKey().toFile()).path(CLASSES);
+            for (String className : source.getValue()) {
+                JsonNode entry = classes.get(className);
+                if (entry != null) {
+                    merged.put(className, entry);
+                }
+            }
+        }
+        if (found) {
+            writeClasses(file, classesNode -> merged.forEach(classesNode::set));
+        }
+        return found;
+    }
+
+    /**
+     * Tulis file history (pretty print, parent directory dibuat jika belum ada); classesWriter mengisi node "classes"
+     */
+    public static void writeClasses(Path file, Consumer<ObjectNode> classesWriter) throws IOException {
+        ObjectNode root = JsonUtils.getObjectMapper().createObjectNode();
+        classesWriter.accept(root.putObject(CLASSES));
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        JsonUtils.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+    }
+}
@@ -5,7 +5,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
 import org.slf4j.Logger;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +17,10 @@ import java.util.Map;
 public class JsonUtils {
 
     private static final Logger logger = LoggerUtils.getLogger(JsonUtils.class);
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<ReusableOutputStream> SERIALIZATION_BUFFER =
+            ThreadLocal.withInitial(() -> new ReusableOutputStream(INITIAL_BUFFER_SIZE));
     private static volatile JsonUtils instance;
     private static volatile ObjectMapper objectMapper;
 
@@ -182,6 +190,43 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize object langsung ke UTF-8 bytes tanpa intermediate String.
+     * Memakai thread-local buffer yang reusable, hasil akhirnya satu byte[] dengan ukuran pas.
+     */
+    public static byte[] toJsonBytes(Object object) throws JsonProcessingException {
+        ReusableOutputStream buffer = writeToThreadLocalBuffer(object);
+        try {
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Serialize object ke ByteBuffer read-only yang membungkus thread-local buffer (zero copy).
+     * ByteBuffer hanya valid sampai serialize berikutnya di thread yang sama.
+     */
+    public static ByteBuffer toJsonByteBuffer(Object object) throws JsonProcessingException {
+        return writeToThreadLocalBuffer(object).asReadOnlyByteBuffer();
+    }
+
+    private static ReusableOutputStream writeToThreadLocalBuffer(Object object) throws JsonProcessingException {
+        ReusableOutputStream buffer = SERIALIZATION_BUFFER.get();
+        buffer.reset();
+
+        try {
+            getObjectMapper().writeValue(buffer, object);
+            return buffer;
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize object to JSON bytes: {}", e.getMessage());
+            throw e;
+        } catch (IOException e) {
+            // ByteArray-backed stream tidak pernah throw IOException selain dari Jackson
+            throw new IllegalStateException("Unexpected I/O error while serializing to buffer", e);
+        }
+    }
+
     // ========== JSON NODE METHODS ==========
 
     /**
@@ -281,7 +326,60 @@ public class JsonUtils {
         logger.info("Cleaning up JsonUtils resources...");
         objectMapper = null;
         instance = null;
+        SERIALIZATION_BUFFER.remove();
         logger.info("JsonUtils cleanup completed");
     }
 
+    /**
+     * OutputStream berbasis byte[] yang bisa di-reset tanpa alokasi ulang
+     */
+    private static final class ReusableOutputStream extends OutputStream {
+        private byte[] buffer;
+        private int count;
+
+        private ReusableOutputStream(int initialSize) {
+            this.buffer = new byte[initialSize];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(bytes, offset, buffer, count, length);
+            count += length;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+            }
+        }
+
+        private void reset() {
+            count = 0;
+        }
+
+        /**
+         * Buang buffer yang terlalu besar supaya payload besar tidak ditahan per thread
+         */
+        private void release() {
+            if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                buffer = new byte[INITIAL_BUFFER_SIZE];
+            }
+            count = 0;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, count);
+        }
+
+        private ByteBuffer asReadOnlyByteBuffer() {
+            return ByteBuffer.wrap(buffer, 0, count).asReadOnlyBuffer();
+        }
+    }
 }
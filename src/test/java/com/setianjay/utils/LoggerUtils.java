@@ -1,6 +1,9 @@
 package com.setianjay.utils;
 
+import com.setianjay.constants.LoggingConstant;
+import com.setianjay.enums.LogSampleDecision;
 import com.setianjay.enums.Method;
+import com.setianjay.logging.LogSampling;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
@@ -98,9 +101,15 @@ public class LoggerUtils {
     }
 
     /**
-     * Log API details
+     * Log API details. Exchange sukses di-sample oleh LogSampling (-Dlogging.sampleEvery, -Dlogging.maxPerSecond),
+     * failure dan exchange lambat selalu di-log lengkap dengan response body di level WARN
      */
     public static void logApiDetails(Logger logger, String method, String endpoint, RequestSpecification request, Response response, Long duration) {
+        LogSampleDecision decision = LogSampling.decide(response.statusCode(), duration != null ? duration : 0);
+        if (!decision.isLogged()) {
+            return;
+        }
+
         logger.info("📤 API Request: {} {} with duration {} seconds", method, endpoint, duration);
         Method requestMethod = Method.valueOf(method);
 
@@ -134,13 +143,26 @@ public class LoggerUtils {
             default:
         }
 
+        boolean outlier = decision != LogSampleDecision.SAMPLED;
+        if (outlier) {
+            logger.warn("⚠️ {} exchange: {} {} returned {} in {} ms",
+                    decision == LogSampleDecision.FAILURE ? "Failed" : "Slow", method, endpoint, response.statusCode(), duration);
+        }
+        if (!outlier && !logger.isDebugEnabled()) {
+            return;
+        }
+
         String responseBody = response.body().asString();
         if (responseBody != null && !responseBody.trim().isEmpty()) {
             // Truncate long responses untuk readability
-            String truncatedBody = responseBody.length() > 1000
-                    ? responseBody.substring(0, 1000) + "... (truncated)"
+            String truncatedBody = responseBody.length() > LoggingConstant.MAX_LOGGED_BODY_CHARS
+                    ? responseBody.substring(0, LoggingConstant.MAX_LOGGED_BODY_CHARS) + "... (truncated)"
                     : responseBody;
-            logger.debug("📥 Response Body: {}", truncatedBody);
+            if (outlier) {
+                logger.warn("📥 Response Body: {}", truncatedBody);
+            } else {
+                logger.debug("📥 Response Body: {}", truncatedBody);
+            }
         }
     }
 
@@ -0,0 +1,103 @@
+package com.setianjay.utils;
+
+import com.setianjay.constants.CompressionConstant;
+import com.setianjay.constants.NetworkConstant;
+import com.setianjay.enums.Method;
+import com.setianjay.timing.TimedHttpClientFactory;
+import io.restassured.RestAssured;
+import io.restassured.config.ConnectionConfig;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+public class RequestUtils {
+
+    // Private constructor untuk utility class
+    private RequestUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Build RestAssured configuration (timeouts dan connection pool) yang dipakai test dan load worker
+     */
+    public static RestAssuredConfig buildRestAssuredConfig() {
+        return buildRestAssuredConfig(NetworkConstant.CONNECTION_TIMEOUT, NetworkConstant.SOCKET_TIMEOUT);
+    }
+
+    /**
+     * Build RestAssured configuration dengan timeout custom (misal test fault injection yang butuh timeout pendek)
+     */
+    public static RestAssuredConfig buildRestAssuredConfig(int connectionTimeoutMillis, int socketTimeoutMillis) {
+        return RestAssuredConfig.config()
+                .connectionConfig(ConnectionConfig.connectionConfig()
+                        .closeIdleConnectionsAfterEachResponseAfter(30, TimeUnit.SECONDS))
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        // Catat connect/TLS/TTFB/download ke RequestTrace aktif
+                        .httpClientFactory(new TimedHttpClientFactory())
+                        .setParam("http.connection.timeout", connectionTimeoutMillis)
+                        .setParam("http.socket.timeout", socketTimeoutMillis)
+                        .setParam("http.conn-manager.max-total", NetworkConstant.MAX_CONNECTIONS)
+                        .setParam("http.conn-manager.max-per-route", NetworkConstant.MAX_CONNECTIONS_PER_ROUTE))
+                // Accept-Encoding gzip,deflate (default RestAssured); -Dcompression.enabled=false untuk perbandingan tanpa kompresi
+                .decoderConfig(isCompressionEnabled()
+                        ? DecoderConfig.decoderConfig()
+                        : DecoderConfig.decoderConfig().noContentDecoders());
+    }
+
+    /**
+     * Encoder JSON RestAssured membaca InputStream body utuh ke memory; dengan configuration ini body JSON
+     * dikirim sebagai stream. Karena configuration berbeda dari bersama, timeout adaptif (dipelajari dari
+     * request kecil) tidak dipakai untuk upload besar.
+     */
+    public static RestAssuredConfig streamingBodyConfig(RestAssuredConfig config) {
+        return config.encoderConfig(config.getEncoderConfig()
+                .encodeContentTypeAs(ContentType.JSON.toString(), ContentType.BINARY));
+    }
+
+    public static boolean isCompressionEnabled() {
+        return Boolean.parseBoolean(System.getProperty(CompressionConstant.ENABLED_PROPERTY, "true"));
+    }
+
+    /**
+     * RestAssured configuration bersama, dibuat saat pertama kali dipakai (holder idiom)
+     */
+    public static RestAssuredConfig restAssuredConfig() {
+        return ConfigHolder.CONFIG;
+    }
+
+    /**
+     * RequestSpecification baru dengan default headers dan configuration bersama
+     */
+    public static RequestSpecification newRequestSpec() {
+        return RestAssured.given().config(restAssuredConfig()).headers(NetworkConstant.DEFAULT_HEADERS);
+    }
+
+    /**
+     * Kirim request sesuai HTTP method
+     */
+    public static Response dispatch(Method method, RequestSpecification request, String endpoint) {
+        switch (method) {
+            case GET:
+                return request.when().get(endpoint);
+            case POST:
+                return request.when().post(endpoint);
+            case PUT:
+                return request.when().put(endpoint);
+            case PATCH:
+                return request.when().patch(endpoint);
+            case DELETE:
+                return request.when().delete(endpoint);
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+    }
+
+    private static final class ConfigHolder {
+        private static final RestAssuredConfig CONFIG = buildRestAssuredConfig();
+    }
+}
@@ -0,0 +1,67 @@
+package com.setianjay.warmup;
+
+import com.setianjay.enums.MeasurementPhase;
+import com.setianjay.load.LatencyHistogram;
+import org.slf4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timing per request/serializer yang dipisah per phase, supaya angka warm-up
+ * (class loading, TLS handshake, cold JIT) tidak tercampur dengan steady-state.
+ */
+public final class TimingStats {
+    private static final Map<MeasurementPhase, Map<String, LatencyHistogram>> STATS = new EnumMap<>(MeasurementPhase.class);
+
+    static {
+        for (MeasurementPhase phase : MeasurementPhase.values()) {
+            STATS.put(phase, new ConcurrentHashMap<>());
+        }
+    }
+
+    private TimingStats() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void record(MeasurementPhase phase, String name, long durationNanos) {
+        STATS.get(phase).computeIfAbsent(name, key -> new LatencyHistogram()).recordNanos(durationNanos);
+    }
+
+    /**
+     * Jumlah timing yang tercatat untuk name di phase ini
+     */
+    public static long getCount(MeasurementPhase phase, String name) {
+        LatencyHistogram histogram = STATS.get(phase).get(name);
+        return histogram == null ? 0 : histogram.getTotalCount();
+    }
+
+    /**
+     * Table count/mean/p50/p90/max (milliseconds) untuk satu phase
+     */
+    public static String format(MeasurementPhase phase) {
+        StringBuilder sb = new StringBuilder(String.format("%-40s%8s%10s%10s%10s%10s%n",
+                phase.label() + " (ms)", "count", "mean", "p50", "p90", "max"));
+        new TreeMap<>(STATS.get(phase)).forEach((name, histogram) ->
+                sb.append(String.format("%-40s%8d%10.2f%10.2f%10.2f%10.2f%n", name, histogram.getTotalCount(),
+                        histogram.getMean() / 1000.0,
+                        histogram.getValueAtPercentile(50) / 1000.0,
+                        histogram.getValueAtPercentile(90) / 1000.0,
+                        histogram.getMax() / 1000.0)));
+        return sb.toString();
+    }
+
+    public static void log(Logger logger) {
+        for (MeasurementPhase phase : MeasurementPhase.values()) {
+            if (!STATS.get(phase).isEmpty()) {
+                logger.info("⏱️ Request timings, {}:\n{}", phase.label(), format(phase));
+            }
+        }
+    }
+
+    public static void reset() {
+        STATS.values().forEach(Map::clear);
+    }
+}
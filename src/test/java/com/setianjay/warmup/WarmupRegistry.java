@@ -0,0 +1,93 @@
+package com.setianjay.warmup;
+
+import com.setianjay.request.BoundRequest;
+import com.setianjay.schema.JsonSchema;
+import com.setianjay.utils.JsonUtils;
+import com.setianjay.utils.RequestUtils;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Daftar request dan serializer yang dijalankan saat warm-up. Test class mendaftarkan
+ * item dari static initializer, sehingga semuanya sudah terdaftar sebelum @BeforeSuite.
+ */
+public final class WarmupRegistry {
+    private static final Map<String, WarmupTask> TASKS = new LinkedHashMap<>();
+    private static final Set<String> BASE_URIS = new LinkedHashSet<>();
+
+    private WarmupRegistry() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Daftarkan request yang aman diulang (tanpa side effect, misal GET atau POST /auth).
+     * Jika schema tidak null, response juga di-validate supaya validator ikut warm.
+     */
+    public static synchronized void request(String baseUri, BoundRequest boundRequest, JsonSchema schema) {
+        String endpoint = baseUri + boundRequest.getPath();
+        BASE_URIS.add(baseUri);
+        TASKS.putIfAbsent(boundRequest.getMethod() + " " + endpoint, new WarmupTask(
+                boundRequest.getTemplate().getName(), () -> {
+                    RequestSpecification request = boundRequest.applyTo(RequestUtils.newRequestSpec());
+                    Response response = RequestUtils.dispatch(boundRequest.getMethod(), request, endpoint);
+                    byte[] body = response.asByteArray();
+                    if (schema != null && response.statusCode() < 400) {
+                        schema.validate(body);
+                    }
+                }));
+    }
+
+    /**
+     * Daftarkan model untuk round-trip serialize/deserialize (Jackson introspection dan JIT)
+     */
+    public static synchronized void serializer(Object sample) {
+        Class<?> type = sample.getClass();
+        TASKS.putIfAbsent("serializer:" + type.getName(), new WarmupTask("serialize " + type.getSimpleName(),
+                () -> JsonUtils.getObjectMapper().readValue(JsonUtils.toJsonBytes(sample), type)));
+    }
+
+    /**
+     * Daftarkan base URI yang koneksinya perlu dibuka lebih dulu tanpa request tertentu
+     */
+    public static synchronized void baseUri(String baseUri) {
+        BASE_URIS.add(baseUri);
+    }
+
+    static synchronized List<WarmupTask> tasks() {
+        return new ArrayList<>(TASKS.values());
+    }
+
+    static synchronized List<String> baseUris() {
+        return new ArrayList<>(BASE_URIS);
+    }
+
+    @FunctionalInterface
+    public interface WarmupAction {
+        void run() throws Exception;
+    }
+
+    static final class WarmupTask {
+        private final String name;
+        private final WarmupAction action;
+
+        private WarmupTask(String name, WarmupAction action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        void run() throws Exception {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.setianjay.warmup;
+
+import com.setianjay.constants.WarmupConstant;
+import com.setianjay.enums.MeasurementPhase;
+import com.setianjay.utils.LoggerUtils;
+import com.setianjay.utils.RequestUtils;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Warm-up sebelum pengukuran: buka koneksi ke setiap base URI (DNS, TLS session cache,
+ * class loading stack HTTP), lalu jalankan setiap request dan serializer yang terdaftar
+ * sampai timing stabil (coefficient of variation di window terakhir <= threshold)
+ * atau sampai maxIterations. Semua timing dicatat di phase WARMUP.
+ * Opt-in dengan -Dwarmup.enabled=true, karena warm-up mengirim request tambahan ke API yang ditest.
+ */
+public class WarmupRunner {
+    private static final Logger logger = LoggerUtils.getLogger(WarmupRunner.class);
+    private static final AtomicBoolean DONE = new AtomicBoolean();
+
+    private final int maxIterations;
+    private final int minIterations;
+    private final int window;
+    private final double cvThreshold;
+    private final int connections;
+    private final LongSupplier nanoClock;
+
+    public WarmupRunner(int maxIterations, int minIterations, int window, double cvThreshold, int connections) {
+        this(maxIterations, minIterations, window, cvThreshold, connections, System::nanoTime);
+    }
+
+    /**
+     * nanoClock dipakai untuk timing setiap iterasi (test memakai clock palsu supaya stop rule deterministik)
+     */
+    public WarmupRunner(int maxIterations, int minIterations, int window, double cvThreshold, int connections,
+                        LongSupplier nanoClock) {
+        if (maxIterations < minIterations || minIterations < 1 || window < 2) {
+            throw new IllegalArgumentException("Invalid warm-up iterations: min=" + minIterations
+                    + " max=" + maxIterations + " window=" + window);
+        }
+        this.maxIterations = maxIterations;
+        this.minIterations = minIterations;
+        this.window = window;
+        this.cvThreshold = cvThreshold;
+        this.connections = connections;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Build runner dari system properties -Dwarmup.*
+     */
+    public static WarmupRunner fromSystemProperties() {
+        return new WarmupRunner(
+                Integer.getInteger(WarmupConstant.MAX_ITERATIONS_PROPERTY, WarmupConstant.DEFAULT_MAX_ITERATIONS),
+                Integer.getInteger(WarmupConstant.MIN_ITERATIONS_PROPERTY, WarmupConstant.DEFAULT_MIN_ITERATIONS),
+                Integer.getInteger(WarmupConstant.WINDOW_PROPERTY, WarmupConstant.DEFAULT_WINDOW),
+                Double.parseDouble(System.getProperty(WarmupConstant.CV_THRESHOLD_PROPERTY,
+                        String.valueOf(WarmupConstant.DEFAULT_CV_THRESHOLD))),
+                Integer.getInteger(WarmupConstant.CONNECTIONS_PROPERTY, WarmupConstant.DEFAULT_CONNECTIONS));
+    }
+
+    /**
+     * Jalankan warm-up sekali per JVM jika -Dwarmup.enabled=true
+     */
+    public static void runOnceFromSystemProperties() {
+        if (!Boolean.getBoolean(WarmupConstant.ENABLED_PROPERTY)) {
+            logger.info("Warm-up disabled (enable with -D{}=true)", WarmupConstant.ENABLED_PROPERTY);
+            return;
+        }
+        if (DONE.compareAndSet(false, true)) {
+            fromSystemProperties().run();
+        }
+    }
+
+    public void run() {
+        long startNanos = System.nanoTime();
+        openConnections();
+
+        StringBuilder summary = new StringBuilder(String.format("%-40s%8s%12s%12s%8s%n",
+                "item", "iters", "first(ms)", "last(ms)", "cv"));
+        for (WarmupRegistry.WarmupTask task : WarmupRegistry.tasks()) {
+            warmUp(task.getName(), task::run, summary);
+        }
+        logger.info("🔥 Warm-up finished in {}ms:\n{}", (System.nanoTime() - startNanos) / 1_000_000, summary);
+    }
+
+    /**
+     * Jalankan satu item sampai timing stabil, maxIterations, atau exception; return jumlah iterasi yang selesai
+     */
+    public int warmUp(String name, WarmupRegistry.WarmupAction action) {
+        return warmUp(name, action, new StringBuilder());
+    }
+
+    private int warmUp(String name, WarmupRegistry.WarmupAction action, StringBuilder summary) {
+        long[] samples = new long[maxIterations];
+        int iterations = 0;
+        double cv = Double.NaN;
+
+        while (iterations < maxIterations) {
+            long start = nanoClock.getAsLong();
+            try {
+                action.run();
+            } catch (Exception e) {
+                logger.warn("Warm-up of '{}' stopped: {}", name, LoggerUtils.formatException(e));
+                break;
+            }
+            samples[iterations] = nanoClock.getAsLong() - start;
+            TimingStats.record(MeasurementPhase.WARMUP, name, samples[iterations]);
+            iterations++;
+
+            if (iterations >= Math.max(minIterations, window)) {
+                cv = coefficientOfVariation(samples, iterations - window, iterations);
+                if (cv <= cvThreshold) {
+                    break;
+                }
+            }
+        }
+
+        summary.append(String.format("%-40s%8d%12.2f%12.2f%8s%n", name, iterations,
+                iterations > 0 ? samples[0] / 1e6 : 0.0,
+                iterations > 0 ? samples[iterations - 1] / 1e6 : 0.0,
+                Double.isNaN(cv) ? "-" : String.format("%.2f", cv)));
+        return iterations;
+    }
+
+    /**
+     * Kirim beberapa request paralel ke setiap base URI (status response diabaikan)
+     */
+    private void openConnections() {
+        List<String> baseUris = WarmupRegistry.baseUris();
+        if (baseUris.isEmpty() || connections <= 0) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            for (String baseUri : baseUris) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < connections; i++) {
+                    futures.add(executor.submit(() -> {
+                        long start = System.nanoTime();
+                        RequestUtils.newRequestSpec().when().get(baseUri);
+                        TimingStats.record(MeasurementPhase.WARMUP, "connect " + baseUri, System.nanoTime() - start);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (Exception e) {
+                        logger.warn("Failed to open connection to {}: {}", baseUri, LoggerUtils.formatException(e));
+                        break;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double coefficientOfVariation(long[] samples, int from, int to) {
+        double mean = 0;
+        for (int i = from; i < to; i++) {
+            mean += samples[i];
+        }
+        mean /= (to - from);
+
+        double variance = 0;
+        for (int i = from; i < to; i++) {
+            variance += (samples[i] - mean) * (samples[i] - mean);
+        }
+        variance /= (to - from);
+        return mean == 0 ? 0.0 : Math.sqrt(variance) / mean;
+    }
+}